@@ -8,10 +8,10 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.structure.ArrayS64BitSet;
 import org.chocosolver.memory.structure.BasicIndexedBipartiteSet;
 import org.chocosolver.memory.structure.OneWordS32BitSet;
 import org.chocosolver.memory.structure.OneWordS64BitSet;
-import org.chocosolver.memory.structure.S64BitSet;
 
 /**
  * Super class of all environments !
@@ -58,7 +58,7 @@ public abstract class AbstractEnvironment implements IEnvironment {
         } else if (size < 64) {
             return new OneWordS64BitSet(this, size);
         } else {
-            return new S64BitSet(this, size);
+            return new ArrayS64BitSet(this, size);
         }
     }
 
@@ -10,6 +10,7 @@ package org.chocosolver.memory;
 
 import org.chocosolver.memory.structure.BasicIndexedBipartiteSet;
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.structure.OperationLongArray;
 
 
 
@@ -151,6 +152,17 @@ public interface IEnvironment  {
      */
     IStateDoubleVector makeDoubleVector(int size, double initialValue);
 
+    /**
+     * Factory pattern: new IStateLongArray objects are created by the environment
+     *
+     * @param size         the number of cells in the array
+     * @param initialValue the common initial value for all cells
+     * @return IStateLongArray
+     */
+    default IStateLongArray makeLongArray(int size, long initialValue) {
+        return new OperationLongArray(this, size, initialValue);
+    }
+
     /**
      * Factory pattern : shared IndexedBipartiteSet object is return by the environment
      *
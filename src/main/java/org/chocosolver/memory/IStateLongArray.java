@@ -0,0 +1,82 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+import java.util.Arrays;
+
+
+/**
+ * An abstract class for an array of backtrackable longs.
+ * <br/>
+ * Contrary to an array of {@link IStateLong}, the values are stored in a single primitive array
+ * and the history is maintained per cell (index, former value), which is suited to bit-parallel data structures.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public abstract class IStateLongArray {
+
+    protected final IEnvironment environment;
+
+    /**
+     * Current values
+     */
+    protected long[] values;
+
+    public IStateLongArray(IEnvironment env, int size, long initialValue) {
+        environment = env;
+        values = new long[size];
+        if (initialValue != 0L) {
+            Arrays.fill(values, initialValue);
+        }
+    }
+
+    /**
+     * Returns the current value of the cell <i>index</i>.
+     *
+     * @param index index of the cell
+     * @return the current value
+     */
+    public final long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Modifies the value of the cell <i>index</i> and stores if needed the former value on the
+     * trailing stack.
+     *
+     * @param index index of the cell
+     * @param value new value
+     */
+    public abstract void set(int index, long value);
+
+    /**
+     * Modifies the value of the cell <i>index</i> without storing the former value on the trailing stack.
+     *
+     * @param index  index of the cell
+     * @param value  the new value
+     * @param wstamp the stamp of the world in which the update is performed
+     */
+    public abstract void _set(int index, long value, int wstamp);
+
+    /**
+     * Ensures that the array holds at least <i>minLength</i> cells.
+     * New cells are equal to 0 and are restored to 0 on backtrack.
+     *
+     * @param minLength the minimum number of cells
+     */
+    public abstract void ensureCapacity(int minLength);
+
+    /**
+     * @return the number of cells
+     */
+    public final int length() {
+        return values.length;
+    }
+}
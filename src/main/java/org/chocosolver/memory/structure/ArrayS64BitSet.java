@@ -0,0 +1,469 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateLongArray;
+
+import java.util.BitSet;
+
+/**
+ * A backtrackable bitset whose words are stored in a single {@link IStateLongArray}.
+ * <br/>
+ * Contrary to {@link S64BitSet}, which relies on one {@link org.chocosolver.memory.IStateLong} per word
+ * and on a backtrackable number of words in use, a modification only records the index and the former value
+ * of the modified word, at most once per world.
+ * Words beyond the last set bit are simply equal to 0.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ArrayS64BitSet implements IStateBitSet {
+
+    /*
+    * BitSets are packed into arrays of "words."  Currently a word is
+    * a long, which consists of 64 bits, requiring 6 address bits.
+    * The choice of word size is determined purely by performance concerns.
+    */
+    private final static int ADDRESS_BITS_PER_WORD = 6;
+    private final static int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    /* Used to shift left or right for a partial word mask */
+    private static final long WORD_MASK = 0xffffffffffffffffL;
+
+    /**
+     * The current environment.
+     */
+    private final IEnvironment environment;
+
+    /**
+     * The words of the bitset.
+     */
+    private final IStateLongArray words;
+
+    /**
+     * Given a bit index, return word index containing it.
+     *
+     * @param bitIndex bit index
+     */
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Creates a new bit set. All bits are initially <code>false</code>.
+     *
+     * @param environment bactrackable environment
+     */
+    public ArrayS64BitSet(IEnvironment environment) {
+        this(environment, BITS_PER_WORD);
+    }
+
+    /**
+     * Creates a bit set whose initial size is large enough to explicitly
+     * represent bits with indices in the range <code>0</code> through
+     * <code>nbits-1</code>. All bits are initially <code>false</code>.
+     *
+     * @param environment backtrackable environment
+     * @param nbits       the initial size of the bit set.
+     * @throws NegativeArraySizeException if the specified initial size
+     *                                    is negative.
+     */
+    public ArrayS64BitSet(IEnvironment environment, int nbits) {
+        if (nbits < 0)
+            throw new NegativeArraySizeException("nbits < 0: " + nbits);
+        this.environment = environment;
+        this.words = environment.makeLongArray(Math.max(1, wordIndex(nbits - 1) + 1), 0L);
+    }
+
+    /**
+     * Checks that fromIndex ... toIndex is a valid range of bit indices.
+     *
+     * @param fromIndex starting index
+     * @param toIndex   ending index
+     */
+    private static void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        if (toIndex < 0)
+            throw new IndexOutOfBoundsException("toIndex < 0: " + toIndex);
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " > toIndex: " + toIndex);
+    }
+
+    /**
+     * Ensures that the bitset can accommodate a given word index.
+     *
+     * @param wordIndex the index to be accommodated.
+     */
+    private void expandTo(int wordIndex) {
+        words.ensureCapacity(wordIndex + 1);
+    }
+
+    /**
+     * Applies <i>word = (word & ~mask) | (bits & mask)</i> on every word overlapped by the range
+     * <code>fromIndex</code> (inclusive) to <code>toIndex</code> (exclusive),
+     * where <i>bits</i> is either 0 or all ones. When <code>flip</code> is set, <i>word ^= mask</i> is applied instead.
+     */
+    private void applyOnRange(int fromIndex, int toIndex, long bits, boolean flip) {
+        int u = wordIndex(fromIndex);
+        int v = wordIndex(toIndex - 1);
+        for (int w = u; w <= v; w++) {
+            long mask = WORD_MASK;
+            if (w == u) mask &= WORD_MASK << fromIndex;
+            if (w == v) mask &= WORD_MASK >>> -toIndex;
+            long word = words.get(w);
+            words.set(w, flip ? word ^ mask : (word & ~mask) | (bits & mask));
+        }
+    }
+
+    @Override
+    public void flip(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int u = wordIndex(bitIndex);
+        expandTo(u);
+        words.set(u, words.get(u) ^ (1L << bitIndex));
+    }
+
+    @Override
+    public void flip(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        expandTo(wordIndex(toIndex - 1));
+        applyOnRange(fromIndex, toIndex, 0L, true);
+    }
+
+    @Override
+    public void set(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int u = wordIndex(bitIndex);
+        expandTo(u);
+        words.set(u, words.get(u) | (1L << bitIndex));
+    }
+
+    @Override
+    public void set(int bitIndex, boolean value) {
+        if (value)
+            set(bitIndex);
+        else
+            clear(bitIndex);
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        expandTo(wordIndex(toIndex - 1));
+        applyOnRange(fromIndex, toIndex, WORD_MASK, false);
+    }
+
+    /**
+     * Sets the bits from the specified <tt>fromIndex</tt> (inclusive) to the
+     * specified <tt>toIndex</tt> (exclusive) to the specified value.
+     *
+     * @param fromIndex index of the first bit to be set.
+     * @param toIndex   index after the last bit to be set
+     * @param value     value to set the selected bits to
+     */
+    public void set(int fromIndex, int toIndex, boolean value) {
+        if (value)
+            set(fromIndex, toIndex);
+        else
+            clear(fromIndex, toIndex);
+    }
+
+    @Override
+    public void clear(int bitIndex) {
+        if (bitIndex < 0)
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+        int u = wordIndex(bitIndex);
+        if (u < words.length()) {
+            words.set(u, words.get(u) & ~(1L << bitIndex));
+        }
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        int len = words.length() * BITS_PER_WORD;
+        if (toIndex > len)
+            toIndex = len;
+        if (fromIndex >= toIndex)
+            return;
+        applyOnRange(fromIndex, toIndex, 0L, false);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = words.length() - 1; i >= 0; i--) {
+            words.set(i, 0L);
+        }
+    }
+
+    @Override
+    public boolean get(int bitIndex) {
+        int u = wordIndex(bitIndex);
+        return u < words.length() && (words.get(u) & (1L << bitIndex)) != 0;
+    }
+
+    @Override
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int nw = words.length();
+        int u = wordIndex(fromIndex);
+        if (u >= nw)
+            return -1;
+        long word = words.get(u) & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0)
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (++u == nw)
+                return -1;
+            word = words.get(u);
+        }
+    }
+
+    @Override
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int nw = words.length();
+        int u = wordIndex(fromIndex);
+        if (u >= nw)
+            return fromIndex;
+        long word = ~words.get(u) & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0)
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (++u == nw)
+                return nw * BITS_PER_WORD;
+            word = ~words.get(u);
+        }
+    }
+
+    @Override
+    public int prevSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int u = wordIndex(fromIndex);
+        if (u >= words.length()) {
+            u = words.length() - 1;
+            fromIndex = words.length() * BITS_PER_WORD - 1;
+        }
+        long word = words.get(u) & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0)
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            if (u-- == 0)
+                return -1;
+            word = words.get(u);
+        }
+    }
+
+    @Override
+    public int prevClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int u = wordIndex(fromIndex);
+        if (u >= words.length())
+            return fromIndex;
+        long word = ~words.get(u) & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0)
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            if (u-- == 0)
+                return -1;
+            word = ~words.get(u);
+        }
+    }
+
+    /**
+     * Returns the word of index <i>wordIndex</i>, that is, the bits <i>64.wordIndex</i> to <i>64.wordIndex + 63</i>.
+     *
+     * @param wordIndex index of a word
+     * @return the word, or 0 if it is out of the bitset
+     */
+    public long getWord(int wordIndex) {
+        return wordIndex < words.length() ? words.get(wordIndex) : 0L;
+    }
+
+    /**
+     * Replaces the word of index <i>wordIndex</i>, the former value being saved at most once per world.
+     *
+     * @param wordIndex index of a word
+     * @param word      its new value
+     */
+    public void setWord(int wordIndex, long word) {
+        expandTo(wordIndex);
+        words.set(wordIndex, word);
+    }
+
+    @Override
+    public int capacity() {
+        return words.length() * BITS_PER_WORD;
+    }
+
+    @Override
+    public int size() {
+        return words.length() * BITS_PER_WORD;
+    }
+
+    /**
+     * Returns the "logical size" of this bitset: the index of
+     * the highest set bit plus one. Returns zero if it contains no set bits.
+     *
+     * @return the logical size of this bitset.
+     */
+    public int length() {
+        return prevSetBit(size() - 1) + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (int i = words.length() - 1; i >= 0; i--) {
+            if (words.get(i) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int cardinality() {
+        int sum = 0;
+        for (int i = words.length() - 1; i >= 0; i--)
+            sum += Long.bitCount(words.get(i));
+        return sum;
+    }
+
+    @Override
+    public void and(IStateBitSet setI) {
+        ArrayS64BitSet set = (ArrayS64BitSet) setI;
+        if (this == set)
+            return;
+        int common = Math.min(words.length(), set.words.length());
+        for (int i = 0; i < common; i++)
+            words.set(i, words.get(i) & set.words.get(i));
+        for (int i = common; i < words.length(); i++)
+            words.set(i, 0L);
+    }
+
+    @Override
+    public void or(IStateBitSet setI) {
+        ArrayS64BitSet set = (ArrayS64BitSet) setI;
+        if (this == set)
+            return;
+        int last = set.words.length() - 1;
+        while (last >= 0 && set.words.get(last) == 0)
+            last--;
+        expandTo(last);
+        for (int i = 0; i <= last; i++)
+            words.set(i, words.get(i) | set.words.get(i));
+    }
+
+    @Override
+    public void xor(IStateBitSet setI) {
+        ArrayS64BitSet set = (ArrayS64BitSet) setI;
+        int last = set.words.length() - 1;
+        while (last >= 0 && set.words.get(last) == 0)
+            last--;
+        expandTo(last);
+        for (int i = 0; i <= last; i++)
+            words.set(i, words.get(i) ^ set.words.get(i));
+    }
+
+    @Override
+    public void andNot(IStateBitSet setI) {
+        ArrayS64BitSet set = (ArrayS64BitSet) setI;
+        for (int i = Math.min(words.length(), set.words.length()) - 1; i >= 0; i--)
+            words.set(i, words.get(i) & ~set.words.get(i));
+    }
+
+    @Override
+    public boolean intersects(IStateBitSet setI) {
+        ArrayS64BitSet set = (ArrayS64BitSet) setI;
+        for (int i = Math.min(words.length(), set.words.length()) - 1; i >= 0; i--)
+            if ((words.get(i) & set.words.get(i)) != 0)
+                return true;
+        return false;
+    }
+
+    @Override
+    public IStateBitSet copy() {
+        ArrayS64BitSet result = new ArrayS64BitSet(environment, size());
+        for (int i = 0; i < words.length(); i++) {
+            result.words.set(i, words.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public BitSet copyToBitSet() {
+        long[] copy = new long[words.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = words.get(i);
+        }
+        return BitSet.valueOf(copy);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 1234;
+        for (int i = words.length(); --i >= 0; )
+            h ^= words.get(i) * (i + 1);
+        return (int) ((h >> 32) ^ h);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ArrayS64BitSet))
+            return false;
+        if (this == obj)
+            return true;
+        ArrayS64BitSet set = (ArrayS64BitSet) obj;
+        int max = Math.max(words.length(), set.words.length());
+        for (int i = 0; i < max; i++) {
+            long w1 = i < words.length() ? words.get(i) : 0L;
+            long w2 = i < set.words.length() ? set.words.get(i) : 0L;
+            if (w1 != w2)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder(6 * cardinality() + 2);
+        b.append('{');
+
+        int i = nextSetBit(0);
+        if (i != -1) {
+            b.append(i);
+            for (i = nextSetBit(i + 1); i >= 0; i = nextSetBit(i + 1)) {
+                int endOfRun = nextClearBit(i);
+                do {
+                    b.append(", ").append(i);
+                }
+                while (++i < endOfRun);
+            }
+        }
+
+        b.append('}');
+        return b.toString();
+    }
+}
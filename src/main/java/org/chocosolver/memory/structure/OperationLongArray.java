@@ -0,0 +1,80 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateLongArray;
+
+import java.util.Arrays;
+
+/**
+ * An array of backtrackable longs whose former values are saved as {@link IOperation}s
+ * (see {@link IEnvironment#save(IOperation)}), each cell being saved at most once per world.
+ * <br/>
+ * It is the default implementation of {@link IEnvironment#makeLongArray(int, long)},
+ * for environments which do not provide a dedicated trail.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class OperationLongArray extends IStateLongArray {
+
+    /**
+     * Contains time stamps for all entries (the world index of the last update for each entry)
+     */
+    private int[] worldStamps;
+
+    /**
+     * Constructs a backtrackable array of longs.
+     *
+     * @param env          The current environment.
+     * @param size         The number of cells.
+     * @param initialValue The initial common value.
+     */
+    public OperationLongArray(IEnvironment env, int size, long initialValue) {
+        super(env, size, initialValue);
+        this.worldStamps = new int[size];
+        int w = env.getWorldIndex();
+        if (w != 0) {
+            Arrays.fill(worldStamps, w);
+        }
+    }
+
+    @Override
+    public void set(int index, long value) {
+        final long oldValue = values[index];
+        if (value != oldValue) {
+            final int wi = environment.getWorldIndex();
+            final int oldStamp = worldStamps[index];
+            if (oldStamp < wi) {
+                environment.save(() -> _set(index, oldValue, oldStamp));
+                worldStamps[index] = wi;
+            }
+            values[index] = value;
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minLength) {
+        int oldLength = values.length;
+        if (minLength > oldLength) {
+            int newLength = Math.max(oldLength * 2, minLength);
+            values = Arrays.copyOf(values, newLength);
+            worldStamps = Arrays.copyOf(worldStamps, newLength);
+            // the former value of a new cell, 0, has to be saved on its first modification
+            Arrays.fill(worldStamps, oldLength, newLength, -1);
+        }
+    }
+
+    @Override
+    public void _set(int index, long value, int wstamp) {
+        values[index] = value;
+        worldStamps[index] = wstamp;
+    }
+}
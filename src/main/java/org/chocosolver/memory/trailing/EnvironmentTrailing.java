@@ -49,6 +49,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     private IOperationTrail operationTrail;
     private StoredIntVectorTrail intVectorTrail;
     private StoredDoubleVectorTrail doubleVectorTrail;
+    private StoredLongArrayTrail longArrayTrail;
 
     /**
      * Contains all the {@link org.chocosolver.memory.IStorage} trails for
@@ -143,6 +144,14 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         return new StoredDoubleVector(this, size, initialValue);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLongArray makeLongArray(final int size, final long initialValue) {
+        return new StoredLongArray(this, size, initialValue);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -284,6 +293,14 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         return doubleVectorTrail;
     }
 
+    public StoredLongArrayTrail getLongArrayTrail() {
+        if (longArrayTrail == null) {
+            increaseTrail();
+            trails[trailSize++] = longArrayTrail = new StoredLongArrayTrail(this, NBUPATES, NBWORLDS, LOADFACTOR);
+        }
+        return longArrayTrail;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
 
@@ -0,0 +1,81 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing;
+
+import org.chocosolver.memory.IStateLongArray;
+import org.chocosolver.memory.trailing.trail.StoredLongArrayTrail;
+
+import java.util.Arrays;
+
+/**
+ * An array of backtrackable longs.
+ * Each cell is saved at most once per world on the {@link StoredLongArrayTrail}.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class StoredLongArray extends IStateLongArray {
+
+    /**
+     * Contains time stamps for all entries (the world index of the last update for each entry)
+     */
+    public int[] worldStamps;
+
+    private final StoredLongArrayTrail myTrail;
+
+    /**
+     * Constructs a stored array of longs.
+     *
+     * @param env          The current environment.
+     * @param size         The number of cells.
+     * @param initialValue The initial common value.
+     */
+    public StoredLongArray(EnvironmentTrailing env, int size, long initialValue) {
+        super(env, size, initialValue);
+        this.worldStamps = new int[size];
+        int w = env.getWorldIndex();
+        if (w != 0) {
+            Arrays.fill(worldStamps, w);
+        }
+        this.myTrail = env.getLongArrayTrail();
+    }
+
+    @Override
+    public void set(int index, long value) {
+        final long oldValue = values[index];
+        if (value != oldValue) {
+            final int wi = environment.getWorldIndex();
+            final int oldStamp = worldStamps[index];
+            if (oldStamp < wi) {
+                myTrail.savePreviousState(this, index, oldValue, oldStamp);
+                worldStamps[index] = wi;
+            }
+            values[index] = value;
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minLength) {
+        int oldLength = values.length;
+        if (minLength > oldLength) {
+            int newLength = Math.max(oldLength * 2, minLength);
+            values = Arrays.copyOf(values, newLength);
+            worldStamps = Arrays.copyOf(worldStamps, newLength);
+            // the former value of a new cell, 0, has to be saved on its first modification
+            Arrays.fill(worldStamps, oldLength, newLength, -1);
+        }
+    }
+
+    @Override
+    public void _set(int index, long value, int wstamp) {
+        values[index] = value;
+        worldStamps[index] = wstamp;
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail;
+
+import org.chocosolver.memory.IStorage;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.StoredLongArray;
+
+
+/**
+ * Implements a trail with the history of all the stored arrays of longs.
+ * An update is recorded as a (array, index, former value, former stamp) tuple.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class StoredLongArrayTrail implements IStorage {
+
+    /**
+     * The current environment.
+     */
+    private final EnvironmentTrailing environment;
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * All the stored arrays.
+     */
+    private StoredLongArray[] arrayStack;
+
+    /**
+     * Indices of the previous values in the stored arrays.
+     */
+    private int[] indexStack;
+
+    /**
+     * Previous values of the stored array elements.
+     */
+    private long[] valueStack;
+
+    /**
+     * World stamps associated to the previous values
+     */
+    private int[] stampStack;
+
+    /**
+     * The last world an array was modified in.
+     */
+    private int currentLevel;
+
+    /**
+     * Starts of levels in all the history arrays.
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail for the specified environment with the
+     * specified numbers of updates and worlds.
+     *
+     * @param env        the environment
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public StoredLongArrayTrail(EnvironmentTrailing env, int nUpdates, int nWorlds, double loadfactor) {
+        this.environment = env;
+        this.currentLevel = 0;
+        this.arrayStack = new StoredLongArray[nUpdates];
+        this.indexStack = new int[nUpdates];
+        this.valueStack = new long[nUpdates];
+        this.stampStack = new int[nUpdates];
+        this.worldStartLevels = new int[nWorlds];
+        this.loadfactor = loadfactor;
+    }
+
+    /**
+     * Reacts on the modification of an element in a stored array.
+     *
+     * @param array    the modified array
+     * @param index    index of the modified cell
+     * @param oldValue former value of the cell
+     * @param oldStamp former stamp of the cell
+     */
+    public void savePreviousState(StoredLongArray array, int index, long oldValue, int oldStamp) {
+        this.arrayStack[currentLevel] = array;
+        this.indexStack[currentLevel] = index;
+        this.stampStack[currentLevel] = oldStamp;
+        this.valueStack[currentLevel] = oldValue;
+        currentLevel++;
+        if (currentLevel == arrayStack.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (arrayStack.length * loadfactor);
+        // first, copy the stack of arrays
+        final StoredLongArray[] tmp1 = new StoredLongArray[newCapacity];
+        System.arraycopy(arrayStack, 0, tmp1, 0, arrayStack.length);
+        arrayStack = tmp1;
+        // then, copy the stack of former values
+        final long[] tmp2 = new long[newCapacity];
+        System.arraycopy(valueStack, 0, tmp2, 0, valueStack.length);
+        valueStack = tmp2;
+        // then, copy the stack of world stamps
+        final int[] tmp3 = new int[newCapacity];
+        System.arraycopy(stampStack, 0, tmp3, 0, stampStack.length);
+        stampStack = tmp3;
+        // then, copy the stack of indices
+        final int[] tmp4 = new int[newCapacity];
+        System.arraycopy(indexStack, 0, tmp4, 0, indexStack.length);
+        indexStack = tmp4;
+    }
+
+    private void resizeWorldCapacity(int newWorldCapacity) {
+        final int[] tmp = new int[newWorldCapacity];
+        System.arraycopy(worldStartLevels, 0, tmp, 0, worldStartLevels.length);
+        worldStartLevels = tmp;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        this.worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            resizeWorldCapacity((int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        while (currentLevel > wsl) {
+            currentLevel--;
+            arrayStack[currentLevel]._set(indexStack[currentLevel], valueStack[currentLevel], stampStack[currentLevel]);
+            arrayStack[currentLevel] = null;
+        }
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        // see StoredIntVectorTrail#worldCommit(int)
+        int startLevel = worldStartLevels[environment.getWorldIndex()];
+        int prevWorld = environment.getWorldIndex() - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            StoredLongArray arr = arrayStack[level];
+            int idx = indexStack[level];
+            long val = valueStack[level];
+            int stamp = stampStack[level];
+            arr.worldStamps[idx] = prevWorld;
+            if (stamp != prevWorld) {
+                if (writeIdx != level) {
+                    valueStack[writeIdx] = val;
+                    indexStack[writeIdx] = idx;
+                    arrayStack[writeIdx] = arr;
+                    stampStack[writeIdx] = stamp;
+                }
+                writeIdx++;
+            }
+        }
+        currentLevel = writeIdx;
+    }
+
+    /**
+     * @return the current size of the stack.
+     */
+    public int getSize() {
+        return currentLevel;
+    }
+}
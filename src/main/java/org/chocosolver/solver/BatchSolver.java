@@ -0,0 +1,185 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Resolution of many instances of a same problem, described by a {@link IModelTemplate}.
+ * </p>
+ * <p>
+ * Instead of building a new model for each instance, a small pool of models built by
+ * {@link IModelTemplate#build()} is maintained, at most one per worker thread.
+ * To solve an instance, a model is taken from the pool, a world is pushed, the instance is bound and solved,
+ * then the solver is reset, the constraints posted while binding are unposted, the world is popped
+ * and the model goes back to the pool.
+ * Thus, the environment, with its trails, the solver, its measures and its propagation engine are allocated once
+ * per worker and reused by all the instances it solves.
+ * </p>
+ * <p>
+ * Example of use.
+ * <pre>
+ * <code>try(BatchSolver&lt;int[], Solution&gt; batch = new BatchSolver&lt;&gt;(template, 4)){
+ *     List&lt;Solution&gt; results = batch.solveAll(instances);
+ * }
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * @param <I> type of instances
+ * @param <R> type of results
+ * @author agent
+ * @since 19/10/2026
+ */
+public class BatchSolver<I, R> implements AutoCloseable {
+
+    /**
+     * The template of the models
+     */
+    private final IModelTemplate<I, R> template;
+
+    /**
+     * Worker threads
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Models ready to be bound
+     */
+    private final Queue<Model> pool = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of models built so far
+     */
+    private final AtomicInteger nbModels = new AtomicInteger();
+
+    /**
+     * Cancelled on {@link #close()}, to stop pending resolutions
+     */
+    private final CancellationToken closed = new CancellationToken();
+
+    /**
+     * Creates a batch solver running <i>nbWorkers</i> resolutions in parallel.
+     *
+     * @param template  template of the models
+     * @param nbWorkers number of worker threads
+     */
+    public BatchSolver(IModelTemplate<I, R> template, int nbWorkers) {
+        this.template = template;
+        AtomicInteger id = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(nbWorkers, r -> {
+            Thread t = new Thread(r, "choco-batch-" + id.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Submits <i>instance</i> to the worker threads.
+     *
+     * @param instance an instance
+     * @return the future result of <i>instance</i>
+     */
+    public CompletableFuture<R> submit(I instance) {
+        return CompletableFuture.supplyAsync(() -> solve(instance), workers);
+    }
+
+    /**
+     * Solves all <i>instances</i> with the worker threads and waits for their results.
+     *
+     * @param instances a list of instances
+     * @return the results of <i>instances</i>, in the same order
+     */
+    public List<R> solveAll(List<I> instances) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(instances.size());
+        for (I instance : instances) {
+            futures.add(submit(instance));
+        }
+        List<R> results = new ArrayList<>(instances.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Solves <i>instance</i> in the calling thread, with a model of the pool.
+     *
+     * @param instance an instance
+     * @return the result of <i>instance</i>
+     */
+    public R solve(I instance) {
+        Model model = pool.poll();
+        if (model == null) {
+            model = template.build();
+            nbModels.incrementAndGet();
+        }
+        R result = solve(model, instance);
+        // on exception, the model is not returned to the pool since its state is unknown
+        pool.offer(model);
+        return result;
+    }
+
+    /**
+     * @return the number of models built so far
+     */
+    public int getNbModelsBuilt() {
+        return nbModels.get();
+    }
+
+    /**
+     * Stops the resolutions in progress and shuts the worker threads down.
+     * Pending instances are not solved.
+     */
+    @Override
+    public void close() {
+        closed.cancel();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Binds <i>model</i> to <i>instance</i>, solves it and restores <i>model</i> in its initial state.
+     */
+    private R solve(Model model, I instance) {
+        Solver solver = model.getSolver();
+        IEnvironment environment = model.getEnvironment();
+        int world = environment.getWorldIndex();
+        int nbCstrs = model.getNbCstrs();
+        environment.worldPush();
+        try {
+            solver.setCancellationToken(closed);
+            try {
+                template.bind(model, instance);
+            } catch (ContradictionException e) {
+                return template.infeasible(instance);
+            }
+            return template.solve(model, instance);
+        } finally {
+            solver.reset();
+            Constraint[] cstrs = model.getCstrs();
+            for (int i = cstrs.length - 1; i >= nbCstrs; i--) {
+                model.unpost(cstrs[i]);
+            }
+            environment.worldPopUntil(world);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+
+/**
+ * A model skeleton, shared by many instances of a problem, to be used with a {@link BatchSolver}.
+ * <p>
+ * The skeleton is built once per worker by {@link #build()}: it declares the variables, with domains large
+ * enough for any instance, the constraints common to all instances and the search configuration.
+ * Then, for each instance, {@link #bind(Model, Object)} restricts the domains to the data of the instance
+ * and posts the constraints which depend on it (table constraints, for instance),
+ * and {@link #solve(Model, Object)} runs the resolution and extracts the result.
+ * Everything done by these two methods is undone before binding the next instance.
+ * <br/>
+ *
+ * @param <I> type of instances
+ * @param <R> type of results
+ * @author agent
+ * @since 19/10/2026
+ */
+public interface IModelTemplate<I, R> {
+
+    /**
+     * Builds the skeleton of the model, called once per worker.
+     *
+     * @return a new model
+     */
+    Model build();
+
+    /**
+     * Binds <i>model</i> to <i>instance</i>.
+     * Domains should be modified with {@link Cause#Null} as cause, constraints should be posted with
+     * {@link org.chocosolver.solver.constraints.Constraint#post()}, and stop criteria, which are removed between two
+     * instances, declared here.
+     * No variable should be created here, since variables are not removed from the model afterwards.
+     *
+     * @param model    a model built by {@link #build()}, in its initial state
+     * @param instance the instance to bind
+     * @throws ContradictionException if <i>instance</i> is detected to be infeasible while binding
+     */
+    void bind(Model model, I instance) throws ContradictionException;
+
+    /**
+     * Solves <i>model</i> bound to <i>instance</i>.
+     *
+     * @param model    a model bound to <i>instance</i>
+     * @param instance the instance bound
+     * @return the result of the resolution, for instance, a {@link Solution}
+     */
+    R solve(Model model, I instance);
+
+    /**
+     * Called instead of {@link #solve(Model, Object)} when {@link #bind(Model, Object)} fails.
+     *
+     * @param instance an infeasible instance
+     * @return the result of an infeasible instance, <i>null</i> by default
+     */
+    default R infeasible(I instance) {
+        return null;
+    }
+}
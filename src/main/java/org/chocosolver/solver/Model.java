@@ -133,6 +133,26 @@ public class Model implements IModel {
      */
     private int nameId = 1;
 
+    /**
+     * Ids of the first variable of each array declared in bulk, in increasing order
+     */
+    private int[] arrayIds = new int[8];
+
+    /**
+     * Sizes of the arrays declared in bulk
+     */
+    private int[] arraySizes = new int[8];
+
+    /**
+     * Names of the arrays declared in bulk
+     */
+    private String[] arrayNames = new String[8];
+
+    /**
+     * Number of arrays declared in bulk
+     */
+    private int nbArrays;
+
     /**
      * A MiniSat instance, useful to deal with clauses
      */
@@ -644,6 +664,49 @@ public class Model implements IModel {
         vars[--vIdx] = null;
     }
 
+    /**
+     * Declares the name of an array of variables created in bulk, with consecutive ids and without name.
+     * The variable at index <i>i</i> will be named <i>name</i>[<i>i</i>] on demand,
+     * which saves building a string per variable.
+     * Should not be called by the user.
+     *
+     * @param name      name of the array
+     * @param variables newly created variables, with consecutive ids
+     */
+    public void nameLazily(String name, Variable[] variables) {
+        if (variables.length == 0) {
+            return;
+        }
+        assert variables[variables.length - 1].getId() - variables[0].getId() == variables.length - 1;
+        assert nbArrays == 0 || arrayIds[nbArrays - 1] < variables[0].getId();
+        if (nbArrays == arrayIds.length) {
+            arrayIds = Arrays.copyOf(arrayIds, nbArrays * 2);
+            arraySizes = Arrays.copyOf(arraySizes, nbArrays * 2);
+            arrayNames = Arrays.copyOf(arrayNames, nbArrays * 2);
+        }
+        arrayIds[nbArrays] = variables[0].getId();
+        arraySizes[nbArrays] = variables.length;
+        arrayNames[nbArrays++] = name;
+    }
+
+    /**
+     * Builds the name of a variable created in bulk (see {@link #nameLazily(String, Variable[])}).
+     * Should not be called by the user.
+     *
+     * @param id id of a variable
+     * @return the name of the variable, or <i>null</i> if it has not been created in bulk
+     */
+    public String lazyNameOf(int id) {
+        int a = Arrays.binarySearch(arrayIds, 0, nbArrays, id);
+        if (a < 0) {
+            a = -a - 2;
+        }
+        if (a < 0 || id - arrayIds[a] >= arraySizes[a]) {
+            return null;
+        }
+        return arrayNames[a] + "[" + (id - arrayIds[a]) + "]";
+    }
+
     /**
      * Get a free single-use id to identify a new variable.
      * Should not be called by the user.
@@ -9,24 +9,28 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.solver.exception.SolverException;
-import org.chocosolver.solver.search.limits.FailCounter;
-import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.features.Features;
+import org.chocosolver.solver.features.FixedSelector;
+import org.chocosolver.solver.features.IAlgorithmSelector;
+import org.chocosolver.solver.features.IFeatures;
+import org.chocosolver.solver.features.IWorkerConfiguration;
+import org.chocosolver.solver.search.limits.CancellationToken;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.solver.variables.RealVar;
-import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.criteria.Criterion;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import static org.chocosolver.solver.search.strategy.Search.*;
-
 /**
  *
  * <p>
@@ -81,6 +85,25 @@ import static org.chocosolver.solver.search.strategy.Search.*;
  *
  * </p>
  * <p>
+ *     The configuration of each model (search strategy, restarts, propagation engine, ...) is chosen by an
+ *     {@link IAlgorithmSelector} (see {@link #setAlgorithmSelector(IAlgorithmSelector)}) from the
+ *     {@link Features} of the first model, computed once.
+ *     By default, the configurations are fixed (see {@link FixedSelector}).
+ * </p>
+ * <p>
+ *     By default, each model runs on its own thread.
+ *     When there are fewer threads than models (see {@link #setNbThreads(int, long)}),
+ *     models run by time slices, and free threads are given in priority to the models which progress,
+ *     that is, which found solutions recently.
+ * </p>
+ * <p>
+ *     By default, the resolution depends on thread timing: bounds are shared as soon as a solution is found,
+ *     and the first model which terminates stops the others.
+ *     In deterministic mode (see {@link #setDeterministic(long)}), models run by epochs of a fixed number of failures
+ *     and only interact at the end of each epoch, in model order, so that the resolution is reproducible
+ *     whatever the number of threads, as long as each model is (fixed seeds, no time limit).
+ * </p>
+ * <p>
  *     This class uses Java 8 streaming feature, and may be not compliant with older versions.
  * </p>
  *
@@ -105,12 +128,40 @@ public class ParallelPortfolio {
     /** Stores whether or not prepare() method has been called */
     private boolean isPrepared = false;
 
-    private AtomicBoolean solverTerminated = new AtomicBoolean(false);
+    /** Cancelled when one of the models terminates, shared by the solvers during a call to {@link #solve()} */
+    private volatile CancellationToken solverTerminated = new CancellationToken();
     private AtomicBoolean solutionFound = new AtomicBoolean(false);
 
     /** Point to (one of) the solver(s) which found a solution */
     private Model finder;
 
+    /** Selects the configuration of each model */
+    private IAlgorithmSelector selector = new FixedSelector();
+
+    /** Features of the first model, computed on preparation */
+    private IFeatures features;
+
+    /** Maximum number of threads, 0 to run each model in its own thread */
+    private int nbThreads;
+
+    /** Duration of a time slice, in milliseconds, when models are run by time slices */
+    private long timeSlice;
+
+    /** For each model, a measure of its recent progress */
+    private double[] credits;
+
+    /** For each model, the index of the last time slice it was given */
+    private long[] lastSlice;
+
+    /** Number of time slices given so far */
+    private long nbSlices;
+
+    /** Number of failures per epoch in deterministic mode, 0 otherwise */
+    private long epochFails;
+
+    /** For each model, the number of failures at which its current epoch ends */
+    private long[] epochLimits;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -164,6 +215,61 @@ public class ParallelPortfolio {
         this.models.add(model);
     }
 
+    /**
+     * Sets the algorithm selector which configures the models, when search auto-configuration is on.
+     * Must be called before the first resolution.
+     *
+     * @param selector an algorithm selector
+     */
+    public void setAlgorithmSelector(IAlgorithmSelector selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Limits the number of threads used to run the models.
+     * When there are more models than threads, models are run by time slices:
+     * each time a thread is free, it runs, during <i>timeSlice</i> milliseconds, the waiting model which has the
+     * best recent progress, ties being broken in favor of the model which waits for the longest time.
+     * A model progresses when it finds a solution (in satisfaction, the first solution ends the resolution,
+     * so threads are given in turn).
+     *
+     * @param nbThreads maximum number of threads, 0 to run each model in its own thread (the default)
+     * @param timeSlice duration of a time slice, in milliseconds
+     */
+    public void setNbThreads(int nbThreads, long timeSlice) {
+        if (nbThreads < 0 || timeSlice <= 0) {
+            throw new SolverException("Invalid number of threads or time slice");
+        }
+        this.nbThreads = nbThreads;
+        this.timeSlice = timeSlice;
+    }
+
+    /**
+     * Sets the deterministic mode on.
+     * The resolution is then made of epochs: during an epoch, each model runs until it finds a solution,
+     * ends or fails <i>epochFails</i> times more, without interacting with the other models.
+     * At the end of an epoch, the models are considered in order:
+     * the first model which found the best solution of the epoch is the finder,
+     * its solution cost is shared among all models, and the resolution stops if a model found a solution or ended.
+     * Must be called before the first resolution.
+     *
+     * @param epochFails number of failures per epoch, 0 to switch the deterministic mode off
+     */
+    public void setDeterministic(long epochFails) {
+        if (epochFails < 0) {
+            throw new SolverException("Invalid number of failures per epoch");
+        }
+        this.epochFails = epochFails;
+    }
+
+    /**
+     * @return the features of the first model, evaluated over the attributes required by the algorithm selector,
+     * or <tt>null</tt> if the models have not been configured yet
+     */
+    public IFeatures getFeatures() {
+        return features;
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
@@ -174,28 +280,56 @@ public class ParallelPortfolio {
      * @throws SolverException if no model or only model has been added.
      */
     public boolean solve() {
-        getSolverTerminated().set(false);
         getSolutionFound().set(false);
         if (!isPrepared) {
             prepare();
         }
-        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
-        try {
-            forkJoinPool.submit(() -> {
-                models.parallelStream().forEach(m -> {
-                    if (!getSolverTerminated().get()) {
-                        boolean so = m.getSolver().solve();
-                        if (so && finder == m || !so) {
-                            getSolverTerminated().set(true);
+        // cancelling the token of any model from outside stops the portfolio
+        CancellationToken[] previous = new CancellationToken[models.size()];
+        for (int i = 0; i < models.size(); i++) {
+            previous[i] = models.get(i).getSolver().getCancellationToken();
+        }
+        solverTerminated = new CancellationToken(previous);
+        for (int i = 0; i < models.size(); i++) {
+            models.get(i).getSolver().setCancellationToken(solverTerminated);
+        }
+        if (epochFails > 0) {
+            // the end of the epoch, declared during this resolution only
+            Criterion[] epochEnds = new Criterion[models.size()];
+            for (int i = 0; i < models.size(); i++) {
+                int w = i;
+                Solver s = models.get(w).getSolver();
+                epochEnds[w] = () -> s.getFailCount() >= epochLimits[w];
+                s.addStopCriterion(epochEnds[w]);
+            }
+            solveByEpochs();
+            for (int i = 0; i < models.size(); i++) {
+                models.get(i).getSolver().removeStopCriterion(epochEnds[i]);
+            }
+        } else if (nbThreads > 0 && nbThreads < models.size()) {
+            solveBySlices();
+        } else {
+            ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+            try {
+                forkJoinPool.submit(() -> {
+                    models.parallelStream().forEach(m -> {
+                        if (!solverTerminated.isCancelled()) {
+                            boolean so = m.getSolver().solve();
+                            if (so && finder == m || !so) {
+                                solverTerminated.cancel();
+                            }
                         }
-                    }
-                });
-            }).get();
-        } catch (InterruptedException | ExecutionException e) {
-            e.printStackTrace();
+                    });
+                }).get();
+            } catch (InterruptedException | ExecutionException e) {
+                e.printStackTrace();
+            }
+            forkJoinPool.shutdownNow();
+        }
+        // restore the tokens, otherwise, solver.isStopCriterionMet() always returns true
+        for (int i = 0; i < models.size(); i++) {
+            models.get(i).getSolver().setCancellationToken(previous[i]);
         }
-        forkJoinPool.shutdownNow();
-        getSolverTerminated().set(false);// otherwise, solver.isStopCriterionMet() always returns true
         if(getSolutionFound().get() && models.get(0).getResolutionPolicy()!=ResolutionPolicy.SATISFACTION) {
             int bestAll = getBestModel().getSolver().getBestSolutionValue().intValue();
             for (Model m : models) {
@@ -240,21 +374,177 @@ public class ParallelPortfolio {
     ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Runs the models by epochs, until one of them finds a solution or terminates.
+     */
+    private void solveByEpochs() {
+        int n = models.size();
+        boolean[] found = new boolean[n];
+        boolean[] paused = new boolean[n];
+        List<Callable<Void>> epoch = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int w = i;
+            epoch.add(() -> {
+                Solver s = models.get(w).getSolver();
+                epochLimits[w] = s.getFailCount() + epochFails;
+                found[w] = s.solve();
+                paused[w] = !found[w] && s.getFailCount() >= epochLimits[w];
+                return null;
+            });
+        }
+        ForkJoinPool pool = new ForkJoinPool(nbThreads > 0 ? Math.min(nbThreads, n) : n);
+        try {
+            do {
+                for (Future<Void> f : pool.invokeAll(epoch)) {
+                    f.get();
+                }
+            } while (!synchronize(found, paused));
+        } catch (InterruptedException | ExecutionException e) {
+            e.printStackTrace();
+        }
+        pool.shutdownNow();
+    }
+
+    /**
+     * Exchanges information between models at the end of an epoch, in model order.
+     *
+     * @param found  for each model, whether it found a solution during the epoch
+     * @param paused for each model, whether it reached the end of the epoch
+     * @return <tt>true</tt> if the resolution stops
+     */
+    private boolean synchronize(boolean[] found, boolean[] paused) {
+        ResolutionPolicy policy = models.get(0).getResolutionPolicy();
+        Model best = null;
+        int bestVal = 0;
+        for (int i = 0; i < models.size(); i++) {
+            if (found[i]) {
+                Model m = models.get(i);
+                if (policy == ResolutionPolicy.SATISFACTION) {
+                    if (best == null) {
+                        best = m;
+                    }
+                } else {
+                    int val = ((IntVar) m.getObjective()).getValue();
+                    if (best == null || (policy == ResolutionPolicy.MAXIMIZE ? val > bestVal : val < bestVal)) {
+                        best = m;
+                        bestVal = val;
+                    }
+                }
+            }
+        }
+        if (best != null) {
+            finder = best;
+            getSolutionFound().set(true);
+            int val = bestVal;
+            if (policy == ResolutionPolicy.MAXIMIZE) {
+                models.forEach(m -> m.getSolver().getObjectiveManager().updateBestLB(val));
+            } else if (policy == ResolutionPolicy.MINIMIZE) {
+                models.forEach(m -> m.getSolver().getObjectiveManager().updateBestUB(val));
+            }
+            return true;
+        }
+        for (int i = 0; i < models.size(); i++) {
+            if (!paused[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the models by time slices, on {@link #nbThreads} threads, until one of them terminates.
+     */
+    private void solveBySlices() {
+        int n = models.size();
+        if (credits == null || credits.length != n) {
+            credits = new double[n];
+            lastSlice = new long[n];
+        }
+        boolean[] running = new boolean[n];
+        ForkJoinPool pool = new ForkJoinPool(nbThreads);
+        CompletionService<Integer> slices = new ExecutorCompletionService<>(pool);
+        try {
+            int active = 0;
+            int next;
+            while (active < nbThreads && (next = nextModel(running)) > -1) {
+                runSlice(slices, running, next);
+                active++;
+            }
+            while (active > 0) {
+                int done = slices.take().get();
+                running[done] = false;
+                active--;
+                if (!solverTerminated.isCancelled()) {
+                    runSlice(slices, running, nextModel(running));
+                    active++;
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            solverTerminated.cancel();
+            e.printStackTrace();
+        }
+        pool.shutdownNow();
+    }
+
+    /**
+     * @param running for each model, whether it is being run
+     * @return the index of the next model to run, -1 if all are running
+     */
+    private int nextModel(boolean[] running) {
+        int best = -1;
+        for (int i = 0; i < running.length; i++) {
+            if (!running[i] && (best == -1 || credits[i] > credits[best]
+                    || credits[i] == credits[best] && lastSlice[i] < lastSlice[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Runs the model <i>i</i> during a time slice
+     */
+    private void runSlice(CompletionService<Integer> slices, boolean[] running, int i) {
+        Model m = models.get(i);
+        running[i] = true;
+        lastSlice[i] = ++nbSlices;
+        slices.submit(() -> {
+            CancellationToken slice = new CancellationToken(solverTerminated);
+            m.getSolver().setCancellationToken(slice.cancelAfter(timeSlice, TimeUnit.MILLISECONDS));
+            boolean so = m.getSolver().solve();
+            // older progress counts half as much
+            credits[i] = credits[i] / 2 + (so ? 1 : 0);
+            if (so && finder == m || !so && !slice.isCancelled()) {
+                solverTerminated.cancel();
+            }
+            return i;
+        });
+    }
+
     @SuppressWarnings("unchecked")
     private void prepare(){
         isPrepared = true;
         check();
+        IWorkerConfiguration[] configurations = null;
+        epochLimits = new long[models.size()];
+        if (searchAutoConf) {
+            features = new Features(models.get(0), selector.getAttributes());
+            configurations = selector.select(features, models.size());
+        }
         for(int i=0;i<models.size();i++){
             Solver s = models.get(i).getSolver();
-            s.addStopCriterion((Criterion) () -> getSolverTerminated().get());
             s.plugMonitor((IMonitorSolution) () -> {updateFromSolution(s.getModel());});
             if(searchAutoConf){
-                configureModel(i);
+                configurations[i].configure(models.get(i), i);
             }
         }
     }
 
     private synchronized void updateFromSolution(Model m){
+        if (epochFails > 0) {
+            // solutions are dealt with at the end of the epoch
+            return;
+        }
         if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
             finder = m;
             getSolutionFound().set(true);
@@ -278,116 +568,6 @@ public class ParallelPortfolio {
         }
     }
 
-    private void configureModel(int workerID) {
-        Model worker = getModels().get(workerID);
-        Solver solver = worker.getSolver();
-        ResolutionPolicy policy = worker.getResolutionPolicy();
-
-        // compute decision variables
-        Variable[] varsX;
-        boolean customSearch = false;
-        if (solver.getSearch() != null && solver.getSearch().getVariables().length > 0) {
-            varsX = solver.getSearch().getVariables();
-            customSearch = true;
-        }else{
-            varsX = worker.getVars();
-        }
-        IntVar[] ivars = new IntVar[varsX.length];
-        SetVar[] svars = new SetVar[varsX.length];
-        RealVar[] rvars = new RealVar[varsX.length];
-        int ki=0,ks=0,kr=0;
-        for (Variable aVarsX : varsX) {
-            if ((aVarsX.getTypeAndKind() & Variable.INT) > 0) {
-                ivars[ki++] = (IntVar) aVarsX;
-            } else if ((aVarsX.getTypeAndKind() & Variable.SET) > 0) {
-                svars[ks++] = (SetVar) aVarsX;
-            } else if ((aVarsX.getTypeAndKind() & Variable.REAL) > 0) {
-                rvars[kr++] = (RealVar) aVarsX;
-            } else {
-                throw new UnsupportedOperationException("unrecognized variable kind " + aVarsX);
-            }
-        }
-        ivars = Arrays.copyOf(ivars, ki);
-        svars = Arrays.copyOf(svars, ks);
-        rvars = Arrays.copyOf(rvars, kr);
-
-        // set heuristic
-        switch (workerID) {
-            case 0:
-                // original (custom or default)
-                break;
-            case 1:
-                // custom + LC (or default + LC)
-                if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("LastConflict")) {
-                    solver.setSearch(lastConflict(solver.getSearch()));
-                }else{
-                    solver.setSearch(lastConflict(intVarSearch(ivars)));
-                    solver.setGeometricalRestart(ivars.length * 3, 2.0d, new FailCounter(solver.getModel(), 1000), 1000);
-                }
-                break;
-            case 2:
-                // custom + COS (or default + COS)
-                if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("ConflictOrderingSearch")) {
-                    solver.setSearch(conflictOrderingSearch(solver.getSearch()));
-                }else{
-                    solver.setSearch(conflictOrderingSearch(intVarSearch(ivars)));
-                    solver.setGeometricalRestart(ivars.length * 3, 2.0d, new FailCounter(solver.getModel(), 1000), 1000);
-                }
-                break;
-            case 3:
-                // default + LC (or input order is already default) + LNS if optim
-                if(customSearch) {
-                    solver.setSearch(lastConflict(intVarSearch(ivars)));
-                    solver.setGeometricalRestart(ivars.length * 3, 2.0d, new FailCounter(solver.getModel(), 1000), 1000);
-                }else{
-                    solver.setSearch(inputOrderLBSearch(ivars));
-                }
-                if(policy!=ResolutionPolicy.SATISFACTION){
-                    solver.setLNS(INeighborFactory.blackBox(ivars), new FailCounter(solver.getModel(), 1000));
-                }else{
-                    solver.setNoGoodRecordingFromRestarts();
-                }
-                break;
-            case 4:
-                // custom + LDS(+infty) + COS (or default + LDS(+infty) + COS)
-                if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("ConflictOrderingSearch")) {
-                    solver.setLDS(Integer.MAX_VALUE);
-                    solver.setSearch(conflictOrderingSearch(solver.getSearch()));
-                }else{
-                    solver.setLDS(Integer.MAX_VALUE);
-                    solver.setSearch(conflictOrderingSearch(intVarSearch(ivars)));
-                    solver.setGeometricalRestart(ivars.length * 3, 2.0d, new FailCounter(solver.getModel(), 1000), 1000);
-                }
-                break;
-            case 5:
-                // custom + CBJ + LC (or default + CBJ + LC)
-                if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("LastConflict")) {
-                    solver.setCBJLearning(false, false);
-                    solver.setSearch(lastConflict(solver.getSearch()));
-                }else{
-                    solver.setCBJLearning(false, false);
-                    solver.setSearch(lastConflict(intVarSearch(ivars)));
-                    solver.setGeometricalRestart(ivars.length * 3, 2.0d, new FailCounter(solver.getModel(), 1000), 1000);
-                }
-                break;
-            default:
-                // random search (various seeds) + LNS if optim
-                solver.setSearch(lastConflict(randomSearch(ivars,workerID)));
-                if(policy!=ResolutionPolicy.SATISFACTION){
-                    solver.setLNS(INeighborFactory.blackBox(ivars), new FailCounter(solver.getModel(), 1000));
-                }
-                break;
-        }
-        // complete with set default search
-        if(ks>0) {
-            solver.setSearch(solver.getSearch(),setVarSearch(svars));
-        }
-        // complete with real default search
-        if(kr>0) {
-            solver.setSearch(solver.getSearch(),realVarSearch(rvars));
-        }
-    }
-
     private void check(){
         if (models.size() == 0) {
             throw new SolverException("No model found in the ParallelPortfolio.");
@@ -404,10 +584,6 @@ public class ParallelPortfolio {
         }
     }
 
-    private synchronized AtomicBoolean getSolverTerminated(){
-        return solverTerminated;
-    }
-
     private synchronized AtomicBoolean getSolutionFound(){
         return solutionFound;
     }
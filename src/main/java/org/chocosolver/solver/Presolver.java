@@ -0,0 +1,394 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.ReificationConstraint;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A presolver which reduces the propagator network once the initial propagation is done, before the search starts.
+ * It loops over the following steps until no more reduction can be done:
+ * <ol>
+ * <li>the propagators of entailed constraints whose variables are all instantiated are deactivated,</li>
+ * <li>linear sums and scalar products are restated over their non-instantiated variables,
+ * with coefficients divided by their greatest common divisor and the bounds rounded accordingly,</li>
+ * <li>among linear propagators stating the same linear combination, the one with the tightest bounds is kept,
+ * the others being deactivated,</li>
+ * <li>the network is propagated.</li>
+ * </ol>
+ * Reductions are made in the world of the initial propagation, so they are undone when the solver is reset.
+ * Reified constraints and the constraints embedding a SAT solver are ignored.
+ * Entailment relies on {@link Propagator#isEntailed()}, which is only trusted once all the variables of a propagator
+ * are instantiated: before that, some propagators claim entailment whereas they still have to filter
+ * (like {@link org.chocosolver.solver.constraints.reification.PropConditionnal}, or redundant propagators
+ * relying on other ones).
+ * <p>
+ * Variables bound by <i>x = y</i> are not merged: there is no way to substitute a variable in a propagator,
+ * which subscribes to its variables and may build internal structures from them on creation.
+ * <p>
+ * The presolver is enabled with {@link Settings#enablePresolve()}.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class Presolver {
+
+    /**
+     * The model to presolve
+     */
+    private final Model model;
+    /**
+     * Number of propagators deactivated because entailed
+     */
+    private int nbEntailed;
+    /**
+     * Number of linear propagators restated
+     */
+    private int nbRestated;
+    /**
+     * Number of linear propagators deactivated because duplicated or dominated
+     */
+    private int nbDuplicates;
+
+    /**
+     * Creates a presolver for <i>model</i>.
+     *
+     * @param model the model to presolve
+     */
+    public Presolver(Model model) {
+        this.model = model;
+    }
+
+    /**
+     * Reduces the propagator network, which is expected to be at fix point.
+     *
+     * @throws ContradictionException if the model is proven infeasible
+     */
+    public void presolve() throws ContradictionException {
+        boolean change;
+        do {
+            change = deactivateEntailed();
+            change |= restateLinear();
+            change |= deactivateDuplicates();
+            model.getSolver().propagate();
+        } while (change);
+    }
+
+    /**
+     * @return the active propagators which can be reduced
+     */
+    private List<Propagator<?>> candidates() {
+        List<Propagator<?>> props = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            if (c instanceof ReificationConstraint || c == model.minisat || c == model.nogoods) {
+                continue;
+            }
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p.isActive()) {
+                    props.add(p);
+                }
+            }
+        }
+        return props;
+    }
+
+    private boolean deactivateEntailed() {
+        boolean change = false;
+        for (Constraint c : model.getCstrs()) {
+            if (c instanceof ReificationConstraint || c == model.minisat || c == model.nogoods) {
+                continue;
+            }
+            // some propagators claim entailment whereas they still filter, so all the propagators of the constraint
+            // have to be fully instantiated and entailed
+            boolean entailed = false;
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p.isActive()) {
+                    entailed = true;
+                } else if (!p.isPassive()) {
+                    entailed = false;
+                    break;
+                }
+                if (nbFreeVars(p) > 0 || p.isEntailed() != ESat.TRUE) {
+                    entailed = false;
+                    break;
+                }
+            }
+            if (entailed) {
+                for (Propagator<?> p : c.getPropagators()) {
+                    if (p.isActive()) {
+                        p.setPassive();
+                        nbEntailed++;
+                    }
+                }
+                change = true;
+            }
+        }
+        return change;
+    }
+
+    private boolean restateLinear() throws ContradictionException {
+        boolean change = false;
+        for (Propagator<?> p : candidates()) {
+            if (!(p instanceof PropSum)) {
+                continue;
+            }
+            Row row = Row.of((ILinearizable) p);
+            if (row == null) {
+                continue;
+            }
+            Row free = row.restrict();
+            if (free.vars.length == 0 || free.vars.length == nbFreeVars(p) && free.gcd == 1) {
+                // nothing to remove, merge or divide
+                continue;
+            }
+            free = free.divide();
+            if (free.lb > free.ub) {
+                p.fails();
+            }
+            String op;
+            long rhs;
+            if (free.lb == free.ub) {
+                op = "=";
+                rhs = free.lb;
+            } else if (free.ub == Long.MAX_VALUE) {
+                op = ">=";
+                rhs = free.lb;
+            } else if (free.lb == Long.MIN_VALUE) {
+                op = "<=";
+                rhs = free.ub;
+            } else {
+                continue;
+            }
+            if (rhs < Integer.MIN_VALUE || rhs > Integer.MAX_VALUE) {
+                continue;
+            }
+            Constraint restated = model.scalar(free.vars, free.coeffs, op, (int) rhs);
+            p.setPassive();
+            model.postTemp(restated);
+            // the restated constraint is removed when the initial propagation is undone
+            model.getEnvironment().save(() -> model.unpost(restated));
+            nbRestated++;
+            change = true;
+        }
+        return change;
+    }
+
+    /**
+     * @return the number of non-instantiated variables of <i>p</i>, counting duplicates
+     */
+    private static int nbFreeVars(Propagator<?> p) {
+        int n = 0;
+        for (int i = 0; i < p.getNbVars(); i++) {
+            if (!p.getVar(i).isInstantiated()) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    private boolean deactivateDuplicates() {
+        boolean change = false;
+        Map<Row, Propagator<?>> rows = new HashMap<>();
+        Map<Row, Row> keys = new HashMap<>();
+        for (Propagator<?> p : candidates()) {
+            if (!(p instanceof ILinearizable)) {
+                continue;
+            }
+            Row row = Row.of((ILinearizable) p);
+            if (row == null) {
+                continue;
+            }
+            row = row.normalize();
+            Row other = keys.get(row);
+            if (other == null) {
+                keys.put(row, row);
+                rows.put(row, p);
+            } else if (other.lb <= row.lb && row.ub <= other.ub) {
+                // the new one is tighter
+                rows.get(other).setPassive();
+                keys.remove(other);
+                rows.remove(other);
+                keys.put(row, row);
+                rows.put(row, p);
+                nbDuplicates++;
+                change = true;
+            } else if (row.lb <= other.lb && other.ub <= row.ub) {
+                p.setPassive();
+                nbDuplicates++;
+                change = true;
+            }
+        }
+        return change;
+    }
+
+    /**
+     * @return the number of propagators deactivated because they were entailed
+     */
+    public int getNbEntailed() {
+        return nbEntailed;
+    }
+
+    /**
+     * @return the number of linear propagators restated over fewer variables or smaller coefficients
+     */
+    public int getNbRestated() {
+        return nbRestated;
+    }
+
+    /**
+     * @return the number of linear propagators deactivated because duplicated or dominated by another one
+     */
+    public int getNbDuplicates() {
+        return nbDuplicates;
+    }
+
+    /**
+     * A linear row <i>lb &le; sum(coeffs_i.vars_i) &le; ub</i>, with integer coefficients.
+     * Two rows are equal if they have the same variables and coefficients, whatever their bounds.
+     */
+    private static final class Row {
+
+        private final IntVar[] vars;
+        private final int[] coeffs;
+        private final long lb, ub;
+        private final int gcd;
+
+        private Row(IntVar[] vars, int[] coeffs, long lb, long ub) {
+            this.vars = vars;
+            this.coeffs = coeffs;
+            this.lb = lb;
+            this.ub = ub;
+            int g = 0;
+            for (int c : coeffs) {
+                g = gcd(g, Math.abs(c));
+            }
+            this.gcd = Math.max(g, 1);
+        }
+
+        /**
+         * @return the unique row stated by <i>p</i>, <i>null</i> if it states none or many
+         */
+        static Row of(ILinearizable p) {
+            LinearRelaxation relaxation = new LinearRelaxation();
+            p.linearize(relaxation);
+            if (relaxation.getNbRows() != 1) {
+                return null;
+            }
+            double[] a = relaxation.getMatrix()[0];
+            IntVar[] vars = new IntVar[a.length];
+            int[] coeffs = new int[a.length];
+            int k = 0;
+            for (int j = 0; j < a.length; j++) {
+                if (a[j] != 0) {
+                    vars[k] = relaxation.getVariable(j);
+                    coeffs[k++] = (int) a[j];
+                }
+            }
+            double lb = relaxation.getLowerBound(0);
+            double ub = relaxation.getUpperBound(0);
+            return new Row(Arrays.copyOf(vars, k), Arrays.copyOf(coeffs, k),
+                    lb == Double.NEGATIVE_INFINITY ? Long.MIN_VALUE : (long) lb,
+                    ub == Double.POSITIVE_INFINITY ? Long.MAX_VALUE : (long) ub);
+        }
+
+        /**
+         * @return this row restricted to its non-instantiated variables, divided by the gcd of the coefficients
+         */
+        Row restrict() {
+            long shift = 0;
+            int k = 0;
+            IntVar[] fvars = new IntVar[vars.length];
+            int[] fcoeffs = new int[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                if (vars[i].isInstantiated()) {
+                    shift += (long) coeffs[i] * vars[i].getValue();
+                } else {
+                    fvars[k] = vars[i];
+                    fcoeffs[k++] = coeffs[i];
+                }
+            }
+            return new Row(Arrays.copyOf(fvars, k), Arrays.copyOf(fcoeffs, k),
+                    lb == Long.MIN_VALUE ? lb : lb - shift,
+                    ub == Long.MAX_VALUE ? ub : ub - shift);
+        }
+
+        /**
+         * @return this row, with variables sorted by ID, the first coefficient positive, divided by the gcd
+         */
+        Row normalize() {
+            Integer[] order = new Integer[vars.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (i, j) -> vars[i].getId() - vars[j].getId());
+            IntVar[] svars = new IntVar[vars.length];
+            int[] scoeffs = new int[vars.length];
+            int sign = vars.length > 0 && coeffs[order[0]] < 0 ? -1 : 1;
+            for (int i = 0; i < order.length; i++) {
+                svars[i] = vars[order[i]];
+                scoeffs[i] = sign * coeffs[order[i]];
+            }
+            long slb = sign == 1 ? lb : ub == Long.MAX_VALUE ? Long.MIN_VALUE : -ub;
+            long sub = sign == 1 ? ub : lb == Long.MIN_VALUE ? Long.MAX_VALUE : -lb;
+            return new Row(svars, scoeffs, slb, sub).divide();
+        }
+
+        /**
+         * @return this row divided by the gcd of its coefficients, bounds being rounded inward
+         */
+        Row divide() {
+            if (gcd == 1) {
+                return this;
+            }
+            int[] dcoeffs = new int[coeffs.length];
+            for (int i = 0; i < coeffs.length; i++) {
+                dcoeffs[i] = coeffs[i] / gcd;
+            }
+            return new Row(vars, dcoeffs,
+                    lb == Long.MIN_VALUE ? lb : Math.floorDiv(lb + gcd - 1, gcd),
+                    ub == Long.MAX_VALUE ? ub : Math.floorDiv(ub, gcd));
+        }
+
+        private static int gcd(int a, int b) {
+            while (b != 0) {
+                int t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Row)) {
+                return false;
+            }
+            Row row = (Row) o;
+            return Arrays.equals(vars, row.vars) && Arrays.equals(coeffs, row.coeffs);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(vars) + Arrays.hashCode(coeffs);
+        }
+    }
+}
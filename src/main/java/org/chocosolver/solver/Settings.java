@@ -74,6 +74,17 @@ public interface Settings  {
         return 32768;
     }
 
+    /**
+     * Set to 'true' to store enumerated domains of integer variables in a single backtrackable array of words
+     * (see {@link org.chocosolver.solver.variables.impl.WordBitsetIntVarImpl}) instead of a bitset of
+     * backtrackable longs.
+     * Such variables are filtered 64 values at a time by propagators supporting bit-parallel operations.
+     * @return <tt>true</tt> if enumerated domains are based on arrays of words.
+     */
+    default boolean enableWordBitsetDomains() {
+        return false;
+    }
+
     /**
      * Set to true to replace some intension constraints by extension constraints
      * @return <tt>true</tt> if some intension constraints can be replaced by extension constraints
@@ -225,4 +236,11 @@ public interface Settings  {
         return false;
     }
 
+    /**
+     * @return <i>true</i> to run a {@link Presolver} after the initial propagation, before the search starts.
+     */
+    default boolean enablePresolve(){
+        return false;
+    }
+
 }
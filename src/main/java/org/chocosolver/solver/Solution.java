@@ -19,12 +19,19 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 
 import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Class which stores the value of each variable in a solution
  * <br/>
+ * Values are stored in flat arrays, indexed thanks to a dense index over the variables to store.
+ * This index is computed on the first call to {@link #record()}
+ * and is shared with the copies of this object (see {@link #copySolution()}),
+ * so that recording a solution again does not allocate memory, unless set variables grow.
+ * Values of variables which are not declared to be stored but explicitly set are kept aside in maps.
  *
  * @author Jean-Guillaume Fages
  * @author Charles Prud'homme
@@ -42,11 +49,23 @@ public class Solution implements ICause {
     // SOLUTION
     /** Set to <tt>true</tt> when this object is empty */
     private boolean empty;
-    /** Maps of value for integer variable (id - value) */
+    /** Dense index of the variables to store, shared by copies */
+    private Layout layout;
+    /** Positions, in {@link #varsToStore}, of the variables instantiated when recording */
+    private BitSet recorded;
+    /** Values of integer variables, one per slot */
+    private int[] ints;
+    /** Bounds of real variables, two per slot */
+    private double[] reals;
+    /** Values of set variables, packed: values of slot i are in [setStarts[i], setStarts[i+1]) */
+    private int[] sets;
+    /** Start of the values of each set slot in {@link #sets} */
+    private int[] setStarts;
+    /** Maps of value for integer variable (id - value), for variables not declared in {@link #varsToStore} */
     private TIntIntHashMap intmap;
-    /** Maps of value for real variable (id - value) */
+    /** Maps of value for real variable (id - value), for variables not declared in {@link #varsToStore} */
     private TIntObjectHashMap<double[]> realmap;
-    /** Maps of value for set variable (id - values) */
+    /** Maps of value for set variable (id - values), for variables not declared in {@link #varsToStore} */
     private TIntObjectHashMap<int[]> setmap;
 
     // INPUT
@@ -90,6 +109,10 @@ public class Solution implements ICause {
             varsToStore = model.getVars();
         }
         assert varsToStore.length > 0;
+        if (layout == null) {
+            setLayout(new Layout(varsToStore));
+        }
+        recorded.clear();
         if (intmap != null) {
             intmap.clear();
         }
@@ -99,41 +122,43 @@ public class Solution implements ICause {
         if (setmap != null) {
             setmap.clear();
         }
-        for (Variable var : varsToStore) {
-            if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
+        int cursor = 0;
+        for (int k = 0; k < varsToStore.length; k++) {
+            Variable var = varsToStore[k];
+            int slot = layout.slots[k];
+            if (slot > -1) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 if (var.isInstantiated()) {
                     switch (kind) {
                         case Variable.INT:
                         case Variable.BOOL:
-                            if (intmap == null) {
-                                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
-                            }
-                            IntVar v = (IntVar) var;
-                            intmap.put(v.getId(), v.getValue());
+                            ints[slot] = ((IntVar) var).getValue();
                             break;
                         case Variable.REAL:
-                            if (realmap == null) {
-                                realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
                             RealVar r = (RealVar) var;
-                            realmap.put(r.getId(), new double[]{r.getLB(), r.getUB()});
+                            reals[2 * slot] = r.getLB();
+                            reals[2 * slot + 1] = r.getUB();
                             break;
                         case Variable.SET:
-                            if (setmap == null) {
-                                setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+                            ISet set = ((SetVar) var).getValue();
+                            if (cursor + set.size() > sets.length) {
+                                sets = Arrays.copyOf(sets, Math.max(cursor + set.size(), sets.length * 3 / 2 + 1));
+                            }
+                            setStarts[slot] = cursor;
+                            for (int v : set) {
+                                sets[cursor++] = v;
                             }
-                            SetVar s = (SetVar) var;
-                            setmap.put(s.getId(), s.getValue().toArray());
-                            break;
-                        default:
-                            // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
-                            // that should then be stored externally to this object
                             break;
                     }
+                    recorded.set(k);
                 } else {
                     warn = true;
                 }
+                if (kind == Variable.SET) {
+                    setStarts[slot + 1] = cursor;
+                }
+            } else if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE && !var.isInstantiated()) {
+                warn = true;
             }
         }
         if (warn && varsToStore[0].getModel().getSettings().warnUser()) {
@@ -142,6 +167,74 @@ public class Solution implements ICause {
         return this;
     }
 
+    /**
+     * Sets the layout of this solution and allocates the arrays accordingly
+     * @param layout a dense index over {@link #varsToStore}
+     */
+    private void setLayout(Layout layout) {
+        this.layout = layout;
+        this.recorded = new BitSet(varsToStore.length);
+        this.ints = new int[layout.nbInts];
+        this.reals = new double[2 * layout.nbReals];
+        this.setStarts = new int[layout.nbSets + 1];
+        this.sets = new int[layout.nbSets];
+    }
+
+    /**
+     * @param var a variable
+     * @param kind expected kind of variable
+     * @return the slot of <i>var</i> if its value has been recorded, -1 otherwise
+     */
+    private int recordedSlot(Variable var, int kind) {
+        if (layout != null) {
+            int k = layout.positionOf(var);
+            if (k > -1 && recorded.get(k) && (varsToStore[k].getTypeAndKind() & Variable.KIND) == kind) {
+                return layout.slots[k];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param var a variable
+     * @param kind expected kind of variable
+     * @return the slot of <i>var</i> in the layout, -1 if it is not declared to be stored
+     */
+    private int declaredSlot(Variable var, int kind) {
+        if (layout != null) {
+            int k = layout.positionOf(var);
+            if (k > -1 && (varsToStore[k].getTypeAndKind() & Variable.KIND) == kind) {
+                recorded.set(k);
+                return layout.slots[k];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the number of integer variables which do not have the same value in this solution and in <i>other</i>.
+     * Both solutions have to be recorded over the same variables, one being a copy of the other.
+     * Variables whose value is not recorded in one of the two solutions are considered to be different.
+     *
+     * @param other another solution
+     * @return the Hamming distance between the values of the integer variables of this solution and <i>other</i>
+     */
+    public int distance(Solution other) {
+        if (layout == null || layout != other.layout) {
+            throw new SolverException("Cannot compare solutions which do not store the same variables (see copySolution()).");
+        }
+        int d = 0;
+        for (int k = 0; k < varsToStore.length; k++) {
+            int slot = layout.slots[k];
+            int kind = varsToStore[k].getTypeAndKind() & Variable.KIND;
+            if (slot > -1 && (kind == Variable.INT || kind == Variable.BOOL)
+                    && (!recorded.get(k) || !other.recorded.get(k) || ints[slot] != other.ints[slot])) {
+                d++;
+            }
+        }
+        return d;
+    }
+
     @Override
     public String toString() {
         if (empty) {
@@ -155,16 +248,21 @@ public class Solution implements ICause {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        st.append(v.getName()).append("=").append(intmap.get(v.getId())).append(", ");
+                        int slot = recordedSlot(v, kind);
+                        int value = slot > -1 ? ints[slot] : intmap != null ? intmap.get(v.getId()) : NO_ENTRY;
+                        st.append(v.getName()).append("=").append(value).append(", ");
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
-                        st.append(r.getName()).append("=[").append(bounds[0]).append(",").append(bounds[1]).append("], ");
+                        slot = recordedSlot(r, kind);
+                        double[] bounds = slot > -1 ? new double[]{reals[2 * slot], reals[2 * slot + 1]} : realmap != null ? realmap.get(r.getId()) : null;
+                        st.append(r.getName()).append("=").append(Arrays.toString(bounds)).append(", ");
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
-                        st.append(s.getName()).append("=").append(Arrays.toString(setmap.get(s.getId()))).append(", ");
+                        slot = recordedSlot(s, kind);
+                        int[] values = slot > -1 ? Arrays.copyOfRange(sets, setStarts[slot], setStarts[slot + 1]) : setmap != null ? setmap.get(s.getId()) : null;
+                        st.append(s.getName()).append("=").append(Arrays.toString(values)).append(", ");
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -179,9 +277,23 @@ public class Solution implements ICause {
     public Solution copySolution() {
         Solution ret = new Solution(model, varsToStore);
         ret.empty = empty;
-        ret.intmap = new TIntIntHashMap(intmap);
-        ret.realmap = new TIntObjectHashMap<>(realmap);
-        ret.setmap = new TIntObjectHashMap<>(setmap);
+        if (layout != null) {
+            ret.layout = layout;
+            ret.recorded = (BitSet) recorded.clone();
+            ret.ints = ints.clone();
+            ret.reals = reals.clone();
+            ret.sets = sets.clone();
+            ret.setStarts = setStarts.clone();
+        }
+        if (intmap != null) {
+            ret.intmap = new TIntIntHashMap(intmap);
+        }
+        if (realmap != null) {
+            ret.realmap = new TIntObjectHashMap<>(realmap);
+        }
+        if (setmap != null) {
+            ret.setmap = new TIntObjectHashMap<>(setmap);
+        }
         return ret;
     }
 
@@ -197,7 +309,10 @@ public class Solution implements ICause {
         if (empty) {
             throw new SolverException("Cannot access value of " + v + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (intmap != null && intmap.containsKey(v.getId())) {
+        int slot = recordedSlot(v, v.getTypeAndKind() & Variable.KIND);
+        if (slot > -1) {
+            return ints[slot];
+        } else if (intmap != null && intmap.containsKey(v.getId())) {
             return intmap.get(v.getId());
         } else {
             if ((v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
@@ -216,6 +331,11 @@ public class Solution implements ICause {
      */
     public void setIntVal(IntVar var, int val) {
         empty = false;
+        int slot = declaredSlot(var, var.getTypeAndKind() & Variable.KIND);
+        if (slot > -1) {
+            ints[slot] = val;
+            return;
+        }
         if (intmap == null) {
             intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
         }
@@ -234,7 +354,10 @@ public class Solution implements ICause {
         if (empty) {
             throw new SolverException("Cannot access value of " + s + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (setmap != null && setmap.containsKey(s.getId())) {
+        int slot = recordedSlot(s, Variable.SET);
+        if (slot > -1) {
+            return Arrays.copyOfRange(sets, setStarts[slot], setStarts[slot + 1]);
+        } else if (setmap != null && setmap.containsKey(s.getId())) {
             return setmap.get(s.getId());
         } else if ((s.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
             return s.getValue().toArray();
@@ -251,6 +374,13 @@ public class Solution implements ICause {
      */
     public void setSetVal(SetVar var, int[] val) {
         empty = false;
+        if (layout != null) {
+            // packed values cannot be replaced, the value is stored aside
+            int k = layout.positionOf(var);
+            if (k > -1) {
+                recorded.clear(k);
+            }
+        }
         if (setmap == null) {
             setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
         }
@@ -269,7 +399,10 @@ public class Solution implements ICause {
         if (empty) {
             throw new SolverException("Cannot access value of " + r + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (realmap != null && realmap.containsKey(r.getId())) {
+        int slot = recordedSlot(r, Variable.REAL);
+        if (slot > -1) {
+            return new double[]{reals[2 * slot], reals[2 * slot + 1]};
+        } else if (realmap != null && realmap.containsKey(r.getId())) {
             return realmap.get(r.getId());
         } else {
             if ((r.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
@@ -288,12 +421,18 @@ public class Solution implements ICause {
      */
     public void setRealBounds(RealVar var, double[] val) {
         empty = false;
-        if (realmap == null) {
-            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-        }
         if (val.length != 2) {
             throw new SolverException("wrong array size");
         }
+        int slot = declaredSlot(var, Variable.REAL);
+        if (slot > -1) {
+            reals[2 * slot] = val[0];
+            reals[2 * slot + 1] = val[1];
+            return;
+        }
+        if (realmap == null) {
+            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+        }
         realmap.put(var.getId(), val);
     }
 
@@ -349,16 +488,16 @@ public class Solution implements ICause {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        v.instantiateTo(intmap.get(v.getId()), this);
+                        v.instantiateTo(getIntVal(v), this);
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
+                        double[] bounds = getRealBounds(r);
                         r.updateBounds(bounds[0], bounds[1], this);
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
-                        s.instantiateTo(setmap.get(s.getId()), this);
+                        s.instantiateTo(getSetVal(s), this);
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -369,4 +508,61 @@ public class Solution implements ICause {
         }
         model.getSolver().propagate();
     }
+
+    /**
+     * A dense index over an array of variables, which maps each variable to a slot in the array of values of its kind.
+     */
+    private static final class Layout {
+        /** Smallest ID of the variables */
+        private final int offset;
+        /** Position of each variable in the array of variables, indexed by ID minus {@link #offset}, -1 if absent */
+        private final int[] positions;
+        /** Slot of each variable in the array of values of its kind, -1 for constants and unmanaged kinds */
+        private final int[] slots;
+        /** Number of slots per kind */
+        private int nbInts, nbReals, nbSets;
+
+        Layout(Variable[] vars) {
+            int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+            for (Variable var : vars) {
+                min = Math.min(min, var.getId());
+                max = Math.max(max, var.getId());
+            }
+            this.offset = min;
+            this.positions = new int[max - min + 1];
+            Arrays.fill(positions, -1);
+            this.slots = new int[vars.length];
+            for (int k = 0; k < vars.length; k++) {
+                Variable var = vars[k];
+                positions[var.getId() - offset] = k;
+                slots[k] = -1;
+                if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
+                    switch (var.getTypeAndKind() & Variable.KIND) {
+                        case Variable.INT:
+                        case Variable.BOOL:
+                            slots[k] = nbInts++;
+                            break;
+                        case Variable.REAL:
+                            slots[k] = nbReals++;
+                            break;
+                        case Variable.SET:
+                            slots[k] = nbSets++;
+                            break;
+                        default:
+                            // other kinds of variable are stored externally to this object
+                            break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param var a variable
+         * @return the position of <i>var</i> in the array of variables, -1 if absent
+         */
+        int positionOf(Variable var) {
+            int i = var.getId() - offset;
+            return i >= 0 && i < positions.length ? positions[i] : -1;
+        }
+    }
 }
@@ -0,0 +1,293 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A pool of at most <i>k</i> solutions, filled during the search.
+ * Which solutions are retained depends on a {@link Retention} policy.
+ * <br/>
+ * {@link Solution} objects are recycled: once the pool is full, a solution which is evicted (or rejected)
+ * is recorded again, so that no memory is allocated when a new solution is found.
+ * <br/>
+ * To be used, a pool has to be declared in a solver, see {@link Solver#setSolutionPool(SolutionPool)}.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SolutionPool implements IMonitorSolution {
+
+    /**
+     * Policies to retain solutions in the pool
+     */
+    public enum Retention {
+        /**
+         * Retains the <i>k</i> best solutions wrt the objective, the first ones on satisfaction problems
+         */
+        BEST,
+        /**
+         * Retains <i>k</i> solutions, as different as possible from each other (Hamming distance on integer variables):
+         * a new solution replaces the one which is the closest to another one
+         */
+        DIVERSE,
+        /**
+         * Retains the <i>k</i> most recent solutions
+         */
+        RECENT
+    }
+
+    /**
+     * Model of the solutions
+     */
+    private final Model model;
+    /**
+     * Variables to store, all variables when empty
+     */
+    private final Variable[] varsToStore;
+    /**
+     * Retention policy
+     */
+    private final Retention retention;
+    /**
+     * Retained solutions
+     */
+    private final Solution[] solutions;
+    /**
+     * Objective value of each retained solution
+     */
+    private final double[] objectives;
+    /**
+     * Insertion stamp of each retained solution
+     */
+    private final long[] stamps;
+    /**
+     * Pairwise distances between retained solutions, for {@link Retention#DIVERSE}
+     */
+    private final int[][] distances;
+    /**
+     * Distances between the candidate and the retained solutions, for {@link Retention#DIVERSE}
+     */
+    private final int[] candidate;
+    /**
+     * Number of retained solutions
+     */
+    private int size;
+    /**
+     * Number of solutions offered to the pool
+     */
+    private long count;
+    /**
+     * Recycled solution, to record a candidate
+     */
+    private Solution spare;
+
+    /**
+     * Creates a pool of solutions.
+     *
+     * @param model       model of the solutions
+     * @param capacity    maximum number of solutions to retain
+     * @param retention   policy to retain solutions
+     * @param varsToStore variables to store in solutions, all variables when empty
+     */
+    public SolutionPool(Model model, int capacity, Retention retention, Variable... varsToStore) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of a solution pool should be strictly positive");
+        }
+        this.model = model;
+        this.varsToStore = varsToStore;
+        this.retention = retention;
+        this.solutions = new Solution[capacity];
+        this.objectives = new double[capacity];
+        this.stamps = new long[capacity];
+        if (retention == Retention.DIVERSE) {
+            this.distances = new int[capacity][capacity];
+            this.candidate = new int[capacity];
+        } else {
+            this.distances = null;
+            this.candidate = null;
+        }
+    }
+
+    @Override
+    public void onSolution() {
+        count++;
+        double value = objectiveValue();
+        if (size < solutions.length) {
+            int i = size++;
+            solutions[i] = recycle(solutions[i]).record();
+            insert(i, value);
+            if (retention == Retention.DIVERSE) {
+                for (int j = 0; j < i; j++) {
+                    distances[i][j] = distances[j][i] = solutions[i].distance(solutions[j]);
+                }
+            }
+            return;
+        }
+        switch (retention) {
+            case RECENT: {
+                int i = 0;
+                for (int j = 1; j < size; j++) {
+                    if (stamps[j] < stamps[i]) {
+                        i = j;
+                    }
+                }
+                solutions[i].record();
+                insert(i, value);
+            }
+            break;
+            case BEST: {
+                int i = 0;
+                for (int j = 1; j < size; j++) {
+                    if (isBetter(objectives[i], objectives[j])) {
+                        i = j;
+                    }
+                }
+                if (isBetter(value, objectives[i])) {
+                    solutions[i].record();
+                    insert(i, value);
+                }
+            }
+            break;
+            case DIVERSE: {
+                spare = recycle(spare).record();
+                int nc = Integer.MAX_VALUE;
+                for (int j = 0; j < size; j++) {
+                    candidate[j] = spare.distance(solutions[j]);
+                    nc = Math.min(nc, candidate[j]);
+                }
+                // the retained solution which is the closest to another one, the oldest on ties
+                int i = -1, ni = Integer.MAX_VALUE;
+                for (int j = 0; j < size; j++) {
+                    int nj = candidate[j];
+                    for (int l = 0; l < size; l++) {
+                        if (l != j) {
+                            nj = Math.min(nj, distances[j][l]);
+                        }
+                    }
+                    if (nj < ni || nj == ni && stamps[j] < stamps[i]) {
+                        ni = nj;
+                        i = j;
+                    }
+                }
+                if (ni < nc) {
+                    Solution tmp = solutions[i];
+                    solutions[i] = spare;
+                    spare = tmp;
+                    insert(i, value);
+                    for (int j = 0; j < size; j++) {
+                        distances[i][j] = distances[j][i] = (i == j ? 0 : candidate[j]);
+                    }
+                }
+            }
+            break;
+        }
+    }
+
+    /**
+     * @param solution a solution, may be <i>null</i>
+     * @return <i>solution</i>, or a new solution sharing the variable index of the retained ones
+     */
+    private Solution recycle(Solution solution) {
+        if (solution != null) {
+            return solution;
+        }
+        return solutions[0] != null ? solutions[0].copySolution() : new Solution(model, varsToStore);
+    }
+
+    private void insert(int i, double value) {
+        objectives[i] = value;
+        stamps[i] = count;
+    }
+
+    /**
+     * @return the value of the objective in the current solution, 0 on satisfaction problems
+     */
+    private double objectiveValue() {
+        IObjectiveManager<?> om = model.getSolver().getObjectiveManager();
+        if (om.isOptimization()) {
+            return om.getBestSolutionValue().doubleValue();
+        }
+        return 0.;
+    }
+
+    /**
+     * @return <i>true</i> if <i>a</i> is strictly better than <i>b</i> wrt the resolution policy
+     */
+    private boolean isBetter(double a, double b) {
+        switch (model.getSolver().getObjectiveManager().getPolicy()) {
+            case MINIMIZE:
+                return a < b;
+            case MAXIMIZE:
+                return a > b;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Note that the solutions returned are recycled when new solutions are found,
+     * they have to be copied (see {@link Solution#copySolution()}) to be kept after the search resumes.
+     *
+     * @return the retained solutions: the best first for {@link Retention#BEST}, the most recent first otherwise
+     */
+    public List<Solution> getSolutions() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (retention == Retention.BEST) {
+            Arrays.sort(order, (i, j) -> isBetter(objectives[i], objectives[j]) ? -1
+                    : isBetter(objectives[j], objectives[i]) ? 1 : Long.compare(stamps[i], stamps[j]));
+        } else {
+            Arrays.sort(order, (i, j) -> Long.compare(stamps[j], stamps[i]));
+        }
+        List<Solution> list = new ArrayList<>(size);
+        for (int i : order) {
+            list.add(solutions[i]);
+        }
+        return list;
+    }
+
+    /**
+     * @return the number of retained solutions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of retained solutions
+     */
+    public int getCapacity() {
+        return solutions.length;
+    }
+
+    /**
+     * @return the retention policy
+     */
+    public Retention getRetention() {
+        return retention;
+    }
+
+    /**
+     * Removes all retained solutions
+     */
+    public void clear() {
+        Arrays.fill(solutions, null);
+        size = 0;
+        spare = null;
+    }
+}
@@ -21,6 +21,7 @@ import org.chocosolver.solver.propagation.IPropagationEngine;
 import org.chocosolver.solver.propagation.NoPropagationEngine;
 import org.chocosolver.solver.propagation.PropagationEngineFactory;
 import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.CancellationToken;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.Reporting;
 import org.chocosolver.solver.search.loop.learn.Learn;
@@ -34,15 +35,18 @@ import org.chocosolver.solver.search.loop.propagate.PropagateBasic;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.solver.search.measure.MeasuresRecorder;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.trace.IOutputFactory;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -159,6 +163,9 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     private List<Criterion> criteria;
 
+    /** Cancellation token, checked before the other stop criteria. */
+    private CancellationToken cancellationToken = new CancellationToken();
+
     /** Indicates if the default search loop is in use (set to <tt>true</tt> in that case). */
     private boolean defaultSearch = false;
 
@@ -171,6 +178,27 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     /** List of search monitors attached to this search loop */
     private SearchMonitorList searchMonitors;
 
+    /** Pool of solutions, filled during the search, <i>null</i> by default */
+    private SolutionPool solutionPool;
+
+    /** The presolver, run after the initial propagation when {@link Settings#enablePresolve()} is set. */
+    private Presolver presolver;
+
+    /** Index of the world storing the state after the initial propagation, where assumptions are applied. */
+    private int fixpointWorldIndex = -1;
+
+    /** Literals assumed in the last call to {@link #solveUnder(BoolVar...)}. */
+    private BoolVar[] assumptions = new BoolVar[0];
+
+    /**
+     * Position of the assumption whose application failed in the last call to {@link #solveUnder(BoolVar...)},
+     * the number of assumptions if the failure was detected by the search, -1 if no failure was proven.
+     */
+    private int failedAssumption = -1;
+
+    /** Minimal subset of {@link #assumptions} which cannot be satisfied, computed on demand. */
+    private List<BoolVar> conflict;
+
     /** The propagation engine to use */
     private IPropagationEngine engine;
 
@@ -254,6 +282,153 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return newSolutionFound;
     }
 
+    /**
+     * Executes the resolver under assumptions, that is, looks for a solution in which every literal of
+     * <i>literals</i> is set to 1.
+     * <p>
+     * This is dedicated to incremental resolution, when the same model is solved many times under various
+     * assumptions. The initial propagation is run once for all, at first call, and each call starts back from
+     * its fix point: assumptions are applied as non-refutable decisions on top of the decision path.
+     * Since they are decisions, anything learnt during the search (like nogoods) remains valid whatever the
+     * assumptions are, and is kept from one call to another, as the state of the search strategy.
+     * A constraint can be assumed through its reification literal (see {@link #solveUnder(Constraint...)}).
+     * </p>
+     * <p>
+     * As {@link #solve()}, subsequent calls to {@link #solve()} look for other solutions under the same
+     * assumptions. Measures are reset on each call, stop criteria are kept.
+     * When no solution exists under the assumptions, a minimal subset of conflicting assumptions
+     * can be computed with {@link #getConflict()}.
+     * </p>
+     *
+     * @param literals boolean variables assumed to be equal to 1 (use {@link BoolVar#not()} to assume 0,
+     *                 the negation being built before the first resolution)
+     * @return <tt>true</tt> if a solution has been found under the assumptions
+     */
+    public boolean solveUnder(BoolVar... literals) {
+        assumptions = literals.clone();
+        conflict = null;
+        failedAssumption = -1;
+        if (action == initialize) {
+            mMeasures.setSearchState(SearchState.RUNNING);
+            stop = false;
+            searchMonitors.beforeInitialize();
+            initialize();
+            searchMonitors.afterInitialize();
+            if (action == initialize || stop) {
+                // infeasible whatever the assumptions are
+                mMeasures.setSearchState(SearchState.TERMINATED);
+                feasible = FALSE;
+                failedAssumption = 0;
+                conflict = Collections.emptyList();
+                return false;
+            }
+        }
+        restoreFixpoint();
+        mMeasures.reset();
+        mMeasures.startStopwatch();
+        objectivemanager.resetBestBounds();
+        feasible = UNDEFINED;
+        jumpTo = 0;
+        stop = false;
+        canBeRepaired = true;
+        mModel.getEnvironment().worldPush(); // w = fixpoint -> fixpoint + 1
+        for (int i = 0; i < assumptions.length; i++) {
+            dpath.pushDecision(dpath.makeIntDecision(assumptions[i], DecisionOperatorFactory.makeIntEq(), 1));
+            mModel.getEnvironment().worldPush();
+            try {
+                P.execute(this);
+            } catch (ContradictionException ce) {
+                engine.flush();
+                mMeasures.incFailCount();
+                searchMonitors.onContradiction(ce);
+                restoreFixpoint();
+                mMeasures.setSearchState(SearchState.TERMINATED);
+                feasible = FALSE;
+                failedAssumption = i;
+                return false;
+            }
+        }
+        M.setTopDecisionPosition(dpath.size() - 1);
+        mModel.getEnvironment().worldPush(); // store state after assumptions
+        searchWorldIndex = mModel.getEnvironment().getWorldIndex();
+        mModel.getEnvironment().worldPush(); // store another time for restart purpose
+        criteria.stream().filter(c -> c instanceof ICounter).forEach(c -> ((ICounter) c).init());
+        action = extend;
+        boolean found = solve();
+        if (!found && mMeasures.getSearchState() == SearchState.TERMINATED) {
+            failedAssumption = assumptions.length;
+        }
+        return found;
+    }
+
+    /**
+     * Executes the resolver under assumptions, each constraint of <i>assumptions</i> being assumed to be satisfied.
+     * Each constraint is reified at first call (see {@link Constraint#reify()}),
+     * then this method calls {@link #solveUnder(BoolVar...)} with the reification literals.
+     * The reification literals are the ones returned by {@link #getConflict()}.
+     *
+     * @param assumptions constraints assumed to be satisfied, they must not be posted
+     * @return <tt>true</tt> if a solution has been found under the assumptions
+     */
+    public boolean solveUnder(Constraint... assumptions) {
+        if (action != initialize) {
+            // reification constraints are posted at the root fix point
+            restoreFixpoint();
+        }
+        BoolVar[] literals = new BoolVar[assumptions.length];
+        for (int i = 0; i < assumptions.length; i++) {
+            literals[i] = assumptions[i].reify();
+        }
+        return solveUnder(literals);
+    }
+
+    /**
+     * Retrieves the state after the initial propagation, before assumptions are applied.
+     */
+    private void restoreFixpoint() {
+        mModel.getEnvironment().worldPopUntil(fixpointWorldIndex);
+        engine.flush();
+        dpath.synchronize();
+    }
+
+    /**
+     * Returns a minimal subset of the literals assumed in the last call to {@link #solveUnder(BoolVar...)}
+     * which cannot be satisfied together: removing any literal from the subset makes the problem satisfiable.
+     * An empty subset means that the problem has no solution whatever the assumptions are.
+     * <p>
+     * The subset is computed on first call, by removing literals one by one as long as the remaining ones
+     * are proven to conflict. This requires a resolution per literal, each one benefiting from the knowledge
+     * learnt by the previous ones. When a stop criterion prevents from proving a conflict, the literal is kept and
+     * the subset may not be minimal.
+     * After this call, the state of this solver is the one of the last resolution made.
+     * </p>
+     *
+     * @return a minimal conflicting subset of the assumed literals
+     * @throws SolverException if the last call to {@link #solveUnder(BoolVar...)} did not prove infeasibility
+     */
+    public List<BoolVar> getConflict() {
+        if (conflict == null) {
+            if (failedAssumption < 0) {
+                throw new SolverException("The last resolution under assumptions did not prove infeasibility");
+            }
+            BoolVar[] core = Arrays.copyOf(assumptions, Math.min(failedAssumption + 1, assumptions.length));
+            for (int i = core.length - 1; i >= 0; i--) {
+                BoolVar[] candidate = new BoolVar[core.length - 1];
+                System.arraycopy(core, 0, candidate, 0, i);
+                System.arraycopy(core, i + 1, candidate, i, core.length - i - 1);
+                if (!solveUnder(candidate) && failedAssumption >= 0) {
+                    // the conflict only involves the assumptions applied before the failure
+                    core = Arrays.copyOf(candidate, Math.min(failedAssumption + 1, candidate.length));
+                    i = Math.min(i, core.length);
+                }
+            }
+            assumptions = core;
+            failedAssumption = core.length;
+            conflict = Collections.unmodifiableList(Arrays.asList(core));
+        }
+        return conflict;
+    }
+
     /**
      * Executes the search loop
      * @return <tt>true</tt> if ends on a solution, <tt>false</tt> otherwise
@@ -372,9 +547,13 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         mModel.getEnvironment().worldPush(); // store state before initial propagation; w = 0 -> 1
         try {
             P.execute(this);
+            if (mModel.getSettings().enablePresolve()) {
+                getPresolver().presolve(); // reductions are stored in w = 1
+            }
             action = extend;
             mModel.getEnvironment().worldPush(); // store state after initial propagation; w = 1 -> 2
             searchWorldIndex = mModel.getEnvironment().getWorldIndex(); // w = 2
+            fixpointWorldIndex = searchWorldIndex;
             mModel.getEnvironment().worldPush(); // store another time for restart purpose: w = 2 -> 3
         } catch (ContradictionException ce) {
             engine.flush();
@@ -640,6 +819,9 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      * @return <tt>true</tt> if the search loops encountered at least one of the stop criteria declared.
      */
     public boolean isStopCriterionMet() {
+        if (cancellationToken.isCancelled()) {
+            return true;
+        }
         boolean ismet = false;
         for (int i = 0; i < criteria.size() && !ismet; i++) {
             ismet = criteria.get(i).isMet();
@@ -888,12 +1070,32 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
 
     /**
      * Empties the list of stop criteria declared.
-     * This is not automatically called on {@link #reset()}.
+     * The cancellation token is kept: since a token cannot be reset, a new one has to be declared with
+     * {@link #setCancellationToken(CancellationToken)} to search again once it is cancelled.
      */
     public void removeAllStopCriteria() {
         this.criteria.clear();
     }
 
+    /**
+     * Declares a cancellation token, checked by the search loop before any other stop criterion.
+     * Cancelling the token, from any thread, stops the search loop at the next node.
+     * A token may be shared among solvers, or depend on a token of a caller
+     * (see {@link CancellationToken#CancellationToken(CancellationToken)}).
+     *
+     * @param token the cancellation token to check
+     */
+    public void setCancellationToken(CancellationToken token) {
+        this.cancellationToken = token;
+    }
+
+    /**
+     * @return the cancellation token checked by the search loop
+     */
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
     /**
      * @return the list of search monitors plugged in this resolver
      */
@@ -914,6 +1116,40 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         searchMonitors.add(sm);
     }
 
+    /**
+     * Declares a pool of solutions, which retains some of the solutions found during the search.
+     * The previous pool, if any, is unplugged.
+     *
+     * @param pool a pool of solutions, or <i>null</i> to remove the current one
+     */
+    public void setSolutionPool(SolutionPool pool) {
+        if (solutionPool != null) {
+            unplugMonitor(solutionPool);
+        }
+        solutionPool = pool;
+        if (pool != null) {
+            plugMonitor(pool);
+        }
+    }
+
+    /**
+     * @return the pool of solutions declared in this solver, <i>null</i> if none
+     */
+    public SolutionPool getSolutionPool() {
+        return solutionPool;
+    }
+
+    /**
+     * @return the presolver of this solver, which is run after the initial propagation
+     * when {@link Settings#enablePresolve()} returns <i>true</i>
+     */
+    public Presolver getPresolver() {
+        if (presolver == null) {
+            presolver = new Presolver(mModel);
+        }
+        return presolver;
+    }
+
     /**
      * Removes a search monitors from the ones to plug when the search will start.
      * @param sm a search monitor to be unplugged in the solver
@@ -0,0 +1,44 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints;
+
+import org.chocosolver.solver.exception.ContradictionException;
+
+/**
+ * An interface for propagators whose (coarse) filtering can be split in two steps:
+ * <br/>- {@link #computePrunings()} finds the prunings to apply but only reads the domains of the variables,
+ * <br/>- {@link #applyPrunings()} applies them.
+ * <p>
+ * Calling the two methods in a row must be equivalent to a call to {@link Propagator#propagate(int)}.
+ * <p>
+ * {@link #computePrunings()} may be run on a helper thread, concurrently with the {@link #computePrunings()}
+ * of other propagators whose scopes are disjoint, but never while the search thread modifies the model.
+ * So, it must only read the variables of the propagator and must neither modify a variable
+ * nor any stored (backtrackable) structure.
+ * Only propagators which do not react to fine events are concerned.
+ *
+ * @author agent
+ * @see org.chocosolver.solver.propagation.hardcoded.ParallelPropagationEngine
+ * @since 19/10/2026
+ */
+public interface IConcurrentPropagator {
+
+    /**
+     * Finds the prunings to apply on the next call to {@link #applyPrunings()},
+     * without modifying neither a variable nor a stored structure.
+     */
+    void computePrunings();
+
+    /**
+     * Applies the prunings found by the last call to {@link #computePrunings()}.
+     *
+     * @throws ContradictionException if a failure occurs
+     */
+    void applyPrunings() throws ContradictionException;
+}
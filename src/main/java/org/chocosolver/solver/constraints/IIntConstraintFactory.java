@@ -62,6 +62,7 @@ import org.chocosolver.solver.constraints.nary.circuit.CircuitConf;
 import org.chocosolver.solver.constraints.nary.circuit.PropCircuitSCC;
 import org.chocosolver.solver.constraints.nary.circuit.PropCircuit_AntiArboFiltering;
 import org.chocosolver.solver.constraints.nary.circuit.PropCircuit_ArboFiltering;
+import org.chocosolver.solver.constraints.nary.circuit.PropHeldKarp;
 import org.chocosolver.solver.constraints.nary.circuit.PropNoSubtour;
 import org.chocosolver.solver.constraints.nary.circuit.PropSubcircuit;
 import org.chocosolver.solver.constraints.nary.circuit.PropSubcircuitDominatorFilter;
@@ -72,6 +73,8 @@ import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
 import org.chocosolver.solver.constraints.nary.lex.PropLexChain;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
+import org.chocosolver.solver.constraints.nary.lp.PropLinearRelaxation;
 import org.chocosolver.solver.constraints.nary.min_max.PropBoolMax;
 import org.chocosolver.solver.constraints.nary.min_max.PropBoolMin;
 import org.chocosolver.solver.constraints.nary.min_max.PropMax;
@@ -941,6 +944,29 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 		return new Constraint("Circuit", ArrayUtils.append(allDifferent(vars, "AC").propagators, props));
 	}
 
+	/**
+	 * Creates a weighted circuit constraint which ensures that
+	 * <p/> the elements of vars define a covering circuit
+	 * <p/> where vars[i] = offset+j means that j is the successor of i,
+	 * <p/> and cost is the sum of the costs of the arcs of the circuit: cost = sum(costMatrix[i][vars[i]-offset]).
+	 * <p>
+	 * Filtering algorithms: those of {@link #circuit(IntVar[], int, CircuitConf)} with {@link CircuitConf#RD},
+	 * plus a cost-based filtering relying on the Held-Karp 1-tree bound,
+	 * improved by Lagrangian relaxation (see {@link PropHeldKarp}).
+	 *
+	 * @param vars       vector of variables which take their value in [offset,offset+|vars|-1]
+	 * @param offset     0 by default but typically 1 if used within MiniZinc
+	 *                   (which counts from 1 to n instead of from 0 to n-1)
+	 * @param costMatrix a |vars| x |vars| matrix, costMatrix[i][j] is the cost of going from i to j
+	 * @param cost       variable standing for the total cost of the circuit
+	 * @return a weighted circuit constraint
+	 */
+	default Constraint circuit(IntVar[] vars, int offset, int[][] costMatrix, IntVar cost) {
+		Propagator[] props = circuit(vars, offset, CircuitConf.RD).propagators;
+		return new Constraint("WeightedCircuit", ArrayUtils.append(props,
+				new Propagator[]{new PropHeldKarp(vars, offset, costMatrix, cost)}));
+	}
+
 	/**
 	 * Creates a regular constraint that supports a cost function.
 	 * Ensures that the assignment of a sequence of variables is recognized by costAutomaton, a deterministic finite automaton,
@@ -1391,6 +1417,24 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 		return new Constraint("Lex(<=)", new PropLex(vars1, vars2, false));
 	}
 
+	/**
+	 * Creates a constraint which bounds <i>objective</i> with the optimal value of the linear relaxation
+	 * of the linear constraints posted so far (sum, scalar, arithm and boolean sums)
+	 * and which fixes variables based on their reduced costs.
+	 * The relaxation is solved with a dual simplex, warm-started from one call to another.
+	 * <br/>
+	 * Since the relaxation is built when this method is called, it has to be called
+	 * after the linear constraints have been posted. Reified constraints are ignored, and so are linear equalities
+	 * replaced by tables (see {@link org.chocosolver.solver.Settings#enableTableSubstitution()}).
+	 *
+	 * @param objective the objective variable
+	 * @param maximize  set to <i>true</i> if <i>objective</i> is maximized, <i>false</i> if it is minimized
+	 * @return a linear relaxation constraint
+	 */
+	default Constraint linearRelaxation(IntVar objective, boolean maximize) {
+		return new Constraint("LinearRelaxation", new PropLinearRelaxation(LinearRelaxation.of(_me()), objective, maximize));
+	}
+
 	/**
 	 * Creates a maximum constraint.
 	 * max is the maximum value of the collection of domain variables vars
@@ -1502,10 +1546,7 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 	 * @return a constraint that is satisfied if at least one boolean variables in <i>bools</i> is true
 	 */
 	default Constraint or(BoolVar... bools) {
-		Model s = bools[0].getModel();
-		IntVar sum = s.intVar(0, bools.length, true);
-		s.sum(bools, "=", sum).post();
-		return s.arithm(sum, ">=", 1);
+		return sum(bools, ">=", 1);
 	}
 
 	/**
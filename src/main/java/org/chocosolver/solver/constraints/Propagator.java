@@ -104,7 +104,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     private short state;
 
     /**
-     * Backtrackable operations to maintain the status on backtrack.
+     * Backtrackable operations to maintain the status on backtrack, created on the first change of status.
      */
     private IOperation[] operations;
 
@@ -168,26 +168,6 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         }
         this.vindices = new int[vars.length];
         ID = model.nextId();
-        operations = new IOperation[]{
-                new IOperation() {
-                    @Override
-                    public void undo() {
-                        state = NEW;
-                    }
-                },
-                new IOperation() {
-                    @Override
-                    public void undo() {
-                        state = REIFIED;
-                    }
-                },
-                new IOperation() {
-                    @Override
-                    public void undo() {
-                        state = ACTIVE;
-                    }
-                }
-        };
     }
 
     /**
@@ -238,6 +218,67 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         }
     }
 
+    /**
+     * Subscribes again this propagator to the modifications of its <i>idx</i>^th variable,
+     * after a call to {@link #unwatch(int)}.
+     * The subscription is restored on backtrack: the variable is unwatched again
+     * when the current world is left.
+     * Does nothing if the variable is already watched.
+     * <p>
+     * Together with {@link #unwatch(int)}, it enables <i>watched literal</i>-like propagators,
+     * which only listen to a subset of their variables.
+     * Should not be called during the propagation of another propagator.
+     *
+     * @param idx index of the variable in {@link #vars}
+     */
+    protected final void watch(int idx) {
+        if (vindices[idx] == -1) {
+            vindices[idx] = vars[idx].link(this, idx);
+            if (vindices[idx] > -1) {
+                model.getEnvironment().save(() -> {
+                    if (constraint.getStatus() != Constraint.Status.FREE) {
+                        vars[idx].unlink(this, idx);
+                        vindices[idx] = -1;
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Stops listening to the modifications of the <i>idx</i>^th variable of this propagator,
+     * that is, {@link #propagate(int, int)} will not be called anymore on events of this variable.
+     * The subscription is restored on backtrack: the variable is watched again
+     * when the current world is left.
+     * Does nothing if the variable is already unwatched.
+     * <p>
+     * Together with {@link #watch(int)}, it enables <i>watched literal</i>-like propagators,
+     * which only listen to a subset of their variables.
+     * Should not be called during the propagation of another propagator.
+     *
+     * @param idx index of the variable in {@link #vars}
+     */
+    protected final void unwatch(int idx) {
+        if (vindices[idx] > -1) {
+            vars[idx].unlink(this, idx);
+            vindices[idx] = -1;
+            model.getEnvironment().save(() -> {
+                if (constraint.getStatus() != Constraint.Status.FREE) {
+                    vindices[idx] = vars[idx].link(this, idx);
+                }
+            });
+        }
+    }
+
+    /**
+     * @param idx index of the variable in {@link #vars}
+     * @return <tt>true</tt> if this propagator is currently notified of the modifications
+     * of its <i>idx</i>^th variable
+     */
+    public final boolean isWatched(int idx) {
+        return vindices[idx] > -1;
+    }
+
     /**
      * Informs this propagator the (unique) constraint it filters.
      * The constraint reference will be overwritten in case of reification.
@@ -354,13 +395,29 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     public void setActive() throws SolverException{
         if(isStateLess()) {
             state = ACTIVE;
-            model.getEnvironment().save(operations[NEW]);
+            saveState(NEW);
         }else{
             throw new SolverException("Try to activate a propagator already active, passive or reified.\n" +
                 this + " of "+ this.getConstraint());
         }
     }
 
+    /**
+     * Saves <i>previous</i> as the status to restore on backtrack.
+     *
+     * @param previous status of this propagator before the current change
+     */
+    private void saveState(short previous) {
+        if (operations == null) {
+            operations = new IOperation[]{
+                    () -> state = NEW,
+                    () -> state = REIFIED,
+                    () -> state = ACTIVE
+            };
+        }
+        model.getEnvironment().save(operations[previous]);
+    }
+
     /**
      * informs that this reified propagator must hold. Should not be called by the user.
      * @throws SolverException if the propagator cannot be activated due to its current state
@@ -368,7 +425,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     public void setReifiedTrue() throws SolverException{
         if(isReifiedAndSilent()) {
             state = ACTIVE;
-            model.getEnvironment().save(operations[REIFIED]);
+            saveState(REIFIED);
         }else{
             throw new SolverException("Reification process tries to force activation of a propagator already active or passive.\n" +
                     this + " of "+ this.getConstraint());
@@ -399,7 +456,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         // dealing with reification and dynamic addition.
         if(isActive()){
             state = PASSIVE;
-            model.getEnvironment().save(operations[ACTIVE]);
+            saveState(ACTIVE);
             //TODO: update var mask back
             model.getSolver().getEngine().desactivatePropagator(this);
         }else{
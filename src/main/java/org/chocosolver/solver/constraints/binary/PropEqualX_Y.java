@@ -8,8 +8,11 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.explanations.RuleStore;
 import org.chocosolver.solver.variables.IntVar;
@@ -29,7 +32,7 @@ import org.chocosolver.util.tools.ArrayUtils;
  * @author Charles Prud'homme, Jean-Guillaume Fages
  * @since 1 oct. 2010
  */
-public final class PropEqualX_Y extends Propagator<IntVar> {
+public final class PropEqualX_Y extends Propagator<IntVar> implements ILinearizable {
 
     private IntVar x, y;
     // enumerated domains
@@ -108,6 +111,11 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        relaxation.addRow(vars, new int[]{1, -1}, Operator.EQ, 0);
+    }
+
     @Override
     public ESat isEntailed() {
         if ((x.getUB() < y.getLB()) ||
@@ -8,8 +8,11 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.explanations.RuleStore;
 import org.chocosolver.solver.variables.IntVar;
@@ -28,7 +31,7 @@ import org.chocosolver.util.procedure.IntProcedure;
  * @since 1 oct. 2010
  */
 
-public final class PropEqualX_YC extends Propagator<IntVar> {
+public final class PropEqualX_YC extends Propagator<IntVar> implements ILinearizable {
 
 
     private IntVar x, y;
@@ -115,6 +118,11 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         while (x.updateUpperBound(y.getUB() + cste, this) | y.updateUpperBound(x.getUB() - cste, this)) ;
     }
 
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        relaxation.addRow(vars, new int[]{1, -1}, Operator.EQ, cste);
+    }
+
     @Override
     public ESat isEntailed() {
         if ((x.getUB() < y.getLB() + cste) ||
@@ -8,8 +8,11 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.explanations.RuleStore;
 import org.chocosolver.solver.variables.IntVar;
@@ -25,7 +28,7 @@ import org.chocosolver.util.ESat;
  * @author Charles Prud'homme
  * @since 13/06/12
  */
-public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
+public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> implements ILinearizable {
 
     private final IntVar x;
     private final IntVar y;
@@ -71,6 +74,11 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
     }
 
 
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        relaxation.addRow(vars, new int[]{1, -1}, Operator.GE, cste);
+    }
+
     @Override
     public ESat isEntailed() {
         if (x.getUB() < y.getLB() + cste)
@@ -10,7 +10,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.IStateLongArray;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -18,9 +18,12 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.solver.variables.impl.WordBitsetIntVarImpl;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
 
+import java.util.Arrays;
+
 /**
  * Propagator for table constraint based on
  * "Compact-Table: Efficiently Filtering Table Constraints with Reversible Sparse Bit-Sets"
@@ -42,6 +45,10 @@ public class PropCompactTable extends Propagator<IntVar> {
     private int[] offset;
     private IIntDeltaMonitor[] monitors;
     private UnaryIntProcedure<Integer> onValRem;
+    /**
+     * For variables supporting bit-parallel operations, the values to remove, as a bitset
+     */
+    private long[][] toRemove;
 
     //***********************************************************************************
    	// CONSTRUCTOR
@@ -57,6 +64,12 @@ public class PropCompactTable extends Propagator<IntVar> {
         super(vars, PropagatorPriority.QUADRATIC, true);
         copyValidTuples(tuples);
         computeSupports();
+        toRemove = new long[vars.length][];
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] instanceof WordBitsetIntVarImpl) {
+                toRemove[i] = new long[((supports[i].length - 1) >> 6) + 1];
+            }
+        }
         monitors = new IIntDeltaMonitor[vars.length];
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
@@ -104,7 +117,7 @@ public class PropCompactTable extends Propagator<IntVar> {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
+            supports[i] = new long[ub - lb + 1][currTable.words.length()];
             residues[i] = new int[ub - lb + 1];
             for (int v=lb ; v<=ub; v=vars[i].nextValue(v)) {
                 long[] tmp = supports[i][v - lb];
@@ -185,7 +198,7 @@ public class PropCompactTable extends Propagator<IntVar> {
 		int ub = vars[i].getUB();
 		for (int v=lb;v<=ub;v++) {
 			int index = residues[i][v - offset[i]];
-			if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
+			if ((currTable.words.get(index) & supports[i][v - offset[i]][index]) == 0L) {
 				index = currTable.intersectIndex(supports[i][v - offset[i]]);
 				if (index == -1) {
 					lb ++;
@@ -200,7 +213,7 @@ public class PropCompactTable extends Propagator<IntVar> {
 		vars[i].updateLowerBound(lb, this);
 		for (int v=ub;v>=ub;v--) {
 			int index = residues[i][v - offset[i]];
-			if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
+			if ((currTable.words.get(index) & supports[i][v - offset[i]][index]) == 0L) {
 				index = currTable.intersectIndex(supports[i][v - offset[i]]);
 				if (index == -1) {
 					ub --;
@@ -217,17 +230,31 @@ public class PropCompactTable extends Propagator<IntVar> {
 
 	private void enumFilter(int i) throws ContradictionException {
 	    int ub = vars[i].getUB();
+	    long[] rem = toRemove[i];
+	    boolean any = false;
+	    if (rem != null) {
+	        Arrays.fill(rem, 0L);
+	    }
 		for (int v=vars[i].getLB(); v<=ub; v=vars[i].nextValue(v)) {
 			int index = residues[i][v - offset[i]];
-			if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
+			if ((currTable.words.get(index) & supports[i][v - offset[i]][index]) == 0L) {
 				index = currTable.intersectIndex(supports[i][v - offset[i]]);
 				if (index == -1) {
-					vars[i].removeValue(v, this);
+					if (rem != null) {
+						// unsupported values are removed all at once, see below
+						rem[(v - offset[i]) >> 6] |= 1L << (v - offset[i]);
+						any = true;
+					} else {
+						vars[i].removeValue(v, this);
+					}
 				} else {
 					residues[i][v - offset[i]] = index;
 				}
 			}
 		}
+		if (any) {
+			((WordBitsetIntVarImpl) vars[i]).removeValues(rem, offset[i], this);
+		}
 	}
 
     @Override
@@ -241,7 +268,7 @@ public class PropCompactTable extends Propagator<IntVar> {
    	//***********************************************************************************
 
     private class RSparseBitSet {
-        private IStateLong[] words;
+        private IStateLongArray words;
         private int[] index;
         private IStateInt limit;
         private long[] mask;
@@ -252,10 +279,9 @@ public class PropCompactTable extends Propagator<IntVar> {
             index = new int[nw];
             mask = new long[nw];
             limit = environment.makeInt(nw - 1);
-            words = new IStateLong[nw];
+            words = environment.makeLongArray(nw, -1L);
             for (int i = 0; i < nw; i++) {
                 index[i] = i;
-                words[i] = environment.makeLong(-1L);
             }
         }
 
@@ -287,9 +313,9 @@ public class PropCompactTable extends Propagator<IntVar> {
 		private void intersectWithMask() {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
-                long w = words[offset].get() & mask[offset];
-                if (words[offset].get() != w) {
-                    words[offset].set(w);
+                long w = words.get(offset) & mask[offset];
+                if (words.get(offset) != w) {
+                    words.set(offset, w);
                     if (w == 0L) {
                         index[i] = index[limit.get()];
                         index[limit.get()] = offset;
@@ -302,7 +328,7 @@ public class PropCompactTable extends Propagator<IntVar> {
 		private int intersectIndex(long[] m) {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
-                if ((words[offset].get() & m[offset]) != 0L) {
+                if ((words.get(offset) & m[offset]) != 0L) {
                     return offset;
                 }
             }
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.constraints.IConcurrentPropagator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC;
@@ -27,7 +28,7 @@ import org.chocosolver.util.ESat;
  *
  * @author Jean-Guillaume Fages
  */
-public class PropAllDiffAC extends Propagator<IntVar> {
+public class PropAllDiffAC extends Propagator<IntVar> implements IConcurrentPropagator {
 
     //***********************************************************************************
     // VARIABLES
@@ -59,6 +60,16 @@ public class PropAllDiffAC extends Propagator<IntVar> {
         filter.propagate();
     }
 
+    @Override
+    public void computePrunings() {
+        filter.computePrunings();
+    }
+
+    @Override
+    public void applyPrunings() throws ContradictionException {
+        filter.applyPrunings();
+    }
+
     @Override
     public ESat isEntailed() {
         return ESat.TRUE; // redundant propagator (used with PropAllDiffInst)
@@ -33,6 +33,8 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
 
     private Random rd;
     private int calls, success;
+    // set to true when the next call to applyPrunings() runs the filtering
+    private boolean run;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -70,4 +72,28 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
         }
     }
 
+    @Override
+    public void computePrunings() {
+        double p = (success * 1.d) / (calls * 1.d);
+        run = rd.nextFloat() < p;
+        if (run) {
+            filter.computePrunings();
+        }
+    }
+
+    @Override
+    public void applyPrunings() throws ContradictionException {
+        if (run) {
+            boolean rem = true;
+            try {
+                rem = filter.applyPrunings();
+            } finally {
+                calls++;
+                if (rem) {
+                    success++;
+                }
+            }
+        }
+    }
+
 }
@@ -13,14 +13,22 @@ import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
-import org.chocosolver.util.objects.graphs.DirectedGraph;
-import org.chocosolver.util.objects.setDataStructures.ISetIterator;
-import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.graphs.CSRGraph;
 
+import java.util.Arrays;
 import java.util.BitSet;
 
 /**
  * Algorithm of Alldifferent with AC
+ * <p>
+ * Variables are nodes 0 to n-1, values are nodes n to n2-1 and n2 is a sink.
+ * Two CSR graphs share the same arcs from variables to values, with the same indices:
+ * {@link #domains} is stored, an arc being removed once its value is removed from the domain of its variable,
+ * while {@link #residual} also contains the reversed arcs and the arcs to and from the sink,
+ * and is oriented by the current matching before looking for strongly connected components.
+ * <p>
+ * Filtering is made of two steps: {@link #computePrunings()} only reads the domains and
+ * can thus be run on a helper thread, then {@link #applyPrunings()} modifies the variables.
  */
 public class AlgoAllDiffAC {
 
@@ -28,11 +36,25 @@ public class AlgoAllDiffAC {
     // VARIABLES
     //***********************************************************************************
 
-    private int n, n2;
-    private DirectedGraph digraph;
+    private int n, n2, mv;
+    private CSRGraph domains;
+    private CSRGraph residual;
+    // for each arc from a variable to a value, the reversed arc in residual
+    private int[] twin;
+    // for each value, arcs from and to the sink in residual
+    private int[] toSink, fromSink;
+    // value of each value node
+    private int[] values;
     private int[] matching;
+    private int[] mate;
     private int[] nodeSCC;
     private BitSet free;
+    // arcs whose value has been removed since the last call, and arcs to prune
+    private BitSet stale, pruned;
+    // new bounds of variables with bounded domains
+    private int[] lbs, ubs;
+    // set to false when no matching covers all variables
+    private boolean consistent;
     private StrongConnectivityFinder SCCfinder;
     // for augmenting matching (BFS)
     private int[] father;
@@ -58,6 +80,7 @@ public class AlgoAllDiffAC {
         IntVar v;
         int ub;
         int idx = n;
+        mv = 0;
         for (int i = 0; i < n; i++) {
             v = vars[i];
             ub = v.getUB();
@@ -66,15 +89,59 @@ public class AlgoAllDiffAC {
                     map.put(j, idx);
                     idx++;
                 }
+                mv++;
             }
         }
         n2 = idx;
+        values = new int[n2 - n];
+        map.forEachEntry((k, j) -> {
+            values[j - n] = k;
+            return true;
+        });
+        int[] tails = new int[2 * mv + 2 * (n2 - n)];
+        int[] heads = new int[tails.length];
+        int a = 0;
+        for (int i = 0; i < n; i++) {
+            v = vars[i];
+            ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                tails[a] = i;
+                heads[a++] = map.get(k);
+            }
+        }
+        domains = new CSRGraph(n > 0 ? vars[0].getModel() : null, n2, Arrays.copyOf(tails, mv), Arrays.copyOf(heads, mv));
+        for (int k = 0; k < mv; k++) {
+            tails[a] = heads[k];
+            heads[a++] = tails[k];
+        }
+        for (int j = n; j < n2; j++) {
+            tails[a] = j;
+            heads[a++] = n2;
+            tails[a] = n2;
+            heads[a++] = j;
+        }
+        // variable rows come first and are identical in both graphs, so are arc indices
+        residual = new CSRGraph(n2 + 1, tails, heads);
+        twin = new int[mv];
+        for (int k = 0; k < mv; k++) {
+            twin[k] = residual.getArc(residual.getHead(k), residual.getTail(k));
+        }
+        toSink = new int[n2 - n];
+        fromSink = new int[n2 - n];
+        for (int j = n; j < n2; j++) {
+            toSink[j - n] = residual.getArc(j, n2);
+            fromSink[j - n] = residual.getArc(n2, j);
+        }
+        mate = new int[n2];
         fifo = new int[n2];
-        digraph = new DirectedGraph(n2 + 1, SetType.BITSET, false);
         free = new BitSet(n2);
         father = new int[n2];
         in = new BitSet(n2);
-        SCCfinder = new StrongConnectivityFinder(digraph);
+        stale = new BitSet(mv);
+        pruned = new BitSet(mv);
+        lbs = new int[n];
+        ubs = new int[n];
+        SCCfinder = new StrongConnectivityFinder(residual);
     }
 
     //***********************************************************************************
@@ -82,60 +149,108 @@ public class AlgoAllDiffAC {
     //***********************************************************************************
 
     public boolean propagate() throws ContradictionException {
-        findMaximumMatching();
-        return filter();
+        computePrunings();
+        return applyPrunings();
+    }
+
+    /**
+     * Finds a maximum matching and the values to remove, which are applied by {@link #applyPrunings()}.
+     * Neither the variables nor any stored structure are modified.
+     */
+    public void computePrunings() {
+        stale.clear();
+        pruned.clear();
+        consistent = findMaximumMatching();
+        if (consistent) {
+            filter();
+        }
+    }
+
+    /**
+     * Applies the prunings found by the last call to {@link #computePrunings()}.
+     *
+     * @return <i>true</i> iff a domain has been modified
+     * @throws ContradictionException if no matching covers all variables, or if a domain becomes empty
+     */
+    public boolean applyPrunings() throws ContradictionException {
+        if (!consistent) {
+            vars[0].instantiateTo(vars[0].getLB() - 1, aCause);
+        }
+        for (int a = stale.nextSetBit(0); a >= 0; a = stale.nextSetBit(a + 1)) {
+            domains.removeArc(a);
+        }
+        boolean filter = false;
+        for (int a = pruned.nextSetBit(0); a >= 0; a = pruned.nextSetBit(a + 1)) {
+            int i = domains.getTail(a);
+            int j = domains.getHead(a);
+            if (matching[i] == j) {
+                filter |= vars[i].instantiateTo(values[j - n], aCause);
+            } else {
+                filter |= vars[i].removeValue(values[j - n], aCause);
+                domains.removeArc(a);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (!vars[i].hasEnumeratedDomain()) {
+                filter |= vars[i].updateBounds(lbs[i], ubs[i], aCause);
+            }
+        }
+        return filter;
     }
 
     //***********************************************************************************
     // Initialization
     //***********************************************************************************
 
-    private void findMaximumMatching() throws ContradictionException {
-        for (int i = 0; i < n2; i++) {
-            digraph.getSuccOf(i).clear();
-            digraph.getPredOf(i).clear();
-        }
+    private boolean findMaximumMatching() {
+        Arrays.fill(mate, -1);
         free.set(0, n2);
-        int k, ub;
         IntVar v;
         for (int i = 0; i < n; i++) {
             v = vars[i];
-            ub = v.getUB();
-            int mate = matching[i];
-            for (k = v.getLB(); k <= ub; k = v.nextValue(k)) {
-                int j = map.get(k);
-                if (mate == j) {
+            int mt = matching[i];
+            for (int a = domains.nextSuccArc(i, domains.getSuccStart(i)); a >= 0; a = domains.nextSuccArc(i, a + 1)) {
+                int j = domains.getHead(a);
+                if (!v.contains(values[j - n])) {
+                    stale.set(a);
+                } else if (mt == j) {
                     assert free.get(i) && free.get(j);
-                    digraph.addArc(j, i);
+                    mate[j] = i;
                     free.clear(i);
                     free.clear(j);
-                } else {
-                    digraph.addArc(i, j);
                 }
             }
+            if (free.get(i)) {
+                matching[i] = -1;
+            }
         }
         for (int i = free.nextSetBit(0); i >= 0 && i < n; i = free.nextSetBit(i + 1)) {
-            tryToMatch(i);
-        }
-        for (int i = 0; i < n; i++) {
-            matching[i] = digraph.getPredOf(i).isEmpty()?-1:digraph.getPredOf(i).iterator().next();
+            if (!tryToMatch(i)) {
+                return false;
+            }
         }
+        return true;
     }
 
-    private void tryToMatch(int i) throws ContradictionException {
-        int mate = augmentPath_BFS(i);
-        if (mate != -1) {
-            free.clear(mate);
+    private boolean tryToMatch(int i) {
+        int j = augmentPath_BFS(i);
+        if (j != -1) {
+            free.clear(j);
             free.clear(i);
-            int tmp = mate;
-            while (tmp != i) {
-                digraph.removeArc(father[tmp], tmp);
-                digraph.addArc(tmp, father[tmp]);
-                tmp = father[tmp];
+            // father of a value is the variable from which it is reached
+            while (true) {
+                int x = father[j];
+                int old = matching[x];
+                matching[x] = j;
+                mate[j] = x;
+                if (x == i) {
+                    break;
+                }
+                j = old;
             }
-        } else {
-            vars[0].instantiateTo(vars[0].getLB()-1,aCause);
+            return true;
         }
+        return false;
     }
 
     private int augmentPath_BFS(int root) {
@@ -143,19 +258,17 @@ public class AlgoAllDiffAC {
         int indexFirst = 0, indexLast = 0;
         fifo[indexLast++] = root;
         int x;
-        ISetIterator succs;
         while (indexFirst != indexLast) {
             x = fifo[indexFirst++];
-            succs = digraph.getSuccOf(x).iterator();
-            while (succs.hasNext()) {
-                int y = succs.nextInt();
-                if (!in.get(y)) {
+            for (int a = domains.nextSuccArc(x, domains.getSuccStart(x)); a >= 0; a = domains.nextSuccArc(x, a + 1)) {
+                int y = domains.getHead(a);
+                if (y != matching[x] && !in.get(y) && !stale.get(a)) {
                     father[y] = x;
-                    fifo[indexLast++] = y;
                     in.set(y);
                     if (free.get(y)) {
                         return y;
                     }
+                    fifo[indexLast++] = mate[y];
                 }
             }
         }
@@ -167,61 +280,66 @@ public class AlgoAllDiffAC {
     //***********************************************************************************
 
     private void buildSCC() {
-        if (n2 > n * 2) {
-            digraph.removeNode(n2);
-            digraph.addNode(n2);
-            for (int i = n; i < n2; i++) {
-                if (free.get(i)) {
-                    digraph.addArc(i, n2);
-                } else {
-                    digraph.addArc(n2, i);
-                }
+        // matched arcs go from values to variables, the others from variables to values
+        for (int a = 0; a < mv; a++) {
+            if (domains.isArcRemoved(a) || stale.get(a)) {
+                residual.removeArc(a);
+                residual.removeArc(twin[a]);
+            } else if (matching[domains.getTail(a)] == domains.getHead(a)) {
+                residual.removeArc(a);
+                residual.restoreArc(twin[a]);
+            } else {
+                residual.restoreArc(a);
+                residual.removeArc(twin[a]);
+            }
+        }
+        // free values reach the sink, which reaches matched values
+        for (int j = n; j < n2; j++) {
+            if (free.get(j)) {
+                residual.restoreArc(toSink[j - n]);
+                residual.removeArc(fromSink[j - n]);
+            } else {
+                residual.removeArc(toSink[j - n]);
+                residual.restoreArc(fromSink[j - n]);
             }
         }
         SCCfinder.findAllSCC();
         nodeSCC = SCCfinder.getNodesSCC();
-        digraph.removeNode(n2);
     }
 
-    private boolean filter() throws ContradictionException {
-        boolean filter =false;
+    private void filter() {
         buildSCC();
-        int j, ub;
-        IntVar v;
         for (int i = 0; i < n; i++) {
-            v = vars[i];
-            ub = v.getUB();
-            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
-                j = map.get(k);
-                if (nodeSCC[i] != nodeSCC[j]) {
-                    if (matching[i] == j) {
-                        filter |= v.instantiateTo(k, aCause);
-                    } else {
-                        filter |= v.removeValue(k, aCause);
-                        digraph.removeArc(i, j);
-                    }
+            for (int a = domains.nextSuccArc(i, domains.getSuccStart(i)); a >= 0; a = domains.nextSuccArc(i, a + 1)) {
+                if (!stale.get(a) && nodeSCC[i] != nodeSCC[domains.getHead(a)]) {
+                    pruned.set(a);
                 }
             }
         }
         for (int i = 0; i < n; i++) {
-            v = vars[i];
+            IntVar v = vars[i];
             if (!v.hasEnumeratedDomain()) {
-                ub = v.getUB();
-                for (int k = v.getLB(); k <= ub; k++) {
-                    j = map.get(k);
-                    if (!(digraph.arcExists(i, j) || digraph.arcExists(j, i))) {
-                        filter |= v.removeValue(k, aCause);
-                    }
-                }
                 int lb = v.getLB();
-                for (int k = v.getUB(); k >= lb; k--) {
-                    j = map.get(k);
-                    if (!(digraph.arcExists(i, j) || digraph.arcExists(j, i))) {
-                        filter |= v.removeValue(k, aCause);
-                    }
+                int ub = v.getUB();
+                while (lb <= ub && !isSupported(i, lb)) {
+                    lb++;
+                }
+                while (ub >= lb && !isSupported(i, ub)) {
+                    ub--;
                 }
+                lbs[i] = lb;
+                ubs[i] = ub;
             }
         }
-        return filter;
+    }
+
+    /**
+     * @return <i>true</i> iff the arc from the variable i to the value k is neither removed nor to prune,
+     * unless it is a matched arc, which is kept by instantiation
+     */
+    private boolean isSupported(int i, int k) {
+        int a = map.containsKey(k) ? domains.getArc(i, map.get(k)) : -1;
+        return a >= 0 && !domains.isArcRemoved(a) && !stale.get(a)
+                && (!pruned.get(a) || matching[i] == domains.getHead(a));
     }
 }
@@ -82,6 +82,11 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
      */
     public static final double RO = 0.7;
 
+    /**
+     * Smallest initial step of a subgradient descent
+     */
+    public static final double MINSTEP = U0 * Math.pow(RO, MAXBOUNDITER);
+
 
     /**
      * Map to retrieve rapidly the index of a given variable.
@@ -125,6 +130,13 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
      */
     private final double[] uLb;
 
+    /**
+     * Initial step of the next subgradient descent computing an UB, resp. a LB.
+     * Like multipliers, it is kept from one call to the other: multipliers are already close to good ones
+     * and a large first step would move them away.
+     */
+    private double stepUb = U0, stepLb = U0;
+
     /**
      * Instance of the class containing all path finding algorithms
      * Also contains graph filtering algorithms
@@ -498,7 +510,7 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
                 bestVal = lp + coeff;
             }
 
-            uk = U0 * Math.pow(bk, k);
+            uk = stepUb * Math.pow(bk, k);
 
             for (int l = 0; l < uUb.length / 2; l++) {
                 axu = 0.0;
@@ -522,6 +534,7 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
             k++;
 
         } while (modif && nbNSig2 < MAXNONIMPROVEITER && k < MAXBOUNDITER);
+        stepUb = Math.max(uk, MINSTEP);
     }
 
 
@@ -583,7 +596,7 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
             }
 
 
-            uk = U0 * Math.pow(bk, k);
+            uk = stepLb * Math.pow(bk, k);
 
             for (int l = 0; l < uLb.length / 2; l++) {
 
@@ -609,6 +622,7 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
             }
             k++;
         } while (modif && nbNSig2 < MAXNONIMPROVEITER && k < MAXBOUNDITER);
+        stepLb = Math.max(uk, MINSTEP);
     }
 
 
@@ -689,9 +703,16 @@ public final class PropMultiCostRegular extends Propagator<IntVar> {
             this.toRemove.clear();
             this.graph.inStack.clear();
 
-
-            this.getGraph().getPathFinder().computeShortestAndLongestPath(toRemove, z, this);
-            computed = true;
+            // only the layers downstream and upstream of the arcs restored upon backtrack are recomputed
+            this.graph.collectRestoredLayers();
+            int from = this.graph.getRestoredFrom();
+            int to = this.graph.getRestoredTo();
+            this.graph.clearRestoredLayers();
+            if (from <= to) {
+                this.getGraph().getPathFinder().computeShortestAndLongestPath(toRemove, z, this, from, to);
+                // otherwise, arcs beyond 'to' still have to be checked against bounds of z
+                computed |= from == 0 && to >= offset;
+            }
             //assert(toRemove.size() == 0); // PAS SUR DE L'ASSERT
             // this.graph.toUpdateLeft.reset();
             //this.graph.toUpdateRight.reset();
@@ -393,7 +393,7 @@ public class FastPathFinder {
 
                         double newCost = graph.GNodes.spft[dest] + cost;//cost[graph.GNodes.layers[next]][graph.GArcs.values[e]];
                         if (newCost + graph.GNodes.spfs[orig] - ub >= propagator._MCR_DECIMAL_PREC) {
-                            graph.getInStack().set(e);
+                            graph.setInStack(e);
                             removed.add(e);
                         } else if (graph.GNodes.spft[orig] > newCost) {
                             graph.GNodes.spft[orig] = newCost;
@@ -426,6 +426,26 @@ public class FastPathFinder {
 
     public boolean[] computeShortestAndLongestPath(TIntStack removed, IntVar[] z,
                                                    PropMultiCostRegular propagator) throws ContradictionException {
+        return computeShortestAndLongestPath(removed, z, propagator, 0, nbLayer - 1);
+    }
+
+    /**
+     * Computes shortest and longest paths, for each resource, when arcs between layers <i>from</i> and <i>to</i> may have
+     * been added or removed since the last computation: shortest and longest paths from the source are only recomputed
+     * for the layers after <i>from</i>, those to the sink only for the layers up to <i>to</i>.
+     * Arcs which cannot belong to a path satisfying the bounds of <i>z</i> are pushed in <i>removed</i>,
+     * only arcs up to layer <i>to</i> being checked.
+     *
+     * @param removed    stack of arcs to remove
+     * @param z          cost variables
+     * @param propagator the propagator
+     * @param from       lowest layer of a modified arc
+     * @param to         highest layer of a modified arc
+     * @return whether the lower bound and the upper bound of z[0] have been modified
+     * @throws ContradictionException if no path remains
+     */
+    public boolean[] computeShortestAndLongestPath(TIntStack removed, IntVar[] z,
+                                                   PropMultiCostRegular propagator, int from, int to) throws ContradictionException {
 
         int nbr = z.length;
 
@@ -438,7 +458,7 @@ public class FastPathFinder {
         }
         boolean update;
 
-        for (int i = 1; i <= nbLayer; i++) {
+        for (int i = Math.max(1, from + 1); i <= nbLayer; i++) {
             update = false;
             int[] list = graph.layers[i]._getStructure();
             int size = graph.layers[i].size();
@@ -482,7 +502,7 @@ public class FastPathFinder {
             //  destIter.dispose();
             if (!update) propagator.fails();
         }
-        for (int i = nbLayer - 1; i >= 0; i--) {
+        for (int i = Math.min(nbLayer - 1, to); i >= 0; i--) {
             update = false;
             //DisposableIntIterator origIter = graph.layers[i].getIterator();
             int[] list = graph.layers[i]._getStructure();
@@ -506,7 +526,7 @@ public class FastPathFinder {
 
                         for (int d = 0; d < nbr; d++) {
                             if (spft[dest][d] + cost[d] + spfs[orig][d] - z[d].getUB() >= propagator._MCR_DECIMAL_PREC) {
-                                graph.getInStack().set(e);
+                                graph.setInStack(e);
                                 removed.push(e);
                                 break;
                             } else if (spft[orig][d] > spft[dest][d] + cost[d]) {
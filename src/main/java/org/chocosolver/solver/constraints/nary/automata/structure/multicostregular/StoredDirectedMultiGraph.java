@@ -8,9 +8,11 @@
  */
 package org.chocosolver.solver.constraints.nary.automata.structure.multicostregular;
 
+import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.set.hash.TIntHashSet;
 import gnu.trove.stack.TIntStack;
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.nary.automata.FA.ICostAutomaton;
 import org.chocosolver.solver.constraints.nary.automata.structure.Node;
@@ -47,6 +49,12 @@ public class StoredDirectedMultiGraph {
     public BitSet inStack;
     private IntVar[] z;
 
+    // layers of the arcs put in stack, only the first nbTouched ones were put in stack in the current branch
+    private final TIntArrayList touched;
+    private final IStateInt nbTouched;
+    // range of layers of the arcs put in stack in branches which have been left since the last call to clearRestoredLayers()
+    private int restoredFrom = Integer.MAX_VALUE, restoredTo = Integer.MIN_VALUE;
+
     public Nodes GNodes;
     public Arcs GArcs;
 
@@ -118,6 +126,8 @@ public class StoredDirectedMultiGraph {
                                     int supportLength, ICostAutomaton pi, IntVar[] z) {
         this.nbR = pi.getNbResources();
         this.z = z;
+        this.touched = new TIntArrayList();
+        this.nbTouched = environment.makeInt(0);
         this.starts = starts;
         this.offsets = offsets;
         this.layers = new StoredIndexedBipartiteSetWithOffset[layers.length];
@@ -529,6 +539,51 @@ public class StoredDirectedMultiGraph {
      */
     public final void setInStack(int idx) {
         inStack.set(idx);
+        collectRestoredLayers();
+        touched.add(GNodes.layers[GArcs.origs[idx]]);
+        nbTouched.set(touched.size());
+    }
+
+    /**
+     * Arcs put in stack in a branch which has been left, removed or not, may be back in the graph:
+     * the path information is only exact for the nodes which are not downstream of them nor upstream of them.
+     * This method gathers the layers of such arcs, see {@link #getRestoredFrom()} and {@link #getRestoredTo()}.
+     */
+    public final void collectRestoredLayers() {
+        int n = nbTouched.get();
+        int size = touched.size();
+        if (n < size) {
+            for (int i = n; i < size; i++) {
+                int l = touched.getQuick(i);
+                restoredFrom = Math.min(restoredFrom, l);
+                restoredTo = Math.max(restoredTo, l);
+            }
+            touched.remove(n, size - n);
+        }
+    }
+
+    /**
+     * @return the lowest layer of an arc which may have been restored since the last call to {@link #clearRestoredLayers()},
+     * {@link Integer#MAX_VALUE} if there is none
+     */
+    public final int getRestoredFrom() {
+        return restoredFrom;
+    }
+
+    /**
+     * @return the highest layer of an arc which may have been restored since the last call to {@link #clearRestoredLayers()},
+     * {@link Integer#MIN_VALUE} if there is none
+     */
+    public final int getRestoredTo() {
+        return restoredTo;
+    }
+
+    /**
+     * To be called once the path information has been recomputed.
+     */
+    public final void clearRestoredLayers() {
+        restoredFrom = Integer.MAX_VALUE;
+        restoredTo = Integer.MIN_VALUE;
     }
 
     public int getRegret(int layer, int value, int... resources) {
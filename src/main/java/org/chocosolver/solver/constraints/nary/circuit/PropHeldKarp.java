@@ -0,0 +1,434 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.circuit;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * A propagator linking successor variables, which form a circuit, to the total cost of the circuit,
+ * wrt a cost matrix: <i>cost</i> = sum(<i>costMatrix[i][succs[i] - offset]</i>).
+ * <p>
+ * Two lower bounds of the cost are maintained:
+ * <ul>
+ * <li>the assignment bound: the sum of the cheapest arc leaving each node,</li>
+ * <li>the Held-Karp bound (M. Held and R. M. Karp, "The traveling-salesman problem and minimum spanning trees: Part II",
+ * Mathematical Programming, 1971): a minimum 1-tree of the undirected graph, where an edge {i, j} exists if one of
+ * the arcs (i, j) or (j, i) is in the domains and weights the cheapest of them, under Lagrangian penalties of the
+ * degree constraints. Penalties are optimized by a subgradient method which is warm-started from the best penalties
+ * found by the previous call.</li>
+ * </ul>
+ * Arcs are removed when their marginal cost, that is, the bound obtained when they are forced in,
+ * exceeds the upper bound of the cost.
+ * <p>
+ * The other requirements of a circuit are not checked, this propagator is used together with
+ * {@link PropNoSubtour} and an AllDifferent constraint.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PropHeldKarp extends Propagator<IntVar> {
+
+    /**
+     * Marks an edge with no arc in the domains.
+     */
+    private static final int NONE = Integer.MAX_VALUE;
+
+    /**
+     * Tolerance for floating-point comparisons.
+     */
+    private static final double EPS = 1e-6;
+
+    /**
+     * Number of subgradient iterations of the first propagation, and of the next ones.
+     */
+    private static final int FIRST_ITER = 100, NEXT_ITER = 20;
+
+    /**
+     * Number of nodes.
+     */
+    private final int n;
+
+    /**
+     * Value of the successor variables associated with the first node.
+     */
+    private final int offset;
+
+    /**
+     * Cost of the arcs.
+     */
+    private final int[][] costs;
+
+    /**
+     * Total cost variable.
+     */
+    private final IntVar cost;
+
+    /**
+     * Weight of the edges of the undirected graph, {@link #NONE} if the edge does not exist.
+     */
+    private final int[][] edges;
+
+    /**
+     * Cost of the cheapest arc leaving each node.
+     */
+    private final int[] mins;
+
+    /**
+     * Lagrangian penalties, and best ones found so far.
+     */
+    private final double[] pi, bestPi;
+
+    /**
+     * Minimum 1-tree: parent of each node but 0 in the spanning tree rooted in 1, and the two neighbors of node 0.
+     */
+    private final int[] parent;
+    private int first, second;
+
+    /**
+     * Degree of each node in the 1-tree.
+     */
+    private final int[] degree;
+
+    /**
+     * Working arrays for Prim's algorithm and for the search of maximum edges on tree paths.
+     */
+    private final double[] key;
+    private final boolean[] inTree;
+    private final int[] head, next, stack;
+    private final double[] maxOnPath;
+
+    /**
+     * Set to <i>true</i> once the penalties have been optimized once.
+     */
+    private boolean warm;
+
+    /**
+     * Creates a propagator for the cost of a circuit.
+     *
+     * @param succs      successor variables, <i>succs[i] = offset + j</i> means that <i>j</i> is the successor of <i>i</i>
+     * @param offset     value of the successor variables associated with the first node
+     * @param costMatrix cost of the arcs, <i>costMatrix[i][j]</i> is the cost of going from <i>i</i> to <i>j</i>
+     * @param cost       total cost of the circuit
+     */
+    public PropHeldKarp(IntVar[] succs, int offset, int[][] costMatrix, IntVar cost) {
+        super(ArrayUtils.append(succs, new IntVar[]{cost}), PropagatorPriority.CUBIC, false);
+        this.n = succs.length;
+        this.offset = offset;
+        this.costs = costMatrix;
+        this.cost = cost;
+        this.edges = new int[n][n];
+        this.mins = new int[n];
+        this.pi = new double[n];
+        this.bestPi = new double[n];
+        this.parent = new int[n];
+        this.degree = new int[n];
+        this.key = new double[n];
+        this.inTree = new boolean[n];
+        this.head = new int[n];
+        this.next = new int[n];
+        this.stack = new int[n];
+        this.maxOnPath = new double[n];
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        for (int i = 0; i < n; i++) {
+            vars[i].updateBounds(offset, offset + n - 1, this);
+        }
+        if (!isSuccsInstantiated()) {
+            assignmentFiltering();
+            if (n >= 3 && !isSuccsInstantiated()) {
+                heldKarpFiltering();
+            }
+        }
+        // filtering may have instantiated the last successors
+        if (isSuccsInstantiated()) {
+            int sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += costs[i][vars[i].getValue() - offset];
+            }
+            cost.instantiateTo(sum, this);
+            setPassive();
+        }
+    }
+
+    private boolean isSuccsInstantiated() {
+        for (int i = 0; i < n; i++) {
+            if (!vars[i].isInstantiated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bounds the cost with the cheapest and the most expensive arcs leaving each node,
+     * and removes arcs which cannot be afforded, wrt to the cheapest arcs leaving the other nodes.
+     */
+    private void assignmentFiltering() throws ContradictionException {
+        long lb = 0, ub = 0;
+        for (int i = 0; i < n; i++) {
+            int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+            int ubi = vars[i].getUB();
+            for (int v = vars[i].getLB(); v <= ubi; v = vars[i].nextValue(v)) {
+                int c = costs[i][v - offset];
+                min = Math.min(min, c);
+                max = Math.max(max, c);
+            }
+            mins[i] = min;
+            lb += min;
+            ub += max;
+        }
+        cost.updateBounds(clamp(lb), clamp(ub), this);
+        for (int i = 0; i < n; i++) {
+            long slack = cost.getUB() - (lb - mins[i]);
+            int ubi = vars[i].getUB();
+            for (int v = vars[i].getLB(); v <= ubi; v = vars[i].nextValue(v)) {
+                if (costs[i][v - offset] > slack) {
+                    vars[i].removeValue(v, this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounds the cost with the Held-Karp bound and removes edges whose marginal cost is too high.
+     */
+    private void heldKarpFiltering() throws ContradictionException {
+        buildEdges();
+        double ub = cost.getUB();
+        System.arraycopy(bestPi, 0, pi, 0, n);
+        double best = Double.NEGATIVE_INFINITY;
+        double lambda = warm ? .5 : 2.;
+        int stall = 0;
+        int iter = warm ? NEXT_ITER : FIRST_ITER;
+        warm = true;
+        for (int it = 0; it < iter; it++) {
+            double bound = oneTree(pi);
+            if (Double.isNaN(bound)) {
+                fails();
+            }
+            if (bound > best + EPS) {
+                best = bound;
+                System.arraycopy(pi, 0, bestPi, 0, n);
+                stall = 0;
+            } else if (++stall == 5) {
+                lambda /= 2;
+                stall = 0;
+            }
+            int norm = 0;
+            for (int i = 0; i < n; i++) {
+                norm += (degree[i] - 2) * (degree[i] - 2);
+            }
+            if (norm == 0 || best > ub + EPS) {
+                // the 1-tree is a tour, or the bound is already sufficient to fail
+                break;
+            }
+            // the upper bound of the cost is often loose, aim at a slightly better bound instead
+            double target = Math.min(ub, best + Math.max(Math.abs(best) * .05, 1.));
+            double step = lambda * (target - bound) / norm;
+            for (int i = 0; i < n; i++) {
+                pi[i] += step * (degree[i] - 2);
+            }
+        }
+        double bound = oneTree(bestPi);
+        cost.updateLowerBound(clamp((long) Math.ceil(bound - EPS)), this);
+        marginalCostFiltering(bound);
+    }
+
+    /**
+     * Computes the weight of the edges from the domains of the successor variables.
+     */
+    private void buildEdges() {
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(edges[i], NONE);
+        }
+        for (int i = 0; i < n; i++) {
+            int ubi = vars[i].getUB();
+            for (int v = vars[i].getLB(); v <= ubi; v = vars[i].nextValue(v)) {
+                int j = v - offset;
+                if (j != i) {
+                    int c = Math.min(edges[i][j], costs[i][j]);
+                    edges[i][j] = edges[j][i] = c;
+                }
+            }
+        }
+    }
+
+    private double weight(int i, int j, double[] p) {
+        return edges[i][j] + p[i] + p[j];
+    }
+
+    /**
+     * Computes a minimum 1-tree wrt the penalties <i>p</i>: a minimum spanning tree of the nodes but 0,
+     * built with Prim's algorithm, plus the two cheapest edges incident to 0.
+     *
+     * @param p Lagrangian penalties
+     * @return the Lagrangian bound, or NaN if there is no 1-tree
+     */
+    private double oneTree(double[] p) {
+        Arrays.fill(degree, 0);
+        Arrays.fill(inTree, false);
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        double total = 0;
+        key[1] = 0;
+        parent[1] = -1;
+        for (int k = 1; k < n; k++) {
+            int u = -1;
+            for (int i = 1; i < n; i++) {
+                if (!inTree[i] && (u == -1 || key[i] < key[u])) {
+                    u = i;
+                }
+            }
+            if (key[u] == Double.POSITIVE_INFINITY) {
+                return Double.NaN;
+            }
+            inTree[u] = true;
+            if (parent[u] >= 0) {
+                total += key[u];
+                degree[u]++;
+                degree[parent[u]]++;
+            }
+            for (int i = 1; i < n; i++) {
+                if (!inTree[i] && edges[u][i] != NONE) {
+                    double w = weight(u, i, p);
+                    if (w < key[i]) {
+                        key[i] = w;
+                        parent[i] = u;
+                    }
+                }
+            }
+        }
+        first = second = -1;
+        for (int j = 1; j < n; j++) {
+            if (edges[0][j] != NONE) {
+                double w = weight(0, j, p);
+                if (first == -1 || w < weight(0, first, p)) {
+                    second = first;
+                    first = j;
+                } else if (second == -1 || w < weight(0, second, p)) {
+                    second = j;
+                }
+            }
+        }
+        if (second == -1) {
+            return Double.NaN;
+        }
+        total += weight(0, first, p) + weight(0, second, p);
+        degree[0] = 2;
+        degree[first]++;
+        degree[second]++;
+        for (int i = 0; i < n; i++) {
+            total -= 2 * p[i];
+        }
+        return total;
+    }
+
+    /**
+     * Removes the edges which cannot be in a circuit cheaper than the upper bound of the cost,
+     * wrt the last 1-tree computed.
+     * The marginal cost of an edge {i, j} out of the tree, with i, j &ne; 0, is the weight of the edge minus
+     * the weight of the heaviest edge on the tree path between i and j.
+     * The marginal cost of an edge {0, j} out of the 1-tree is the weight of the edge minus the weight
+     * of the heaviest edge incident to 0 in the 1-tree.
+     *
+     * @param bound the Lagrangian bound of the last 1-tree
+     */
+    private void marginalCostFiltering(double bound) throws ContradictionException {
+        double ub = cost.getUB() + EPS;
+        double heaviest = Math.max(weight(0, first, bestPi), weight(0, second, bestPi));
+        for (int j = 1; j < n; j++) {
+            if (edges[0][j] != NONE && j != first && j != second
+                    && bound + weight(0, j, bestPi) - heaviest > ub) {
+                removeEdge(0, j);
+            }
+        }
+        // children lists of the spanning tree
+        Arrays.fill(head, -1);
+        for (int i = 1; i < n; i++) {
+            if (parent[i] >= 0) {
+                next[i] = head[parent[i]];
+                head[parent[i]] = i;
+            }
+        }
+        for (int s = 1; s < n; s++) {
+            treePaths(s);
+            for (int j = s + 1; j < n; j++) {
+                if (edges[s][j] != NONE && parent[j] != s && parent[s] != j
+                        && bound + weight(s, j, bestPi) - maxOnPath[j] > ub) {
+                    removeEdge(s, j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes, for each node of the spanning tree, the weight of the heaviest edge on the path from <i>s</i>.
+     */
+    private void treePaths(int s) {
+        Arrays.fill(inTree, false);
+        int top = 0;
+        stack[top++] = s;
+        inTree[s] = true;
+        maxOnPath[s] = Double.NEGATIVE_INFINITY;
+        while (top > 0) {
+            int u = stack[--top];
+            // neighbors of u: its parent and its children
+            int p = parent[u];
+            if (p >= 0 && !inTree[p]) {
+                maxOnPath[p] = Math.max(maxOnPath[u], weight(u, p, bestPi));
+                inTree[p] = true;
+                stack[top++] = p;
+            }
+            for (int c = head[u]; c >= 0; c = next[c]) {
+                if (!inTree[c]) {
+                    maxOnPath[c] = Math.max(maxOnPath[u], weight(u, c, bestPi));
+                    inTree[c] = true;
+                    stack[top++] = c;
+                }
+            }
+        }
+    }
+
+    private void removeEdge(int i, int j) throws ContradictionException {
+        vars[i].removeValue(j + offset, this);
+        vars[j].removeValue(i + offset, this);
+    }
+
+    private static int clamp(long v) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isSuccsInstantiated()) {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                int j = vars[i].getValue() - offset;
+                if (j < 0 || j >= n) {
+                    return ESat.FALSE;
+                }
+                sum += costs[i][j];
+            }
+            if (cost.isInstantiated()) {
+                return ESat.eval(sum == cost.getValue());
+            } else if (sum < cost.getLB() || sum > cost.getUB()) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.UNDEFINED;
+    }
+}
@@ -0,0 +1,651 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.expression;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
+import org.chocosolver.solver.expression.discrete.relational.ReExpression;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A relational expression "e1 op e2" compiled into a flat tape of nodes, stored in primitive arrays.
+ * <p>
+ * The relation is rewritten as "t op 0", where <i>t</i>, the root of the tape, is a linear node.
+ * Nodes are stored in post-order: the children of a node always precede it.
+ * Additions, subtractions, negations and multiplications by a constant are gathered into linear nodes,
+ * occurrences of a same variable in a linear node being merged.
+ * Sub-expressions made of constants only are folded.
+ * <p>
+ * A tape is either turned into a {@link Model#scalar(IntVar[], int[], String, int)} constraint, when it is linear,
+ * or filtered by a single {@link PropExpression}, thus without any intermediate variable.
+ * It can also be evaluated on a tuple of values, see {@link #eval(int[])}.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class ExpressionTape {
+
+    /**
+     * Node types, other than the arithmetic operators.
+     */
+    static final int CST = 0, VAR = 1, LIN = 2;
+    /**
+     * Node types, one for each non-linear arithmetic operator.
+     */
+    static final int ABS = 3, SQR = 4, MUL = 5, DIV = 6, MOD = 7, POW = 8, MIN = 9, MAX = 10;
+    /**
+     * Types of the linear arithmetic operators, only used to fold constants.
+     */
+    private static final int NEG = 11, ADD = 12, SUB = 13;
+    /**
+     * Names of the node types.
+     */
+    private static final String[] NAMES = {"CST", "VAR", "LIN", "ABS", "SQR", "MUL", "DIV", "MOD", "POW", "MIN", "MAX",
+            "NEG", "ADD", "SUB"};
+
+    /**
+     * The relation between the root node and 0.
+     */
+    final ReExpression.Operator rel;
+    /**
+     * The distinct variables of the expression.
+     */
+    final IntVar[] vars;
+    /**
+     * Number of nodes, the last one is the root.
+     */
+    final int size;
+    /**
+     * Type of each node.
+     */
+    final int[] types;
+    /**
+     * For each node, position of its first child in {@link #children}.
+     * Children of node <i>i</i> are stored from <i>starts[i]</i> to <i>starts[i + 1]</i> excluded.
+     */
+    final int[] starts;
+    /**
+     * Children of the nodes.
+     * For a VAR node, the unique "child" is the index of the variable in {@link #vars}.
+     */
+    final int[] children;
+    /**
+     * For a linear node, coefficient of each child, aligned with {@link #children}.
+     */
+    final long[] coeffs;
+    /**
+     * Value of a CST node, constant term of a LIN node.
+     */
+    final long[] csts;
+    /**
+     * Set to <i>true</i> when a division or a modulo appears in the tape.
+     */
+    final boolean partial;
+
+    private ExpressionTape(ReExpression.Operator rel, Builder b) {
+        this.rel = rel;
+        this.vars = b.vars.toArray(new IntVar[b.vars.size()]);
+        this.size = b.types.size();
+        this.types = b.types.toArray();
+        this.starts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            starts[i] = b.starts.get(i);
+        }
+        starts[size] = b.children.size();
+        this.children = b.children.toArray();
+        this.coeffs = b.coeffs.toArray();
+        this.csts = b.csts.toArray();
+        boolean p = false;
+        for (int i = 0; i < size; i++) {
+            p |= types[i] == DIV || types[i] == MOD;
+        }
+        this.partial = p;
+    }
+
+    /**
+     * Compiles the relational expression "e1 op e2" into a tape.
+     *
+     * @param op a relational operator
+     * @param e1 the left-hand side expression
+     * @param e2 the right-hand side expression
+     * @return a tape encoding "e1 op e2"
+     */
+    public static ExpressionTape compile(ReExpression.Operator op, ArExpression e1, ArExpression e2) {
+        Builder b = new Builder();
+        Linear form = new Linear();
+        b.linearize(e1, 1, form);
+        b.linearize(e2, -1, form);
+        b.emit(form);
+        return new ExpressionTape(op, b);
+    }
+
+    /**
+     * @return the distinct variables this tape depends on
+     */
+    public IntVar[] getVars() {
+        return vars.clone();
+    }
+
+    /**
+     * @return the number of nodes of this tape
+     */
+    public int getNbNodes() {
+        return size;
+    }
+
+    /**
+     * @return <i>true</i> if the root node only depends on variables, that is, if the relation is linear
+     */
+    public boolean isLinear() {
+        int r = size - 1;
+        for (int k = starts[r]; k < starts[r + 1]; k++) {
+            if (types[children[k]] != VAR || coeffs[k] != (int) coeffs[k]) {
+                return false;
+            }
+        }
+        return csts[r] == (int) csts[r];
+    }
+
+    /**
+     * Builds the constraint encoding this tape: a scalar constraint if the relation is linear,
+     * a constraint based on a single {@link PropExpression} otherwise.
+     *
+     * @param model the model in which the constraint is declared
+     * @return a constraint
+     */
+    public Constraint toConstraint(Model model) {
+        int r = size - 1;
+        int n = starts[r + 1] - starts[r];
+        if (n == 0 || vars.length == 0) {
+            return eval(new int[vars.length]) ? model.trueConstraint() : model.falseConstraint();
+        }
+        if (isLinear()) {
+            IntVar[] svars = new IntVar[n];
+            int[] scoeffs = new int[n];
+            for (int k = 0; k < n; k++) {
+                svars[k] = vars[children[starts[children[starts[r] + k]]]];
+                scoeffs[k] = (int) coeffs[starts[r] + k];
+            }
+            return model.scalar(svars, scoeffs, symbol(rel), (int) -csts[r]);
+        }
+        return new Constraint("Expression", new PropExpression(this));
+    }
+
+    /**
+     * Evaluates the relation on a tuple, without any intermediate object.
+     * Values are computed over 64-bit integers, a division or a modulo by 0 makes the relation unsatisfied.
+     *
+     * @param values values of the variables, in the order of {@link #getVars()}
+     * @return <i>true</i> if the tuple satisfies the relation
+     */
+    public boolean eval(int[] values) {
+        long[] vals = new long[size];
+        for (int i = 0; i < size; i++) {
+            int s = starts[i], e = starts[i + 1];
+            switch (types[i]) {
+                case CST:
+                    vals[i] = csts[i];
+                    break;
+                case VAR:
+                    vals[i] = values[children[s]];
+                    break;
+                case LIN:
+                    long v = csts[i];
+                    for (int k = s; k < e; k++) {
+                        v = add(v, mul(coeffs[k], vals[children[k]]));
+                    }
+                    vals[i] = v;
+                    break;
+                default:
+                    if ((types[i] == DIV || types[i] == MOD) && vals[children[s + 1]] == 0) {
+                        return false;
+                    }
+                    v = vals[children[s]];
+                    for (int k = s + 1; k < e; k++) {
+                        v = apply(types[i], v, vals[children[k]]);
+                    }
+                    vals[i] = e - s == 1 ? apply(types[i], v, 0) : v;
+                    break;
+            }
+        }
+        return holds(rel, vals[size - 1], vals[size - 1]) == 1;
+    }
+
+    /**
+     * @param rel a relational operator
+     * @param lb  lower bound of the root node
+     * @param ub  upper bound of the root node
+     * @return 1 if all values in [<i>lb</i>, <i>ub</i>] satisfy "value rel 0",
+     * -1 if none does, 0 otherwise
+     */
+    static int holds(ReExpression.Operator rel, long lb, long ub) {
+        switch (rel) {
+            case LT:
+                return ub < 0 ? 1 : lb >= 0 ? -1 : 0;
+            case LE:
+                return ub <= 0 ? 1 : lb > 0 ? -1 : 0;
+            case GE:
+                return lb >= 0 ? 1 : ub < 0 ? -1 : 0;
+            case GT:
+                return lb > 0 ? 1 : ub <= 0 ? -1 : 0;
+            case NE:
+                return lb > 0 || ub < 0 ? 1 : lb == 0 && ub == 0 ? -1 : 0;
+            default:
+                return lb == 0 && ub == 0 ? 1 : lb > 0 || ub < 0 ? -1 : 0;
+        }
+    }
+
+    /**
+     * Applies an arithmetic operator over 64-bit integers.
+     * Unary operators ignore <i>y</i>.
+     *
+     * @param type a node type
+     * @param x    first operand
+     * @param y    second operand
+     * @return the result of "x type y"
+     */
+    static long apply(int type, long x, long y) {
+        switch (type) {
+            case NEG:
+                return -x;
+            case ADD:
+                return add(x, y);
+            case SUB:
+                return add(x, -y);
+            case ABS:
+                return Math.abs(x);
+            case SQR:
+                return mul(x, x);
+            case MUL:
+                return mul(x, y);
+            case DIV:
+                return x / y;
+            case MOD:
+                return x % y;
+            case POW:
+                return pow(x, y);
+            case MIN:
+                return Math.min(x, y);
+            case MAX:
+                return Math.max(x, y);
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * @return <i>x + y</i>, or the closest long value in case of overflow
+     */
+    static long add(long x, long y) {
+        long r = x + y;
+        if (((x ^ r) & (y ^ r)) < 0) {
+            return x > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return r;
+    }
+
+    /**
+     * @return <i>x * y</i>, or the closest long value in case of overflow
+     */
+    static long mul(long x, long y) {
+        if (((Math.abs(x) | Math.abs(y)) >>> 31) == 0) {
+            return x * y;
+        }
+        if (x == 0 || y == 0) {
+            return 0;
+        }
+        long r = x * y;
+        if (r / y != x || (x == Long.MIN_VALUE && y == -1) || (y == Long.MIN_VALUE && x == -1)) {
+            return (x < 0) == (y < 0) ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return r;
+    }
+
+    /**
+     * @return <i>x ^ y</i>, or the closest long value in case of overflow.
+     * A negative exponent leads to 0, unless |x| = 1.
+     */
+    static long pow(long x, long y) {
+        if (x == 1 || x == 0 && y > 0) {
+            return x;
+        }
+        if (x == -1) {
+            return (y & 1) == 0 ? 1 : -1;
+        }
+        if (y < 0) {
+            return 0;
+        }
+        long r = 1;
+        for (long i = 0; i < y; i++) {
+            r = mul(r, x);
+            if (r == Long.MAX_VALUE || r == Long.MIN_VALUE) {
+                return r;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @param op a relational operator
+     * @return its symbol, as expected by {@link Model#scalar(IntVar[], int[], String, int)}
+     */
+    private static String symbol(ReExpression.Operator op) {
+        switch (op) {
+            case LT:
+                return "<";
+            case LE:
+                return "<=";
+            case GE:
+                return ">=";
+            case GT:
+                return ">";
+            case NE:
+                return "!=";
+            default:
+                return "=";
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            st.append('#').append(i).append(" = ");
+            int s = starts[i], e = starts[i + 1];
+            switch (types[i]) {
+                case CST:
+                    st.append(csts[i]);
+                    break;
+                case VAR:
+                    st.append(vars[children[s]].getName());
+                    break;
+                case LIN:
+                    for (int k = s; k < e; k++) {
+                        st.append(coeffs[k]).append(".#").append(children[k]).append(" + ");
+                    }
+                    st.append(csts[i]);
+                    break;
+                default:
+                    st.append(NAMES[types[i]]).append('(');
+                    for (int k = s; k < e; k++) {
+                        st.append(k > s ? "," : "").append('#').append(children[k]);
+                    }
+                    st.append(')');
+            }
+            st.append('\n');
+        }
+        return st.append('#').append(size - 1).append(' ').append(rel.name()).append(" 0").toString();
+    }
+
+    /**
+     * A linear combination of nodes, under construction.
+     * Variable terms are indexed by the position of the variable, to merge their occurrences,
+     * other terms are indexed by node, that is, by <i>-(node + 1)</i>.
+     */
+    private static final class Linear {
+        final TIntArrayList keys = new TIntArrayList();
+        final TIntLongHashMap coeffs = new TIntLongHashMap();
+        long cst;
+
+        void add(int key, long coeff) {
+            if (!coeffs.containsKey(key)) {
+                keys.add(key);
+            }
+            coeffs.adjustOrPutValue(key, coeff, coeff);
+        }
+    }
+
+    /**
+     * Flattens an expression tree into the arrays of a tape.
+     */
+    private static final class Builder {
+        final List<IntVar> vars = new ArrayList<>();
+        final TObjectIntHashMap<IntVar> positions = new TObjectIntHashMap<>(16, .5f, -1);
+        final TIntArrayList types = new TIntArrayList();
+        final TIntArrayList starts = new TIntArrayList();
+        final TIntArrayList children = new TIntArrayList();
+        final TLongArrayList coeffs = new TLongArrayList();
+        final TLongArrayList csts = new TLongArrayList();
+
+        private int newNode(int type, long cst) {
+            types.add(type);
+            starts.add(children.size());
+            csts.add(cst);
+            return types.size() - 1;
+        }
+
+        private void addChild(int child, long coeff) {
+            children.add(child);
+            coeffs.add(coeff);
+        }
+
+        private int position(IntVar var) {
+            int p = positions.get(var);
+            if (p < 0) {
+                p = vars.size();
+                vars.add(var);
+                positions.put(var, p);
+            }
+            return p;
+        }
+
+        private int varNode(int position) {
+            int n = newNode(VAR, 0);
+            addChild(position, 1);
+            return n;
+        }
+
+        /**
+         * Adds <i>factor</i> times <i>e</i> to <i>form</i>.
+         */
+        void linearize(ArExpression e, long factor, Linear form) {
+            if (isConstant(e)) {
+                form.cst += factor * valueOf(e);
+                return;
+            }
+            if (e.isExpressionLeaf()) {
+                form.add(position((IntVar) e), factor);
+                return;
+            }
+            ArExpression[] es = e.getExpressionChild();
+            switch (e.getOperator()) {
+                case NEG:
+                    linearize(es[0], -factor, form);
+                    return;
+                case ADD:
+                    for (ArExpression c : es) {
+                        linearize(c, factor, form);
+                    }
+                    return;
+                case SUB:
+                    linearize(es[0], factor, form);
+                    linearize(es[1], -factor, form);
+                    return;
+                case MUL:
+                    if (isScaling(es) && isConstant(es[0])) {
+                        linearize(es[1], factor * valueOf(es[0]), form);
+                        return;
+                    } else if (isScaling(es)) {
+                        linearize(es[0], factor * valueOf(es[1]), form);
+                        return;
+                    }
+                    // otherwise, not linear
+                default:
+                    form.add(-node(e) - 1, factor);
+            }
+        }
+
+        /**
+         * Emits a linear node for <i>form</i>.
+         *
+         * @return the index of the node
+         */
+        int emit(Linear form) {
+            int[] nodes = new int[form.keys.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                int key = form.keys.get(i);
+                nodes[i] = key >= 0 ? varNode(key) : -key - 1;
+            }
+            int n = newNode(LIN, form.cst);
+            for (int i = 0; i < nodes.length; i++) {
+                long c = form.coeffs.get(form.keys.get(i));
+                if (c != 0) {
+                    addChild(nodes[i], c);
+                }
+            }
+            return n;
+        }
+
+        /**
+         * Emits the nodes for <i>e</i>, which is not a constant.
+         *
+         * @return the index of the node standing for <i>e</i>
+         */
+        int node(ArExpression e) {
+            if (e.isExpressionLeaf()) {
+                return varNode(position((IntVar) e));
+            }
+            ArExpression[] es = e.getExpressionChild();
+            ArExpression.Operator op = e.getOperator();
+            switch (op) {
+                case NEG:
+                case ADD:
+                case SUB:
+                    Linear form = new Linear();
+                    linearize(e, 1, form);
+                    return emit(form);
+                case MUL:
+                    if (isScaling(es)) {
+                        form = new Linear();
+                        linearize(e, 1, form);
+                        return emit(form);
+                    }
+                    int n = operation(MUL, es[0], es[1]);
+                    for (int i = 2; i < es.length; i++) {
+                        int m = newNode(MUL, 0);
+                        addChild(n, 1);
+                        addChild(operand(es[i]), 1);
+                        n = m;
+                    }
+                    return n;
+                case MIN:
+                case MAX:
+                    int[] nodes = new int[es.length];
+                    for (int i = 0; i < es.length; i++) {
+                        nodes[i] = operand(es[i]);
+                    }
+                    n = newNode(op == ArExpression.Operator.MIN ? MIN : MAX, 0);
+                    for (int c : nodes) {
+                        addChild(c, 1);
+                    }
+                    return n;
+                default:
+                    return operation(typeOf(op), es[0], es.length > 1 ? es[1] : null);
+            }
+        }
+
+        private int operand(ArExpression e) {
+            return isConstant(e) ? newNode(CST, valueOf(e)) : node(e);
+        }
+
+        private int operation(int type, ArExpression e1, ArExpression e2) {
+            int c1 = operand(e1);
+            int c2 = e2 == null ? -1 : operand(e2);
+            int n = newNode(type, 0);
+            addChild(c1, 1);
+            if (c2 >= 0) {
+                addChild(c2, 1);
+            }
+            return n;
+        }
+
+        /**
+         * @return <i>true</i> if the product of <i>es</i> is a multiplication by a non-zero constant,
+         * a multiplication by 0 being kept in the tape not to hide a division by 0
+         */
+        private static boolean isScaling(ArExpression[] es) {
+            return es.length == 2 && (isConstant(es[0]) && valueOf(es[0]) != 0 || isConstant(es[1]) && valueOf(es[1]) != 0);
+        }
+
+        /**
+         * @return <i>true</i> if <i>e</i> only depends on constants and can be evaluated
+         */
+        private static boolean isConstant(ArExpression e) {
+            if (e.isExpressionLeaf()) {
+                return VariableUtils.isConstant((IntVar) e);
+            }
+            ArExpression[] es = e.getExpressionChild();
+            for (ArExpression c : es) {
+                if (!isConstant(c)) {
+                    return false;
+                }
+            }
+            ArExpression.Operator op = e.getOperator();
+            // a division by 0 is kept in the tape, where it fails
+            return (op != ArExpression.Operator.DIV && op != ArExpression.Operator.MOD) || valueOf(es[1]) != 0;
+        }
+
+        /**
+         * @return the value of <i>e</i>, which only depends on constants
+         */
+        private static long valueOf(ArExpression e) {
+            if (e.isExpressionLeaf()) {
+                return ((IntVar) e).getValue();
+            }
+            ArExpression[] es = e.getExpressionChild();
+            int type = typeOf(e.getOperator());
+            long v = valueOf(es[0]);
+            if (es.length == 1) {
+                return apply(type, v, 0);
+            }
+            for (int i = 1; i < es.length; i++) {
+                v = apply(type, v, valueOf(es[i]));
+            }
+            return v;
+        }
+
+        private static int typeOf(ArExpression.Operator op) {
+            switch (op) {
+                case NEG:
+                    return NEG;
+                case ABS:
+                    return ABS;
+                case ADD:
+                    return ADD;
+                case SUB:
+                    return SUB;
+                case MUL:
+                    return MUL;
+                case DIV:
+                    return DIV;
+                case MOD:
+                    return MOD;
+                case SQR:
+                    return SQR;
+                case POW:
+                    return POW;
+                case MIN:
+                    return MIN;
+                case MAX:
+                    return MAX;
+                default:
+                    throw new UnsupportedOperationException("Expression compilation does not support " + op.name());
+            }
+        }
+    }
+}
@@ -0,0 +1,517 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.expression;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.MathUtils;
+
+import static org.chocosolver.solver.constraints.nary.expression.ExpressionTape.*;
+
+/**
+ * A propagator filtering a relational expression compiled into an {@link ExpressionTape},
+ * without any intermediate variable.
+ * <p>
+ * Filtering is based on HC4 (F. Benhamou, F. Goualard, L. Granvilliers and J.-F. Puget,
+ * "Revising Hull and Box Consistency", ICLP 1999):
+ * a forward pass evaluates the bounds of each node from the bounds of its children,
+ * then the root is restricted by the relation and a backward pass projects the bounds of each node onto its children,
+ * down to the variables.
+ * Both passes are repeated until no variable is modified.
+ * All computations are made over 64-bit integers, with saturation.
+ * <p>
+ * The filtering ensures that the relation is satisfied when all the variables are instantiated.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PropExpression extends Propagator<IntVar> {
+
+    /**
+     * The compiled expression.
+     */
+    private final ExpressionTape tape;
+
+    /**
+     * Lower bound of each node.
+     */
+    private final long[] lb;
+
+    /**
+     * Upper bound of each node.
+     */
+    private final long[] ub;
+
+    /**
+     * Creates a propagator for a compiled expression.
+     *
+     * @param tape a compiled expression
+     */
+    public PropExpression(ExpressionTape tape) {
+        super(tape.getVars(), PropagatorPriority.LINEAR, false);
+        this.tape = tape;
+        this.lb = new long[tape.size];
+        this.ub = new long[tape.size];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        int r = tape.size - 1;
+        long rl, ru;
+        boolean changed;
+        do {
+            if (!forward()) {
+                fails();
+            }
+            rl = lb[r];
+            ru = ub[r];
+            changed = restrictRoot();
+            changed |= backward();
+        } while (changed);
+        if (holds(tape.rel, rl, ru) == 1 && (!tape.partial || isCompletelyInstantiated())) {
+            setPassive();
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!forward()) {
+            return ESat.FALSE;
+        }
+        int h = holds(tape.rel, lb[tape.size - 1], ub[tape.size - 1]);
+        if (h < 0) {
+            return ESat.FALSE;
+        } else if (h > 0 && (!tape.partial || isCompletelyInstantiated())) {
+            return ESat.TRUE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * Computes the bounds of each node, from the leaves to the root.
+     *
+     * @return <i>false</i> if a node has an empty domain
+     */
+    private boolean forward() {
+        int[] types = tape.types, starts = tape.starts, children = tape.children;
+        for (int i = 0; i < tape.size; i++) {
+            int s = starts[i], e = starts[i + 1];
+            int x = e > s ? children[s] : -1, y = e - s > 1 ? children[s + 1] : -1;
+            switch (types[i]) {
+                case CST:
+                    lb[i] = ub[i] = tape.csts[i];
+                    break;
+                case VAR:
+                    lb[i] = vars[x].getLB();
+                    ub[i] = vars[x].getUB();
+                    break;
+                case LIN:
+                    long l = tape.csts[i], u = l;
+                    for (int k = s; k < e; k++) {
+                        long c = tape.coeffs[k];
+                        int j = children[k];
+                        l = add(l, mul(c, c > 0 ? lb[j] : ub[j]));
+                        u = add(u, mul(c, c > 0 ? ub[j] : lb[j]));
+                    }
+                    lb[i] = l;
+                    ub[i] = u;
+                    break;
+                case ABS:
+                case SQR:
+                    long a = lb[x] >= 0 ? lb[x] : ub[x] <= 0 ? -ub[x] : 0;
+                    long b = Math.max(Math.abs(lb[x]), Math.abs(ub[x]));
+                    lb[i] = types[i] == ABS ? a : mul(a, a);
+                    ub[i] = types[i] == ABS ? b : mul(b, b);
+                    break;
+                case MUL:
+                    long p1 = mul(lb[x], lb[y]), p2 = mul(lb[x], ub[y]), p3 = mul(ub[x], lb[y]), p4 = mul(ub[x], ub[y]);
+                    lb[i] = Math.min(Math.min(p1, p2), Math.min(p3, p4));
+                    ub[i] = Math.max(Math.max(p1, p2), Math.max(p3, p4));
+                    break;
+                case DIV:
+                    lb[i] = Long.MAX_VALUE;
+                    ub[i] = Long.MIN_VALUE;
+                    if (lb[y] <= -1) {
+                        quotients(i, x, lb[y], Math.min(ub[y], -1));
+                    }
+                    if (ub[y] >= 1) {
+                        quotients(i, x, Math.max(lb[y], 1), ub[y]);
+                    }
+                    break;
+                case MOD:
+                    if (lb[x] == ub[x] && lb[y] == ub[y]) {
+                        if (lb[y] == 0) {
+                            return false;
+                        }
+                        lb[i] = ub[i] = lb[x] % lb[y];
+                    } else {
+                        long m = Math.max(Math.abs(lb[y]), Math.abs(ub[y])) - 1;
+                        if (m < 0) {
+                            return false;
+                        }
+                        lb[i] = lb[x] >= 0 ? 0 : Math.max(lb[x], -m);
+                        ub[i] = ub[x] <= 0 ? 0 : Math.min(ub[x], m);
+                    }
+                    break;
+                case POW:
+                    powBounds(i, x, y);
+                    break;
+                case MIN:
+                case MAX:
+                    boolean min = types[i] == MIN;
+                    lb[i] = lb[x];
+                    ub[i] = ub[x];
+                    for (int k = s + 1; k < e; k++) {
+                        int j = children[k];
+                        lb[i] = min ? Math.min(lb[i], lb[j]) : Math.max(lb[i], lb[j]);
+                        ub[i] = min ? Math.min(ub[i], ub[j]) : Math.max(ub[i], ub[j]);
+                    }
+                    break;
+            }
+            if (lb[i] > ub[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extends the bounds of node <i>i</i> with the quotients of node <i>x</i> by values in [<i>c</i>, <i>d</i>],
+     * which does not contain 0. Truncated division is monotonic in both arguments on such interval.
+     */
+    private void quotients(int i, int x, long c, long d) {
+        long q1 = lb[x] / c, q2 = lb[x] / d, q3 = ub[x] / c, q4 = ub[x] / d;
+        lb[i] = Math.min(lb[i], Math.min(Math.min(q1, q2), Math.min(q3, q4)));
+        ub[i] = Math.max(ub[i], Math.max(Math.max(q1, q2), Math.max(q3, q4)));
+    }
+
+    /**
+     * Computes the bounds of node <i>i</i> = <i>x</i> ^ <i>y</i>.
+     */
+    private void powBounds(int i, int x, int y) {
+        if (lb[x] == ub[x] && lb[y] == ub[y]) {
+            lb[i] = ub[i] = pow(lb[x], lb[y]);
+        } else if (lb[y] == ub[y] && lb[y] >= 0) {
+            if (lb[y] == 0) {
+                lb[i] = ub[i] = 1;
+            } else if ((lb[y] & 1) == 1) {
+                lb[i] = pow(lb[x], lb[y]);
+                ub[i] = pow(ub[x], lb[y]);
+            } else {
+                long a = lb[x] >= 0 ? lb[x] : ub[x] <= 0 ? -ub[x] : 0;
+                lb[i] = pow(a, lb[y]);
+                ub[i] = pow(Math.max(Math.abs(lb[x]), Math.abs(ub[x])), lb[y]);
+            }
+        } else if (lb[x] >= 1 && lb[y] >= 0) {
+            lb[i] = pow(lb[x], lb[y]);
+            ub[i] = pow(ub[x], ub[y]);
+        } else {
+            lb[i] = Long.MIN_VALUE;
+            ub[i] = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Restricts the bounds of the root node to the values satisfying the relation.
+     *
+     * @return <i>true</i> if a variable has been modified
+     * @throws ContradictionException if no value satisfies the relation
+     */
+    private boolean restrictRoot() throws ContradictionException {
+        int r = tape.size - 1;
+        switch (tape.rel) {
+            case LT:
+                narrow(r, Long.MIN_VALUE, -1);
+                break;
+            case LE:
+                narrow(r, Long.MIN_VALUE, 0);
+                break;
+            case GE:
+                narrow(r, 0, Long.MAX_VALUE);
+                break;
+            case GT:
+                narrow(r, 1, Long.MAX_VALUE);
+                break;
+            case EQ:
+                narrow(r, 0, 0);
+                break;
+            case NE:
+                if (lb[r] == 0 && ub[r] == 0) {
+                    fails();
+                }
+                narrow(r, lb[r] == 0 ? 1 : lb[r], ub[r] == 0 ? -1 : ub[r]);
+                return removeLastValue(r);
+        }
+        return false;
+    }
+
+    /**
+     * When all the terms of the root node but one variable are fixed, removes from this variable
+     * the value which makes the root node equal to 0.
+     *
+     * @return <i>true</i> if the variable has been modified
+     */
+    private boolean removeLastValue(int r) throws ContradictionException {
+        int[] starts = tape.starts, children = tape.children;
+        long rest = tape.csts[r];
+        int last = -1;
+        for (int k = starts[r]; k < starts[r + 1]; k++) {
+            int j = children[k];
+            if (lb[j] == ub[j]) {
+                rest = add(rest, mul(tape.coeffs[k], lb[j]));
+            } else if (last == -1 && tape.types[j] == VAR) {
+                last = k;
+            } else {
+                return false;
+            }
+        }
+        if (last >= 0) {
+            long c = tape.coeffs[last];
+            if (rest % c == 0 && Math.abs(rest / c) <= Integer.MAX_VALUE) {
+                return vars[children[starts[children[last]]]].removeValue((int) (-rest / c), this);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Projects the bounds of each node onto its children, from the root to the leaves,
+     * and updates the bounds of the variables.
+     *
+     * @return <i>true</i> if a variable has been modified
+     * @throws ContradictionException if a node or a variable has an empty domain
+     */
+    private boolean backward() throws ContradictionException {
+        int[] types = tape.types, starts = tape.starts, children = tape.children;
+        boolean changed = false;
+        for (int i = tape.size - 1; i >= 0; i--) {
+            int s = starts[i], e = starts[i + 1];
+            int x = e > s ? children[s] : -1, y = e - s > 1 ? children[s + 1] : -1;
+            switch (types[i]) {
+                case VAR:
+                    changed |= vars[x].updateBounds(MathUtils.safeCast(lb[i]), MathUtils.safeCast(ub[i]), this);
+                    break;
+                case LIN:
+                    projectLinear(i, s, e);
+                    break;
+                case ABS:
+                    narrow(x, -ub[i], ub[i]);
+                    excludeAround(x, lb[i]);
+                    break;
+                case SQR:
+                    long q = sqrtFloor(ub[i]);
+                    narrow(x, -q, q);
+                    if (lb[i] > 0) {
+                        q = sqrtFloor(lb[i]);
+                        excludeAround(x, q * q == lb[i] ? q : q + 1);
+                    }
+                    break;
+                case MUL:
+                    projectProduct(x, i, y);
+                    projectProduct(y, i, x);
+                    break;
+                case DIV:
+                    excludeAround(y, 1);
+                    projectDividend(x, i, y);
+                    break;
+                case MOD:
+                    excludeAround(y, 1);
+                    if (lb[i] > 0) {
+                        narrow(x, lb[i], Long.MAX_VALUE);
+                        excludeAround(y, lb[i] + 1);
+                    } else if (ub[i] < 0) {
+                        narrow(x, Long.MIN_VALUE, ub[i]);
+                        excludeAround(y, -ub[i] + 1);
+                    }
+                    break;
+                case MIN:
+                case MAX:
+                    projectExtremum(i, s, e, types[i] == MIN);
+                    break;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Narrows the bounds of node <i>i</i> to [<i>l</i>, <i>u</i>].
+     *
+     * @throws ContradictionException if the domain of <i>i</i> becomes empty
+     */
+    private void narrow(int i, long l, long u) throws ContradictionException {
+        if (l > lb[i]) {
+            lb[i] = l;
+        }
+        if (u < ub[i]) {
+            ub[i] = u;
+        }
+        if (lb[i] > ub[i]) {
+            fails();
+        }
+    }
+
+    /**
+     * Removes the values in ]-<i>m</i>, <i>m</i>[ from the bounds of node <i>i</i>.
+     *
+     * @throws ContradictionException if the domain of <i>i</i> becomes empty
+     */
+    private void excludeAround(int i, long m) throws ContradictionException {
+        if (m > 0) {
+            if (lb[i] > -m) {
+                narrow(i, m, Long.MAX_VALUE);
+            } else if (ub[i] < m) {
+                narrow(i, Long.MIN_VALUE, -m);
+            }
+        }
+    }
+
+    /**
+     * Projects node <i>i</i> = csts[i] + sum(coeffs[k] * children[k]) onto its children.
+     */
+    private void projectLinear(int i, int s, int e) throws ContradictionException {
+        long l = tape.csts[i], u = l;
+        for (int k = s; k < e; k++) {
+            long c = tape.coeffs[k];
+            int j = tape.children[k];
+            long m = mul(c, c > 0 ? lb[j] : ub[j]), M = mul(c, c > 0 ? ub[j] : lb[j]);
+            if (saturated(m) || saturated(M)) {
+                return;
+            }
+            l = add(l, m);
+            u = add(u, M);
+        }
+        if (saturated(l) || saturated(u)) {
+            return;
+        }
+        for (int k = s; k < e; k++) {
+            long c = tape.coeffs[k];
+            int j = tape.children[k];
+            long m = mul(c, c > 0 ? lb[j] : ub[j]), M = mul(c, c > 0 ? ub[j] : lb[j]);
+            // c * x_j in [lb[i] - (u - M), ub[i] - (l - m)]
+            long lo = add(lb[i], -(u - M)), hi = add(ub[i], -(l - m));
+            if (saturated(lo) || saturated(hi)) {
+                continue;
+            }
+            if (c > 0) {
+                narrow(j, ceilDiv(lo, c), Math.floorDiv(hi, c));
+            } else {
+                narrow(j, ceilDiv(hi, c), Math.floorDiv(lo, c));
+            }
+        }
+    }
+
+    /**
+     * Projects node <i>z</i> = <i>x</i> * <i>y</i> onto <i>x</i>.
+     */
+    private void projectProduct(int x, int z, int y) throws ContradictionException {
+        if (lb[y] <= 0 && ub[y] >= 0 && lb[z] <= 0 && ub[z] >= 0 || saturated(lb[z]) || saturated(ub[z])) {
+            return;
+        }
+        long l = Long.MAX_VALUE, u = Long.MIN_VALUE;
+        if (ub[y] >= 1) {
+            long c = Math.max(lb[y], 1), d = ub[y];
+            l = Math.min(l, Math.min(ceilDiv(lb[z], c), ceilDiv(lb[z], d)));
+            u = Math.max(u, Math.max(Math.floorDiv(ub[z], c), Math.floorDiv(ub[z], d)));
+        }
+        if (lb[y] <= -1) {
+            long c = lb[y], d = Math.min(ub[y], -1);
+            l = Math.min(l, Math.min(ceilDiv(ub[z], c), ceilDiv(ub[z], d)));
+            u = Math.max(u, Math.max(Math.floorDiv(lb[z], c), Math.floorDiv(lb[z], d)));
+        }
+        narrow(x, l, u);
+    }
+
+    /**
+     * Projects node <i>z</i> = <i>x</i> / <i>y</i>, with truncated division, onto <i>x</i>.
+     */
+    private void projectDividend(int x, int z, int y) throws ContradictionException {
+        if (saturated(lb[z]) || saturated(ub[z])) {
+            return;
+        }
+        long l = Long.MAX_VALUE, u = Long.MIN_VALUE;
+        for (int sign = -1; sign <= 1; sign += 2) {
+            // y = sign * w with w in [c, d], c > 0, then x / w is in [zl, zu]
+            long c = sign > 0 ? Math.max(lb[y], 1) : Math.max(-ub[y], 1);
+            long d = sign > 0 ? ub[y] : -lb[y];
+            if (c > d) {
+                continue;
+            }
+            long zl = sign > 0 ? lb[z] : -ub[z], zu = sign > 0 ? ub[z] : -lb[z];
+            for (long w = c; ; w = d) {
+                l = Math.min(l, zl > 0 ? mul(zl, w) : add(mul(zl, w), 1 - w));
+                u = Math.max(u, zu < 0 ? mul(zu, w) : add(mul(zu, w), w - 1));
+                if (w == d) {
+                    break;
+                }
+            }
+        }
+        narrow(x, l, u);
+    }
+
+    /**
+     * Projects node <i>i</i>, the minimum (resp. maximum) of its children, onto them.
+     */
+    private void projectExtremum(int i, int s, int e, boolean min) throws ContradictionException {
+        int support = -1, nbSupports = 0;
+        for (int k = s; k < e; k++) {
+            int j = tape.children[k];
+            if (min) {
+                narrow(j, lb[i], Long.MAX_VALUE);
+            } else {
+                narrow(j, Long.MIN_VALUE, ub[i]);
+            }
+            if (min ? lb[j] <= ub[i] : ub[j] >= lb[i]) {
+                support = j;
+                nbSupports++;
+            }
+        }
+        if (nbSupports == 0) {
+            fails();
+        } else if (nbSupports == 1) {
+            if (min) {
+                narrow(support, Long.MIN_VALUE, ub[i]);
+            } else {
+                narrow(support, lb[i], Long.MAX_VALUE);
+            }
+        }
+    }
+
+    private static boolean saturated(long v) {
+        return v == Long.MIN_VALUE || v == Long.MAX_VALUE;
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+
+    private static long sqrtFloor(long v) {
+        long r = (long) Math.sqrt((double) v);
+        while (r > 0 && r > v / r) {
+            r--;
+        }
+        while (r + 1 <= v / (r + 1)) {
+            r++;
+        }
+        return r;
+    }
+
+    @Override
+    public String toString() {
+        return "PropExpression(\n" + tape.toString() + ")";
+    }
+}
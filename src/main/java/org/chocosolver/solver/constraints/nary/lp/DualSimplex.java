@@ -0,0 +1,425 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import java.util.Arrays;
+
+/**
+ * A bounded dual simplex, based on a dense tableau, which minimizes <i>c.x</i> subject to
+ * <i>rowLb &le; A.x &le; rowUb</i> and <i>colLb &le; x &le; colUb</i>.
+ * <br/>
+ * Each row <i>i</i> is associated with a logical variable <i>s_i = A_i.x</i>, bounded by <i>rowLb_i</i> and <i>rowUb_i</i>,
+ * so the problem is stated as <i>[A | -I].(x, s) = 0</i>.
+ * Structural variables have to be bounded.
+ * Starting from the logical basis, any basis is made dual feasible by placing each non-basic
+ * variable to the bound which matches the sign of its reduced cost.
+ * As a consequence, when bounds are modified (tightened or relaxed on backtrack),
+ * the current basis remains dual feasible and the next call to {@link #solve(int)} is warm-started from it.
+ * <br/>
+ * The tableau is periodically rebuilt from the original matrix to limit numerical drift.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class DualSimplex {
+
+    /**
+     * Outcome of {@link #solve(int)}
+     */
+    public enum Status {
+        /**
+         * An optimal solution has been found
+         */
+        OPTIMAL,
+        /**
+         * The problem has no solution
+         */
+        INFEASIBLE,
+        /**
+         * The iteration limit has been reached
+         */
+        LIMIT
+    }
+
+    private static final double EPS_PIVOT = 1e-9;
+    private static final double EPS_PRIMAL = 1e-7;
+    private static final double EPS_DUAL = 1e-9;
+
+    /**
+     * State of a non-basic variable at its lower bound
+     */
+    private static final int AT_LB = -1;
+    /**
+     * State of a non-basic variable at its upper bound
+     */
+    private static final int AT_UB = -2;
+
+    /**
+     * Number of pivots between two rebuilds of the tableau
+     */
+    private static final int REFACTOR = 64;
+
+    /**
+     * Number of rows
+     */
+    private final int m;
+    /**
+     * Number of structural variables
+     */
+    private final int n;
+    /**
+     * Original constraint matrix
+     */
+    private final double[][] a;
+    /**
+     * Costs, lower and upper bounds of structural and logical variables
+     */
+    private final double[] cost, lb, ub;
+    /**
+     * The tableau, B^-1.[A | -I]
+     */
+    private final double[][] t;
+    /**
+     * Reduced costs
+     */
+    private final double[] d;
+    /**
+     * Basic variable of each row
+     */
+    private final int[] basis;
+    /**
+     * For each variable, its row if it is basic, {@link #AT_LB} or {@link #AT_UB} otherwise
+     */
+    private final int[] state;
+    /**
+     * Current values of the variables
+     */
+    private final double[] x;
+    /**
+     * Number of pivots since the last rebuild of the tableau
+     */
+    private int pivots;
+
+    /**
+     * Creates a dual simplex.
+     *
+     * @param a     constraint matrix, <i>m</i> rows and <i>n</i> columns
+     * @param rowLb lower bound of each row, may be {@link Double#NEGATIVE_INFINITY}
+     * @param rowUb upper bound of each row, may be {@link Double#POSITIVE_INFINITY}
+     * @param colLb lower bound of each structural variable
+     * @param colUb upper bound of each structural variable
+     * @param c     cost of each structural variable
+     */
+    public DualSimplex(double[][] a, double[] rowLb, double[] rowUb, double[] colLb, double[] colUb, double[] c) {
+        this.m = a.length;
+        this.n = c.length;
+        this.a = a;
+        int nc = n + m;
+        this.cost = Arrays.copyOf(c, nc);
+        this.lb = new double[nc];
+        this.ub = new double[nc];
+        System.arraycopy(colLb, 0, lb, 0, n);
+        System.arraycopy(colUb, 0, ub, 0, n);
+        System.arraycopy(rowLb, 0, lb, n, m);
+        System.arraycopy(rowUb, 0, ub, n, m);
+        this.t = new double[m][nc];
+        this.d = new double[nc];
+        this.basis = new int[m];
+        this.state = new int[nc];
+        this.x = new double[nc];
+        reset();
+    }
+
+    /**
+     * Restores the logical basis
+     */
+    private void reset() {
+        for (int i = 0; i < m; i++) {
+            basis[i] = n + i;
+            state[n + i] = i;
+        }
+        for (int j = 0; j < n; j++) {
+            state[j] = cost[j] >= 0 ? AT_LB : AT_UB;
+        }
+        refactor();
+    }
+
+    /**
+     * Rebuilds the tableau and the reduced costs from the original matrix and the current basis.
+     * Falls back to the logical basis if the current one is numerically singular.
+     */
+    private void refactor() {
+        int nc = n + m;
+        for (int i = 0; i < m; i++) {
+            Arrays.fill(t[i], 0.);
+            System.arraycopy(a[i], 0, t[i], 0, n);
+            t[i][n + i] = -1.;
+        }
+        int[] cols = basis.clone();
+        boolean[] done = new boolean[m];
+        for (int col : cols) {
+            int r = -1;
+            double best = EPS_PIVOT;
+            for (int i = 0; i < m; i++) {
+                if (!done[i] && Math.abs(t[i][col]) > best) {
+                    best = Math.abs(t[i][col]);
+                    r = i;
+                }
+            }
+            if (r == -1) {
+                // singular basis
+                reset();
+                return;
+            }
+            done[r] = true;
+            basis[r] = col;
+            state[col] = r;
+            eliminate(r, col);
+        }
+        pivots = 0;
+        for (int j = 0; j < nc; j++) {
+            double dj = cost[j];
+            for (int i = 0; i < m; i++) {
+                dj -= cost[basis[i]] * t[i][j];
+            }
+            d[j] = state[j] >= 0 ? 0. : dj;
+        }
+        repair();
+    }
+
+    /**
+     * Restores dual feasibility by moving non-basic variables to the bound matching the sign of their reduced cost.
+     * Such a violation may be due to numerical drift, or to a variable which was fixed when pivoting.
+     * Falls back to the logical basis if the appropriate bound is infinite.
+     */
+    private void repair() {
+        for (int j = 0; j < n + m; j++) {
+            if (state[j] == AT_LB && d[j] < -EPS_DUAL) {
+                if (ub[j] < Double.POSITIVE_INFINITY) {
+                    state[j] = AT_UB;
+                } else {
+                    reset();
+                    return;
+                }
+            } else if (state[j] == AT_UB && d[j] > EPS_DUAL) {
+                if (lb[j] > Double.NEGATIVE_INFINITY) {
+                    state[j] = AT_LB;
+                } else {
+                    reset();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Divides row <i>r</i> by its entry in column <i>col</i> and eliminates this column from the other rows.
+     */
+    private void eliminate(int r, int col) {
+        double[] tr = t[r];
+        double piv = tr[col];
+        int nc = n + m;
+        for (int j = 0; j < nc; j++) {
+            tr[j] /= piv;
+        }
+        for (int i = 0; i < m; i++) {
+            if (i != r) {
+                double f = t[i][col];
+                if (f != 0.) {
+                    double[] ti = t[i];
+                    for (int j = 0; j < nc; j++) {
+                        ti[j] -= f * tr[j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets non-basic variables to their bounds and computes basic variables accordingly.
+     */
+    private void computePrimal() {
+        int nc = n + m;
+        for (int j = 0; j < nc; j++) {
+            if (state[j] == AT_LB) {
+                x[j] = lb[j];
+            } else if (state[j] == AT_UB) {
+                x[j] = ub[j];
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            double v = 0.;
+            double[] ti = t[i];
+            for (int j = 0; j < nc; j++) {
+                if (state[j] < 0 && x[j] != 0.) {
+                    v -= ti[j] * x[j];
+                }
+            }
+            x[basis[i]] = v;
+        }
+    }
+
+    /**
+     * @return the row of the most violated basic variable, or -1 if the current basis is primal feasible
+     */
+    private int selectLeaving() {
+        int r = -1;
+        double best = EPS_PRIMAL;
+        for (int i = 0; i < m; i++) {
+            int p = basis[i];
+            double v = Math.max(lb[p] - x[p], x[p] - ub[p]);
+            if (v > best) {
+                best = v;
+                r = i;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Dual ratio test.
+     *
+     * @param r        row of the leaving variable
+     * @param increase set to <i>true</i> if the leaving variable has to increase to its lower bound
+     * @return the entering variable, or -1 if the row proves infeasibility
+     */
+    private int selectEntering(int r, boolean increase) {
+        int q = -1;
+        double best = Double.POSITIVE_INFINITY;
+        double bestAlpha = 0.;
+        double[] tr = t[r];
+        int nc = n + m;
+        for (int j = 0; j < nc; j++) {
+            if (state[j] >= 0 || lb[j] == ub[j]) {
+                continue;
+            }
+            double alpha = tr[j];
+            // x_p moves by -alpha for one unit of x_j
+            boolean eligible;
+            if (state[j] == AT_LB) {
+                eligible = increase ? alpha < -EPS_PIVOT : alpha > EPS_PIVOT;
+            } else {
+                eligible = increase ? alpha > EPS_PIVOT : alpha < -EPS_PIVOT;
+            }
+            if (eligible) {
+                double ratio = Math.abs(d[j]) / Math.abs(alpha);
+                if (ratio < best || (ratio == best && Math.abs(alpha) > bestAlpha)) {
+                    best = ratio;
+                    bestAlpha = Math.abs(alpha);
+                    q = j;
+                }
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Solves the problem, starting from the current basis.
+     *
+     * @param maxIterations maximum number of pivots
+     * @return the status of the resolution
+     */
+    public Status solve(int maxIterations) {
+        repair();
+        computePrimal();
+        boolean fresh = false;
+        for (int it = 0; it < maxIterations; it++) {
+            int r = selectLeaving();
+            if (r == -1) {
+                return Status.OPTIMAL;
+            }
+            int p = basis[r];
+            boolean increase = x[p] < lb[p];
+            int q = selectEntering(r, increase);
+            if (q == -1) {
+                if (fresh || pivots == 0) {
+                    return Status.INFEASIBLE;
+                }
+                // make sure this is not due to numerical drift
+                refactor();
+                computePrimal();
+                fresh = true;
+                continue;
+            }
+            fresh = false;
+            double f = d[q];
+            eliminate(r, q);
+            double[] tr = t[r];
+            for (int j = 0; j < n + m; j++) {
+                d[j] -= f * tr[j];
+            }
+            d[q] = 0.;
+            basis[r] = q;
+            state[q] = r;
+            state[p] = increase ? AT_LB : AT_UB;
+            if (++pivots == REFACTOR) {
+                refactor();
+            }
+            computePrimal();
+        }
+        return Status.LIMIT;
+    }
+
+    /**
+     * Modifies the bounds of a structural variable.
+     * The current basis is kept and remains dual feasible.
+     *
+     * @param j     index of a structural variable
+     * @param lower new lower bound
+     * @param upper new upper bound
+     */
+    public void setBounds(int j, double lower, double upper) {
+        assert j < n;
+        lb[j] = lower;
+        ub[j] = upper;
+    }
+
+    /**
+     * @return the value of the objective function for the current solution
+     */
+    public double getObjective() {
+        double z = 0.;
+        for (int j = 0; j < n; j++) {
+            z += cost[j] * x[j];
+        }
+        return z;
+    }
+
+    /**
+     * @param j index of a structural variable
+     * @return the value of the variable in the current solution
+     */
+    public double getValue(int j) {
+        return x[j];
+    }
+
+    /**
+     * @param j index of a structural variable
+     * @return the reduced cost of the variable, 0 if the variable is basic
+     */
+    public double getReducedCost(int j) {
+        return d[j];
+    }
+
+    /**
+     * @param j index of a structural variable
+     * @return <i>true</i> if the variable is non-basic and at its lower bound
+     */
+    public boolean isAtLowerBound(int j) {
+        return state[j] == AT_LB;
+    }
+
+    /**
+     * @param j index of a structural variable
+     * @return <i>true</i> if the variable is non-basic and at its upper bound
+     */
+    public boolean isAtUpperBound(int j) {
+        return state[j] == AT_UB;
+    }
+}
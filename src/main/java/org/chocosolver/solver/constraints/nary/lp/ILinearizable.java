@@ -0,0 +1,26 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+/**
+ * Interface for propagators which are able to describe themselves as linear inequalities,
+ * in order to build a {@link LinearRelaxation} of a model.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public interface ILinearizable {
+
+    /**
+     * Adds to <i>relaxation</i> one or more linear rows implied by this propagator.
+     *
+     * @param relaxation the linear relaxation to complete
+     */
+    void linearize(LinearRelaxation relaxation);
+}
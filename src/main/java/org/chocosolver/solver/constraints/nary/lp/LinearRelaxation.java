@@ -0,0 +1,184 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.ReificationConstraint;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of linear rows <i>lb &le; sum(a_j.x_j) &le; ub</i> over integer variables,
+ * collected from {@link ILinearizable} propagators.
+ * <br/>
+ * Each variable is mapped to a column, duplicated variables in a row are merged.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class LinearRelaxation {
+
+    /**
+     * Variables, one per column
+     */
+    private final List<IntVar> columns = new ArrayList<>();
+    /**
+     * Maps a variable to its column
+     */
+    private final TObjectIntHashMap<IntVar> index = new TObjectIntHashMap<>(16, .5f, -1);
+    /**
+     * Rows, as sparse coefficients
+     */
+    private final List<TIntIntHashMap> rows = new ArrayList<>();
+    /**
+     * Lower and upper bounds of each row
+     */
+    private final List<double[]> bounds = new ArrayList<>();
+
+    /**
+     * Builds the linear relaxation of the posted and not reified constraints of <i>model</i>
+     * whose propagators are all {@link ILinearizable}.
+     *
+     * @param model a model
+     * @return the linear relaxation of <i>model</i>
+     */
+    public static LinearRelaxation of(Model model) {
+        LinearRelaxation relaxation = new LinearRelaxation();
+        for (Constraint c : model.getCstrs()) {
+            if (c.getStatus() == Constraint.Status.POSTED && !(c instanceof ReificationConstraint)) {
+                for (Propagator<?> p : c.getPropagators()) {
+                    if (p instanceof ILinearizable) {
+                        ((ILinearizable) p).linearize(relaxation);
+                    }
+                }
+            }
+        }
+        return relaxation;
+    }
+
+    /**
+     * @param var a variable
+     * @return the column of <i>var</i>, created if needed
+     */
+    public int column(IntVar var) {
+        int j = index.get(var);
+        if (j == -1) {
+            j = columns.size();
+            columns.add(var);
+            index.put(var, j);
+        }
+        return j;
+    }
+
+    /**
+     * Adds the row <i>sum(coeffs_i.vars_i) op rhs</i>.
+     * Strict inequalities are turned into large ones, {@link Operator#NQ} is ignored.
+     *
+     * @param vars   variables
+     * @param coeffs coefficients
+     * @param op     an operator among {@link Operator#EQ}, {@link Operator#LE}, {@link Operator#LT},
+     *               {@link Operator#GE}, {@link Operator#GT} and {@link Operator#NQ}
+     * @param rhs    the right-hand side
+     */
+    public void addRow(IntVar[] vars, int[] coeffs, Operator op, int rhs) {
+        double lb, ub;
+        switch (op) {
+            case EQ:
+                lb = ub = rhs;
+                break;
+            case LE:
+                lb = Double.NEGATIVE_INFINITY;
+                ub = rhs;
+                break;
+            case LT:
+                lb = Double.NEGATIVE_INFINITY;
+                ub = rhs - 1;
+                break;
+            case GE:
+                lb = rhs;
+                ub = Double.POSITIVE_INFINITY;
+                break;
+            case GT:
+                lb = rhs + 1;
+                ub = Double.POSITIVE_INFINITY;
+                break;
+            default:
+                return;
+        }
+        TIntIntHashMap row = new TIntIntHashMap();
+        for (int i = 0; i < vars.length; i++) {
+            if (coeffs[i] != 0) {
+                row.adjustOrPutValue(column(vars[i]), coeffs[i], coeffs[i]);
+            }
+        }
+        rows.add(row);
+        bounds.add(new double[]{lb, ub});
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int getNbColumns() {
+        return columns.size();
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getNbRows() {
+        return rows.size();
+    }
+
+    /**
+     * @param j a column
+     * @return the variable associated with column <i>j</i>
+     */
+    public IntVar getVariable(int j) {
+        return columns.get(j);
+    }
+
+    /**
+     * @return the constraint matrix, as a dense array
+     */
+    public double[][] getMatrix() {
+        int n = columns.size();
+        double[][] a = new double[rows.size()][n];
+        for (int i = 0; i < rows.size(); i++) {
+            double[] ai = a[i];
+            rows.get(i).forEachEntry((j, v) -> {
+                ai[j] = v;
+                return true;
+            });
+        }
+        return a;
+    }
+
+    /**
+     * @param i a row
+     * @return the lower bound of row <i>i</i>
+     */
+    public double getLowerBound(int i) {
+        return bounds.get(i)[0];
+    }
+
+    /**
+     * @param i a row
+     * @return the upper bound of row <i>i</i>
+     */
+    public double getUpperBound(int i) {
+        return bounds.get(i)[1];
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+/**
+ * A propagator which bounds an objective variable with the optimal value of the linear relaxation
+ * of a set of linear constraints, and which applies reduced-cost fixing on the other variables.
+ * <br/>
+ * The relaxation is solved with a {@link DualSimplex}, warm-started from the basis of the previous call:
+ * tightening (or relaxing on backtrack) the bounds of the variables keeps this basis dual feasible.
+ * <br/>
+ * When the iteration limit is reached, no filtering is done.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    /**
+     * Tolerance for rounding LP values
+     */
+    private static final double EPS = 1e-6;
+
+    /**
+     * Column of the objective variable
+     */
+    private final int obj;
+    /**
+     * Set to <i>true</i> for maximization
+     */
+    private final boolean maximize;
+    /**
+     * Constraint matrix and row bounds, for entailment
+     */
+    private final double[][] a;
+    private final double[] rowLb, rowUb;
+    /**
+     * The LP solver
+     */
+    private final DualSimplex simplex;
+    /**
+     * Maximum number of pivots per call
+     */
+    private final int maxIterations;
+
+    /**
+     * Creates a propagator which optimizes <i>objective</i> over <i>relaxation</i>.
+     *
+     * @param relaxation a linear relaxation
+     * @param objective  the objective variable
+     * @param maximize   set to <i>true</i> to maximize <i>objective</i>, <i>false</i> to minimize it
+     */
+    public PropLinearRelaxation(LinearRelaxation relaxation, IntVar objective, boolean maximize) {
+        super(columns(relaxation, objective), PropagatorPriority.VERY_SLOW, false);
+        this.obj = relaxation.column(objective);
+        this.maximize = maximize;
+        int n = vars.length;
+        int m = relaxation.getNbRows();
+        this.a = relaxation.getMatrix();
+        this.rowLb = new double[m];
+        this.rowUb = new double[m];
+        for (int i = 0; i < m; i++) {
+            rowLb[i] = relaxation.getLowerBound(i);
+            rowUb[i] = relaxation.getUpperBound(i);
+        }
+        double[] lb = new double[n];
+        double[] ub = new double[n];
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            lb[j] = vars[j].getLB();
+            ub[j] = vars[j].getUB();
+        }
+        c[obj] = maximize ? -1 : 1;
+        this.simplex = new DualSimplex(a, rowLb, rowUb, lb, ub, c);
+        this.maxIterations = 10 * (n + m) + 100;
+    }
+
+    private static IntVar[] columns(LinearRelaxation relaxation, IntVar objective) {
+        relaxation.column(objective);
+        IntVar[] vars = new IntVar[relaxation.getNbColumns()];
+        for (int j = 0; j < vars.length; j++) {
+            vars[j] = relaxation.getVariable(j);
+        }
+        return vars;
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        for (int j = 0; j < vars.length; j++) {
+            simplex.setBounds(j, vars[j].getLB(), vars[j].getUB());
+        }
+        DualSimplex.Status status = simplex.solve(maxIterations);
+        if (status == DualSimplex.Status.INFEASIBLE) {
+            fails();
+        } else if (status == DualSimplex.Status.LIMIT) {
+            return;
+        }
+        // z is the lower bound of the (minimized) cost
+        double z = simplex.getObjective();
+        double bound;
+        if (maximize) {
+            vars[obj].updateUpperBound(clamp(Math.floor(-z + EPS)), this);
+            bound = -vars[obj].getLB();
+        } else {
+            vars[obj].updateLowerBound(clamp(Math.ceil(z - EPS)), this);
+            bound = vars[obj].getUB();
+        }
+        // reduced-cost fixing
+        double gap = bound - z;
+        for (int j = 0; j < vars.length; j++) {
+            if (j == obj) {
+                continue;
+            }
+            double d = simplex.getReducedCost(j);
+            if (simplex.isAtLowerBound(j) && d > EPS) {
+                vars[j].updateUpperBound(clamp(vars[j].getLB() + Math.floor(gap / d + EPS)), this);
+            } else if (simplex.isAtUpperBound(j) && d < -EPS) {
+                vars[j].updateLowerBound(clamp(vars[j].getUB() - Math.floor(gap / -d + EPS)), this);
+            }
+        }
+    }
+
+    /**
+     * @return <i>v</i> cast into an int, restricted to the range of int values
+     */
+    private static int clamp(double v) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        for (int i = 0; i < a.length; i++) {
+            double s = 0;
+            for (int j = 0; j < vars.length; j++) {
+                s += a[i][j] * vars[j].getValue();
+            }
+            if (s < rowLb[i] - EPS || s > rowUb[i] + EPS) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+}
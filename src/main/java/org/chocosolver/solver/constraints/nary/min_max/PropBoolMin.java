@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -16,7 +17,12 @@ import org.chocosolver.util.ESat;
 import org.chocosolver.util.tools.ArrayUtils;
 
 /**
+ * A propagator for VAR = MIN(BOOLVARS), that is, VAR = AND(BOOLVARS).
  * <br/>
+ * Two uninstantiated variables, x1 and x2, are maintained.
+ * Once VAR is instantiated to 0, the constraint behaves like a clause:
+ * only x1 and x2 are watched, modifications of the other variables are ignored
+ * (see {@link Propagator#unwatch(int)}).
  *
  * @author Jean-Guillaume Fages
  * @since 15/12/2013
@@ -24,26 +30,26 @@ import org.chocosolver.util.tools.ArrayUtils;
 public class PropBoolMin extends Propagator<BoolVar> {
 
     private final int n;
-    private int x1, x2;
+    private final IStateInt x1, x2;
 
-    public PropBoolMin(BoolVar[] variables, BoolVar maxVar) {
-        super(ArrayUtils.append(variables, new BoolVar[]{maxVar}), PropagatorPriority.UNARY, true);
+    public PropBoolMin(BoolVar[] variables, BoolVar minVar) {
+        super(ArrayUtils.append(variables, new BoolVar[]{minVar}), PropagatorPriority.UNARY, true);
         n = variables.length;
-        x1 = -1;
-        x2 = -1;
+        x1 = model.getEnvironment().makeInt(-1);
+        x2 = model.getEnvironment().makeInt(-1);
         assert n > 0;
     }
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        x1 = -1;
-        x2 = -1;
+        int w1 = -1, w2 = -1;
         for (int i = 0; i < n; i++) {
+            watch(i);
             if (!vars[i].isInstantiated()) {
-                if (x1 == -1) {
-                    x1 = i;
-                } else if (x2 == -1) {
-                    x2 = i;
+                if (w1 == -1) {
+                    w1 = i;
+                } else if (w2 == -1) {
+                    w2 = i;
                 }
             } else if (vars[i].getValue() == 0) {
                 vars[n].instantiateTo(0, this);
@@ -53,43 +59,65 @@ public class PropBoolMin extends Propagator<BoolVar> {
                 }
             }
         }
+        x1.set(w1);
+        x2.set(w2);
         filter();
+        if (isActive() && vars[n].isInstantiatedTo(0)) {
+            clauseMode();
+        }
     }
 
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
         if (idxVarInProp == n) {
             filter();
+            if (isActive() && vars[n].isInstantiatedTo(0)) {
+                clauseMode();
+            }
         } else {
             if (vars[idxVarInProp].isInstantiatedTo(0)) {
                 vars[n].instantiateTo(0, this);
                 if (vars[n].isInstantiatedTo(0)) {
                     setPassive();
                 }
-            } else if (idxVarInProp == x1 || idxVarInProp == x2) {
-                if (idxVarInProp == x1) {
-                    x1 = x2;
+            } else if (idxVarInProp == x1.get() || idxVarInProp == x2.get()) {
+                if (idxVarInProp == x1.get()) {
+                    x1.set(x2.get());
                 }
-                x2 = -1;
+                int w1 = x1.get(), w2 = -1;
                 for (int i = 0; i < n; i++) {
-                    if (i != x1 && !vars[i].isInstantiated()) {
-                        x2 = i;
-                        break;
+                    if (i != w1) {
+                        if (vars[i].isInstantiatedTo(0)) {
+                            // may have been set while unwatched: supports the constraint
+                            vars[n].instantiateTo(0, this);
+                            setPassive();
+                            return;
+                        } else if (!vars[i].isInstantiated()) {
+                            w2 = i;
+                            break;
+                        }
                     }
                 }
+                x2.set(w2);
+                if (vars[n].isInstantiatedTo(0) && w2 > -1) {
+                    // clause mode: move the watch
+                    watch(w2);
+                    unwatch(idxVarInProp);
+                }
                 filter();
             }
         }
     }
 
     public void filter() throws ContradictionException {
-        if (x1 == -1) {
+        int w1 = x1.get(), w2 = x2.get();
+        if (w1 == -1) {
             vars[n].instantiateTo(1, this);
             if (vars[n].isInstantiatedTo(1)) {
                 setPassive();
             }
-        }else if (x2 == -1 && vars[n].isInstantiatedTo(0)) {
-            vars[x1].instantiateTo(0, this);
-            if (vars[x1].isInstantiatedTo(0)) {
+        }else if (w2 == -1 && vars[n].isInstantiatedTo(0)) {
+            vars[w1].instantiateTo(0, this);
+            if (vars[w1].isInstantiatedTo(0)) {
                 setPassive();
             }
         }else if (vars[n].isInstantiatedTo(1)) {
@@ -99,6 +127,26 @@ public class PropBoolMin extends Propagator<BoolVar> {
         }
     }
 
+    /**
+     * Once VAR is instantiated to 0, only the two candidates need to be watched,
+     * unless a variable is already instantiated to 0 (its event may not have been received yet),
+     * in which case the constraint is satisfied.
+     */
+    private void clauseMode() {
+        int w1 = x1.get(), w2 = x2.get();
+        for (int i = 0; i < n; i++) {
+            if (vars[i].isInstantiatedTo(0)) {
+                setPassive();
+                return;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (i != w1 && i != w2) {
+                unwatch(i);
+            }
+        }
+    }
+
     @Override
     public ESat isEntailed() {
         int lb = vars[n].getLB();
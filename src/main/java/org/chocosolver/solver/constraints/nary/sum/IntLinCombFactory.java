@@ -233,6 +233,12 @@ public class IntLinCombFactory {
                 //TODO: deal with clauses and reification
                 Model Model = VARS[0].getModel();
                 if (nbools == VARS.length) {
+                    if (b == VARS.length && (OPERATOR == Operator.GE || OPERATOR == Operator.LE)) {
+                        // at least k / at most k: only a few variables need to be watched
+                        return new SumConstraint("BoolSum", OPERATOR == Operator.GE ?
+                                new PropSumBoolWatch(Model.toBoolVar(tmpV), RESULT, 1) :
+                                new PropSumBoolWatch(Model.toBoolVar(tmpV), VARS.length - RESULT, 0));
+                    }
                     if (Model.getSettings().enableIncrementalityOnBoolSum(tmpV.length)) {
                         return new SumConstraint("BoolSum", new PropSumBoolIncr(Model.toBoolVar(tmpV), b, OPERATOR,
                                 Model.intVar(RESULT), 0));
@@ -9,6 +9,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -255,6 +256,11 @@ public class PropScalar extends PropSum {
         }
     }
 
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        relaxation.addRow(vars, c, o, b);
+    }
+
     @Override
     public ESat isEntailed() {
         int sumUB = 0, sumLB = 0, i = 0;
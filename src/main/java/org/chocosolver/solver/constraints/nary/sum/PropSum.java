@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.nary.sum;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.explanations.RuleStore;
 import org.chocosolver.solver.variables.IntVar;
@@ -28,7 +30,7 @@ import org.chocosolver.util.ESat;
  * @author Charles Prud'homme
  * @since 18/03/11
  */
-public class PropSum extends Propagator<IntVar> {
+public class PropSum extends Propagator<IntVar> implements ILinearizable {
 
     /**
      * The position of the last positive coefficient
@@ -381,6 +383,15 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        int[] coeffs = new int[l];
+        for (int i = 0; i < l; i++) {
+            coeffs[i] = i < pos ? 1 : -1;
+        }
+        relaxation.addRow(vars, coeffs, o, b);
+    }
+
     @Override
     public ESat isEntailed() {
         int sumUB = 0, sumLB = 0, i = 0;
@@ -0,0 +1,212 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.Arrays;
+
+/**
+ * A propagator which ensures that at least <i>k</i> boolean variables are equal to <i>v</i>.
+ * With <i>v</i> = 1, it models SUM(x_i) &ge; k (a clause when k = 1),
+ * with <i>v</i> = 0, it models SUM(x_i) &le; n - k.
+ * <br/>
+ * Filtering is based on <i>watched literals</i>: only k + 1 variables which can still be equal to <i>v</i>
+ * are watched, the modifications of the other ones are ignored.
+ * When a watched variable is set to 1 - <i>v</i>, a replacement is looked for among the unwatched variables.
+ * If none can be found, the k remaining watched variables are set to <i>v</i>.
+ * Watches are restored on backtrack (see {@link Propagator#watch(int)} and {@link Propagator#unwatch(int)}).
+ * <p>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PropSumBoolWatch extends Propagator<BoolVar> implements ILinearizable {
+
+    /**
+     * Number of variables
+     */
+    private final int n;
+
+    /**
+     * Minimum number of variables equal to {@link #v}
+     */
+    private final int k;
+
+    /**
+     * Expected value, 0 or 1
+     */
+    private final int v;
+
+    /**
+     * Position where to start looking for a replacement watch, for a circular scan.
+     */
+    private int start;
+
+    /**
+     * Creates a propagator which ensures that at least <i>k</i> variables among <i>variables</i>
+     * are equal to <i>v</i>.
+     *
+     * @param variables list of boolean variables
+     * @param k         minimum number of variables equal to <i>v</i>
+     * @param v         expected value, either 0 or 1
+     */
+    public PropSumBoolWatch(BoolVar[] variables, int k, int v) {
+        super(variables, PropagatorPriority.BINARY, true);
+        assert v == 0 || v == 1;
+        this.n = variables.length;
+        this.k = k;
+        this.v = v;
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        int sat = 0, cand = 0;
+        for (int i = 0; i < n; i++) {
+            if (vars[i].isInstantiatedTo(v)) {
+                sat++;
+                cand++;
+            } else if (!vars[i].isInstantiated()) {
+                cand++;
+            }
+        }
+        if (sat >= k) {
+            setPassive();
+        } else if (cand < k) {
+            fails();
+        } else if (cand == k) {
+            for (int i = 0; i < n; i++) {
+                if (!vars[i].isInstantiated()) {
+                    vars[i].instantiateTo(v, this);
+                }
+            }
+            setPassive();
+        } else {
+            // watch k + 1 candidates, those already equal to v first
+            int w = 0;
+            for (int i = 0; i < n; i++) {
+                if (w <= k && vars[i].isInstantiatedTo(v)) {
+                    watch(i);
+                    w++;
+                } else {
+                    unwatch(i);
+                }
+            }
+            for (int i = 0; i < n && w <= k; i++) {
+                if (!vars[i].isInstantiated()) {
+                    watch(i);
+                    w++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (isWatched(idxVarInProp) && !vars[idxVarInProp].isInstantiatedTo(v)) {
+            // look for a replacement among unwatched variables
+            for (int j = 0; j < n; j++) {
+                int i = (start + j) % n;
+                if (!isWatched(i) && !vars[i].isInstantiatedTo(1 - v)) {
+                    start = i + 1;
+                    watch(i);
+                    unwatch(idxVarInProp);
+                    return;
+                }
+            }
+            filter();
+        }
+    }
+
+    /**
+     * No more replacement is available: the candidates that are watched must all be equal to {@link #v}.
+     *
+     * @throws ContradictionException if less than {@link #k} candidates remain
+     */
+    private void filter() throws ContradictionException {
+        int cand = 0;
+        for (int i = 0; i < n; i++) {
+            if (isWatched(i) && !vars[i].isInstantiatedTo(1 - v)) {
+                cand++;
+            }
+        }
+        if (cand < k) {
+            fails();
+        } else if (cand == k) {
+            for (int i = 0; i < n; i++) {
+                if (isWatched(i) && !vars[i].isInstantiated()) {
+                    vars[i].instantiateTo(v, this);
+                }
+            }
+            setPassive();
+        }
+    }
+
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        int[] coeffs = new int[n];
+        Arrays.fill(coeffs, 1);
+        if (v == 1) {
+            relaxation.addRow(vars, coeffs, Operator.GE, k);
+        } else {
+            relaxation.addRow(vars, coeffs, Operator.LE, n - k);
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        int sat = 0, cand = 0;
+        for (int i = 0; i < n; i++) {
+            if (vars[i].isInstantiatedTo(v)) {
+                sat++;
+                cand++;
+            } else if (!vars[i].isInstantiated()) {
+                cand++;
+            }
+        }
+        if (sat >= k) {
+            return ESat.TRUE;
+        } else if (cand < k) {
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * @return a propagator which ensures the opposite of this one,
+     * that is, at least <i>n - k + 1</i> variables are equal to <i>1 - v</i>.
+     */
+    PropSumBoolWatch opposite() {
+        return new PropSumBoolWatch(vars.clone(), n - k + 1, 1 - v);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder(20);
+        st.append(v == 1 ? "" : "not(").append(vars[0].getName());
+        for (int i = 1; i < n; i++) {
+            st.append(v == 1 ? " + " : ") + not(").append(vars[i].getName());
+        }
+        st.append(v == 1 ? "" : ")").append(" >= ").append(k);
+        return st.toString();
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.symmetry;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.exception.SolverException;
+
+/**
+ * A symmetry of a problem, declared as a permutation of the literals <i>x<sub>i</sub> = v</i>
+ * over an array of variables, used to break symmetries during search
+ * (see {@link PropSymmetryBreaking}).
+ * The permutation has to map any solution of the problem to a solution (with the same cost, when optimizing).
+ * Variables out of the array are left unchanged.
+ * <p>
+ * A symmetry group is declared by some of its generators, for instance,
+ * {@link #interchangeableVariables(int...)} returns the transpositions of consecutive variables, which generate
+ * all the permutations of the variables.
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public interface ISymmetry {
+
+    /**
+     * @param var   index of a variable
+     * @param value a value
+     * @return the index of the variable of the image of <i>x<sub>var</sub> = value</i>
+     */
+    int imageVar(int var, int value);
+
+    /**
+     * @param var   index of a variable
+     * @param value a value
+     * @return the value of the image of <i>x<sub>var</sub> = value</i>
+     */
+    int imageValue(int var, int value);
+
+    /**
+     * @param perm a permutation of the variables: <i>x<sub>i</sub></i> is mapped to <i>x<sub>perm[i]</sub></i>
+     * @return a variable symmetry
+     * @throws SolverException if <i>perm</i> is not a permutation
+     */
+    static ISymmetry variablePermutation(int[] perm) {
+        int[] p = perm.clone();
+        boolean[] seen = new boolean[p.length];
+        for (int i : p) {
+            if (i < 0 || i >= p.length || seen[i]) {
+                throw new SolverException("Not a permutation of the variables");
+            }
+            seen[i] = true;
+        }
+        return new ISymmetry() {
+            @Override
+            public int imageVar(int var, int value) {
+                return var < p.length ? p[var] : var;
+            }
+
+            @Override
+            public int imageValue(int var, int value) {
+                return value;
+            }
+        };
+    }
+
+    /**
+     * @param values some values
+     * @param images their images, a permutation of <i>values</i>
+     * @return a value symmetry, applying to all the variables
+     * @throws SolverException if <i>images</i> is not a permutation of <i>values</i>
+     */
+    static ISymmetry valuePermutation(int[] values, int[] images) {
+        if (values.length != images.length) {
+            throw new SolverException("Values and images have different sizes");
+        }
+        TIntIntHashMap map = new TIntIntHashMap(values.length);
+        TIntIntHashMap check = new TIntIntHashMap(values.length);
+        for (int i = 0; i < values.length; i++) {
+            map.put(values[i], images[i]);
+            check.put(images[i], values[i]);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!map.containsKey(images[i]) || !check.containsKey(values[i])) {
+                throw new SolverException("Images are not a permutation of values");
+            }
+        }
+        return new ISymmetry() {
+            @Override
+            public int imageVar(int var, int value) {
+                return var;
+            }
+
+            @Override
+            public int imageValue(int var, int value) {
+                return map.containsKey(value) ? map.get(value) : value;
+            }
+        };
+    }
+
+    /**
+     * @param vars indices of interchangeable variables
+     * @return generators of all the permutations of <i>vars</i>: the transpositions of consecutive ones
+     */
+    static ISymmetry[] interchangeableVariables(int... vars) {
+        ISymmetry[] generators = new ISymmetry[Math.max(0, vars.length - 1)];
+        int n = 0;
+        for (int v : vars) {
+            n = Math.max(n, v + 1);
+        }
+        for (int i = 0; i < generators.length; i++) {
+            int[] perm = new int[n];
+            for (int j = 0; j < n; j++) {
+                perm[j] = j;
+            }
+            perm[vars[i]] = vars[i + 1];
+            perm[vars[i + 1]] = vars[i];
+            generators[i] = variablePermutation(perm);
+        }
+        return generators;
+    }
+
+    /**
+     * @param values interchangeable values
+     * @return generators of all the permutations of <i>values</i>: the transpositions of consecutive ones
+     */
+    static ISymmetry[] interchangeableValues(int... values) {
+        ISymmetry[] generators = new ISymmetry[Math.max(0, values.length - 1)];
+        for (int i = 0; i < generators.length; i++) {
+            generators[i] = valuePermutation(new int[]{values[i], values[i + 1]}, new int[]{values[i + 1], values[i]});
+        }
+        return generators;
+    }
+}
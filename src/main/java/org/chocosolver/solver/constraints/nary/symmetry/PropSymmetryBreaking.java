@@ -0,0 +1,297 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.symmetry;
+
+import gnu.trove.set.hash.TLongHashSet;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.IntMap;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * A propagator which breaks symmetries during search (SBDS), based on:
+ * "I. P. Gent, B. M. Smith, Symmetry Breaking in Constraint Programming, ECAI 2000".
+ * <p>
+ * When a decision <i>x = v</i>, taken under the positive decisions <i>A</i>, is refuted,
+ * the subtree <i>A &and; x = v</i> is known to be explored, and so is its image by any symmetry <i>g</i>.
+ * Then, for each generator <i>g</i>, the conditional nogood <i>g(A) &rArr; g(x &ne; v)</i> is stored
+ * until backtracking above the refutation: literals of <i>g(A)</i> already true are forgotten, and
+ * the nogood is dropped when one of them is false.
+ * When all the literals of a nogood are true, the value <i>g(v)</i> is removed from <i>g(x)</i>.
+ * When they are true on refutation, the generators are applied again to the removed literal,
+ * as in lightweight dynamic symmetry breaking (LDSB), so that, for instance, refuting a value removes all the
+ * interchangeable values not used yet.
+ * <p>
+ * Only the generators of the symmetry group are considered, not the whole group, so the symmetry breaking
+ * may be partial (but is always sound).
+ * Only integer decisions with the operator '=' are handled: a refutation under another kind of positive decision
+ * does not produce any nogood.
+ * <p>
+ * This propagator must also be plugged as a search monitor
+ * (see {@link org.chocosolver.solver.search.loop.monitors.ISearchMonitorFactory#setSymmetryBreakingDuringSearch}).
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PropSymmetryBreaking extends Propagator<IntVar> implements IMonitorDownBranch {
+
+    /**
+     * Generators of the symmetry group
+     */
+    private final ISymmetry[] generators;
+    /**
+     * Map between variable ID and its index in vars
+     */
+    private final IntMap v2i;
+    /**
+     * Number of stored nogoods
+     */
+    private final IStateInt nbNogoods;
+    /**
+     * Number of literals of the stored nogoods
+     */
+    private final IStateInt nbLiterals;
+    /**
+     * Literals of nogood i are in [ends[i - 1], ends[i]) in lvars and lvals
+     */
+    private int[] ends, lvars, lvals;
+    /**
+     * Literal to remove by each nogood
+     */
+    private int[] tvars, tvals;
+    /**
+     * Positive decisions of the path on vars, as variable index and value
+     */
+    private int[] pvars, pvals;
+    /**
+     * Set to <i>true</i> when a decision has just been refuted
+     */
+    private boolean refuted;
+
+    /**
+     * Creates a propagator which breaks symmetries during search
+     *
+     * @param vars       variables the symmetries apply to
+     * @param generators generators of the symmetry group
+     */
+    public PropSymmetryBreaking(IntVar[] vars, ISymmetry[] generators) {
+        super(vars, PropagatorPriority.LINEAR, false);
+        this.generators = generators.clone();
+        this.v2i = new IntMap(vars.length, -1);
+        for (int i = 0; i < vars.length; i++) {
+            v2i.put(vars[i].getId(), i);
+        }
+        this.nbNogoods = model.getEnvironment().makeInt(0);
+        this.nbLiterals = model.getEnvironment().makeInt(0);
+        this.ends = new int[16];
+        this.tvars = new int[16];
+        this.tvals = new int[16];
+        this.lvars = new int[64];
+        this.lvals = new int[64];
+        this.pvars = new int[16];
+        this.pvals = new int[16];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public void beforeDownBranch(boolean left) {
+        if (!left) {
+            refuted = true;
+            forcePropagationOnBacktrack();
+        }
+    }
+
+    @Override
+    public void afterDownBranch(boolean left) {
+        // if the refutation fails on application, it is not recorded
+        refuted = false;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (refuted) {
+            refuted = false;
+            recordRefutation();
+        }
+        boolean fixpoint;
+        do {
+            fixpoint = true;
+            int n = nbNogoods.get();
+            for (int i = 0; i < n; i++) {
+                if (vars[tvars[i]].contains(tvals[i]) && entailed(i)) {
+                    vars[tvars[i]].removeValue(tvals[i], this);
+                    fixpoint &= !vars[tvars[i]].isInstantiated();
+                }
+            }
+        } while (!fixpoint);
+    }
+
+    /**
+     * Stores the nogoods derived from the refutation of the last decision of the path.
+     * When the image of the premise by a generator is already true, the image of the refuted literal is removed
+     * at once, and is itself mapped by the generators, so that the orbit of the refuted literal under the
+     * symmetries which leave the path unchanged is removed.
+     */
+    private void recordRefutation() throws ContradictionException {
+        DecisionPath dp = model.getSolver().getDecisionPath();
+        int last = dp.size() - 1;
+        int x = literal(dp.getDecision(last), 0);
+        if (x < 0) {
+            return;
+        }
+        int v = pvals[0];
+        int np = 0;
+        for (int i = 1; i < last; i++) {
+            Decision d = dp.getDecision(i);
+            if (d.getArity() - d.triesLeft() == 1) {
+                // a positive decision
+                int y = literal(d, np);
+                if (y == -2) {
+                    return;
+                } else if (y >= 0) {
+                    // literals out of vars are left unchanged by the symmetries, and remain true below
+                    np++;
+                }
+            }
+        }
+        // each refuted literal and its premise: x, v, y1, w1, y2, w2, ...
+        int[] first = new int[2 + 2 * np];
+        first[0] = x;
+        first[1] = v;
+        for (int i = 0; i < np; i++) {
+            first[2 + 2 * i] = pvars[i];
+            first[3 + 2 * i] = pvals[i];
+        }
+        TLongHashSet removed = new TLongHashSet();
+        removed.add(key(x, v));
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(first);
+        int nl = nbLiterals.get();
+        int nn = nbNogoods.get();
+        while (!queue.isEmpty()) {
+            int[] lits = queue.poll();
+            for (ISymmetry g : generators) {
+                int tx = g.imageVar(lits[0], lits[1]);
+                int tv = g.imageValue(lits[0], lits[1]);
+                if (removed.contains(key(tx, tv)) || !vars[tx].contains(tv)) {
+                    continue;
+                }
+                int[] image = new int[lits.length];
+                image[0] = tx;
+                image[1] = tv;
+                int start = nl;
+                boolean satisfied = false;
+                for (int i = 2; i < lits.length && !satisfied; i += 2) {
+                    int y = image[i] = g.imageVar(lits[i], lits[i + 1]);
+                    int w = image[i + 1] = g.imageValue(lits[i], lits[i + 1]);
+                    if (!vars[y].contains(w)) {
+                        satisfied = true;
+                    } else if (!vars[y].isInstantiated()) {
+                        ensureLiterals(nl + 1);
+                        lvars[nl] = y;
+                        lvals[nl++] = w;
+                    }
+                }
+                if (satisfied) {
+                    nl = start;
+                } else if (nl == start) {
+                    vars[tx].removeValue(tv, this);
+                    removed.add(key(tx, tv));
+                    queue.add(image);
+                } else {
+                    ensureNogoods(nn + 1);
+                    ends[nn] = nl;
+                    tvars[nn] = tx;
+                    tvals[nn++] = tv;
+                }
+            }
+        }
+        nbLiterals.set(nl);
+        nbNogoods.set(nn);
+    }
+
+    private static long key(int var, int value) {
+        return ((long) var << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Stores the literal of <i>d</i> in position <i>p</i> of {@link #pvars} and {@link #pvals}.
+     *
+     * @return the index of its variable in vars, -1 if it is out of vars, -2 if <i>d</i> is not an '=' decision
+     */
+    private int literal(Decision d, int p) {
+        if (!(d instanceof IntDecision) || ((IntDecision) d).getDecOp() != DecisionOperatorFactory.makeIntEq()) {
+            return -2;
+        }
+        if (p >= pvars.length) {
+            pvars = Arrays.copyOf(pvars, p * 3 / 2 + 1);
+            pvals = Arrays.copyOf(pvals, p * 3 / 2 + 1);
+        }
+        pvars[p] = v2i.get(((IntDecision) d).getDecisionVariable().getId());
+        pvals[p] = ((IntDecision) d).getDecisionValue();
+        return pvars[p];
+    }
+
+    /**
+     * @return <i>true</i> if all the literals of nogood <i>i</i> are true
+     */
+    private boolean entailed(int i) {
+        for (int j = i == 0 ? 0 : ends[i - 1]; j < ends[i]; j++) {
+            if (!vars[lvars[j]].isInstantiatedTo(lvals[j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureNogoods(int size) {
+        if (size > ends.length) {
+            int ncapa = size * 3 / 2 + 1;
+            ends = Arrays.copyOf(ends, ncapa);
+            tvars = Arrays.copyOf(tvars, ncapa);
+            tvals = Arrays.copyOf(tvals, ncapa);
+        }
+    }
+
+    private void ensureLiterals(int size) {
+        if (size > lvars.length) {
+            int ncapa = size * 3 / 2 + 1;
+            lvars = Arrays.copyOf(lvars, ncapa);
+            lvals = Arrays.copyOf(lvals, ncapa);
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        int n = nbNogoods.get();
+        for (int i = 0; i < n; i++) {
+            if (vars[tvars[i]].isInstantiatedTo(tvals[i]) && entailed(i)) {
+                return ESat.FALSE;
+            }
+        }
+        return isCompletelyInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+    }
+}
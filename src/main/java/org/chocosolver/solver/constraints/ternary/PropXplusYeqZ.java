@@ -8,8 +8,11 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.lp.ILinearizable;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -24,7 +27,7 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUti
  * @author Charles Prud'homme
  * @since 03/02/2016.
  */
-public class PropXplusYeqZ extends Propagator<IntVar>{
+public class PropXplusYeqZ extends Propagator<IntVar> implements ILinearizable{
 
     /**
      * Position of X in {@link #vars}
@@ -115,6 +118,11 @@ public class PropXplusYeqZ extends Propagator<IntVar>{
         return change;
     }
 
+    @Override
+    public void linearize(LinearRelaxation relaxation) {
+        relaxation.addRow(vars, new int[]{1, 1, -1}, Operator.EQ, 0);
+    }
+
     @Override
     public ESat isEntailed() {
         if(isCompletelyInstantiated()){
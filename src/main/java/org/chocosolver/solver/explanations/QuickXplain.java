@@ -0,0 +1,263 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.explanations;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ReificationConstraint;
+import org.chocosolver.solver.constraints.nary.cnf.SatConstraint;
+import org.chocosolver.solver.constraints.nary.nogood.NogoodConstraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Extraction of a minimal unsatisfiable subset (MUS) of constraints from an infeasible model,
+ * based on QuickXplain (U. Junker, "QUICKXPLAIN: Preferred Explanations and Relaxations for
+ * Over-Constrained Problems", AAAI 2004).
+ * </p>
+ * <p>
+ * The candidate constraints, by default all the constraints posted in the model, are unposted and reified once
+ * for all. Then, each consistency check is a resolution under the assumption that a subset of the candidates
+ * holds (see {@link Solver#solveUnder(BoolVar...)}): the initial propagation is done once and what is learnt by
+ * a check remains valid for the next ones. The model is therefore dedicated to the extraction.
+ * </p>
+ * <p>
+ * Consistency checks can be run in parallel on clones of the model, that is, models built the same way:
+ * each check is run on every clone, the first one to conclude stopping the others.
+ * Clones may be configured differently (search strategy, restarts, ...), as with {@link org.chocosolver.solver.ParallelPortfolio}.
+ * </p>
+ * <p>
+ * The subset returned is minimal as long as no check is stopped by a stop criterion declared in a solver.
+ * A check which does not conclude is considered to be consistent.
+ * </p>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class QuickXplain {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * The models in which checks are made, the first one declares the candidates.
+     */
+    private final Model[] models;
+
+    /**
+     * The candidate constraints, in the first model.
+     */
+    private final Constraint[] candidates;
+
+    /**
+     * For each model, the literals reifying the candidates.
+     */
+    private final BoolVar[][] literals;
+
+    /**
+     * Set to <i>true</i> when a check concluded, to stop the other models.
+     */
+    private final AtomicBoolean concluded = new AtomicBoolean(false);
+
+    /**
+     * Number of consistency checks made.
+     */
+    private int nbChecks;
+
+    /**
+     * Creates a MUS extractor over the constraints <i>candidates</i> of <i>model</i>.
+     * The other constraints of <i>model</i> are considered as hard ones.
+     *
+     * @param model      an infeasible model
+     * @param candidates posted constraints in which the MUS is looked for,
+     *                   if empty, all posted constraints except reified ones and SAT-based ones
+     */
+    public QuickXplain(Model model, Constraint... candidates) {
+        this(new Model[]{model}, candidates);
+    }
+
+    /**
+     * Creates a MUS extractor over the constraints <i>candidates</i> of <i>models[0]</i>.
+     * The other models are clones of the first one: they have to declare the same constraints, in the same order.
+     *
+     * @param models     an infeasible model and, optionally, clones of it in which checks are run in parallel
+     * @param candidates posted constraints of <i>models[0]</i> in which the MUS is looked for,
+     *                   if empty, all posted constraints except reified ones and SAT-based ones
+     * @throws SolverException if a candidate is not posted or if a clone does not declare as many constraints
+     */
+    public QuickXplain(Model[] models, Constraint... candidates) {
+        this.models = models.clone();
+        Constraint[] cstrs = models[0].getCstrs();
+        if (candidates.length == 0) {
+            List<Constraint> list = new ArrayList<>();
+            for (Constraint c : cstrs) {
+                if (!(c instanceof ReificationConstraint || c instanceof SatConstraint || c instanceof NogoodConstraint)) {
+                    list.add(c);
+                }
+            }
+            candidates = list.toArray(new Constraint[list.size()]);
+        }
+        this.candidates = candidates.clone();
+        int[] positions = new int[candidates.length];
+        List<Constraint> order = Arrays.asList(cstrs);
+        for (int i = 0; i < candidates.length; i++) {
+            positions[i] = order.indexOf(candidates[i]);
+            if (positions[i] < 0) {
+                throw new SolverException("QuickXplain: " + candidates[i] + " is not posted");
+            }
+        }
+        this.literals = new BoolVar[models.length][candidates.length];
+        for (int m = 0; m < models.length; m++) {
+            Constraint[] mcstrs = models[m].getCstrs();
+            if (mcstrs.length != cstrs.length) {
+                throw new SolverException("QuickXplain: " + models[m].getName() + " is not a clone of " + models[0].getName());
+            }
+            Solver solver = models[m].getSolver();
+            solver.reset();
+            Constraint[] relaxable = new Constraint[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                relaxable[i] = mcstrs[positions[i]];
+            }
+            models[m].unpost(relaxable);
+            for (int i = 0; i < candidates.length; i++) {
+                literals[m][i] = relaxable[i].reify();
+            }
+            if (models.length > 1) {
+                solver.addStopCriterion(concluded::get);
+            }
+        }
+    }
+
+    /**
+     * Looks for a minimal subset of the candidates which is unsatisfiable.
+     * An empty subset means that the hard constraints are unsatisfiable on their own.
+     *
+     * @return a minimal unsatisfiable subset of the candidates, or <i>null</i> if the candidates are satisfiable
+     */
+    public List<Constraint> findMUS() {
+        nbChecks = 0;
+        ForkJoinPool pool = models.length > 1 ? new ForkJoinPool(models.length) : null;
+        try {
+            int[] all = new int[candidates.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            if (isConsistent(all, pool)) {
+                return null;
+            }
+            List<Constraint> mus = new ArrayList<>();
+            if (!isConsistent(EMPTY, pool)) {
+                return mus;
+            }
+            for (int i : quickXplain(EMPTY, false, all, pool)) {
+                mus.add(candidates[i]);
+            }
+            return mus;
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * @return the number of consistency checks made by the last call to {@link #findMUS()}
+     */
+    public int getNbChecks() {
+        return nbChecks;
+    }
+
+    /**
+     * QuickXplain recursion: returns a minimal subset of <i>c</i> which is unsatisfiable with <i>background</i>,
+     * knowing that <i>background</i> and <i>c</i> are unsatisfiable together.
+     *
+     * @param background candidates assumed to hold
+     * @param delta      <i>true</i> if the last candidates added to <i>background</i> may make it unsatisfiable
+     * @param c          candidates to explore
+     * @param pool       pool in which checks are run, null for sequential checks
+     * @return a minimal subset of <i>c</i>
+     */
+    private int[] quickXplain(int[] background, boolean delta, int[] c, ForkJoinPool pool) {
+        if (delta && !isConsistent(background, pool)) {
+            return EMPTY;
+        }
+        if (c.length == 1) {
+            return c;
+        }
+        int k = c.length / 2;
+        int[] c1 = Arrays.copyOfRange(c, 0, k);
+        int[] c2 = Arrays.copyOfRange(c, k, c.length);
+        int[] d2 = quickXplain(concat(background, c1), true, c2, pool);
+        int[] d1 = quickXplain(concat(background, d2), d2.length > 0, c1, pool);
+        return concat(d1, d2);
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
+    /**
+     * @param subset candidates assumed to hold
+     * @param pool   pool in which checks are run, null for sequential checks
+     * @return <i>false</i> if the candidates in <i>subset</i> are proven to be unsatisfiable together
+     */
+    private boolean isConsistent(int[] subset, ForkJoinPool pool) {
+        nbChecks++;
+        if (pool == null) {
+            return check(0, subset) != ESat.FALSE;
+        }
+        concluded.set(false);
+        AtomicReference<ESat> answer = new AtomicReference<>(ESat.UNDEFINED);
+        try {
+            pool.submit(() -> IntStream.range(0, models.length).parallel().forEach(m -> {
+                ESat res = check(m, subset);
+                if (res != ESat.UNDEFINED && answer.compareAndSet(ESat.UNDEFINED, res)) {
+                    concluded.set(true);
+                }
+            })).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SolverException("QuickXplain: a consistency check failed\n" + e.getMessage());
+        } finally {
+            concluded.set(false);
+        }
+        return answer.get() != ESat.FALSE;
+    }
+
+    /**
+     * @param m      index of the model in which the check is made
+     * @param subset candidates assumed to hold
+     * @return {@link ESat#TRUE} if a solution is found, {@link ESat#FALSE} if there is none,
+     * {@link ESat#UNDEFINED} if the check has been stopped
+     */
+    private ESat check(int m, int[] subset) {
+        BoolVar[] lits = new BoolVar[subset.length];
+        for (int i = 0; i < subset.length; i++) {
+            lits[i] = literals[m][subset[i]];
+        }
+        Solver solver = models[m].getSolver();
+        if (solver.solveUnder(lits)) {
+            return ESat.TRUE;
+        }
+        return solver.getMeasures().getSearchState() == SearchState.TERMINATED ? ESat.FALSE : ESat.UNDEFINED;
+    }
+}
@@ -228,6 +228,13 @@ public interface ArExpression {
     }
 
 
+    /**
+     * @return the operator of this expression, or <i>null</i> if this expression is a leaf
+     */
+    default Operator getOperator(){
+        return null;
+    }
+
     /**
      * @return the child of this expression, or null if thid
      */
@@ -69,6 +69,11 @@ public class BiArExpression implements ArExpression {
         return model;
     }
 
+    @Override
+    public Operator getOperator() {
+        return op;
+    }
+
     @Override
     public IntVar intVar() {
         if (me == null) {
@@ -63,6 +63,11 @@ public class NaArExpression implements ArExpression {
         return model;
     }
 
+    @Override
+    public Operator getOperator() {
+        return op;
+    }
+
     @Override
     public IntVar intVar() {
         if (me == null) {
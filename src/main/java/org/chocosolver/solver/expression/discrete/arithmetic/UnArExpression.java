@@ -61,6 +61,11 @@ public class UnArExpression implements ArExpression {
         return model;
     }
 
+    @Override
+    public Operator getOperator() {
+        return op;
+    }
+
     @Override
     public ArExpression[] getExpressionChild() {
         return new ArExpression[]{e};
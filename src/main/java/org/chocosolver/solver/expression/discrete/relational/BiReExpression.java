@@ -12,15 +12,12 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
+import org.chocosolver.solver.constraints.nary.expression.ExpressionTape;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.variables.IntVar;
 
-import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Binary relational expression
@@ -83,29 +80,18 @@ public class BiReExpression implements ReExpression {
 
     @Override
     public Constraint extension() {
-        HashSet<IntVar> avars = new LinkedHashSet<>();
-        extractVar(avars, e1);
-        extractVar(avars, e2);
-        IntVar[] uvars = avars.stream().sorted().toArray(IntVar[]::new);
-        Map<IntVar, Integer> map = IntStream.range(0, uvars.length).boxed().collect(Collectors.toMap(i -> uvars[i], i -> i));
-        Tuples tuples = TuplesFactory.generateTuples(values -> eval(values, map), true, uvars);
-//        System.out.printf("%d -> %d\n", VariableUtils.domainCardinality(uvars), tuples.nbTuples());
+        ExpressionTape tape = ExpressionTape.compile(op, e1, e2);
+        IntVar[] uvars = tape.getVars();
+        if (uvars.length == 0) {
+            return tape.toConstraint(e1.getModel());
+        }
+        Tuples tuples = TuplesFactory.generateTuples(tape::eval, true, uvars);
         return e1.getModel().table(uvars, tuples);
     }
 
-    /**
-     * Extract the variables from this expression
-     * @param variables set of variables
-     * @param ae expression to extract variables from
-     */
-    private static void extractVar(HashSet<IntVar> variables, ArExpression ae) {
-        if (ae.isExpressionLeaf()) {
-            variables.add((IntVar) ae);
-        } else {
-            for (ArExpression e : ae.getExpressionChild()) {
-                extractVar(variables, e);
-            }
-        }
+    @Override
+    public Constraint compile() {
+        return ExpressionTape.compile(op, e1, e2).toConstraint(e1.getModel());
     }
 
     @Override
@@ -104,5 +104,12 @@ public interface ReExpression {
      */
     Constraint extension();
 
+    /**
+     * @return the constraint representing the expression, compiled without intermediate variables:
+     * either a SCALAR constraint, if the expression is linear, or a single propagator
+     * which filters the whole expression (see {@link org.chocosolver.solver.constraints.nary.expression.PropExpression})
+     */
+    Constraint compile();
+
     boolean eval(int[] values, Map<IntVar, Integer> map);
 }
@@ -0,0 +1,64 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.features;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import static org.chocosolver.solver.features.WorkerConfiguration.*;
+
+/**
+ * An algorithm selector which ignores the features of the model:
+ * the i<sup>th</sup> worker is given the i<sup>th</sup> configuration, the last configuration being
+ * given to the remaining workers.
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public class FixedSelector implements IAlgorithmSelector {
+
+    /**
+     * Configurations, in order
+     */
+    private final IWorkerConfiguration[] configurations;
+
+    /**
+     * Creates the default selector of {@link org.chocosolver.solver.ParallelPortfolio}.
+     */
+    public FixedSelector() {
+        this(DEFAULT, LAST_CONFLICT, CONFLICT_ORDERING, INPUT_ORDER_LNS, LDS_CONFLICT_ORDERING,
+                CBJ_LAST_CONFLICT, RANDOM_LNS);
+    }
+
+    /**
+     * Creates a selector which gives the i<sup>th</sup> configuration to the i<sup>th</sup> worker.
+     *
+     * @param configurations configurations, at least one
+     */
+    public FixedSelector(IWorkerConfiguration... configurations) {
+        if (configurations.length == 0) {
+            throw new SolverException("At least one configuration is expected");
+        }
+        this.configurations = configurations.clone();
+    }
+
+    @Override
+    public Attribute[] getAttributes() {
+        return new Attribute[0];
+    }
+
+    @Override
+    public IWorkerConfiguration[] select(IFeatures features, int nbWorkers) {
+        IWorkerConfiguration[] selected = new IWorkerConfiguration[nbWorkers];
+        for (int i = 0; i < nbWorkers; i++) {
+            selected[i] = configurations[Math.min(i, configurations.length - 1)];
+        }
+        return selected;
+    }
+}
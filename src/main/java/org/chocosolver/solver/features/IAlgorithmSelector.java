@@ -0,0 +1,32 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.features;
+
+/**
+ * Selects, from the features of a model, the configuration of each worker of a
+ * {@link org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public interface IAlgorithmSelector {
+
+    /**
+     * @return the attributes to evaluate on the model before calling {@link #select(IFeatures, int)}
+     */
+    Attribute[] getAttributes();
+
+    /**
+     * @param features  features of the model, evaluated over {@link #getAttributes()}
+     * @param nbWorkers number of workers of the portfolio
+     * @return the configuration of each worker, an array of size <i>nbWorkers</i>
+     */
+    IWorkerConfiguration[] select(IFeatures features, int nbWorkers);
+}
@@ -0,0 +1,35 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.features;
+
+import org.chocosolver.solver.Model;
+
+/**
+ * A way to solve a model (search strategy, restart policy, propagation engine, ...),
+ * applied to a worker of a {@link org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public interface IWorkerConfiguration {
+
+    /**
+     * @return the name of the configuration, as referenced by an {@link IAlgorithmSelector}
+     */
+    String name();
+
+    /**
+     * Configures the solver of <i>worker</i>, before its first resolution.
+     *
+     * @param worker   the model to configure
+     * @param workerID index of the worker in the portfolio, which can be used as a seed
+     */
+    void configure(Model worker, int workerID);
+}
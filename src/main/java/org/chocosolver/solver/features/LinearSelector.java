@@ -0,0 +1,161 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.features;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * An algorithm selector based on a linear model, typically trained offline:
+ * the score of a configuration is <i>bias + w<sub>1</sub>.a<sub>1</sub> + ... + w<sub>k</sub>.a<sub>k</sub></i>,
+ * where <i>a<sub>1</sub>, ..., a<sub>k</sub></i> are the values of the attributes of the model.
+ * Workers are given the configurations by decreasing score, cycling when there are more workers than
+ * configurations (this only makes sense with randomized configurations, like {@link WorkerConfiguration#RANDOM_LNS}).
+ * <p>
+ * Weights can be set with {@link #add(IWorkerConfiguration, double, double...)}, or read with {@link #read(Reader)}
+ * from a text format where empty lines and lines starting with '#' are ignored,
+ * the first line lists the attributes and each other line is made of the name of a {@link WorkerConfiguration},
+ * the bias and the weights:
+ * <pre>
+ * # attributes
+ * NV NC NMVPC
+ * LAST_CONFLICT 0.5 0.001 -0.002 0.3
+ * ACTIVITY_BASED 0.1 0.0 0.004 -1.2
+ * </pre>
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public class LinearSelector implements IAlgorithmSelector {
+
+    /**
+     * Attributes the weights apply to
+     */
+    private final Attribute[] attributes;
+    /**
+     * Candidate configurations
+     */
+    private final List<IWorkerConfiguration> configurations;
+    /**
+     * For each candidate configuration, its bias followed by its weights
+     */
+    private final List<double[]> weights;
+
+    /**
+     * Creates a selector without any candidate configuration
+     *
+     * @param attributes attributes the weights apply to
+     */
+    public LinearSelector(Attribute... attributes) {
+        this.attributes = attributes.clone();
+        this.configurations = new ArrayList<>();
+        this.weights = new ArrayList<>();
+    }
+
+    /**
+     * Adds a candidate configuration
+     *
+     * @param configuration a configuration
+     * @param bias          constant term of its score
+     * @param weights       one weight per attribute
+     * @return this
+     * @throws SolverException if the number of weights does not match the number of attributes
+     */
+    public LinearSelector add(IWorkerConfiguration configuration, double bias, double... weights) {
+        if (weights.length != attributes.length) {
+            throw new SolverException("Expected " + attributes.length + " weights for " + configuration.name() +
+                    ", found " + weights.length);
+        }
+        double[] w = new double[weights.length + 1];
+        w[0] = bias;
+        System.arraycopy(weights, 0, w, 1, weights.length);
+        this.configurations.add(configuration);
+        this.weights.add(w);
+        return this;
+    }
+
+    /**
+     * @param features features of a model
+     * @param configuration index of a candidate configuration
+     * @return the score of the configuration
+     */
+    public double score(IFeatures features, int configuration) {
+        double[] w = weights.get(configuration);
+        double s = w[0];
+        for (int i = 0; i < attributes.length; i++) {
+            s += w[i + 1] * features.getValue(attributes[i]);
+        }
+        return s;
+    }
+
+    @Override
+    public Attribute[] getAttributes() {
+        return attributes.clone();
+    }
+
+    @Override
+    public IWorkerConfiguration[] select(IFeatures features, int nbWorkers) {
+        if (configurations.isEmpty()) {
+            throw new SolverException("No configuration declared in the algorithm selector");
+        }
+        double[] scores = IntStream.range(0, configurations.size()).mapToDouble(i -> score(features, i)).toArray();
+        // stable sort: ties are broken by declaration order
+        Integer[] ranks = IntStream.range(0, configurations.size()).boxed().toArray(Integer[]::new);
+        Arrays.sort(ranks, Comparator.comparingDouble(i -> -scores[i]));
+        IWorkerConfiguration[] selected = new IWorkerConfiguration[nbWorkers];
+        for (int i = 0; i < nbWorkers; i++) {
+            selected[i] = configurations.get(ranks[i % ranks.length]);
+        }
+        return selected;
+    }
+
+    /**
+     * Reads a linear model.
+     *
+     * @param reader where the model is read, see format above
+     * @return a selector
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the model is not well-formed
+     */
+    public static LinearSelector read(Reader reader) throws IOException {
+        BufferedReader br = new BufferedReader(reader);
+        LinearSelector selector = null;
+        String line;
+        while ((line = br.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            try {
+                if (selector == null) {
+                    selector = new LinearSelector(Arrays.stream(tokens).map(Attribute::valueOf).toArray(Attribute[]::new));
+                } else {
+                    double[] w = Arrays.stream(tokens, 2, tokens.length).mapToDouble(Double::parseDouble).toArray();
+                    selector.add(WorkerConfiguration.valueOf(tokens[0]), Double.parseDouble(tokens[1]), w);
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new SolverException("Malformed line in the algorithm selection model: \"" + line + "\"");
+            }
+        }
+        if (selector == null) {
+            throw new SolverException("Empty algorithm selection model");
+        }
+        return selector;
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.features;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.propagation.PropagationEngineFactory;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+
+import static org.chocosolver.solver.search.strategy.Search.*;
+
+/**
+ * Built-in configurations of the workers of a {@link org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Each configuration branches on the variables of the declared search strategy, if any, on all
+ * the variables of the model otherwise.
+ * The search strategy is then completed with default ones on set and real variables.
+ * <p>
+ * Project: choco-solver.
+ * @author agent
+ * @since 19/10/2026
+ */
+public enum WorkerConfiguration implements IWorkerConfiguration {
+
+    /**
+     * Original search strategy (custom or default)
+     */
+    DEFAULT {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+        }
+    },
+
+    /**
+     * Custom + LC (or default + LC)
+     */
+    LAST_CONFLICT {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("LastConflict")) {
+                solver.setSearch(lastConflict(solver.getSearch()));
+            } else {
+                solver.setSearch(lastConflict(intVarSearch(ivars)));
+                geometricalRestarts(solver, ivars);
+            }
+        }
+    },
+
+    /**
+     * Custom + COS (or default + COS)
+     */
+    CONFLICT_ORDERING {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("ConflictOrderingSearch")) {
+                solver.setSearch(conflictOrderingSearch(solver.getSearch()));
+            } else {
+                solver.setSearch(conflictOrderingSearch(intVarSearch(ivars)));
+                geometricalRestarts(solver, ivars);
+            }
+        }
+    },
+
+    /**
+     * Default + LC (or input order if the declared search is already the default one) + LNS if optimization,
+     * nogoods from restarts otherwise
+     */
+    INPUT_ORDER_LNS {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            if (customSearch) {
+                solver.setSearch(lastConflict(intVarSearch(ivars)));
+                geometricalRestarts(solver, ivars);
+            } else {
+                solver.setSearch(inputOrderLBSearch(ivars));
+            }
+            if (solver.getModel().getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+                solver.setLNS(INeighborFactory.blackBox(ivars), new FailCounter(solver.getModel(), 1000));
+            } else {
+                solver.setNoGoodRecordingFromRestarts();
+            }
+        }
+    },
+
+    /**
+     * Custom + LDS(+infty) + COS (or default + LDS(+infty) + COS)
+     */
+    LDS_CONFLICT_ORDERING {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            solver.setLDS(Integer.MAX_VALUE);
+            if (customSearch && !solver.getSearch().getClass().getSimpleName().contains("ConflictOrderingSearch")) {
+                solver.setSearch(conflictOrderingSearch(solver.getSearch()));
+            } else {
+                solver.setSearch(conflictOrderingSearch(intVarSearch(ivars)));
+                geometricalRestarts(solver, ivars);
+            }
+        }
+    },
+
+    /**
+     * Custom + CBJ + LC (or default + CBJ + LC)
+     */
+    CBJ_LAST_CONFLICT {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            solver.setCBJLearning(false, false);
+            LAST_CONFLICT.configure(solver, customSearch, ivars, workerID);
+        }
+    },
+
+    /**
+     * Random search (seeded with the worker index) + LC + LNS if optimization
+     */
+    RANDOM_LNS {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            solver.setSearch(lastConflict(randomSearch(ivars, workerID)));
+            if (solver.getModel().getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+                solver.setLNS(INeighborFactory.blackBox(ivars), new FailCounter(solver.getModel(), 1000));
+            }
+        }
+    },
+
+    /**
+     * DomOverWDeg + LC, with Luby restarts
+     */
+    DOM_OVER_WDEG_LUBY {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            solver.setSearch(lastConflict(domOverWDegSearch(ivars)));
+            solver.setLubyRestart(100, new FailCounter(solver.getModel(), 100), 1000);
+        }
+    },
+
+    /**
+     * Activity-based search, which manages its own restarts
+     */
+    ACTIVITY_BASED {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            solver.setSearch(activityBasedSearch(ivars));
+        }
+    },
+
+    /**
+     * Same as {@link #LAST_CONFLICT}, with an {@link PropagationEngineFactory#ADAPTIVE} propagation engine
+     */
+    LAST_CONFLICT_ADAPTIVE_ENGINE {
+        @Override
+        void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID) {
+            solver.setEngine(PropagationEngineFactory.ADAPTIVE.make(solver.getModel()));
+            LAST_CONFLICT.configure(solver, customSearch, ivars, workerID);
+        }
+    };
+
+    /**
+     * Sets the search of <i>solver</i>
+     *
+     * @param solver       solver to configure
+     * @param customSearch <i>true</i> if a search strategy was declared on <i>solver</i>
+     * @param ivars        integer decision variables
+     * @param workerID     index of the worker in the portfolio
+     */
+    abstract void configure(Solver solver, boolean customSearch, IntVar[] ivars, int workerID);
+
+    @Override
+    public void configure(Model worker, int workerID) {
+        Solver solver = worker.getSolver();
+        // compute decision variables
+        Variable[] varsX;
+        boolean customSearch = false;
+        if (solver.getSearch() != null && solver.getSearch().getVariables().length > 0) {
+            varsX = solver.getSearch().getVariables();
+            customSearch = true;
+        } else {
+            varsX = worker.getVars();
+        }
+        IntVar[] ivars = new IntVar[varsX.length];
+        SetVar[] svars = new SetVar[varsX.length];
+        RealVar[] rvars = new RealVar[varsX.length];
+        int ki = 0, ks = 0, kr = 0;
+        for (Variable aVarsX : varsX) {
+            if ((aVarsX.getTypeAndKind() & Variable.INT) > 0) {
+                ivars[ki++] = (IntVar) aVarsX;
+            } else if ((aVarsX.getTypeAndKind() & Variable.SET) > 0) {
+                svars[ks++] = (SetVar) aVarsX;
+            } else if ((aVarsX.getTypeAndKind() & Variable.REAL) > 0) {
+                rvars[kr++] = (RealVar) aVarsX;
+            } else {
+                throw new UnsupportedOperationException("unrecognized variable kind " + aVarsX);
+            }
+        }
+        ivars = Arrays.copyOf(ivars, ki);
+        svars = Arrays.copyOf(svars, ks);
+        rvars = Arrays.copyOf(rvars, kr);
+        // set heuristic
+        configure(solver, customSearch, ivars, workerID);
+        // complete with set default search
+        if (ks > 0) {
+            solver.setSearch(solver.getSearch(), setVarSearch(svars));
+        }
+        // complete with real default search
+        if (kr > 0) {
+            solver.setSearch(solver.getSearch(), realVarSearch(rvars));
+        }
+    }
+
+    private static void geometricalRestarts(Solver solver, IntVar[] ivars) {
+        solver.setGeometricalRestart(ivars.length * 3, 2.0d, new FailCounter(solver.getModel(), 1000), 1000);
+    }
+}
@@ -9,6 +9,8 @@
 package org.chocosolver.solver.propagation;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.propagation.hardcoded.AdaptivePropagationEngine;
+import org.chocosolver.solver.propagation.hardcoded.ParallelPropagationEngine;
 import org.chocosolver.solver.propagation.hardcoded.SevenQueuesPropagatorEngine;
 import org.chocosolver.solver.propagation.hardcoded.TwoBucketPropagationEngine;
 
@@ -45,6 +47,28 @@ public enum PropagationEngineFactory {
         }
     },
 
+    /**
+     * Create a seven queue propagator-oriented propagation engine
+     * where propagators are scheduled wrt their measured cost and effectiveness
+     */
+    ADAPTIVE() {
+        @Override
+        public IPropagationEngine make(Model model) {
+            return new AdaptivePropagationEngine(model);
+        }
+    },
+
+    /**
+     * Create a seven queue propagator-oriented propagation engine
+     * where the prunings of independent propagators are computed on helper threads
+     */
+    PARALLEL() {
+        @Override
+        public IPropagationEngine make(Model model) {
+            return new ParallelPropagationEngine(model);
+        }
+    },
+
     DEFAULT() {
         @Override
         public IPropagationEngine make(Model model) {
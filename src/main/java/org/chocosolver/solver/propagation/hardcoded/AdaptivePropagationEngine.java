@@ -0,0 +1,234 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation.hardcoded;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+import java.util.Arrays;
+
+/**
+ * This engine is a priority-driven constraint-oriented seven queues engine, like {@link SevenQueuesPropagatorEngine},
+ * except that the queue a propagator is scheduled in is not based on its static {@link PropagatorPriority}
+ * but on measures collected online.
+ * <br/>
+ * For each propagator, the engine maintains an exponential moving average of its running time
+ * and of its effectiveness (the ratio of executions which filtered at least one value or failed).
+ * Once a propagator has been executed {@code warmup} times, its queue is selected wrt its average running time:
+ * the cheaper, the sooner.
+ * Propagators which are both expensive (at least {@link PropagatorPriority#QUADRATIC}-like)
+ * and ineffective (below {@code deferRatio}) are moved to the last queue,
+ * that is, they are only executed once a fix-point is reached by the other propagators.
+ * <p>
+ * Until enough measures are collected, the static priority of each propagator is used.
+ * <p>
+ * Reading the clock costs about as much as running a cheap propagator, so, once a propagator is warmed up,
+ * its running time is only measured every {@value #SAMPLING} executions; its effectiveness is measured on each one.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class AdaptivePropagationEngine extends SevenQueuesPropagatorEngine {
+
+    /**
+     * Once warmed up, a propagator is timed every {@value} executions (must be a power of 2)
+     */
+    public static final int SAMPLING = 16;
+
+    /**
+     * Number of executions of a propagator before adapting its priority
+     */
+    private final int warmup;
+
+    /**
+     * Smoothing factor of the exponential moving averages
+     */
+    private final double alpha;
+
+    /**
+     * Effectiveness below which an expensive propagator is deferred
+     */
+    private final double deferRatio;
+
+    /**
+     * Per propagator: number of executions
+     */
+    private long[] calls;
+
+    /**
+     * Per propagator: average running time, in nanoseconds
+     */
+    private double[] avgTime;
+
+    /**
+     * Per propagator: average effectiveness, in [0,1]
+     */
+    private double[] avgEffect;
+
+    /**
+     * Per propagator: current priority, from 1 (executed first) to 7 (deferred)
+     */
+    private int[] dynPrio;
+
+    /**
+     * Set to <tt>true</tt> when the propagator currently executed modifies a variable
+     */
+    private boolean filtered;
+
+
+    /**
+     * An adaptive seven-queue propagation engine.
+     * Priorities are adapted after 32 executions of a propagator, with a smoothing factor of 0.125.
+     * Expensive propagators which filter in less than 5% of their executions are deferred.
+     * @param model the declaring model
+     */
+    public AdaptivePropagationEngine(Model model) {
+        this(model, 32, .125, .05);
+    }
+
+    /**
+     * An adaptive seven-queue propagation engine.
+     * @param model the declaring model
+     * @param warmup number of executions of a propagator before adapting its priority
+     * @param alpha smoothing factor of the moving averages, in ]0,1]
+     * @param deferRatio effectiveness below which an expensive propagator is deferred, in [0,1]
+     */
+    public AdaptivePropagationEngine(Model model, int warmup, double alpha, double deferRatio) {
+        // stop emptying a queue as soon as a cheaper propagator is scheduled
+        super(model, true);
+        this.warmup = warmup;
+        this.alpha = alpha;
+        this.deferRatio = deferRatio;
+    }
+
+    @Override
+    protected void execute(int aid) throws ContradictionException {
+        filtered = false;
+        boolean failed = true;
+        long c = ++calls[aid];
+        boolean timed = c <= warmup || (c & (SAMPLING - 1)) == 0;
+        long start = timed ? System.nanoTime() : 0;
+        try {
+            super.execute(aid);
+            failed = false;
+        } finally {
+            record(aid, timed ? System.nanoTime() - start : -1, failed || filtered);
+        }
+    }
+
+    /**
+     * Records the measures of the last execution of a propagator and updates its priority.
+     * @param aid index of the propagator
+     * @param time running time, in nanoseconds, or -1 if this execution is not timed
+     * @param effective <tt>true</tt> if the propagator filtered at least one value or failed
+     */
+    private void record(int aid, long time, boolean effective) {
+        long c = calls[aid];
+        // plain average during warmup, then exponential moving average
+        double a = c < warmup ? 1d / c : alpha;
+        if (time >= 0) {
+            avgTime[aid] += a * (time - avgTime[aid]);
+        }
+        avgEffect[aid] += a * ((effective ? 1d : 0d) - avgEffect[aid]);
+        if (c >= warmup) {
+            // 250ns for the first queue, then each queue is 4 times slower than the previous one
+            int prio = PropagatorPriority.UNARY.priority;
+            double t = avgTime[aid] / 250d;
+            while (t > 1d && prio < PropagatorPriority.CUBIC.priority) {
+                t /= 4d;
+                prio++;
+            }
+            if (prio >= PropagatorPriority.QUADRATIC.priority && avgEffect[aid] < deferRatio) {
+                prio = PropagatorPriority.VERY_SLOW.priority;
+            }
+            dynPrio[aid] = prio;
+        }
+    }
+
+    @Override
+    protected int getPriority(int aid) {
+        return dynPrio[aid];
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        filtered |= cause == lastProp;
+        super.onVariableUpdate(variable, type, cause);
+    }
+
+    @Override
+    protected void onPropagatorsAdded(int from, int to) {
+        calls = calls == null ? new long[to] : Arrays.copyOf(calls, to);
+        avgTime = avgTime == null ? new double[to] : Arrays.copyOf(avgTime, to);
+        avgEffect = avgEffect == null ? new double[to] : Arrays.copyOf(avgEffect, to);
+        dynPrio = dynPrio == null ? new int[to] : Arrays.copyOf(dynPrio, to);
+        for (int i = from; i < to; i++) {
+            dynPrio[i] = propagators[i].getPriority().priority;
+        }
+    }
+
+    @Override
+    protected void onPropagatorDeleted(int deleted, int moved) {
+        if (deleted < moved) {
+            calls[deleted] = calls[moved];
+            avgTime[deleted] = avgTime[moved];
+            avgEffect[deleted] = avgEffect[moved];
+            dynPrio[deleted] = dynPrio[moved];
+        }
+        calls = Arrays.copyOf(calls, moved);
+        avgTime = Arrays.copyOf(avgTime, moved);
+        avgEffect = Arrays.copyOf(avgEffect, moved);
+        dynPrio = Arrays.copyOf(dynPrio, moved);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        calls = null;
+        avgTime = null;
+        avgEffect = null;
+        dynPrio = null;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the average running time of <i>propagator</i>, in nanoseconds,
+     * or -1 if it is unknown to this engine
+     */
+    public double getAverageTime(Propagator propagator) {
+        int aid = getIndex(propagator);
+        return aid > -1 ? avgTime[aid] : -1;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the average effectiveness of <i>propagator</i>, that is the ratio of executions which filtered or failed,
+     * or -1 if it is unknown to this engine
+     */
+    public double getEffectiveness(Propagator propagator) {
+        int aid = getIndex(propagator);
+        return aid > -1 ? avgEffect[aid] : -1;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the current priority of <i>propagator</i>, from 1 (executed first) to 7 (deferred),
+     * or -1 if it is unknown to this engine
+     */
+    public int getDynamicPriority(Propagator propagator) {
+        int aid = getIndex(propagator);
+        return aid > -1 ? dynPrio[aid] : -1;
+    }
+}
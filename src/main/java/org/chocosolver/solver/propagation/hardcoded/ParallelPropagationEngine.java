@@ -0,0 +1,234 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation.hardcoded;
+
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.IConcurrentPropagator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.propagation.IPropagationEngine;
+import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.IView;
+import org.chocosolver.util.objects.queues.CircularQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A seven queues engine, as {@link SevenQueuesPropagatorEngine},
+ * which runs the expensive part of some propagators on helper threads.
+ * <p>
+ * When the propagator at the head of a queue implements {@link IConcurrentPropagator},
+ * all the propagators of the queue which implement it too, do not react to fine events and
+ * whose scopes are disjoint are removed from the queue.
+ * Their prunings are computed concurrently, the first one on the search thread, the others on helper threads,
+ * and then applied one after the other on the search thread, in the order of the queue.
+ * Since the scopes are disjoint, the prunings of one propagator cannot invalidate the ones of the others,
+ * and the propagation is deterministic: the helper threads only change the time needed to reach the fix-point.
+ * <p>
+ * Scopes are compared on the variables views rely on, instantiated variables being ignored.
+ * <p>
+ * The helper threads are created on the first batch of propagators and released when the search closes
+ * (this engine plugs itself as a search monitor) or when the engine is cleared.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ParallelPropagationEngine extends SevenQueuesPropagatorEngine implements IMonitorClose {
+
+    /**
+     * The model declaring this engine
+     */
+    private final Model model;
+    /**
+     * Number of helper threads
+     */
+    private final int nbHelpers;
+    /**
+     * Helper threads, created on the first batch of propagators
+     */
+    private ForkJoinPool pool;
+    /**
+     * Propagators whose prunings are computed concurrently
+     */
+    private final List<Propagator> batch;
+    /**
+     * Variables (or the variables views rely on) in the scope of the propagators of the batch
+     */
+    private final TIntHashSet scope;
+    /**
+     * Pending computations of the batch
+     */
+    private final List<ForkJoinTask<?>> tasks;
+
+    /**
+     * A seven-queue propagation engine which runs {@link IConcurrentPropagator}s on helper threads.
+     * @param model the declaring model
+     * @param nbHelpers number of helper threads, if 0 this engine behaves like {@link SevenQueuesPropagatorEngine}
+     */
+    public ParallelPropagationEngine(Model model, int nbHelpers) {
+        super(model);
+        if (nbHelpers < 0) {
+            throw new SolverException("The number of helper threads should be positive or null");
+        }
+        this.model = model;
+        this.nbHelpers = nbHelpers;
+        this.batch = new ArrayList<>();
+        this.scope = new TIntHashSet();
+        this.tasks = new ArrayList<>();
+    }
+
+    /**
+     * A seven-queue propagation engine which runs {@link IConcurrentPropagator}s on
+     * as many helper threads as available processors but one.
+     * @param model the declaring model
+     */
+    public ParallelPropagationEngine(Model model) {
+        this(model, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    @Override
+    protected void propagateNext(CircularQueue<Propagator> queue) throws ContradictionException {
+        if (nbHelpers > 0 && collectBatch(queue) > 1) {
+            propagateBatch();
+        } else {
+            super.propagateNext(queue);
+        }
+    }
+
+    /**
+     * Removes from <i>queue</i> the propagators which can be run concurrently, if the first one can.
+     *
+     * @param queue a queue of propagators
+     * @return the number of propagators removed, 0 if the first propagator of the queue cannot be run concurrently,
+     * 1 if it is the only one (then, it is not removed)
+     */
+    private int collectBatch(CircularQueue<Propagator> queue) {
+        batch.clear();
+        scope.clear();
+        if (!isConcurrent(queue.get(0))) {
+            return 0;
+        }
+        int size = queue.size();
+        if (size > 1) {
+            for (int k = 0; k < size; k++) {
+                Propagator p = queue.pollFirst();
+                if (isConcurrent(p) && hasDisjointScope(p)) {
+                    batch.add(p);
+                } else {
+                    queue.addLast(p);
+                }
+            }
+            if (batch.size() == 1) {
+                // put it back at the head of the queue
+                queue.addFirst(batch.get(0));
+            }
+        }
+        return batch.size();
+    }
+
+    private static boolean isConcurrent(Propagator p) {
+        return p instanceof IConcurrentPropagator && !p.reactToFineEvent() && p.isActive();
+    }
+
+    /**
+     * Adds the scope of <i>p</i> to {@link #scope} if it does not intersect it.
+     * The scope may be partially added otherwise.
+     *
+     * @param p a propagator
+     * @return <i>true</i> if the scope of <i>p</i> does not intersect {@link #scope}
+     */
+    private boolean hasDisjointScope(Propagator p) {
+        for (int k = 0; k < p.getNbVars(); k++) {
+            Variable v = p.getVar(k);
+            if (!v.isInstantiated()) {
+                while (v instanceof IView) {
+                    v = ((IView) v).getVariable();
+                }
+                if (!scope.add(v.getId())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the prunings of the propagators of {@link #batch} concurrently and then applies them in order.
+     *
+     * @throws ContradictionException if a failure occurs while applying the prunings
+     */
+    private void propagateBatch() throws ContradictionException {
+        if (pool == null) {
+            pool = new ForkJoinPool(nbHelpers);
+            if (!model.getSolver().getSearchMonitors().contains(this)) {
+                model.getSolver().plugMonitor(this);
+            }
+        }
+        for (int k = 0; k < batch.size(); k++) {
+            unschedule(batch.get(k));
+        }
+        Throwable error = null;
+        try {
+            for (int k = 1; k < batch.size(); k++) {
+                tasks.add(pool.submit(((IConcurrentPropagator) batch.get(k))::computePrunings));
+            }
+            ((IConcurrentPropagator) batch.get(0)).computePrunings();
+        } finally {
+            // no domain can be modified while a helper thread reads it
+            for (int k = 0; k < tasks.size(); k++) {
+                tasks.get(k).quietlyJoin();
+                if (error == null && tasks.get(k).isCompletedAbnormally()) {
+                    error = tasks.get(k).getException();
+                }
+            }
+            tasks.clear();
+        }
+        if (error != null) {
+            throw new SolverException("A propagator failed to compute its prunings: " + error);
+        }
+        for (int k = 0; k < batch.size(); k++) {
+            lastProp = batch.get(k);
+            delayedPropagationType = 0;
+            if (DEBUG) {
+                IPropagationEngine.Trace.printPropagation(null, lastProp);
+            }
+            ((IConcurrentPropagator) lastProp).applyPrunings();
+        }
+        batch.clear();
+    }
+
+    /**
+     * Shuts the helper threads down, they are created again on the next batch of propagators.
+     */
+    private void releaseHelpers() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    @Override
+    public void afterClose() {
+        releaseHelpers();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        batch.clear();
+        releaseHelpers();
+    }
+}
@@ -32,6 +32,10 @@ import java.util.List;
  * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and schedules the propagator in
  * one of the 7 queues wrt to its priority for future revision.
  * <p>
+ * Subclasses can adapt the queue a propagator is scheduled in ({@link #getPriority(int)}),
+ * the way propagators are polled and executed ({@link #propagateNext(CircularQueue)}, {@link #execute(int)})
+ * and maintain their own per-propagator data ({@link #onPropagatorsAdded(int, int)},
+ * {@link #onPropagatorDeleted(int, int)}).
  * <br/>
  *
  * @author Charles Prud'homme
@@ -46,7 +50,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     /**
      * For debugging purpose: set to <tt>true</tt> to output debugging information
      */
-    private final boolean DEBUG;
+    protected final boolean DEBUG;
     /**
      * Internal unique contradiction exception, used on propagation failures
      */
@@ -58,7 +62,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     /**
      * The array of propagators to execute
      */
-    private Propagator[] propagators;
+    protected Propagator[] propagators;
     /**
      * The main structure of this engine: seven circular queues,
      * each of them is dedicated to store propagator to execute wrt their priority.
@@ -67,7 +71,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     /**
      * The last propagator executed
      */
-    private Propagator lastProp;
+    protected Propagator lastProp;
     /**
      * Mapping between propagator ID and its absolute index
      */
@@ -87,7 +91,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     /**
      * PropagatorEventType's mask for delayed propagation
      */
-    private int delayedPropagationType;
+    protected int delayedPropagationType;
     /**
      * Set to <tt>true</tt> once {@link #initialize()} has been called.
      */
@@ -107,6 +111,10 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
      */
     private final PropagationTrigger trigger; // an object that starts the propagation
 
+    /**
+     * Set to <tt>true</tt> to stop emptying a queue as soon as a propagator is scheduled in a queue of higher priority
+     */
+    private final boolean preemptive;
 
     /**
      * A seven-queue propagation engine.
@@ -116,13 +124,23 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
      * @param model the declaring model
      */
     public SevenQueuesPropagatorEngine(Model model) {
+        this(model, false);
+    }
+
+    /**
+     * A seven-queue propagation engine.
+     * @param model the declaring model
+     * @param preemptive set to <tt>true</tt> to stop emptying a queue as soon as a propagator is scheduled
+     *                   in a queue of higher priority
+     */
+    protected SevenQueuesPropagatorEngine(Model model, boolean preemptive) {
         this.exception = new ContradictionException();
         this.trigger = new PropagationTrigger(this, model);
         this.model = model;
         //noinspection unchecked
         this.pro_queue = new CircularQueue[8];
         this.DEBUG = model.getSettings().debugPropagation();
-
+        this.preemptive = preemptive;
     }
 
     @Override
@@ -175,6 +193,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
                     eventmasks[i] = new int[nbv];
                 }
             }
+            onPropagatorsAdded(0, nbProp);
             notEmpty = 0;
             init = true;
         }
@@ -189,53 +208,115 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
     @SuppressWarnings({"NullableProblems"})
     @Override
     public void propagate() throws ContradictionException {
-        int mask, aid;
-        IntCircularQueue evtset;
         if (trigger.needToRun()) {
             trigger.propagate();
         }
         for (int i = nextNotEmpty(0); i > -1; i = nextNotEmpty(0)) {
-            while (!pro_queue[i].isEmpty()) {
-                lastProp = pro_queue[i].pollFirst();
-                // revision of the variable
-                aid = p2i.get(lastProp.getId());
-                scheduled[aid] = 0;
-                delayedPropagationType = 0;
-                if (lastProp.reactToFineEvent()) {
-                    evtset = eventsets[aid];
-                    while (evtset.size() > 0) {
-                        int v = evtset.pollFirst();
-                        assert lastProp.isActive() : "propagator is not active:" + lastProp;
-                        if (DEBUG) {
-                            IPropagationEngine.Trace.printPropagation(lastProp.getVar(v), lastProp);
-                        }
-                        // clear event
-                        mask = eventmasks[aid][v];
-                        eventmasks[aid][v] = 0;
-                        assert (pendingEvt[aid] > 0) : "number of enqueued records is <= 0 " + this;
-                        pendingEvt[aid]--;
-                        // run propagation on the specific event
-                        lastProp.propagate(v, mask);
-                    }
-                    // now we can check whether a delayed propagation has been scheduled
-                    if (delayedPropagationType > 0) {
-                        if (DEBUG) {
-                            IPropagationEngine.Trace.printPropagation(null, lastProp);
-                        }
-                        lastProp.propagate(delayedPropagationType);
-                    }
-                } else if (lastProp.isActive()) { // need to be checked due to views
-                    //assert lastProp.isActive() : "propagator is not active:" + lastProp;
-                    if (DEBUG) {
-                        IPropagationEngine.Trace.printPropagation(null, lastProp);
-                    }
-                    lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            while (!pro_queue[i].isEmpty() && !(preemptive && (notEmpty & ((1 << i) - 1)) != 0)) {
+                propagateNext(pro_queue[i]);
+            }
+            if (pro_queue[i].isEmpty()) {
+                notEmpty = notEmpty & ~(1 << i);
+            }
+        }
+    }
+
+    /**
+     * Polls the first propagator of <i>queue</i> and executes it.
+     * @param queue a non-empty queue
+     * @throws ContradictionException if a failure occurs
+     */
+    protected void propagateNext(CircularQueue<Propagator> queue) throws ContradictionException {
+        lastProp = queue.pollFirst();
+        // revision of the variable
+        int aid = unschedule(lastProp);
+        delayedPropagationType = 0;
+        execute(aid);
+    }
+
+    /**
+     * Executes {@link #lastProp}, on its pending fine events or coarse-grained.
+     * @param aid index of {@link #lastProp}
+     * @throws ContradictionException if a failure occurs
+     */
+    protected void execute(int aid) throws ContradictionException {
+        if (lastProp.reactToFineEvent()) {
+            IntCircularQueue evtset = eventsets[aid];
+            while (evtset.size() > 0) {
+                int v = evtset.pollFirst();
+                assert lastProp.isActive() : "propagator is not active:" + lastProp;
+                if (DEBUG) {
+                    IPropagationEngine.Trace.printPropagation(lastProp.getVar(v), lastProp);
+                }
+                // clear event
+                int mask = eventmasks[aid][v];
+                eventmasks[aid][v] = 0;
+                assert (pendingEvt[aid] > 0) : "number of enqueued records is <= 0 " + this;
+                pendingEvt[aid]--;
+                // run propagation on the specific event
+                lastProp.propagate(v, mask);
+            }
+            // now we can check whether a delayed propagation has been scheduled
+            if (delayedPropagationType > 0) {
+                if (DEBUG) {
+                    IPropagationEngine.Trace.printPropagation(null, lastProp);
                 }
+                lastProp.propagate(delayedPropagationType);
             }
-            notEmpty = notEmpty & ~(1 << i);
+        } else if (lastProp.isActive()) { // need to be checked due to views
+            //assert lastProp.isActive() : "propagator is not active:" + lastProp;
+            if (DEBUG) {
+                IPropagationEngine.Trace.printPropagation(null, lastProp);
+            }
+            lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
         }
     }
 
+    /**
+     * @param prop a propagator
+     * @return the index of <i>prop</i> in this engine, -1 if it is unknown
+     */
+    protected final int getIndex(Propagator prop) {
+        return p2i.get(prop.getId());
+    }
+
+    /**
+     * Marks a propagator, removed from its queue, as not scheduled anymore.
+     * @param prop a propagator
+     * @return the index of <i>prop</i>
+     */
+    protected final int unschedule(Propagator prop) {
+        int aid = getIndex(prop);
+        scheduled[aid] = 0;
+        return aid;
+    }
+
+    /**
+     * @param aid index of a propagator
+     * @return the queue the propagator is scheduled in, from 0 to 7
+     */
+    protected int getPriority(int aid) {
+        return propagators[aid].getPriority().priority;
+    }
+
+    /**
+     * Called once the propagators of index in [<i>from</i>, <i>to</i>) have been added to this engine.
+     * @param from index of the first added propagator
+     * @param to index of the last added propagator + 1, that is, the new number of propagators
+     */
+    protected void onPropagatorsAdded(int from, int to) {
+    }
+
+    /**
+     * Called once a propagator has been removed from this engine:
+     * the last propagator, of index <i>moved</i>, takes the index of the deleted one (unless it is the deleted one)
+     * and the number of propagators is now <i>moved</i>.
+     * @param deleted index of the deleted propagator
+     * @param moved index of the last propagator
+     */
+    protected void onPropagatorDeleted(int deleted, int moved) {
+    }
+
     private int nextNotEmpty(int fromIndex) {
         int word = notEmpty & (WORD_MASK << fromIndex);
         if (word != 0) {
@@ -309,7 +390,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
                         }
                     }
                     if (scheduled[aid] == 0) {
-                        int prio = /*dynamic ? prop.dynPriority() :*/ prop.getPriority().priority;
+                        int prio = getPriority(aid);
                         pro_queue[prio].addLast(prop);
                         scheduled[aid] = (short) (prio + 1);
 //                    notEmpty.set(prio);
@@ -414,6 +495,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
                 eventmasks[i] = new int[nbv];
             }
         }
+        onPropagatorsAdded(osize, nsize);
     }
 
     @Override
@@ -490,6 +572,7 @@ public class SevenQueuesPropagatorEngine implements IPropagationEngine {
                 eventsets[idtd] = estm;
                 eventmasks[idtd] = emtm;
             }
+            onPropagatorDeleted(idtd, idtm);
             trigger.remove(toDelete);
         }
     }
@@ -0,0 +1,133 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.limits;
+
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cooperative cancellation flag, checked by a search loop before any other stop criterion
+ * (see {@link org.chocosolver.solver.Solver#setCancellationToken(CancellationToken)}).
+ * <p>
+ * A token can be cancelled from any thread, either directly with {@link #cancel()}, or after a delay with
+ * {@link #cancelAfter(long, TimeUnit)}, or through one of its parent tokens, if any.
+ * Delays are managed by a single daemon thread shared by all tokens and {@link TimeCounter}s,
+ * so that checking a token only costs a volatile read.
+ * A token cannot be reset: once cancelled, it remains so.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class CancellationToken implements Criterion {
+
+    /**
+     * The timer thread shared by all tokens
+     */
+    private static final ScheduledThreadPoolExecutor TIMER;
+
+    static {
+        TIMER = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "choco-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Parent tokens, may be empty
+     */
+    private final CancellationToken[] parents;
+
+    /**
+     * Set to <i>true</i> on cancellation
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a token, not cancelled yet.
+     */
+    public CancellationToken() {
+        this.parents = new CancellationToken[0];
+    }
+
+    /**
+     * Creates a token which is cancelled when either itself or <i>parent</i> is cancelled.
+     *
+     * @param parent a token, for instance one of the caller, may be null
+     */
+    public CancellationToken(CancellationToken parent) {
+        this.parents = parent == null ? new CancellationToken[0] : new CancellationToken[]{parent};
+    }
+
+    /**
+     * Creates a token which is cancelled when either itself or one of <i>parents</i> is cancelled.
+     *
+     * @param parents tokens, for instance the ones of the callers, null ones are ignored
+     */
+    public CancellationToken(CancellationToken... parents) {
+        this.parents = Arrays.stream(parents).filter(Objects::nonNull).toArray(CancellationToken[]::new);
+    }
+
+    /**
+     * Cancels this token, and the tokens depending on it.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Cancels this token once <i>delay</i> is elapsed.
+     *
+     * @param delay delay before cancellation
+     * @param unit  unit of <i>delay</i>
+     * @return this token
+     */
+    public CancellationToken cancelAfter(long delay, TimeUnit unit) {
+        schedule(this::cancel, unit.toNanos(delay));
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if this token or one of its ancestors is cancelled
+     */
+    public boolean isCancelled() {
+        if (cancelled) {
+            return true;
+        }
+        for (int i = 0; i < parents.length; i++) {
+            if (parents[i].isCancelled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isMet() {
+        return isCancelled();
+    }
+
+    /**
+     * Executes <i>task</i> in the shared timer thread after a delay.
+     *
+     * @param task         the task to execute, should be short
+     * @param delayInNano delay in nanoseconds
+     * @return a future to cancel the task
+     */
+    static ScheduledFuture<?> schedule(Runnable task, long delayInNano) {
+        return TIMER.schedule(task, delayInNano, TimeUnit.NANOSECONDS);
+    }
+}
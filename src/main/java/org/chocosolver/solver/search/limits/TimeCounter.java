@@ -11,9 +11,13 @@ package org.chocosolver.solver.search.limits;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.measure.IMeasures;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * A limit over run time.
  * It acts as a monitor, to be up-to-date when the search loop asks for limit reaching.
+ * Once initialized, the limit is checked against a flag set by a timer thread.
  * <br/>
  *
  * @author Charles Prud'homme
@@ -37,6 +41,50 @@ public class TimeCounter extends ACounter {
         super(measures, timeLimitInNano);
     }
 
+    /**
+     * Deadline armed on the shared timer thread, null if none
+     */
+    private ScheduledFuture<?> deadline;
+
+    /**
+     * The limit the deadline has been armed for
+     */
+    private long armedLimit;
+
+    /**
+     * Set to <i>true</i> by the timer thread when the deadline is reached.
+     * A new flag is created each time a deadline is armed, so that outdated ones are ignored,
+     * and only the flag is captured by the timer thread: a pending deadline does not retain the model.
+     */
+    private AtomicBoolean expired;
+
+    /**
+     * Arms a deadline on the timer thread shared with {@link CancellationToken}s, so that checking this limit
+     * only reads a flag instead of the clock.
+     */
+    @Override
+    public void init() {
+        if (deadline != null) {
+            deadline.cancel(false);
+        }
+        final AtomicBoolean flag = new AtomicBoolean();
+        expired = flag;
+        armedLimit = max;
+        long remaining = max - currentValue();
+        if (remaining <= 0) {
+            flag.set(true);
+        }
+        deadline = CancellationToken.schedule(() -> flag.set(true), Math.max(remaining, 0));
+    }
+
+    @Override
+    public boolean isMet() {
+        if (deadline != null && armedLimit == max) {
+            return expired.get();
+        }
+        return super.isMet();
+    }
+
     @Override
     public long currentValue() {
         return measures.getTimeCountInNanoSeconds();
@@ -11,6 +11,7 @@ package org.chocosolver.solver.search.loop.lns;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.loop.lns.neighbors.*;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
 
 /**
  * Factory to creates INeighbor objects that configures LNS
@@ -59,6 +60,35 @@ public class INeighborFactory {
         return new ReversePropagationGuidedNeighborhood(vars, 0, 30, 10);
     }
 
+    /**
+     * Creates a neighborhood relaxing balls of the constraint graph, in breadth-first order from a random variable.
+     * Constraints involving more than half of the variables are ignored.
+     * @param vars   the pool of variables to be freezed
+     * @return a neighborhood relaxing balls of the constraint graph
+     */
+    public static INeighbor graphBFS(IntVar... vars) {
+        return new GraphBFSNeighborhood(vars, vars.length / 3 + 1, Math.max(2, vars.length / 2), 0);
+    }
+
+    /**
+     * Creates a neighborhood relaxing clusters of constraints sharing variables.
+     * Constraints involving more than half of the variables are ignored.
+     * @param vars   the pool of variables to be freezed
+     * @return a neighborhood relaxing clusters of constraints
+     */
+    public static INeighbor constraintCluster(IntVar... vars) {
+        return new ConstraintClusterNeighborhood(vars, vars.length / 3 + 1, Math.max(2, vars.length / 2), 0);
+    }
+
+    /**
+     * Creates a neighborhood relaxing the tasks executed during a time window, in the last solution
+     * @param tasks   the pool of tasks to be freezed
+     * @return a neighborhood relaxing the tasks of a time window
+     */
+    public static INeighbor timeWindow(Task... tasks) {
+        return new TimeWindowNeighborhood(tasks, tasks.length / 3 + 1, 0);
+    }
+
     /**
      * Creates an Explanation based LNS Neighbor
      * @param vars   the pool of variables to be freezed
@@ -0,0 +1,145 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A LNS neighbor which relaxes clusters of constraints of the constraint graph (see {@link ConstraintGraph}):
+ * all the variables of a constraint chosen at random are relaxed, then, the constraint sharing the largest ratio of
+ * its variables with the relaxed ones is added to the cluster, and so on, until enough variables are relaxed.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ConstraintClusterNeighborhood extends StructuredNeighborhood {
+
+    /**
+     * Constraints involving more variables are ignored
+     */
+    private final int maxArity;
+    /**
+     * The constraint graph, built on initialization
+     */
+    private ConstraintGraph graph;
+    /**
+     * For each constraint, number of relaxed variables, or -1 once the constraint is in the cluster
+     */
+    private int[] score;
+    /**
+     * Constraints with a non-null score
+     */
+    private int[] touched;
+    /**
+     * Number of constraints in {@link #touched}
+     */
+    private int nbTouched;
+
+    /**
+     * Create a neighbor for LNS which relaxes clusters of constraints
+     *
+     * @param vars     variables to consider in this
+     * @param size     initial number of variables to relax
+     * @param maxArity constraints involving more than <i>maxArity</i> variables of <i>vars</i> are ignored
+     * @param seed     for randomness
+     */
+    public ConstraintClusterNeighborhood(IntVar[] vars, int size, int maxArity, long seed) {
+        super(vars, size, seed);
+        this.maxArity = maxArity;
+    }
+
+    @Override
+    public void init() {
+        if (graph == null) {
+            graph = new ConstraintGraph(vars, maxArity);
+            score = new int[graph.getNbCstrs()];
+            touched = new int[graph.getNbCstrs()];
+        }
+    }
+
+    @Override
+    protected void relax(int k) {
+        int count = 0;
+        while (count < k) {
+            int c = bestCandidate();
+            if (c < 0 && graph.getNbCstrs() > 0) {
+                c = rd.nextInt(graph.getNbCstrs());
+                if (score[c] < 0) {
+                    c = -1;
+                }
+            }
+            if (c < 0) {
+                // no more constraint to add: relax a variable at random
+                int v = randomFrozenVariable();
+                if (v < 0) {
+                    break;
+                }
+                count += relaxVar(v);
+                continue;
+            }
+            if (score[c] == 0) {
+                touched[nbTouched++] = c;
+            }
+            score[c] = -1;
+            for (int a = 0; a < graph.getArity(c) && count < k; a++) {
+                count += relaxVar(graph.getVar(c, a));
+            }
+        }
+        for (int t = 0; t < nbTouched; t++) {
+            score[touched[t]] = 0;
+        }
+        nbTouched = 0;
+    }
+
+    /**
+     * Relaxes a variable and updates the score of its constraints.
+     *
+     * @param v index of a variable
+     * @return 1 if the variable is newly relaxed, 0 otherwise
+     */
+    private int relaxVar(int v) {
+        if (relaxed.get(v)) {
+            return 0;
+        }
+        relaxed.set(v);
+        for (int j = 0; j < graph.getDegree(v); j++) {
+            int c = graph.getCstr(v, j);
+            if (score[c] == 0) {
+                touched[nbTouched++] = c;
+            }
+            if (score[c] >= 0) {
+                score[c]++;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * @return the touched constraint, not in the cluster, with the largest ratio of relaxed variables,
+     * ties being broken at random, or -1 if none has free variables
+     */
+    private int bestCandidate() {
+        int best = -1, nbBest = 0;
+        double ratio = 0.;
+        for (int t = 0; t < nbTouched; t++) {
+            int c = touched[t];
+            if (score[c] > 0 && score[c] < graph.getArity(c)) {
+                double r = (double) score[c] / graph.getArity(c);
+                if (r > ratio) {
+                    ratio = r;
+                    best = c;
+                    nbBest = 1;
+                } else if (r == ratio && rd.nextInt(++nbBest) == 0) {
+                    best = c;
+                }
+            }
+        }
+        return best;
+    }
+}
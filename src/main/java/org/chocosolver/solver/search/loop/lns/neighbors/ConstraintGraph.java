@@ -0,0 +1,176 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The bipartite graph between some variables and the constraints of their model, restricted to these variables.
+ * <p>
+ * The graph is computed once and stored in compressed sparse row (CSR) arrays:
+ * the constraints of the variable <i>i</i> are {@code varCstrs[varOffsets[i] .. varOffsets[i+1]-1]}
+ * and the variables of the constraint <i>c</i> are {@code cstrVars[cstrOffsets[c] .. cstrOffsets[c+1]-1]},
+ * variables being designated by their index in the array given on construction.
+ * Constraints involving less than two of the variables, or more than a given number of them
+ * (for instance, the one which defines the objective), are not part of the graph since they do not
+ * bring any notion of proximity.
+ * </p>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ConstraintGraph {
+
+    /**
+     * Offsets of the constraints of each variable in {@link #varCstrs}, of size n + 1
+     */
+    private final int[] varOffsets;
+
+    /**
+     * Constraints of the variables, by variable
+     */
+    private final int[] varCstrs;
+
+    /**
+     * Offsets of the variables of each constraint in {@link #cstrVars}, of size m + 1
+     */
+    private final int[] cstrOffsets;
+
+    /**
+     * Variables of the constraints, by constraint
+     */
+    private final int[] cstrVars;
+
+    /**
+     * Builds the graph between <i>vars</i> and the constraints currently posted on them.
+     *
+     * @param vars     variables, designated by their index in this array
+     * @param maxArity constraints involving more than <i>maxArity</i> variables of <i>vars</i> are ignored
+     */
+    public ConstraintGraph(IntVar[] vars, int maxArity) {
+        int n = vars.length;
+        TIntIntHashMap index = new TIntIntHashMap(n, .5f, -1, -1);
+        for (int i = 0; i < n; i++) {
+            index.put(vars[i].getId(), i);
+        }
+        // 1. scope of each constraint, restricted to vars
+        Map<Constraint, Boolean> seen = new IdentityHashMap<>();
+        int[] stamp = new int[n];
+        int[] scope = new int[n];
+        int m = 0, s = 0;
+        int[] offsets = new int[16];
+        int[] cvars = new int[64];
+        for (IntVar var : vars) {
+            for (int p = 0; p < var.getNbProps(); p++) {
+                Constraint c = var.getPropagator(p).getConstraint();
+                if (seen.put(c, Boolean.TRUE) != null) {
+                    continue;
+                }
+                int k = 0;
+                for (Propagator prop : c.getPropagators()) {
+                    for (int v = 0; v < prop.getNbVars(); v++) {
+                        int i = index.get(prop.getVar(v).getId());
+                        if (i >= 0 && stamp[i] != m + 1) {
+                            stamp[i] = m + 1;
+                            scope[k++] = i;
+                        }
+                    }
+                }
+                if (k < 2 || k > maxArity) {
+                    // reuse the stamp of this ignored constraint
+                    for (int j = 0; j < k; j++) {
+                        stamp[scope[j]] = 0;
+                    }
+                    continue;
+                }
+                if (m + 2 > offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                if (s + k > cvars.length) {
+                    cvars = Arrays.copyOf(cvars, Math.max(cvars.length * 2, s + k));
+                }
+                System.arraycopy(scope, 0, cvars, s, k);
+                s += k;
+                offsets[++m] = s;
+            }
+        }
+        this.cstrOffsets = Arrays.copyOf(offsets, m + 1);
+        this.cstrVars = Arrays.copyOf(cvars, s);
+        // 2. transposition, by counting sort
+        this.varOffsets = new int[n + 1];
+        for (int j = 0; j < s; j++) {
+            varOffsets[cstrVars[j] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            varOffsets[i + 1] += varOffsets[i];
+        }
+        this.varCstrs = new int[s];
+        int[] next = Arrays.copyOf(varOffsets, n);
+        for (int c = 0; c < m; c++) {
+            for (int j = cstrOffsets[c]; j < cstrOffsets[c + 1]; j++) {
+                varCstrs[next[cstrVars[j]]++] = c;
+            }
+        }
+    }
+
+    /**
+     * @return the number of variables
+     */
+    public int getNbVars() {
+        return varOffsets.length - 1;
+    }
+
+    /**
+     * @return the number of constraints
+     */
+    public int getNbCstrs() {
+        return cstrOffsets.length - 1;
+    }
+
+    /**
+     * @param i index of a variable
+     * @return the number of constraints of the variable <i>i</i>
+     */
+    public int getDegree(int i) {
+        return varOffsets[i + 1] - varOffsets[i];
+    }
+
+    /**
+     * @param i index of a variable
+     * @param j index of a constraint of the variable <i>i</i>, in [0, {@link #getDegree(int)}[
+     * @return the <i>j</i>th constraint of the variable <i>i</i>
+     */
+    public int getCstr(int i, int j) {
+        return varCstrs[varOffsets[i] + j];
+    }
+
+    /**
+     * @param c index of a constraint
+     * @return the number of variables of the constraint <i>c</i>
+     */
+    public int getArity(int c) {
+        return cstrOffsets[c + 1] - cstrOffsets[c];
+    }
+
+    /**
+     * @param c index of a constraint
+     * @param j index of a variable of the constraint <i>c</i>, in [0, {@link #getArity(int)}[
+     * @return the <i>j</i>th variable of the constraint <i>c</i>
+     */
+    public int getVar(int c, int j) {
+        return cstrVars[cstrOffsets[c] + j];
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.BitSet;
+
+/**
+ * A LNS neighbor which relaxes a ball of the constraint graph (see {@link ConstraintGraph}):
+ * the variables are relaxed in breadth-first order, starting from a variable chosen at random,
+ * until enough variables are relaxed.
+ * When the connected component of the starting variable is exhausted, another starting variable is chosen.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class GraphBFSNeighborhood extends StructuredNeighborhood {
+
+    /**
+     * Constraints involving more variables are ignored
+     */
+    private final int maxArity;
+    /**
+     * The constraint graph, built on initialization
+     */
+    private ConstraintGraph graph;
+    /**
+     * Queue of the breadth-first search
+     */
+    private int[] queue;
+    /**
+     * Constraints already explored
+     */
+    private BitSet explored;
+
+    /**
+     * Create a neighbor for LNS which relaxes balls of the constraint graph
+     *
+     * @param vars     variables to consider in this
+     * @param size     initial number of variables to relax
+     * @param maxArity constraints involving more than <i>maxArity</i> variables of <i>vars</i> are ignored
+     * @param seed     for randomness
+     */
+    public GraphBFSNeighborhood(IntVar[] vars, int size, int maxArity, long seed) {
+        super(vars, size, seed);
+        this.maxArity = maxArity;
+    }
+
+    @Override
+    public void init() {
+        if (graph == null) {
+            graph = new ConstraintGraph(vars, maxArity);
+            queue = new int[n];
+            explored = new BitSet(graph.getNbCstrs());
+        }
+    }
+
+    @Override
+    protected void relax(int k) {
+        explored.clear();
+        int head = 0, tail = 0, count = 0;
+        while (count < k) {
+            if (head == tail) {
+                int seed = randomFrozenVariable();
+                if (seed < 0) {
+                    break;
+                }
+                relaxed.set(seed);
+                count++;
+                queue[tail++] = seed;
+            }
+            int v = queue[head++];
+            int d = graph.getDegree(v);
+            // the constraints of a variable are scanned from a random position, to diversify the balls
+            int j0 = d > 0 ? rd.nextInt(d) : 0;
+            for (int j = 0; j < d && count < k; j++) {
+                int c = graph.getCstr(v, (j0 + j) % d);
+                if (!explored.get(c)) {
+                    explored.set(c);
+                    for (int a = 0; a < graph.getArity(c) && count < k; a++) {
+                        int u = graph.getVar(c, a);
+                        if (!relaxed.get(u)) {
+                            relaxed.set(u);
+                            count++;
+                            queue[tail++] = u;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
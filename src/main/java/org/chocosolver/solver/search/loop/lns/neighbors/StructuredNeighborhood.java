@@ -0,0 +1,143 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * A LNS neighbor which relaxes a set of variables which are close to each other, wrt a structure of the model,
+ * and freezes the other ones to their value in the last solution.
+ * <p>
+ * The number of variables to relax starts at a given size, grows each time a LNS run fails to find a solution
+ * and comes back to its initial value on solution.
+ * </p>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public abstract class StructuredNeighborhood implements INeighbor {
+
+    /**
+     * Number of variables
+     */
+    protected final int n;
+    /**
+     * Variables to consider in this neighbor
+     */
+    protected final IntVar[] vars;
+    /**
+     * Last solution found, wrt {@link #vars}
+     */
+    protected final int[] bestSolution;
+    /**
+     * For randomness
+     */
+    protected final Random rd;
+    /**
+     * Indicate which variables are relaxed
+     */
+    protected final BitSet relaxed;
+    /**
+     * Initial number of variables to relax
+     */
+    private final int initialSize;
+    /**
+     * Current number of variables to relax
+     */
+    private double size;
+
+    /**
+     * Create a neighbor for LNS which relaxes close variables
+     *
+     * @param vars variables to consider in this
+     * @param size initial number of variables to relax
+     * @param seed for randomness
+     */
+    protected StructuredNeighborhood(IntVar[] vars, int size, long seed) {
+        this.n = vars.length;
+        this.vars = vars.clone();
+        this.bestSolution = new int[n];
+        this.rd = new Random(seed);
+        this.relaxed = new BitSet(n);
+        this.initialSize = Math.max(1, Math.min(size, n));
+        this.size = initialSize;
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public boolean isSearchComplete() {
+        return false;
+    }
+
+    @Override
+    public void recordSolution() {
+        for (int i = 0; i < n; i++) {
+            bestSolution[i] = vars[i].getValue();
+        }
+        size = initialSize;
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        for (int i = 0; i < n; i++) {
+            bestSolution[i] = solution.getIntVal(vars[i]);
+        }
+        size = initialSize;
+    }
+
+    @Override
+    public void fixSomeVariables(DecisionPath decisionPath) {
+        relaxed.clear();
+        relax((int) size);
+        for (int i = relaxed.nextClearBit(0); i < n; i = relaxed.nextClearBit(i + 1)) {
+            if (vars[i].contains(bestSolution[i])) {  // to deal with objective variable and related
+                IntDecision decision = decisionPath.makeIntDecision(vars[i], DecisionOperatorFactory.makeIntEq(), bestSolution[i]);
+                decision.setRefutable(false);
+                decisionPath.pushDecision(decision);
+            }
+        }
+    }
+
+    /**
+     * Selects variables to relax, in {@link #relaxed}, which is empty on call.
+     *
+     * @param k number of variables to relax, at least
+     */
+    protected abstract void relax(int k);
+
+    /**
+     * @return the index of a variable, chosen at random among the ones which are not relaxed yet, or -1
+     */
+    protected int randomFrozenVariable() {
+        int cc = n - relaxed.cardinality();
+        if (cc == 0) {
+            return -1;
+        }
+        int i = relaxed.nextClearBit(0);
+        for (cc = rd.nextInt(cc); cc > 0; cc--) {
+            i = relaxed.nextClearBit(i + 1);
+        }
+        return i;
+    }
+
+    @Override
+    public void restrictLess() {
+        size = Math.min(n, size * 1.05 + 1);
+    }
+}
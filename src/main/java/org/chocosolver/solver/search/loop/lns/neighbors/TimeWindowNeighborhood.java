@@ -0,0 +1,108 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+/**
+ * A LNS neighbor for scheduling problems which relaxes the tasks executed, in the last solution,
+ * during a time window chosen at random.
+ * The other tasks are frozen: their start and their end are fixed to their value in the last solution.
+ * The window is as large as needed to relax enough tasks.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class TimeWindowNeighborhood extends StructuredNeighborhood {
+
+    /**
+     * Number of tasks
+     */
+    private final int nbTasks;
+    /**
+     * Tasks sorted by start in the last solution, valid once {@link #sorted} is true
+     */
+    private final int[] order;
+    /**
+     * Set to false when a new solution is recorded
+     */
+    private boolean sorted;
+
+    /**
+     * Create a neighbor for LNS which relaxes the tasks of a time window
+     *
+     * @param tasks tasks to consider in this
+     * @param size  initial number of tasks to relax
+     * @param seed  for randomness
+     */
+    public TimeWindowNeighborhood(Task[] tasks, int size, long seed) {
+        super(startsAndEnds(tasks), 2 * size, seed);
+        this.nbTasks = tasks.length;
+        this.order = new int[nbTasks];
+    }
+
+    private static IntVar[] startsAndEnds(Task[] tasks) {
+        IntVar[] vars = new IntVar[2 * tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            vars[i] = tasks[i].getStart();
+            vars[tasks.length + i] = tasks[i].getEnd();
+        }
+        return vars;
+    }
+
+    @Override
+    public void recordSolution() {
+        super.recordSolution();
+        sorted = false;
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        super.loadFromSolution(solution);
+        sorted = false;
+    }
+
+    @Override
+    protected void relax(int k) {
+        if (!sorted) {
+            for (int i = 0; i < nbTasks; i++) {
+                order[i] = i;
+            }
+            // insertion sort is enough: tasks are mostly in the same order from a solution to the next one
+            for (int i = 1; i < nbTasks; i++) {
+                int t = order[i], j = i - 1;
+                for (; j >= 0 && bestSolution[order[j]] > bestSolution[t]; j--) {
+                    order[j + 1] = order[j];
+                }
+                order[j + 1] = t;
+            }
+            sorted = true;
+        }
+        int nb = Math.max(1, (k + 1) / 2);
+        if (nb >= nbTasks) {
+            relaxed.set(0, n);
+            return;
+        }
+        // the window starts at the start of a task chosen at random and ends
+        // once nb tasks starting in the window are relaxed
+        int first = rd.nextInt(nbTasks - nb + 1);
+        int from = bestSolution[order[first]];
+        int to = bestSolution[order[first + nb - 1]];
+        // also relax the tasks started before the window but still running in it
+        for (int i = 0; i < nbTasks; i++) {
+            int s = bestSolution[i], e = bestSolution[nbTasks + i];
+            if (s <= to && e > from || s >= from && s <= to) {
+                relaxed.set(i);
+                relaxed.set(nbTasks + i);
+            }
+        }
+    }
+}
@@ -10,6 +10,9 @@ package org.chocosolver.solver.search.loop.monitors;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.symmetry.ISymmetry;
+import org.chocosolver.solver.constraints.nary.symmetry.PropSymmetryBreaking;
 import org.chocosolver.solver.search.limits.*;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.criteria.Criterion;
@@ -43,6 +46,24 @@ public interface ISearchMonitorFactory extends ISelf<Solver> {
         _me().plugMonitor(new NogoodFromRestarts(_me().getModel()));
     }
 
+    /**
+     * Break symmetries during search (SBDS): anytime a decision is refuted, its images by the generators of the
+     * symmetry group are refuted as well in the subtree, once the images of the decisions above it hold.
+     * Only integer decisions with the operator '=' are considered.
+     * Must be called before the resolution.
+     *
+     * @param vars       variables the symmetries apply to
+     * @param generators generators of the symmetry group over <i>vars</i>,
+     *                   see for instance {@link ISymmetry#interchangeableVariables(int...)} and
+     *                   {@link ISymmetry#interchangeableValues(int...)}
+     * @see PropSymmetryBreaking
+     */
+    default void setSymmetryBreakingDuringSearch(IntVar[] vars, ISymmetry... generators) {
+        PropSymmetryBreaking prop = new PropSymmetryBreaking(vars, generators);
+        new Constraint("SBDS", prop).post();
+        _me().plugMonitor(prop);
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
     /**
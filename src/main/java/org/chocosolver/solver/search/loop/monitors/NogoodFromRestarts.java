@@ -67,7 +67,7 @@ public class NogoodFromRestarts implements IMonitorRestart {
 
     @SuppressWarnings("unchecked")
     private void extractNogoodFromPath() {
-        int d = (int) png.getModel().getSolver().getNodeCount();
+        int d = png.getModel().getSolver().getDecisionPath().size();
         png.getModel().getSolver().getDecisionPath().transferInto(decisions, false);
         Decision<IntVar> decision;
         int[] lits = new int[d];
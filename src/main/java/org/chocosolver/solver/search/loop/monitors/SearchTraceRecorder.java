@@ -0,0 +1,309 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.decision.RootDecision;
+import org.chocosolver.solver.search.strategy.decision.SetDecision;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.IntMap;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A search monitor which records the search tree in a compact binary trace,
+ * to be replayed with {@link org.chocosolver.solver.search.loop.move.MoveReplay}.
+ * <p>
+ * The trace starts with a header: the bytes {@link #MAGIC}, the {@link #VERSION} of the format and
+ * the number of variables of the model.
+ * Then, each event is a tag, on one byte, followed by its arguments, all of them being varint-encoded
+ * (7 bits per byte, the high bit set on each byte but the last one; signed values are zigzag-encoded first):
+ * <br/>- {@link #DECISIONS}: the number of decisions of the new level, then, for each decision,
+ * the index of its variable in {@link Model#getVars()}, its operator (see {@link #operator(DecisionOperator)})
+ * and its value,
+ * <br/>- {@link #REFUTE}: the last decision is refuted,
+ * <br/>- {@link #FAIL}: a failure occurs,
+ * <br/>- {@link #SOLUTION}: a solution is found,
+ * <br/>- {@link #RESTART}: the search restarts from the root node.
+ * <p>
+ * Integer and set decisions are supported.
+ * Events are buffered: the trace is complete once the search is closed or once this is closed.
+ * <p>
+ * <pre> {@code
+ * try (SearchTraceRecorder recorder = new SearchTraceRecorder(model, new FileOutputStream(file))) {
+ *      while (model.getSolver().solve()) ;
+ * }
+ * }</pre>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SearchTraceRecorder implements IMonitorDownBranch, IMonitorContradiction, IMonitorSolution,
+        IMonitorRestart, IMonitorClose, Closeable {
+
+    /**
+     * First bytes of a trace
+     */
+    public static final byte[] MAGIC = {'C', 'S', 'T', 'R'};
+    /**
+     * Version of the format
+     */
+    public static final int VERSION = 1;
+    /**
+     * Event tags
+     */
+    public static final int DECISIONS = 0, REFUTE = 1, FAIL = 2, SOLUTION = 3, RESTART = 4;
+
+    /**
+     * Reference to the model
+     */
+    private final Model model;
+    /**
+     * Where the trace is written
+     */
+    private final OutputStream out;
+    /**
+     * Map between variable ID and its index in {@link Model#getVars()}
+     */
+    private IntMap v2i;
+    /**
+     * Number of variables indexed in {@link #v2i}
+     */
+    private int nbVars;
+
+    /**
+     * Create a monitor which writes the search tree of <i>model</i> in <i>out</i>, and plug it.
+     *
+     * @param model the model to observe
+     * @param out   where to write the trace, closed by {@link #close()}
+     * @throws SolverException if the header cannot be written
+     */
+    public SearchTraceRecorder(Model model, OutputStream out) {
+        this.model = model;
+        this.out = new BufferedOutputStream(out);
+        this.nbVars = model.getNbVars();
+        try {
+            this.out.write(MAGIC);
+            writeVarInt(this.out, VERSION);
+            writeVarInt(this.out, nbVars);
+        } catch (IOException e) {
+            throw new SolverException("Unable to write the search trace: " + e.getMessage());
+        }
+        model.getSolver().plugMonitor(this);
+    }
+
+    //***********************************************************************************
+    // MONITORING
+    //***********************************************************************************
+
+    @Override
+    public void beforeDownBranch(boolean left) {
+        DecisionPath dp = model.getSolver().getDecisionPath();
+        if (dp.getLastDecision() == RootDecision.ROOT) {
+            // propagation of the root node, on restarts
+            return;
+        }
+        if (left) {
+            int first = dp.indexPreviousLevelLastLevel();
+            int last = dp.size() - 1;
+            write(DECISIONS);
+            write(last - first + 1);
+            for (int i = first; i <= last; i++) {
+                write(dp.getDecision(i));
+            }
+        } else {
+            write(REFUTE);
+        }
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        write(FAIL);
+    }
+
+    @Override
+    public void onSolution() {
+        write(SOLUTION);
+    }
+
+    @Override
+    public void afterRestart() {
+        write(RESTART);
+    }
+
+    @Override
+    public void afterClose() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new SolverException("Unable to write the search trace: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flush and close the trace, and unplug this monitor.
+     */
+    @Override
+    public void close() throws IOException {
+        model.getSolver().unplugMonitor(this);
+        out.close();
+    }
+
+    private void write(Decision decision) {
+        Variable var = (Variable) decision.getDecisionVariable();
+        DecisionOperator op;
+        if (decision instanceof IntDecision) {
+            op = ((IntDecision) decision).getDecOp();
+        } else if (decision instanceof SetDecision) {
+            op = ((SetDecision) decision).getDecOp();
+        } else {
+            throw new SolverException("Only integer and set decisions can be recorded, not " + decision);
+        }
+        write(index(var));
+        write(operator(op));
+        write(zigzag((Integer) decision.getDecisionValue()));
+    }
+
+    private void write(int value) {
+        try {
+            writeVarInt(out, value);
+        } catch (IOException e) {
+            throw new SolverException("Unable to write the search trace: " + e.getMessage());
+        }
+    }
+
+    private int index(Variable var) {
+        if (v2i == null || model.getNbVars() != nbVars) {
+            Variable[] vars = model.getVars();
+            v2i = new IntMap(vars.length, -1);
+            for (int i = 0; i < vars.length; i++) {
+                v2i.put(vars[i].getId(), i);
+            }
+            nbVars = vars.length;
+        }
+        int i = v2i.get(var.getId());
+        if (i == -1) {
+            throw new SolverException(var.getName() + " does not belong to the model, it cannot be recorded");
+        }
+        return i;
+    }
+
+    //***********************************************************************************
+    // FORMAT
+    //***********************************************************************************
+
+    /**
+     * @param op a decision operator
+     * @return its code in a trace
+     * @throws SolverException if <i>op</i> cannot be recorded
+     */
+    public static int operator(DecisionOperator op) {
+        if (op == DecisionOperatorFactory.makeIntEq()) {
+            return 0;
+        } else if (op == DecisionOperatorFactory.makeIntNeq()) {
+            return 1;
+        } else if (op == DecisionOperatorFactory.makeIntSplit()) {
+            return 2;
+        } else if (op == DecisionOperatorFactory.makeIntReverseSplit()) {
+            return 3;
+        } else if (op == DecisionOperatorFactory.makeSetForce()) {
+            return 4;
+        } else if (op == DecisionOperatorFactory.makeSetRemove()) {
+            return 5;
+        }
+        throw new SolverException("Unknown decision operator " + op + ", it cannot be recorded");
+    }
+
+    /**
+     * @param code the code of a decision operator in a trace
+     * @return the decision operator
+     * @throws SolverException if <i>code</i> is unknown
+     */
+    public static DecisionOperator operator(int code) {
+        switch (code) {
+            case 0:
+                return DecisionOperatorFactory.makeIntEq();
+            case 1:
+                return DecisionOperatorFactory.makeIntNeq();
+            case 2:
+                return DecisionOperatorFactory.makeIntSplit();
+            case 3:
+                return DecisionOperatorFactory.makeIntReverseSplit();
+            case 4:
+                return DecisionOperatorFactory.makeSetForce();
+            case 5:
+                return DecisionOperatorFactory.makeSetRemove();
+            default:
+                throw new SolverException("Unknown decision operator code " + code);
+        }
+    }
+
+    /**
+     * @param v a signed value
+     * @return <i>v</i> encoded such that small absolute values are small positive values
+     */
+    public static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    /**
+     * @param v a value encoded by {@link #zigzag(int)}
+     * @return the signed value
+     */
+    public static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Writes <i>v</i>, considered as unsigned, in as few bytes as possible.
+     *
+     * @param out an output stream
+     * @param v   a value
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeVarInt(OutputStream out, int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    /**
+     * @param in an input stream
+     * @return the next value written by {@link #writeVarInt(OutputStream, int)}
+     * @throws IOException if an I/O error occurs or if the stream ends
+     */
+    public static int readVarInt(InputStream in) throws IOException {
+        int v = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.read();
+            if (b == -1) {
+                throw new EOFException("Truncated search trace");
+            }
+            v |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return v;
+    }
+}
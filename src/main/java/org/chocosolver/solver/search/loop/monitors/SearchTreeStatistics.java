@@ -0,0 +1,461 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.IntMap;
+
+import java.util.Arrays;
+
+/**
+ * A search monitor which aggregates statistics on the search tree, in process and with a low overhead,
+ * as opposed to {@link CPProfiler} which sends every node to an external GUI.
+ * <p>
+ * The depth of a node is the number of decisions in the decision path (the root node is at depth 0).
+ * The following statistics are maintained in primitive arrays:
+ * <br/>- per depth: the number of nodes, of failures and of solutions,
+ * and the time spent in the subtrees rooted at that depth, in nanoseconds,
+ * <br/>- per backjump distance: the number of repairs which remove that number of decisions from the decision path
+ * (0 when the last decision is simply refuted, as in a depth-first search after a failure on a left branch),
+ * <br/>- per variable: the number of decisions made on it and the number of failures which follow a decision on it.
+ * <p>
+ * They can be exported in JSON or CSV, at the end of the resolution or periodically,
+ * for instance with {@link org.chocosolver.solver.trace.LogStatEveryXXms}:
+ * <p>
+ * <pre> {@code
+ * SearchTreeStatistics stats = new SearchTreeStatistics(model);
+ * model.getSolver().showStatisticsDuringResolution(10000, stats::toJSON);
+ * while (model.getSolver().solve()) ;
+ * out.println(stats.toCSV());
+ * }</pre>
+ * <p>
+ * Exports are not synchronized with the search: when made from another thread, they only read the cells
+ * allocated in every array they export, hence they may be slightly inconsistent but never fail.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SearchTreeStatistics implements IMonitorDownBranch, IMonitorUpBranch, IMonitorContradiction,
+        IMonitorSolution, IMonitorRestart, IMonitorClose {
+
+    /**
+     * The observed solver
+     */
+    private final Solver solver;
+    /**
+     * Per depth: number of nodes, failures and solutions
+     */
+    private long[] nodes, fails, solutions;
+    /**
+     * Per depth: time spent in closed subtrees rooted at that depth
+     */
+    private long[] times;
+    /**
+     * Per depth: opening time of the current subtree rooted at that depth
+     */
+    private long[] opened;
+    /**
+     * Deepest depth reached so far, plus one
+     */
+    private int nbDepths;
+    /**
+     * Deepest depth of the current subtrees, -1 if none is opened
+     */
+    private int top;
+    /**
+     * Per backjump distance: number of repairs
+     */
+    private long[] backjumps;
+    /**
+     * Greatest backjump distance so far, plus one
+     */
+    private int nbDistances;
+    /**
+     * Map between variable ID and its index in {@link #variables}
+     */
+    private final IntMap v2i;
+    /**
+     * Variables branched on, in order of first decision
+     */
+    private Variable[] variables;
+    /**
+     * Per variable: number of decisions and of failures
+     */
+    private long[] branchings, varFails;
+    /**
+     * Number of variables branched on so far
+     */
+    private int nbVariables;
+    /**
+     * Depth before the last repair
+     */
+    private int from;
+    /**
+     * Set to <i>true</i> when the last repair is a restart
+     */
+    private boolean restarted;
+
+    /**
+     * Create a monitor which collects statistics on the search tree of <i>model</i>, and plug it.
+     *
+     * @param model the model to observe
+     */
+    public SearchTreeStatistics(Model model) {
+        this.solver = model.getSolver();
+        this.nodes = new long[16];
+        this.fails = new long[16];
+        this.solutions = new long[16];
+        this.times = new long[16];
+        this.opened = new long[16];
+        this.backjumps = new long[16];
+        this.v2i = new IntMap(16, -1);
+        this.variables = new Variable[16];
+        this.branchings = new long[16];
+        this.varFails = new long[16];
+        this.top = -1;
+        solver.plugMonitor(this);
+    }
+
+    //***********************************************************************************
+    // MONITORING
+    //***********************************************************************************
+
+    private int depth() {
+        return solver.getDecisionPath().size() - 1;
+    }
+
+    @Override
+    public void beforeDownBranch(boolean left) {
+        int d = depth();
+        ensureDepth(d);
+        nodes[d]++;
+        if (top < d) {
+            long now = System.nanoTime();
+            for (int k = top + 1; k <= d; k++) {
+                opened[k] = now;
+            }
+            top = d;
+        }
+        if (left) {
+            int i = index(solver.getDecisionPath().getLastDecision());
+            if (i > -1) {
+                branchings[i]++;
+            }
+        }
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        int d = depth();
+        ensureDepth(d);
+        fails[d]++;
+        int i = index(solver.getDecisionPath().getLastDecision());
+        if (i > -1) {
+            varFails[i]++;
+        }
+    }
+
+    @Override
+    public void onSolution() {
+        int d = depth();
+        ensureDepth(d);
+        solutions[d]++;
+    }
+
+    @Override
+    public void beforeUpBranch() {
+        from = depth();
+        restarted = false;
+    }
+
+    @Override
+    public void afterRestart() {
+        restarted = true;
+    }
+
+    @Override
+    public void afterUpBranch() {
+        int to = depth();
+        if (!restarted) {
+            int dist = Math.max(0, from - to);
+            if (dist >= backjumps.length) {
+                backjumps = Arrays.copyOf(backjumps, Math.max(dist + 1, backjumps.length * 3 / 2));
+            }
+            backjumps[dist]++;
+            nbDistances = Math.max(nbDistances, dist + 1);
+        }
+        // the subtree rooted at the repaired node is closed too, the next branch opens a new one
+        closeSubtrees(to);
+    }
+
+    @Override
+    public void afterClose() {
+        closeSubtrees(0);
+    }
+
+    /**
+     * Closes the current subtrees rooted at depth <i>d</i> or deeper.
+     */
+    private void closeSubtrees(int d) {
+        if (top >= d) {
+            long now = System.nanoTime();
+            for (int k = Math.max(d, 0); k <= top; k++) {
+                times[k] += now - opened[k];
+            }
+            top = d - 1;
+        }
+    }
+
+    private void ensureDepth(int d) {
+        if (d >= nodes.length) {
+            int size = Math.max(d + 1, nodes.length * 3 / 2);
+            nodes = Arrays.copyOf(nodes, size);
+            fails = Arrays.copyOf(fails, size);
+            solutions = Arrays.copyOf(solutions, size);
+            times = Arrays.copyOf(times, size);
+            opened = Arrays.copyOf(opened, size);
+        }
+        nbDepths = Math.max(nbDepths, d + 1);
+    }
+
+    /**
+     * @return the index of the variable of <i>decision</i>, -1 if there is none
+     */
+    private int index(Decision decision) {
+        Object var = decision.getDecisionVariable();
+        if (!(var instanceof Variable)) {
+            return -1;
+        }
+        Variable v = (Variable) var;
+        int i = v2i.get(v.getId());
+        if (i == -1) {
+            i = nbVariables++;
+            if (i >= variables.length) {
+                int size = variables.length * 3 / 2 + 1;
+                variables = Arrays.copyOf(variables, size);
+                branchings = Arrays.copyOf(branchings, size);
+                varFails = Arrays.copyOf(varFails, size);
+            }
+            variables[i] = v;
+            v2i.put(v.getId(), i);
+        }
+        return i;
+    }
+
+    //***********************************************************************************
+    // ACCESSORS
+    //***********************************************************************************
+
+    /**
+     * @return the deepest depth reached so far, plus one
+     */
+    public int getNbDepths() {
+        return nbDepths;
+    }
+
+    /**
+     * @param depth a depth
+     * @return the number of nodes opened at <i>depth</i>
+     */
+    public long getNodeCount(int depth) {
+        return depth < nbDepths ? nodes[depth] : 0;
+    }
+
+    /**
+     * @param depth a depth
+     * @return the number of failures at <i>depth</i>
+     */
+    public long getFailCount(int depth) {
+        return depth < nbDepths ? fails[depth] : 0;
+    }
+
+    /**
+     * @param depth a depth
+     * @return the number of solutions found at <i>depth</i>
+     */
+    public long getSolutionCount(int depth) {
+        return depth < nbDepths ? solutions[depth] : 0;
+    }
+
+    /**
+     * @param depth a depth
+     * @return the time spent in the closed subtrees rooted at <i>depth</i>, in nanoseconds
+     */
+    public long getTime(int depth) {
+        return depth < nbDepths ? times[depth] : 0;
+    }
+
+    /**
+     * @return the greatest backjump distance so far, plus one
+     */
+    public int getNbBackjumpDistances() {
+        return nbDistances;
+    }
+
+    /**
+     * @param distance a number of decisions
+     * @return the number of repairs which removed <i>distance</i> decisions from the decision path
+     */
+    public long getBackjumpCount(int distance) {
+        return distance < nbDistances ? backjumps[distance] : 0;
+    }
+
+    /**
+     * @param var a variable
+     * @return the number of decisions made on <i>var</i>
+     */
+    public long getBranchingCount(Variable var) {
+        int i = v2i.get(var.getId());
+        return i > -1 ? branchings[i] : 0;
+    }
+
+    /**
+     * @param var a variable
+     * @return the number of failures which follow a decision on <i>var</i>
+     */
+    public long getFailCount(Variable var) {
+        int i = v2i.get(var.getId());
+        return i > -1 ? varFails[i] : 0;
+    }
+
+    //***********************************************************************************
+    // EXPORTS
+    //***********************************************************************************
+
+    /**
+     * @return the statistics in JSON, as:
+     * <pre>
+     * {"depths":[{"depth":0,"nodes":1,"fails":0,"solutions":0,"time":1234},...],
+     *  "backjumps":[12,3,...],
+     *  "variables":[{"name":"X","branchings":4,"fails":2},...]}
+     * </pre>
+     * where time is in nanoseconds and backjumps are indexed by distance.
+     */
+    public String toJSON() {
+        StringBuilder s = new StringBuilder(256);
+        s.append("{\"depths\":[");
+        long[] nd = nodes, fl = fails, sl = solutions, tm = times;
+        int n = min(nbDepths, nd.length, fl.length, sl.length, tm.length);
+        for (int d = 0; d < n; d++) {
+            if (d > 0) {
+                s.append(',');
+            }
+            s.append("{\"depth\":").append(d)
+                    .append(",\"nodes\":").append(nd[d])
+                    .append(",\"fails\":").append(fl[d])
+                    .append(",\"solutions\":").append(sl[d])
+                    .append(",\"time\":").append(tm[d]).append('}');
+        }
+        s.append("],\"backjumps\":[");
+        long[] bj = backjumps;
+        n = Math.min(nbDistances, bj.length);
+        for (int k = 0; k < n; k++) {
+            if (k > 0) {
+                s.append(',');
+            }
+            s.append(bj[k]);
+        }
+        s.append("],\"variables\":[");
+        Variable[] vs = variables;
+        long[] br = branchings, vf = varFails;
+        n = min(nbVariables, vs.length, br.length, vf.length);
+        for (int i = 0; i < n && vs[i] != null; i++) {
+            if (i > 0) {
+                s.append(',');
+            }
+            s.append("{\"name\":\"");
+            escape(s, vs[i].getName());
+            s.append("\",\"branchings\":").append(br[i])
+                    .append(",\"fails\":").append(vf[i]).append('}');
+        }
+        s.append("]}");
+        return s.toString();
+    }
+
+    /**
+     * @return the smallest of <i>size</i> and <i>lengths</i>, that is, the number of cells which can be read
+     */
+    private static int min(int size, int... lengths) {
+        for (int l : lengths) {
+            size = Math.min(size, l);
+        }
+        return size;
+    }
+
+    private static void escape(StringBuilder s, String str) {
+        for (int k = 0; k < str.length(); k++) {
+            char c = str.charAt(k);
+            if (c == '"' || c == '\\') {
+                s.append('\\').append(c);
+            } else if (c < ' ') {
+                s.append(String.format("\\u%04x", (int) c));
+            } else {
+                s.append(c);
+            }
+        }
+    }
+
+    /**
+     * @return the statistics per depth in CSV, with the header:
+     * <pre>
+     *     depth;nodes;fails;solutions;time(ns);
+     * </pre>
+     */
+    public String toCSV() {
+        StringBuilder s = new StringBuilder(256);
+        s.append("depth;nodes;fails;solutions;time(ns);\n");
+        long[] nd = nodes, fl = fails, sl = solutions, tm = times;
+        int n = min(nbDepths, nd.length, fl.length, sl.length, tm.length);
+        for (int d = 0; d < n; d++) {
+            s.append(d).append(';').append(nd[d]).append(';').append(fl[d]).append(';')
+                    .append(sl[d]).append(';').append(tm[d]).append(";\n");
+        }
+        return s.toString();
+    }
+
+    /**
+     * @return the backjump distances in CSV, with the header:
+     * <pre>
+     *     distance;count;
+     * </pre>
+     */
+    public String backjumpsToCSV() {
+        StringBuilder s = new StringBuilder(64);
+        s.append("distance;count;\n");
+        long[] bj = backjumps;
+        int n = Math.min(nbDistances, bj.length);
+        for (int k = 0; k < n; k++) {
+            s.append(k).append(';').append(bj[k]).append(";\n");
+        }
+        return s.toString();
+    }
+
+    /**
+     * @return the statistics per variable in CSV, with the header:
+     * <pre>
+     *     variable;branchings;fails;
+     * </pre>
+     */
+    public String variablesToCSV() {
+        StringBuilder s = new StringBuilder(256);
+        s.append("variable;branchings;fails;\n");
+        Variable[] vs = variables;
+        long[] br = branchings, vf = varFails;
+        int n = min(nbVariables, vs.length, br.length, vf.length);
+        // the last variable may be registered but not stored yet
+        for (int i = 0; i < n && vs[i] != null; i++) {
+            s.append(vs[i].getName()).append(';').append(br[i]).append(';').append(vf[i]).append(";\n");
+        }
+        return s.toString();
+    }
+}
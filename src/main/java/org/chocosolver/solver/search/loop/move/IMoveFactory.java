@@ -17,9 +17,13 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.limits.SolutionCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.restart.GlucoseRestartStrategy;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.criteria.LongCriterion;
 
+import java.io.InputStream;
+
 /**
  * Interface to define how to explore the search space from a macro perspective
  * (DFS, LDS, LNS, etc.)
@@ -74,6 +78,17 @@ public interface IMoveFactory extends ISelf<Solver> {
         _me().setMove(new MoveBinaryHBFS(_me().getModel(), _me().getSearch(), a, b, N));
     }
 
+    /**
+     * Creates a move object which replays a search tree recorded by a
+     * {@link org.chocosolver.solver.search.loop.monitors.SearchTraceRecorder}.
+     *
+     * @param trace where to read the trace
+     * @see MoveReplay
+     */
+    default void setReplay(InputStream trace) {
+        _me().setMove(new MoveReplay(_me().getModel(), trace));
+    }
+
     /**
      * Creates a Move object that encapsulates the current move within a restart move.
      * Every time the <code>restartCriterion</code> is met, a restart is done, the new restart limit is updated
@@ -112,6 +127,21 @@ public interface IMoveFactory extends ISelf<Solver> {
         _me().setRestarts(restartStrategyLimit, new GeometricalCutoffStrategy(scaleFactor, geometricalFactor), restartLimit);
     }
 
+    /**
+     * Branch a dynamic restart strategy, inspired by Glucose, to the solver.
+     * A restart is triggered when the recent conflicts occur deeper in the search tree than on average,
+     * unless the number of instantiated variables in <code>vars</code> suggests that a solution is close.
+     * It is best combined with phase saving (see {@link org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase}).
+     *
+     * @param vars         variables whose instantiation measures the proximity to a solution, usually the decision variables
+     * @param restartLimit restart limits (limit of number of restarts)
+     * @see GlucoseRestartStrategy
+     */
+    default void setGlucoseRestart(Variable[] vars, int restartLimit) {
+        GlucoseRestartStrategy strategy = new GlucoseRestartStrategy(_me(), vars);
+        _me().setRestarts(strategy, strategy, restartLimit);
+    }
+
     /**
      * Creates a Move object that encapsulates the current move within a restart move.
      * Every time a solution is found, a restart is done.
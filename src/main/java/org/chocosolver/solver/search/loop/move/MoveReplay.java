@@ -0,0 +1,213 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.chocosolver.solver.search.loop.monitors.SearchTraceRecorder.*;
+
+/**
+ * A move which replays a search tree recorded by a {@link org.chocosolver.solver.search.loop.monitors.SearchTraceRecorder}:
+ * decisions are read from the trace instead of being computed by a search strategy,
+ * and restarts happen where they happened.
+ * <p>
+ * The recorded search is expected to be a depth-first search, possibly with restarts,
+ * on the same model (same variables, declared in the same order).
+ * The search tree is the same as long as propagation fails on the same nodes,
+ * which enables to compare the running time of two filtering algorithms of same strength.
+ * A {@link SolverException} is thrown as soon as the replay diverges from the trace,
+ * for instance when a node fails which did not in the recorded search.
+ * When the trace ends before the search, the search is stopped.
+ * <p>
+ * <pre> {@code
+ * model.getSolver().setMove(new MoveReplay(model, new FileInputStream(file)));
+ * while (model.getSolver().solve()) ;
+ * }</pre>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class MoveReplay extends MoveBinaryDFS {
+
+    /**
+     * Reference to the model
+     */
+    private final Model model;
+    /**
+     * Where the trace is read
+     */
+    private final InputStream in;
+    /**
+     * Variables of the model, as indexed in the trace
+     */
+    private Variable[] vars;
+    /**
+     * Set to <i>true</i> when a solution has been read, and the next repair does not follow a failure
+     */
+    private boolean solution;
+    /**
+     * Set to <i>true</i> once the trace is completely read
+     */
+    private boolean ended;
+
+    /**
+     * Create a move which replays the trace read from <i>in</i>.
+     *
+     * @param model the model to solve
+     * @param in    where to read the trace
+     * @throws SolverException if the trace is invalid or does not match the model
+     */
+    public MoveReplay(Model model, InputStream in) {
+        super(null);
+        this.model = model;
+        this.in = new BufferedInputStream(in);
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            for (int i = 0; i < magic.length; i++) {
+                magic[i] = (byte) this.in.read();
+            }
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new SolverException("Not a search trace");
+            }
+            int version = readVarInt(this.in);
+            if (version != VERSION) {
+                throw new SolverException("Unsupported search trace version: " + version);
+            }
+            int nbVars = readVarInt(this.in);
+            if (nbVars != model.getNbVars()) {
+                throw new SolverException("The search trace was recorded on a model with " + nbVars +
+                        " variables, not " + model.getNbVars());
+            }
+        } catch (IOException e) {
+            throw new SolverException("Unable to read the search trace: " + e.getMessage());
+        }
+        model.getSolver().addStopCriterion(() -> ended);
+    }
+
+    @Override
+    public boolean init() {
+        return strategy == null || strategy.init();
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        int tag = nextTag();
+        switch (tag) {
+            case DECISIONS:
+                DecisionPath dp = solver.getDecisionPath();
+                int n = nextInt();
+                for (int i = 0; i < n; i++) {
+                    dp.pushDecision(nextDecision(dp));
+                }
+                solver.getEnvironment().worldPush();
+                return true;
+            case SOLUTION:
+                solution = true;
+                return false;
+            case RESTART:
+                solver.restart();
+                return true;
+            case -1:
+                // the search will stop before propagating again
+                ended = true;
+                return true;
+            default:
+                throw diverge(tag);
+        }
+    }
+
+    @Override
+    public boolean repair(Solver solver) {
+        int tag;
+        if (solution) {
+            solution = false;
+        } else {
+            tag = nextTag();
+            if (tag != FAIL && tag != -1) {
+                throw diverge(tag);
+            }
+        }
+        tag = peekTag();
+        if (tag == RESTART) {
+            nextTag();
+            solver.restart();
+            return true;
+        }
+        boolean repaired = super.repair(solver);
+        if (repaired && tag == -1) {
+            // the recorded search stopped here, the search will stop before propagating again
+            ended = true;
+        } else if (repaired) {
+            tag = nextTag();
+            if (tag != REFUTE) {
+                throw diverge(tag);
+            }
+        }
+        return repaired;
+    }
+
+    private Decision nextDecision(DecisionPath dp) {
+        if (vars == null) {
+            vars = model.getVars();
+        }
+        Variable var = vars[nextInt()];
+        DecisionOperator op = operator(nextInt());
+        int value = unzigzag(nextInt());
+        //noinspection unchecked
+        return (var.getTypeAndKind() & Variable.SET) != 0 ?
+                dp.makeSetDecision((SetVar) var, op, value) :
+                dp.makeIntDecision((IntVar) var, op, value);
+    }
+
+    private SolverException diverge(int tag) {
+        return new SolverException("The search diverges from the trace: unexpected " +
+                (tag == -1 ? "end of trace" : "event " + tag) + " after " +
+                model.getSolver().getNodeCount() + " nodes and " + model.getSolver().getFailCount() + " failures");
+    }
+
+    private int nextTag() {
+        try {
+            return in.read();
+        } catch (IOException e) {
+            throw new SolverException("Unable to read the search trace: " + e.getMessage());
+        }
+    }
+
+    private int peekTag() {
+        in.mark(1);
+        int tag = nextTag();
+        try {
+            in.reset();
+        } catch (IOException e) {
+            throw new SolverException("Unable to read the search trace: " + e.getMessage());
+        }
+        return tag;
+    }
+
+    private int nextInt() {
+        try {
+            return readVarInt(in);
+        } catch (IOException e) {
+            throw new SolverException("Unable to read the search trace: " + e.getMessage());
+        }
+    }
+}
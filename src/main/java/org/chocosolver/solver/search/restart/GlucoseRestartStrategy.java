@@ -0,0 +1,195 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.cutoffseq.ICutoffStrategy;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.LongCriterion;
+
+/**
+ * A dynamic restart strategy, inspired by Glucose[1].
+ * <br/>
+ * The quality of a conflict is estimated by the depth of the search tree when it occurs
+ * (the analogue of the LBD of learnt clauses).
+ * A restart is triggered when the average quality of the last conflicts is worse than the global average:
+ * <i>K * avg(last conflicts) &gt; avg(all conflicts)</i>.
+ * <br/>
+ * A restart is postponed (<i>blocked</i>) when the search seems to be close to a solution, that is,
+ * when the number of instantiated variables at conflict is significantly greater than on average over the last conflicts:
+ * <i>#instantiated &gt; R * avg(#instantiated on last conflicts)</i>.
+ * <br/>
+ * This class is both the criterion and the cutoff strategy of a {@link org.chocosolver.solver.search.loop.move.MoveRestart}:
+ * the limit it is given is a minimum number of conflicts, which is always reached
+ * unless the maximum number of restarts is reached.
+ * <p>
+ * [1]: G. Audemard, L. Simon, Refining Restarts Strategies for SAT and UNSAT, CP-12.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class GlucoseRestartStrategy implements ICutoffStrategy, LongCriterion, IMonitorContradiction, IMonitorRestart {
+
+    /**
+     * Reference to the solver
+     */
+    private final Solver solver;
+    /**
+     * Variables whose instantiation measures the proximity to a solution
+     */
+    private final Variable[] vars;
+    /**
+     * Quality of the last conflicts
+     */
+    private final BoundedQueue lbds;
+    /**
+     * Number of instantiated variables on the last conflicts
+     */
+    private final BoundedQueue trails;
+    /**
+     * Restart factor
+     */
+    private final double K;
+    /**
+     * Blocking factor
+     */
+    private final double R;
+    /**
+     * Number of conflicts before blocking restarts is enabled
+     */
+    private final long minConflicts;
+    /**
+     * Sum of all conflicts quality
+     */
+    private long sumLbd;
+    /**
+     * Number of conflicts
+     */
+    private long conflicts;
+    /**
+     * Number of blocked restarts
+     */
+    private long blocked;
+
+    /**
+     * Creates a dynamic restart strategy with Glucose's default parameters, and plugs it into <i>solver</i>.
+     *
+     * @param solver the solver
+     * @param vars   variables whose instantiation measures the proximity to a solution
+     */
+    public GlucoseRestartStrategy(Solver solver, Variable[] vars) {
+        this(solver, vars, 50, .8, 5000, 1.4, 10000);
+    }
+
+    /**
+     * Creates a dynamic restart strategy, and plugs it into <i>solver</i>.
+     *
+     * @param solver       the solver
+     * @param vars         variables whose instantiation measures the proximity to a solution
+     * @param lbdWindow    number of conflicts considered in the short-term average quality
+     * @param K            restart factor, in ]0,1]
+     * @param trailWindow  number of conflicts considered in the average number of instantiated variables
+     * @param R            blocking factor, greater than 1
+     * @param minConflicts number of conflicts before blocking restarts is enabled
+     */
+    public GlucoseRestartStrategy(Solver solver, Variable[] vars, int lbdWindow, double K,
+                                  int trailWindow, double R, long minConflicts) {
+        this.solver = solver;
+        this.vars = vars;
+        this.lbds = new BoundedQueue(lbdWindow);
+        this.trails = new BoundedQueue(trailWindow);
+        this.K = K;
+        this.R = R;
+        this.minConflicts = minConflicts;
+        solver.plugMonitor(this);
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        conflicts++;
+        int trail = 0;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].isInstantiated()) {
+                trail++;
+            }
+        }
+        if (conflicts > minConflicts && trails.isFull() && lbds.isFull() && trail > R * trails.average()) {
+            lbds.clear();
+            blocked++;
+        }
+        trails.push(trail);
+        int lbd = solver.getDecisionPath().size();
+        lbds.push(lbd);
+        sumLbd += lbd;
+    }
+
+    @Override
+    public void afterRestart() {
+        lbds.clear();
+    }
+
+    @Override
+    public boolean isMet(long value) {
+        return conflicts >= value && lbds.isFull() && lbds.average() * K > (double) sumLbd / conflicts;
+    }
+
+    @Override
+    public int getNextCutoff() {
+        return 0;
+    }
+
+    /**
+     * @return the number of restarts blocked so far
+     */
+    public long getBlockedCount() {
+        return blocked;
+    }
+
+    /**
+     * A fixed-size FIFO queue of integers which maintains the sum of its elements.
+     */
+    private static final class BoundedQueue {
+
+        private final int[] elements;
+        private int first;
+        private int size;
+        private long sum;
+
+        BoundedQueue(int capacity) {
+            this.elements = new int[capacity];
+        }
+
+        void push(int e) {
+            if (size == elements.length) {
+                sum -= elements[first];
+                elements[first] = e;
+                first = (first + 1) % elements.length;
+            } else {
+                elements[(first + size++) % elements.length] = e;
+            }
+            sum += e;
+        }
+
+        boolean isFull() {
+            return size == elements.length;
+        }
+
+        double average() {
+            return (double) sum / size;
+        }
+
+        void clear() {
+            first = size = 0;
+            sum = 0;
+        }
+    }
+}
@@ -185,10 +185,18 @@ public class Search {
      * @return a default search strategy
      */
     public static AbstractStrategy<IntVar> intVarSearch(IntVar... vars) {
-        // sets booleans to 1 and intvar to upper bound for maximisation
-        // branch on lower bound otherwise
-        boolean satOrMin = vars[0].getModel().getResolutionPolicy()!= ResolutionPolicy.MAXIMIZE;
-        IntValueSelector valSel = new IntValueSelector() {
+        return new DomOverWDeg(vars, 0, defaultValueSelector(vars[0].getModel()));
+    }
+
+    /**
+     * Sets booleans to 1 and integer variables to their upper bound for maximisation,
+     * to their lower bound otherwise.
+     * @param model the model
+     * @return the default value selector of {@link #intVarSearch(IntVar...)}
+     */
+    private static IntValueSelector defaultValueSelector(Model model) {
+        boolean satOrMin = model.getResolutionPolicy()!= ResolutionPolicy.MAXIMIZE;
+        return new IntValueSelector() {
             @Override
             public int selectValue(IntVar var) {
                 if(var.isBool() || !satOrMin){
@@ -198,7 +206,33 @@ public class Search {
                 }
             }
         };
-        return new DomOverWDeg(vars, 0, valSel);
+    }
+
+    /**
+     * Assignment strategy which selects a variable according to <code>DomOverWDeg</code> and assigns it to its value
+     * in the last solution found, if possible (see {@link IntDomainBest}).
+     * Before the first solution, or when that value has been removed, values are selected
+     * as in {@link #intVarSearch(IntVar...)}.
+     * It is best combined with restarts, when optimizing.
+     * @param vars list of variables
+     * @return a solution-guided assignment strategy
+     */
+    public static AbstractStrategy<IntVar> solutionGuidedSearch(IntVar... vars) {
+        Model model = vars[0].getModel();
+        return new DomOverWDeg(vars, 0, new IntDomainBest(model, vars, defaultValueSelector(model)));
+    }
+
+    /**
+     * Assignment strategy which selects a variable according to <code>DomOverWDeg</code> and assigns it to its value
+     * when the last conflict or solution occurred, if possible (see {@link IntDomainPhase}).
+     * Otherwise, values are selected as in {@link #intVarSearch(IntVar...)}.
+     * It is best combined with restarts.
+     * @param vars list of variables
+     * @return a phase saving assignment strategy
+     */
+    public static AbstractStrategy<IntVar> phaseSavingSearch(IntVar... vars) {
+        Model model = vars[0].getModel();
+        return new DomOverWDeg(vars, 0, new IntDomainPhase(model, vars, defaultValueSelector(model)));
     }
 
     /**
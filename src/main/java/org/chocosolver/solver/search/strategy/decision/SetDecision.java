@@ -69,6 +69,13 @@ public class SetDecision extends Decision<SetVar> {
         this.operator = operator;
     }
 
+    /**
+     * @return the current decision operator
+     */
+    public DecisionOperator<SetVar> getDecOp() {
+        return operator;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public void reverse() {
@@ -0,0 +1,38 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Solution-guided value selector.
+ * Selects the value a variable takes in the last solution found, that is, the best one when optimizing,
+ * if it still belongs to its domain.
+ * Otherwise, the selection is delegated to another value selector.
+ * <br/>
+ * Combined with restarts, it makes the search explore the neighborhood of the best solution first.
+ * This is a {@link IntDomainPhase} which saves the phase on solutions only.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class IntDomainBest extends IntDomainPhase {
+
+    /**
+     * Creates a solution-guided value selector, and plugs it into the solver of <i>model</i>.
+     *
+     * @param model    the model
+     * @param vars     variables whose value is recorded
+     * @param fallback value selector to use when no valid value is recorded
+     */
+    public IntDomainBest(Model model, IntVar[] vars, IntValueSelector fallback) {
+        super(model, vars, fallback, false);
+    }
+}
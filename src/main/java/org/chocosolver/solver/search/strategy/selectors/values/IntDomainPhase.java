@@ -0,0 +1,157 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Phase saving value selector.
+ * Selects the last value a variable was instantiated to, when a conflict or a solution was met,
+ * if it still belongs to its domain.
+ * Otherwise, the selection is delegated to another value selector.
+ * On a conflict, only the variables of the decision path are saved, so that saving costs O(depth), not O(n);
+ * on a solution, all the variables are saved.
+ * <br/>
+ * Combined with restarts, it makes the search go back to the part of the search space it was exploring.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IntDomainPhase implements IntValueSelector, IMonitorContradiction, IMonitorSolution {
+
+    /**
+     * Variables whose phase is saved
+     */
+    private final IntVar[] vars;
+    /**
+     * Saved value of each variable
+     */
+    private final int[] phases;
+    /**
+     * Set to <i>true</i> if a value is saved for the variable
+     */
+    private final boolean[] saved;
+    /**
+     * Maps a variable ID to its position in {@link #vars}
+     */
+    private final TIntIntHashMap var2pos;
+    /**
+     * Value selector to use when no valid value is saved
+     */
+    private final IntValueSelector fallback;
+    /**
+     * Set to <i>true</i> if the phase is also saved on conflicts, not only on solutions
+     */
+    private final boolean onConflicts;
+    /**
+     * The solver this selector is plugged into
+     */
+    private final Solver solver;
+
+    /**
+     * Creates a phase saving value selector, and plugs it into the solver of <i>model</i>.
+     *
+     * @param model    the model
+     * @param vars     variables whose phase is saved
+     * @param fallback value selector to use when no valid value is saved
+     */
+    public IntDomainPhase(Model model, IntVar[] vars, IntValueSelector fallback) {
+        this(model, vars, fallback, true);
+    }
+
+    /**
+     * Creates a phase saving value selector, and plugs it into the solver of <i>model</i>.
+     *
+     * @param model       the model
+     * @param vars        variables whose phase is saved
+     * @param fallback    value selector to use when no valid value is saved
+     * @param onConflicts set to <i>true</i> to save the phase on conflicts too, otherwise only on solutions
+     */
+    protected IntDomainPhase(Model model, IntVar[] vars, IntValueSelector fallback, boolean onConflicts) {
+        this.vars = vars;
+        this.phases = new int[vars.length];
+        this.saved = new boolean[vars.length];
+        this.var2pos = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        for (int i = 0; i < vars.length; i++) {
+            var2pos.put(vars[i].getId(), i);
+        }
+        this.fallback = fallback;
+        this.onConflicts = onConflicts;
+        this.solver = model.getSolver();
+        solver.plugMonitor(this);
+    }
+
+    @Override
+    public int selectValue(IntVar var) {
+        int i = var2pos.get(var.getId());
+        if (i > -1 && saved[i] && var.contains(phases[i])) {
+            return phases[i];
+        }
+        return fallback.selectValue(var);
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if (onConflicts) {
+            // the variables instantiated by propagation are saved on solutions only
+            DecisionPath path = solver.getDecisionPath();
+            for (int d = path.size() - 1; d > 0; d--) {
+                Object var = path.getDecision(d).getDecisionVariable();
+                if (var instanceof IntVar) {
+                    save(var2pos.get(((IntVar) var).getId()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onSolution() {
+        save();
+    }
+
+    /**
+     * Saves the value of the instantiated variables
+     */
+    private void save() {
+        for (int i = 0; i < vars.length; i++) {
+            save(i);
+        }
+    }
+
+    /**
+     * Saves the value of the variable in position <i>i</i>, if it is instantiated
+     * @param i position of a variable in {@link #vars}, or -1
+     */
+    private void save(int i) {
+        if (i > -1 && vars[i].isInstantiated()) {
+            phases[i] = vars[i].getValue();
+            saved[i] = true;
+        }
+    }
+
+    /**
+     * Saves the values of a solution, found beforehand, to guide the search towards it.
+     *
+     * @param solution a solution which stores the variables of this selector
+     */
+    public void loadFromSolution(Solution solution) {
+        for (int i = 0; i < vars.length; i++) {
+            phases[i] = solution.getIntVal(vars[i]);
+            saved[i] = true;
+        }
+    }
+}
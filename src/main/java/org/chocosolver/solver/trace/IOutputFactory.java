@@ -206,6 +206,20 @@ public interface IOutputFactory extends ISelf<Solver> {
         }
     }
 
+    /**
+     * Plug a search monitor which prints {@code message} every {@code f} ms.
+     * For instance, {@code showStatisticsDuringResolution(1000, stats::toJSON)}
+     * prints the statistics collected by a {@link org.chocosolver.solver.search.loop.monitors.SearchTreeStatistics}.
+     *
+     * @param f       frequency, in millisecond
+     * @param message the message to print
+     */
+    default void showStatisticsDuringResolution(long f, IMessage message) {
+        if (f > 0) {
+            _me().plugMonitor(new LogStatEveryXXms(_me(), f, message));
+        }
+    }
+
 
     //////////////
 
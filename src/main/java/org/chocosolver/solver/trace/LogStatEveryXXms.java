@@ -37,6 +37,16 @@ public class LogStatEveryXXms implements IMonitorInitialize, IMonitorClose {
      * @param duration delay between two outputs, in milliseconds
      */
     public LogStatEveryXXms(final Solver solver, final long duration) {
+        this(solver, duration, solver::toOneLineString);
+    }
+
+    /**
+     * Create a monitor which outputs <i>message</i> every <i>duration</i> milliseconds
+     * @param solver the solver to instrument
+     * @param duration delay between two outputs, in milliseconds
+     * @param message the message to print, built on the printer thread
+     */
+    public LogStatEveryXXms(final Solver solver, final long duration, final IMessage message) {
 
         printer = new Thread() {
 
@@ -47,7 +57,7 @@ public class LogStatEveryXXms implements IMonitorInitialize, IMonitorClose {
                     sleep(duration);
                     //noinspection InfiniteLoopStatement
                     do {
-                        solver.getOut().println(String.format(">> %s", solver.toOneLineString()));
+                        solver.getOut().println(String.format(">> %s", message.print()));
                         sleep(duration);
                     } while (alive);
                 } catch (InterruptedException ignored) {
@@ -101,8 +101,9 @@ public interface IVariableFactory extends ISelf<Model> {
     default BoolVar[] boolVarArray(String name, int size) {
         BoolVar[] vars = new BoolVar[size];
         for (int i = 0; i < size; i++) {
-            vars[i] = boolVar(name + "[" + i + "]");
+            vars[i] = new BoolVarImpl(null, _me());
         }
+        _me().nameLazily(name, vars);
         return vars;
     }
 
@@ -217,6 +218,8 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else  if(boundedDomain) {
             return new IntervalIntVarImpl(name, lb, ub, _me());
+        } else if (_me().getSettings().enableWordBitsetDomains()) {
+            return new WordBitsetIntVarImpl(name, lb, ub, _me());
         } else {
             return new BitsetIntVarImpl(name, lb, ub, _me());
         }
@@ -253,6 +256,8 @@ public interface IVariableFactory extends ISelf<Model> {
             int gap = values[values.length - 1] - values[0];
             if (gap > 30 && gap / values.length > 5) {
                 return new BitsetArrayIntVarImpl(name, values, _me());
+            } else if (_me().getSettings().enableWordBitsetDomains()) {
+                return new WordBitsetIntVarImpl(name, values, _me());
             } else {
                 return new BitsetIntVarImpl(name, values, _me());
             }
@@ -296,6 +301,7 @@ public interface IVariableFactory extends ISelf<Model> {
 
     /**
      * Creates an array of <i>size</i> integer variables, taking their domain in [<i>lb</i>, <i>ub</i>]
+     * The variables are named on demand, but each one has its own domain storage.
      * @param name prefix name of the variables to create. The ith variable will be named <i>name</i>[i]
      * @param size number of variables
      * @param lb initial domain lower bound of each variable
@@ -305,9 +311,18 @@ public interface IVariableFactory extends ISelf<Model> {
      */
     default IntVar[] intVarArray(String name, int size, int lb, int ub, boolean boundedDomain) {
         IntVar[] vars = new IntVar[size];
+        if (lb == ub || lb == 0 && ub == 1) {
+            for (int i = 0; i < size; i++) {
+                vars[i] = intVar(name + "[" + i + "]", lb, ub, boundedDomain);
+            }
+            return vars;
+        }
+        checkIntDomainRange(name, lb, ub);
+        // variables are created in bulk, their names are built on demand
         for (int i = 0; i < size; i++) {
-            vars[i] = intVar(name + "[" + i + "]", lb, ub, boundedDomain);
+            vars[i] = intVar(null, lb, ub, boundedDomain);
         }
+        _me().nameLazily(name, vars);
         return vars;
     }
 
@@ -320,11 +335,8 @@ public interface IVariableFactory extends ISelf<Model> {
      * @return an array of <i>size</i> IntVar of domain [<i>lb</i>, <i>ub</i>]
      */
     default IntVar[] intVarArray(String name, int size, int lb, int ub) {
-        IntVar[] vars = new IntVar[size];
-        for (int i = 0; i < size; i++) {
-            vars[i] = intVar(name + "[" + i + "]", lb, ub);
-        }
-        return vars;
+        boolean bounded = ub - lb + 1 >= _me().getSettings().getMaxDomSizeForEnumerated();
+        return intVarArray(name, size, lb, ub, bounded);
     }
 
     /**
@@ -82,9 +82,10 @@ public abstract class AbstractVariable implements Variable {
     protected final Model model;
 
     /**
-     * Name of the variable.
+     * Name of the variable, built on demand by the model when the variable has been declared in bulk
+     * (see {@link Model#nameLazily(String, Variable[])}), hence possibly <i>null</i> before {@link #getName()} is called.
      */
-    protected final String name;
+    protected String name;
 
     /**
      * List of propagators of this variable.
@@ -127,18 +128,28 @@ public abstract class AbstractVariable implements Variable {
      */
     private EvtScheduler scheduler;
 
+    /**
+     * Shared empty list of views.
+     */
+    private static final IView[] NO_VIEW = new IView[0];
+
+    /**
+     * Shared empty list of monitors.
+     */
+    private static final IVariableMonitor[] NO_MONITOR = new IVariableMonitor[0];
+
     //////////////////////////////////////////////////////////////////////////////////////
 
     /**
      * Create the shared data of any type of variable.
-     * @param name name of the variable
+     * @param name name of the variable, may be <i>null</i> when the variable is declared in bulk
      * @param model model which declares this variable
      */
     protected AbstractVariable(String name, Model model) {
         this.name = name;
         this.model = model;
-        this.views = new IView[2];
-        this.monitors = new IVariableMonitor[2];
+        this.views = NO_VIEW;
+        this.monitors = NO_MONITOR;
         this.propagators = new Propagator[8];
         this.pindices = new int[8];
         this.dindices = new int[6];
@@ -217,7 +228,10 @@ public abstract class AbstractVariable implements Variable {
 
     @Override
     public void unlink(Propagator propagator, int idxInProp) {
-        int i = propagator.getVIndice(idxInProp); // todo deal with -1
+        int i = propagator.getVIndice(idxInProp);
+        if (i == -1) { // the propagator is not aware of this variable's modifications (VOID or unwatched)
+            return;
+        }
         assert propagators[i] == propagator:"Try to unlink :\n"+propagator+"\nfrom "+this.getName()+" but found:\n"+propagators[i];
         // Dynamic addition of a propagator may be not considered yet, so the assertion is not correct
         cancel(i, scheduler.select(propagator.getPropagationConditions(pindices[i])));
@@ -270,7 +284,10 @@ public abstract class AbstractVariable implements Variable {
 
     @Override
     public String getName() {
-        return this.name;
+        if (name == null) {
+            name = model.lazyNameOf(ID);
+        }
+        return name;
     }
 
     ////////////////////////////////////////////////////////////////
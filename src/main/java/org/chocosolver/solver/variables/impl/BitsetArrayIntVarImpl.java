@@ -592,7 +592,7 @@ public final class BitsetArrayIntVarImpl extends AbstractVariable implements Int
      */
     @Override
     public int getValue() {
-        assert isInstantiated() : name + " not instantiated";
+        assert isInstantiated() : getName() + " not instantiated";
         return getLB();
     }
 
@@ -717,7 +717,7 @@ public final class BitsetArrayIntVarImpl extends AbstractVariable implements Int
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder(20);
-        s.append(name).append(" = ");
+        s.append(getName()).append(" = ");
         if (SIZE.get() == 1) {
             s.append(this.getLB());
         } else {
@@ -35,33 +35,33 @@ import java.util.Iterator;
  * @author Charles Prud'homme
  * @since 18 nov. 2010
  */
-public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
+public class BitsetIntVarImpl extends AbstractVariable implements IntVar {
 
     /**
      * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
      * on value removal
      */
-    private boolean reactOnRemoval = false;
+    protected boolean reactOnRemoval = false;
     /**
      * Bitset of available values -- includes offset
      */
-    private final IStateBitSet VALUES;
+    protected final IStateBitSet VALUES;
     /**
      * Lower bound of the current domain -- includes offset
      */
-    private final IStateInt LB;
+    protected final IStateInt LB;
     /**
      * Upper bound of the current domain -- includes offset
      */
-    private final IStateInt UB;
+    protected final IStateInt UB;
     /**
      * Current size of domain
      */
-    private final IStateInt SIZE;
+    protected final IStateInt SIZE;
     /**
      * offset of the lower bound and the first value in the domain
      */
-    private final int OFFSET;
+    protected final int OFFSET;
     /**
      * number of total bits used
      */
@@ -69,7 +69,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
     /**
      * To iterate over removed values
      */
-    private IEnumDelta delta = NoDelta.singleton;
+    protected IEnumDelta delta = NoDelta.singleton;
     /**
      * To iterate over values in the domain
      */
@@ -91,11 +91,23 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
      * @param model declaring model
      */
     public BitsetIntVarImpl(String name, int[] sortedValues, Model model) {
+        this(name, sortedValues, model,
+                model.getEnvironment().makeBitSet(sortedValues[sortedValues.length - 1] - sortedValues[0] + 1));
+    }
+
+    /**
+     * Create an enumerated IntVar based on a given bitset
+     * @param name name of the variable
+     * @param sortedValues original domain values
+     * @param model declaring model
+     * @param values an empty bitset, of capacity at least the span of the domain
+     */
+    protected BitsetIntVarImpl(String name, int[] sortedValues, Model model, IStateBitSet values) {
         super(name, model);
         IEnvironment env = model.getEnvironment();
         OFFSET = sortedValues[0];
         int capacity = sortedValues[sortedValues.length - 1] - OFFSET + 1;
-        this.VALUES = env.makeBitSet(capacity);
+        this.VALUES = values;
         for (int sortedValue : sortedValues) {
             this.VALUES.set(sortedValue - OFFSET);
         }
@@ -113,11 +125,23 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
      * @param model declaring model
      */
     public BitsetIntVarImpl(String name, int min, int max, Model model) {
+        this(name, min, max, model, model.getEnvironment().makeBitSet(max - min + 1));
+    }
+
+    /**
+     * Create an enumerated IntVar based on a given bitset
+     * @param name name of the variable
+     * @param min lower bound
+     * @param max upper bound
+     * @param model declaring model
+     * @param values an empty bitset, of capacity at least <i>max - min + 1</i>
+     */
+    protected BitsetIntVarImpl(String name, int min, int max, Model model, IStateBitSet values) {
         super(name, model);
         IEnvironment env = this.model.getEnvironment();
         this.OFFSET = min;
         int capacity = max - min + 1;
-        this.VALUES = env.makeBitSet(capacity);
+        this.VALUES = values;
         this.VALUES.set(0, max - min + 1);
         this.LB = env.makeInt(0);
         this.UB = env.makeInt(max - min);
@@ -549,7 +573,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
      */
     @Override
     public int getValue() {
-        assert isInstantiated() : name + " not instantiated";
+        assert isInstantiated() : getName() + " not instantiated";
         return getLB();
     }
 
@@ -636,7 +660,7 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder(20);
-        s.append(name).append(" = ");
+        s.append(getName()).append(" = ");
         if (SIZE.get() == 1) {
             s.append(this.getLB());
         } else {
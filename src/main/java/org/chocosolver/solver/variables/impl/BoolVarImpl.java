@@ -399,9 +399,9 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
     @Override
     public String toString() {
         if (!notInstanciated.contains(offset)) {
-            return this.name + " = " + Integer.toString(mValue);
+            return getName() + " = " + Integer.toString(mValue);
         } else {
-            return this.name + " = " + "[0,1]";
+            return getName() + " = " + "[0,1]";
         }
     }
 
@@ -89,7 +89,7 @@ public class FixedBoolVarImpl extends FixedIntVarImpl implements BoolVar {
 
     @Override
     public String toString() {
-        return name + " = " + String.valueOf(constante);
+        return getName() + " = " + String.valueOf(constante);
     }
 
 }
@@ -266,7 +266,7 @@ public class FixedIntVarImpl extends AbstractVariable implements IntVar {
 
     @Override
     public String toString() {
-        return name + " = " + String.valueOf(constante);
+        return getName() + " = " + String.valueOf(constante);
     }
 
     @Override
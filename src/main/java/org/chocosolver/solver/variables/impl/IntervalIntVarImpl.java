@@ -385,7 +385,7 @@ public final class IntervalIntVarImpl extends AbstractVariable implements IntVar
      */
     @Override
     public int getValue() {
-        assert isInstantiated() : name + " not instantiated";
+        assert isInstantiated() : getName() + " not instantiated";
         return getLB();
     }
 
@@ -476,9 +476,9 @@ public final class IntervalIntVarImpl extends AbstractVariable implements IntVar
     @Override
     public String toString() {
         if (SIZE.get() == 1) {
-            return String.format("%s = %d", name, getLB());
+            return String.format("%s = %d", getName(), getLB());
         }
-        return String.format("%s = [%d,%d]", name, getLB(), getUB());
+        return String.format("%s = [%d,%d]", getName(), getLB(), getUB());
     }
 
     ////////////////////////////////////////////////////////////////
@@ -163,7 +163,7 @@ public class SetVarImpl extends AbstractVariable implements SetVar {
 			int ubc =  ub.size(), lbc = lb.size();
 			if(ubc==lbc) cardinality = model.intVar(ubc);
 			else{
-				cardinality = model.intVar(name+".card", lbc, ubc);
+				cardinality = model.intVar(getName()+".card", lbc, ubc);
 				new Constraint("SetCard", new PropCardinality(this, cardinality)).post();
 			}
 		}
@@ -0,0 +1,202 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.structure.ArrayS64BitSet;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.explanations.NoExplanationEngine;
+import org.chocosolver.solver.variables.events.IntEventType;
+
+/**
+ * An enumerated IntVar whose domain is a bitset stored in a single backtrackable array of longs
+ * (see {@link ArrayS64BitSet}): one word is saved at most once per world, whatever the number of values it removes.
+ * <br/>
+ * On top of the API of {@link BitsetIntVarImpl}, it offers bit-parallel operations
+ * ({@link #removeValues(long[], int, ICause)} and {@link #removeAllValuesBut(long[], int, ICause)})
+ * which filter the domain 64 values at a time against a mask built by a propagator.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class WordBitsetIntVarImpl extends BitsetIntVarImpl {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    /**
+     * Bitset of available values, as {@link #VALUES} -- includes offset
+     */
+    private final ArrayS64BitSet WORDS;
+
+    /**
+     * Create an enumerated IntVar based on an array of words
+     * @param name name of the variable
+     * @param sortedValues original domain values
+     * @param model declaring model
+     */
+    public WordBitsetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, sortedValues, model,
+                new ArrayS64BitSet(model.getEnvironment(), sortedValues[sortedValues.length - 1] - sortedValues[0] + 1));
+        this.WORDS = (ArrayS64BitSet) VALUES;
+    }
+
+    /**
+     * Create an enumerated IntVar based on an array of words
+     * @param name name of the variable
+     * @param min lower bound
+     * @param max upper bound
+     * @param model declaring model
+     */
+    public WordBitsetIntVarImpl(String name, int min, int max, Model model) {
+        super(name, min, max, model, new ArrayS64BitSet(model.getEnvironment(), max - min + 1));
+        this.WORDS = (ArrayS64BitSet) VALUES;
+    }
+
+    /**
+     * Removes from the domain of {@code this} all the values {@code offset + i} such that the bit <i>i</i>
+     * of {@code mask} is set, 64 values at a time.
+     * The bit <i>i</i> of {@code mask} is the bit <i>i % 64</i> of {@code mask[i / 64]}.
+     * <ul>
+     * <li>If no value of the domain is in the mask, nothing is done and the return value is {@code false},</li>
+     * <li>if the removal leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, the values are removed, a single event is created and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param mask   set of values to remove, as a bitset
+     * @param offset value associated with the first bit of {@code mask}
+     * @param cause  removal releaser
+     * @return true if at least one value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    public boolean removeValues(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return removeMasked(mask, offset, false, cause);
+    }
+
+    /**
+     * Removes from the domain of {@code this} all the values {@code offset + i} such that the bit <i>i</i>
+     * of {@code mask} is not set, 64 values at a time.
+     * In other words, the domain is intersected with {@code mask}.
+     * The bit <i>i</i> of {@code mask} is the bit <i>i % 64</i> of {@code mask[i / 64]}.
+     * <ul>
+     * <li>If the domain is already included in the mask, nothing is done and the return value is {@code false},</li>
+     * <li>if the intersection is empty,
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, the values are removed, a single event is created and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param mask   set of values to keep, as a bitset
+     * @param offset value associated with the first bit of {@code mask}
+     * @param cause  removal releaser
+     * @return true if at least one value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    public boolean removeAllValuesBut(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return removeMasked(mask, offset, true, cause);
+    }
+
+    /**
+     * Removes the values selected by {@code mask} (or by its complement when {@code keep} is set).
+     * A first pass counts the values to remove, to detect wipe-outs before any modification,
+     * a second pass clears the words, each of them being saved at most once.
+     */
+    private boolean removeMasked(long[] mask, int offset, boolean keep, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int d = OFFSET - offset;
+        int lw = wordIndex(LB.get());
+        int uw = wordIndex(UB.get());
+        int count = 0;
+        for (int w = lw; w <= uw; w++) {
+            long m = wordAt(mask, (w << ADDRESS_BITS_PER_WORD) + d);
+            count += Long.bitCount(WORDS.getWord(w) & (keep ? ~m : m));
+        }
+        if (count == 0) {
+            return false;
+        }
+        boolean explain = model.getSolver().getExplainer() != NoExplanationEngine.SINGLETON;
+        if (count == SIZE.get()) {
+            if (explain) {
+                for (int i = VALUES.nextSetBit(LB.get()); i > -1; i = VALUES.nextSetBit(i + 1)) {
+                    model.getSolver().getExplainer().removeValue(this, i + OFFSET, cause);
+                }
+            }
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        for (int w = lw; w <= uw; w++) {
+            long word = WORDS.getWord(w);
+            long m = wordAt(mask, (w << ADDRESS_BITS_PER_WORD) + d);
+            long rem = word & (keep ? ~m : m);
+            if (rem != 0) {
+                if (reactOnRemoval || explain) {
+                    int base = (w << ADDRESS_BITS_PER_WORD) + OFFSET;
+                    for (long r = rem; r != 0; r &= r - 1) {
+                        int value = base + Long.numberOfTrailingZeros(r);
+                        model.getSolver().getExplainer().removeValue(this, value, cause);
+                        if (reactOnRemoval) {
+                            delta.add(value, cause);
+                        }
+                    }
+                }
+                WORDS.setWord(w, word & ~rem);
+            }
+        }
+        IntEventType e = IntEventType.REMOVE;
+        int lb = LB.get();
+        int ub = UB.get();
+        if (!VALUES.get(lb)) {
+            LB.set(VALUES.nextSetBit(lb));
+            e = IntEventType.INCLOW;
+        }
+        if (!VALUES.get(ub)) {
+            UB.set(VALUES.prevSetBit(ub));
+            e = e == IntEventType.INCLOW ? IntEventType.BOUND : IntEventType.DECUPP;
+        }
+        SIZE.add(-count);
+        if (isInstantiated()) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+        return true;
+    }
+
+    /**
+     * Given a bit index, return word index containing it.
+     *
+     * @param bitIndex bit index
+     */
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Extracts 64 bits of {@code mask} starting at bit {@code bitIndex}, which may be negative
+     * or not aligned on a word. Bits out of {@code mask} are considered as not set.
+     *
+     * @param mask     a bitset
+     * @param bitIndex index of the first bit to extract
+     * @return a word made of the bits <i>bitIndex</i> to <i>bitIndex + 63</i> of {@code mask}
+     */
+    private static long wordAt(long[] mask, int bitIndex) {
+        int u = wordIndex(bitIndex);
+        int shift = bitIndex & (BITS_PER_WORD - 1);
+        long word = 0L;
+        if (u >= 0 && u < mask.length) {
+            word = mask[u] >>> shift;
+        }
+        if (shift != 0 && u + 1 >= 0 && u + 1 < mask.length) {
+            word |= mask[u + 1] << (BITS_PER_WORD - shift);
+        }
+        return word;
+    }
+}
@@ -8,11 +8,12 @@
  */
 package org.chocosolver.util.graphOperations.connectivity;
 
+import org.chocosolver.util.objects.graphs.CSRGraph;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
 import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 
 import java.util.BitSet;
-import java.util.Iterator;
 
 public class StrongConnectivityFinder  {
 
@@ -20,8 +21,9 @@ public class StrongConnectivityFinder  {
 	// VARIABLES
 	//***********************************************************************************
 
-	// input
+	// input, either graph or csr
 	private DirectedGraph graph;
+	private CSRGraph csr;
 	private BitSet restriction;
 	private int n;
 	// output
@@ -30,7 +32,8 @@ public class StrongConnectivityFinder  {
 
 	// util
 	private int[] stack, p, inf, nodeOfDfsNum, dfsNumOfNode;
-	private Iterator<Integer>[] iterator;
+	private ISetIterator[] iterator;
+	private int[] cursor;
 	private BitSet inStack;
 
 	//***********************************************************************************
@@ -38,8 +41,25 @@ public class StrongConnectivityFinder  {
 	//***********************************************************************************
 
 	public StrongConnectivityFinder(DirectedGraph graph) {
+		this(graph, null, graph.getNbMaxNodes());
+		iterator = new ISetIterator[n];
+	}
+
+	/**
+	 * Finds strongly connected components of a CSR graph, removed arcs being ignored.
+	 * All nodes are considered to be present.
+	 *
+	 * @param graph a CSR graph
+	 */
+	public StrongConnectivityFinder(CSRGraph graph) {
+		this(null, graph, graph.getNbNodes());
+		cursor = new int[n];
+	}
+
+	private StrongConnectivityFinder(DirectedGraph graph, CSRGraph csr, int n) {
 		this.graph = graph;
-		this.n = graph.getNbMaxNodes();
+		this.csr = csr;
+		this.n = n;
 		//
 		stack = new int[n];
 		p = new int[n];
@@ -52,7 +72,6 @@ public class StrongConnectivityFinder  {
 		nextNode = new int[n];
 		nodeSCC = new int[n];
 		nbSCC = 0;
-		iterator = new Iterator[n];
 	}
 
 	//***********************************************************************************
@@ -60,9 +79,13 @@ public class StrongConnectivityFinder  {
 	//***********************************************************************************
 
 	public void findAllSCC() {
-		ISet nodes = graph.getNodes();
-		for (int i = 0; i < n; i++) {
-			restriction.set(i, nodes.contains(i));
+		if (csr != null) {
+			restriction.set(0, n);
+		} else {
+			ISet nodes = graph.getNodes();
+			for (int i = 0; i < n; i++) {
+				restriction.set(i, nodes.contains(i));
+			}
 		}
 		findAllSCCOf(restriction);
 	}
@@ -86,9 +109,8 @@ public class StrongConnectivityFinder  {
 	}
 
 	private void findSingletons(BitSet restriction) {
-		ISet nodes = graph.getNodes();
 		for (int i = restriction.nextSetBit(0); i >= 0; i = restriction.nextSetBit(i + 1)) {
-			if (nodes.contains(i) && graph.getPredOf(i).size() * graph.getSuccOf(i).size() == 0) {
+			if (isSingleton(i)) {
 				nodeSCC[i] = nbSCC;
 				sccFirstNode[nbSCC++] = i;
 				restriction.clear(i);
@@ -96,6 +118,37 @@ public class StrongConnectivityFinder  {
 		}
 	}
 
+	private boolean isSingleton(int i) {
+		if (csr != null) {
+			return !csr.hasPred(i) || !csr.hasSucc(i);
+		}
+		return graph.getNodes().contains(i) && graph.getPredOf(i).size() * graph.getSuccOf(i).size() == 0;
+	}
+
+	private void initSucc(int k, int node) {
+		if (csr != null) {
+			cursor[k] = csr.getSuccStart(node);
+		} else {
+			iterator[k] = graph.getSuccOf(node).iterator();
+		}
+	}
+
+	/**
+	 * @param k dfs number of a node
+	 * @return the next successor of the node, or -1 if all have been visited
+	 */
+	private int nextSucc(int k) {
+		if (csr != null) {
+			int a = csr.nextSuccArc(nodeOfDfsNum[k], cursor[k]);
+			if (a < 0) {
+				return -1;
+			}
+			cursor[k] = a + 1;
+			return csr.getHead(a);
+		}
+		return iterator[k].hasNext() ? iterator[k].nextInt() : -1;
+	}
+
 	private void findSCC(int start, BitSet restriction, int[] stack, int[] p, int[] inf, int[] nodeOfDfsNum, int[] dfsNumOfNode, BitSet inStack) {
 		int nb = restriction.cardinality();
 		// trivial case
@@ -114,12 +167,12 @@ public class StrongConnectivityFinder  {
 		stack[stackIdx++] = i;
 		inStack.set(i);
 		p[k] = k;
-		iterator[k] = graph.getSuccOf(start).iterator();
+		initSucc(k, start);
 		int j;
 		// algo
 		while (true) {
-			if (iterator[i].hasNext()) {
-				j = iterator[i].next();
+			j = nextSucc(i);
+			if (j >= 0) {
 				if (restriction.get(j)) {
 					if (dfsNumOfNode[j] == 0 && j != start) {
 						k++;
@@ -127,7 +180,7 @@ public class StrongConnectivityFinder  {
 						dfsNumOfNode[j] = k;
 						p[k] = i;
 						i = k;
-						iterator[i] = graph.getSuccOf(j).iterator();
+						initSucc(i, j);
 						stack[stackIdx++] = i;
 						inStack.set(i);
 						inf[i] = i;
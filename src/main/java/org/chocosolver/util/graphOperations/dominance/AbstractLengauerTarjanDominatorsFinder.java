@@ -9,6 +9,7 @@
 package org.chocosolver.util.graphOperations.dominance;
 
 import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.util.objects.graphs.CSRGraph;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
@@ -25,8 +26,13 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 	// VARIABLES
 	//***********************************************************************************
 
-	// flow graph
+	// flow graph, either g or csr
 	protected DirectedGraph g;
+	protected CSRGraph csr;
+	// true iff csr is traversed backward (post dominators)
+	protected boolean inverse;
+	// position of the next arc to visit, per node, when the graph is a CSR graph
+	protected int[] cursor;
 	// dominator tree
 	protected DirectedGraph T;
 	protected int root, n, k;
@@ -44,9 +50,28 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 	 * Object that finds dominators of the given flow graph g(s)
 	 */
 	public AbstractLengauerTarjanDominatorsFinder(int s, DirectedGraph g) {
-		root = s;
-		n = g.getNbMaxNodes();
+		this(s, g.getNbMaxNodes());
 		this.g = g;
+		succs = new ISet[n];
+		preds = new ISet[n];
+		iterator = new Iterator[n];
+	}
+
+	/**
+	 * Object that finds dominators of the given CSR flow graph g(s), removed arcs being ignored
+	 */
+	public AbstractLengauerTarjanDominatorsFinder(int s, CSRGraph g) {
+		this(s, g.getNbNodes());
+		this.csr = g;
+		cursor = new int[n];
+		// the dominator tree is traversed through these structures
+		succs = new ISet[n];
+		iterator = new Iterator[n];
+	}
+
+	private AbstractLengauerTarjanDominatorsFinder(int s, int n) {
+		root = s;
+		this.n = n;
 		parent = new int[n];
 		semi = new int[n];
 		dom = new int[n];
@@ -54,9 +79,6 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		label = new int[n];
 		vertex = new int[n];
 		bucket = new int[n];
-		succs = new ISet[n];
-		preds = new ISet[n];
-		iterator = new Iterator[n];
 		T = new DirectedGraph(n, SetType.LINKED_LIST, false);
 		list = new TIntArrayList();
 	}
@@ -104,7 +126,9 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		for (int i = 0; i < n; i++) {
 			T.getSuccOf(i).clear();
 			T.getPredOf(i).clear();
-			if (inverseGraph) {
+			if (csr != null) {
+				inverse = inverseGraph;
+			} else if (inverseGraph) {
 				succs[i] = g.getPredOf(i);
 				preds[i] = g.getSuccOf(i);
 			} else {
@@ -125,11 +149,15 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		label[node] = node;
 		vertex[k] = node;
 		for(int i=0;i<n;i++){
-			iterator[i] = succs[i].iterator();
+			if (csr != null) {
+				cursor[i] = inverse ? csr.getPredStart(i) : csr.getSuccStart(i);
+			} else {
+				iterator[i] = succs[i].iterator();
+			}
 		}
 		while (true) {
-			if(iterator[node].hasNext()){
-				next = iterator[node].next();
+			next = nextSucc(node);
+			if(next >= 0){
 				if (semi[next] == -1) {
 					k++;
 					semi[next] = k;
@@ -147,6 +175,39 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		}
 	}
 
+	/**
+	 * @return the next successor of node in the flow graph, or -1 if all have been visited
+	 */
+	private int nextSucc(int node) {
+		if (csr == null) {
+			return iterator[node].hasNext() ? iterator[node].next() : -1;
+		}
+		if (inverse) {
+			int p = csr.nextPredPosition(node, cursor[node]);
+			if (p < 0) {
+				return -1;
+			}
+			cursor[node] = p + 1;
+			return csr.getTail(csr.getPredArc(p));
+		}
+		int a = csr.nextSuccArc(node, cursor[node]);
+		if (a < 0) {
+			return -1;
+		}
+		cursor[node] = a + 1;
+		return csr.getHead(a);
+	}
+
+	/**
+	 * Updates the semi-dominator of w with its predecessor v in the flow graph
+	 */
+	private void relax(int w, int v) {
+		int u = eval(v);
+		if (semi[u] < semi[w]) {
+			semi[w] = semi[u];
+		}
+	}
+
 	//***********************************************************************************
 	// SDOM & IDOM
 	//***********************************************************************************
@@ -156,12 +217,18 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		ISetIterator prds;
 		for (int i = n - 1; i >= 1; i--) {
 			w = vertex[i];
-			prds = preds[w].iterator();
-			while (prds.hasNext()) {
-				int v = prds.nextInt();
-				u = eval(v);
-				if (semi[u] < semi[w]) {
-					semi[w] = semi[u];
+			if (csr == null) {
+				prds = preds[w].iterator();
+				while (prds.hasNext()) {
+					relax(w, prds.nextInt());
+				}
+			} else if (inverse) {
+				for (int a = csr.nextSuccArc(w, csr.getSuccStart(w)); a >= 0; a = csr.nextSuccArc(w, a + 1)) {
+					relax(w, csr.getHead(a));
+				}
+			} else {
+				for (int p = csr.nextPredPosition(w, csr.getPredStart(w)); p >= 0; p = csr.nextPredPosition(w, p + 1)) {
+					relax(w, csr.getTail(csr.getPredArc(p)));
 				}
 			}
 			if (vertex[semi[w]] != parent[w]) {
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.util.graphOperations.dominance;
 
+import org.chocosolver.util.objects.graphs.CSRGraph;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
 
 /**
@@ -36,6 +37,16 @@ public class AlphaDominatorsFinder extends AbstractLengauerTarjanDominatorsFinde
         child = new int[n];
     }
 
+    /**
+     * Object that finds dominators of the given CSR flow graph g(s), removed arcs being ignored
+     * It uses the LT algorithm which runs in O(alpha.m)
+     */
+    public AlphaDominatorsFinder(int s, CSRGraph g) {
+        super(s, g);
+        size = new int[n];
+        child = new int[n];
+    }
+
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.util.graphOperations.dominance;
 
+import org.chocosolver.util.objects.graphs.CSRGraph;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
 
 /**
@@ -29,6 +30,14 @@ public class SimpleDominatorsFinder extends AbstractLengauerTarjanDominatorsFind
         super(s, g);
     }
 
+    /**
+     * Object that finds dominators of the given CSR flow graph g(s), removed arcs being ignored
+     * It uses the simple LT algorithm which runs in O(m.log(n))
+     */
+    public SimpleDominatorsFinder(int s, CSRGraph g) {
+        super(s, g);
+    }
+
     //***********************************************************************************
     // link-eval
     //***********************************************************************************
@@ -0,0 +1,366 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.graphs;
+
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.solver.Model;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable directed graph stored in compressed sparse row (CSR) format.
+ * <p>
+ * Nodes are 0 to n-1 and arcs are numbered from 0 to m-1, sorted by tail then by head:
+ * the arcs leaving <i>x</i> are those in [{@link #getSuccStart(int)}, {@link #getSuccEnd(int)}).
+ * Arcs entering <i>x</i> are given by a second index of positions, in [{@link #getPredStart(int)}, {@link #getPredEnd(int)}),
+ * each position being mapped to an arc by {@link #getPredArc(int)}.
+ * The whole graph is made of four int arrays, which is compact and cache-friendly compared to
+ * {@link DirectedGraph}, but no arc nor node can be added.
+ * <p>
+ * Arcs can however be removed, and restored, through an overlay which only stores one bit per arc.
+ * The overlay of a stored graph is backtrackable: removals are undone upon backtrack.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class CSRGraph {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    // number of nodes
+    private final int n;
+    // arcs leaving x are in [succOffsets[x], succOffsets[x + 1])
+    private final int[] succOffsets;
+    // tail and head of each arc
+    private final int[] tails, heads;
+    // positions of arcs entering x are in [predOffsets[x], predOffsets[x + 1])
+    private final int[] predOffsets;
+    // arc at each position, sorted by head then by tail
+    private final int[] predArcs;
+    // removed arcs, either backtrackable or not
+    private final IStateBitSet storedRemoved;
+    private final BitSet removed;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Creates a graph of n nodes whose arcs are (tails[i], heads[i]).
+     * Duplicated arcs are ignored.
+     *
+     * @param n     number of nodes
+     * @param tails tail of each arc, in [0, n-1]
+     * @param heads head of each arc, in [0, n-1]
+     */
+    public CSRGraph(int n, int[] tails, int[] heads) {
+        this(null, n, tails, heads);
+    }
+
+    /**
+     * Creates a graph of n nodes whose arcs are (tails[i], heads[i]),
+     * and whose removed arcs are restored upon backtrack.
+     * Duplicated arcs are ignored.
+     *
+     * @param model model providing the backtracking environment
+     * @param n     number of nodes
+     * @param tails tail of each arc, in [0, n-1]
+     * @param heads head of each arc, in [0, n-1]
+     */
+    public CSRGraph(Model model, int n, int[] tails, int[] heads) {
+        if (tails.length != heads.length) {
+            throw new IllegalArgumentException("tails and heads should have the same length");
+        }
+        this.n = n;
+        // counting sort by tail, then sort and dedupe each row
+        int[] starts = new int[n + 1];
+        for (int t : tails) {
+            starts[t + 1]++;
+        }
+        for (int x = 0; x < n; x++) {
+            starts[x + 1] += starts[x];
+        }
+        int[] pos = Arrays.copyOf(starts, n);
+        int[] hs = new int[heads.length];
+        for (int i = 0; i < heads.length; i++) {
+            hs[pos[tails[i]]++] = heads[i];
+        }
+        succOffsets = new int[n + 1];
+        int m = 0;
+        for (int x = 0; x < n; x++) {
+            succOffsets[x] = m;
+            Arrays.sort(hs, starts[x], starts[x + 1]);
+            for (int k = starts[x]; k < starts[x + 1]; k++) {
+                if (k == starts[x] || hs[k] != hs[k - 1]) {
+                    hs[m++] = hs[k];
+                }
+            }
+        }
+        succOffsets[n] = m;
+        this.heads = m < hs.length ? Arrays.copyOf(hs, m) : hs;
+        this.tails = new int[m];
+        for (int x = 0; x < n; x++) {
+            Arrays.fill(this.tails, succOffsets[x], succOffsets[x + 1], x);
+        }
+        // counting sort by head, stable so that tails are sorted within each row
+        predOffsets = new int[n + 1];
+        for (int a = 0; a < m; a++) {
+            predOffsets[this.heads[a] + 1]++;
+        }
+        for (int x = 0; x < n; x++) {
+            predOffsets[x + 1] += predOffsets[x];
+        }
+        pos = Arrays.copyOf(predOffsets, n);
+        predArcs = new int[m];
+        for (int a = 0; a < m; a++) {
+            predArcs[pos[this.heads[a]]++] = a;
+        }
+        if (model != null) {
+            storedRemoved = model.getEnvironment().makeBitSet(m);
+            removed = null;
+        } else {
+            storedRemoved = null;
+            removed = new BitSet(m);
+        }
+    }
+
+    /**
+     * Creates a graph with the same nodes and arcs as g, absent nodes being isolated.
+     *
+     * @param model model providing the backtracking environment, <i>null</i> if removals are not backtrackable
+     * @param g     a graph
+     * @return a CSR copy of g
+     */
+    public static CSRGraph of(Model model, DirectedGraph g) {
+        int n = g.getNbMaxNodes();
+        int m = 0;
+        ISetIterator nodes = g.getNodes().iterator();
+        while (nodes.hasNext()) {
+            m += g.getSuccOf(nodes.nextInt()).size();
+        }
+        int[] tails = new int[m];
+        int[] heads = new int[m];
+        m = 0;
+        nodes = g.getNodes().iterator();
+        while (nodes.hasNext()) {
+            int x = nodes.nextInt();
+            ISetIterator succs = g.getSuccOf(x).iterator();
+            while (succs.hasNext()) {
+                tails[m] = x;
+                heads[m++] = succs.nextInt();
+            }
+        }
+        return new CSRGraph(model, n, tails, heads);
+    }
+
+    //***********************************************************************************
+    // STRUCTURE
+    //***********************************************************************************
+
+    /**
+     * @return the number of nodes
+     */
+    public int getNbNodes() {
+        return n;
+    }
+
+    /**
+     * @return the number of arcs, including removed ones
+     */
+    public int getNbArcs() {
+        return heads.length;
+    }
+
+    /**
+     * @param x a node
+     * @return the first arc leaving x
+     */
+    public int getSuccStart(int x) {
+        return succOffsets[x];
+    }
+
+    /**
+     * @param x a node
+     * @return the arc following the last arc leaving x
+     */
+    public int getSuccEnd(int x) {
+        return succOffsets[x + 1];
+    }
+
+    /**
+     * @param x a node
+     * @return the first position of the arcs entering x
+     */
+    public int getPredStart(int x) {
+        return predOffsets[x];
+    }
+
+    /**
+     * @param x a node
+     * @return the position following the last arc entering x
+     */
+    public int getPredEnd(int x) {
+        return predOffsets[x + 1];
+    }
+
+    /**
+     * @param p a position in [{@link #getPredStart(int)}, {@link #getPredEnd(int)})
+     * @return the arc at position p
+     */
+    public int getPredArc(int p) {
+        return predArcs[p];
+    }
+
+    /**
+     * @param a an arc
+     * @return the tail of a
+     */
+    public int getTail(int a) {
+        return tails[a];
+    }
+
+    /**
+     * @param a an arc
+     * @return the head of a
+     */
+    public int getHead(int a) {
+        return heads[a];
+    }
+
+    /**
+     * Binary search of the arc (x,y), removed or not.
+     *
+     * @param x tail
+     * @param y head
+     * @return the arc (x,y), or -1 if it does not belong to the graph
+     */
+    public int getArc(int x, int y) {
+        int a = Arrays.binarySearch(heads, succOffsets[x], succOffsets[x + 1], y);
+        return a < 0 ? -1 : a;
+    }
+
+    //***********************************************************************************
+    // OVERLAY
+    //***********************************************************************************
+
+    /**
+     * @return <i>true</i> iff removals are restored upon backtrack
+     */
+    public boolean isStored() {
+        return storedRemoved != null;
+    }
+
+    /**
+     * @param a an arc
+     * @return <i>true</i> iff a has been removed
+     */
+    public boolean isArcRemoved(int a) {
+        return storedRemoved != null ? storedRemoved.get(a) : removed.get(a);
+    }
+
+    /**
+     * Removes the arc a, which remains in the structure but is ignored by iterations.
+     *
+     * @param a an arc
+     */
+    public void removeArc(int a) {
+        if (storedRemoved != null) {
+            storedRemoved.set(a);
+        } else {
+            removed.set(a);
+        }
+    }
+
+    /**
+     * Restores the arc a.
+     *
+     * @param a an arc
+     */
+    public void restoreArc(int a) {
+        if (storedRemoved != null) {
+            storedRemoved.clear(a);
+        } else {
+            removed.clear(a);
+        }
+    }
+
+    /**
+     * Restores all arcs.
+     */
+    public void restoreAllArcs() {
+        if (storedRemoved != null) {
+            storedRemoved.clear();
+        } else {
+            removed.clear();
+        }
+    }
+
+    /**
+     * @param x    a node
+     * @param from an arc
+     * @return the first arc leaving x, not removed, from <i>from</i> (inclusive), or -1 if there is none
+     */
+    public int nextSuccArc(int x, int from) {
+        int end = succOffsets[x + 1];
+        if (from >= end) {
+            return -1;
+        }
+        int a = storedRemoved != null ? storedRemoved.nextClearBit(from) : removed.nextClearBit(from);
+        return a < end ? a : -1;
+    }
+
+    /**
+     * @param x    a node
+     * @param from a position
+     * @return the first position of an arc entering x, not removed, from <i>from</i> (inclusive), or -1 if there is none
+     */
+    public int nextPredPosition(int x, int from) {
+        int end = predOffsets[x + 1];
+        for (int p = from; p < end; p++) {
+            if (!isArcRemoved(predArcs[p])) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param x a node
+     * @return <i>true</i> iff an arc leaving x is not removed
+     */
+    public boolean hasSucc(int x) {
+        return nextSuccArc(x, succOffsets[x]) >= 0;
+    }
+
+    /**
+     * @param x a node
+     * @return <i>true</i> iff an arc entering x is not removed
+     */
+    public boolean hasPred(int x) {
+        return nextPredPosition(x, predOffsets[x]) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("successors : \n");
+        for (int x = 0; x < n; x++) {
+            sb.append(x).append(" -> {");
+            for (int a = nextSuccArc(x, succOffsets[x]); a >= 0; a = nextSuccArc(x, a + 1)) {
+                sb.append(heads[a]).append(" ");
+            }
+            sb.append("}\n");
+        }
+        return sb.toString();
+    }
+}
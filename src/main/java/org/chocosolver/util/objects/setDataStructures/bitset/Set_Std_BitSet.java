@@ -10,7 +10,7 @@ package org.chocosolver.util.objects.setDataStructures.bitset;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.structure.S64BitSet;
+import org.chocosolver.memory.structure.ArrayS64BitSet;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetType;
@@ -29,7 +29,7 @@ public class Set_Std_BitSet implements ISet {
 
 	private IStateInt card;	// enables to get the cardinality in O(1)
 	private int offset;		// allow using negative numbers
-	private S64BitSet values;
+	private ArrayS64BitSet values;
 	private ISetIterator iter = newIterator();
 
 	//***********************************************************************************
@@ -43,7 +43,7 @@ public class Set_Std_BitSet implements ISet {
 	 * @param offSet smallest allowed value in the set
 	 */
 	public Set_Std_BitSet(IEnvironment environment, int offSet) {
-		values = new S64BitSet(environment);
+		values = new ArrayS64BitSet(environment);
 		card = environment.makeInt(0);
 		offset = offSet;
 	}
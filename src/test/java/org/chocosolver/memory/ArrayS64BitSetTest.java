@@ -0,0 +1,169 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+import org.chocosolver.memory.structure.ArrayS64BitSet;
+import org.chocosolver.memory.structure.OperationLongArray;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ArrayS64BitSetTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testFactory() {
+        IEnvironment env = new EnvironmentTrailing();
+        Assert.assertTrue(env.makeBitSet(64) instanceof ArrayS64BitSet);
+        Assert.assertTrue(env.makeBitSet(10000) instanceof ArrayS64BitSet);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRanges() {
+        IEnvironment env = new EnvironmentTrailing();
+        IStateBitSet bs = new ArrayS64BitSet(env, 200);
+        bs.set(3, 150);
+        Assert.assertEquals(bs.cardinality(), 147);
+        Assert.assertEquals(bs.nextSetBit(0), 3);
+        Assert.assertEquals(bs.prevSetBit(199), 149);
+        bs.clear(60, 130);
+        Assert.assertEquals(bs.cardinality(), 77);
+        Assert.assertEquals(bs.nextSetBit(60), 130);
+        Assert.assertEquals(bs.prevSetBit(129), 59);
+        Assert.assertEquals(bs.nextClearBit(3), 60);
+        Assert.assertEquals(bs.prevClearBit(140), 129);
+        bs.flip(0, 256);
+        Assert.assertEquals(bs.cardinality(), 256 - 77);
+        Assert.assertTrue(bs.get(255));
+        Assert.assertFalse(bs.get(256));
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testGrowAndBacktrack() {
+        IEnvironment env = new EnvironmentTrailing();
+        IStateBitSet bs = new ArrayS64BitSet(env, 64);
+        bs.set(1);
+        env.worldPush();
+        bs.set(1000);
+        Assert.assertTrue(bs.get(1000));
+        Assert.assertTrue(bs.size() > 1000);
+        env.worldPop();
+        Assert.assertFalse(bs.get(1000));
+        Assert.assertTrue(bs.get(1));
+        Assert.assertEquals(bs.cardinality(), 1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testOperationLongArray() {
+        // the default implementation of IEnvironment.makeLongArray
+        IEnvironment env = new EnvironmentTrailing();
+        IStateLongArray array = new OperationLongArray(env, 2, 5L);
+        env.worldPush();
+        array.set(0, 7L);
+        array.set(0, 8L);
+        array.ensureCapacity(4);
+        array.set(3, 9L);
+        env.worldPush();
+        array.set(1, 1L);
+        Assert.assertEquals(array.get(1), 1L);
+        env.worldPop();
+        Assert.assertEquals(array.get(0), 8L);
+        Assert.assertEquals(array.get(1), 5L);
+        Assert.assertEquals(array.get(3), 9L);
+        env.worldPop();
+        Assert.assertEquals(array.get(0), 5L);
+        Assert.assertEquals(array.get(3), 0L);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        IEnvironment env = new EnvironmentTrailing();
+        IStateBitSet bs = new ArrayS64BitSet(env, 300);
+        Deque<BitSet> saved = new ArrayDeque<>();
+        BitSet ref = new BitSet();
+        for (int k = 0; k < 5000; k++) {
+            int a = rnd.nextInt(300);
+            int b = a + rnd.nextInt(300 - a + 1);
+            switch (rnd.nextInt(8)) {
+                case 0:
+                    env.worldPush();
+                    saved.push((BitSet) ref.clone());
+                    break;
+                case 1:
+                    if (!saved.isEmpty()) {
+                        env.worldPop();
+                        ref = saved.pop();
+                    }
+                    break;
+                case 2:
+                    bs.set(a);
+                    ref.set(a);
+                    break;
+                case 3:
+                    bs.clear(a);
+                    ref.clear(a);
+                    break;
+                case 4:
+                    bs.set(a, b);
+                    ref.set(a, b);
+                    break;
+                case 5:
+                    bs.clear(a, b);
+                    ref.clear(a, b);
+                    break;
+                case 6:
+                    bs.flip(a, b);
+                    ref.flip(a, b);
+                    break;
+                default:
+                    Assert.assertEquals(bs.nextSetBit(a), ref.nextSetBit(a));
+                    Assert.assertEquals(bs.prevSetBit(a), ref.previousSetBit(a));
+                    Assert.assertEquals(bs.nextClearBit(a), ref.nextClearBit(a));
+                    Assert.assertEquals(bs.prevClearBit(a), ref.previousClearBit(a));
+                    break;
+            }
+            Assert.assertEquals(bs.cardinality(), ref.cardinality());
+            Assert.assertEquals(bs.copyToBitSet(), ref);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testLogicalOperations() {
+        IEnvironment env = new EnvironmentTrailing();
+        IStateBitSet bs1 = new ArrayS64BitSet(env, 100);
+        IStateBitSet bs2 = new ArrayS64BitSet(env, 300);
+        bs1.set(10, 90);
+        bs2.set(50, 250);
+        Assert.assertTrue(bs1.intersects(bs2));
+        IStateBitSet c = bs1.copy();
+        c.and(bs2);
+        Assert.assertEquals(c.cardinality(), 40);
+        c = bs1.copy();
+        c.or(bs2);
+        Assert.assertEquals(c.cardinality(), 240);
+        c = bs1.copy();
+        c.xor(bs2);
+        Assert.assertEquals(c.cardinality(), 200);
+        c = bs1.copy();
+        c.andNot(bs2);
+        Assert.assertEquals(c.cardinality(), 40);
+        Assert.assertEquals(c.prevSetBit(299), 49);
+    }
+}
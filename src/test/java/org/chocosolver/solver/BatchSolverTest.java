@@ -0,0 +1,197 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class BatchSolverTest {
+
+    /**
+     * An instance: upper bounds of 4 variables, a capacity, and allowed pairs for the first two variables.
+     */
+    private static class Instance {
+        final int[] ubs;
+        final int capacity;
+        final int[][] pairs;
+
+        Instance(long seed) {
+            Random rnd = new Random(seed);
+            ubs = new int[4];
+            for (int i = 0; i < 4; i++) {
+                ubs[i] = rnd.nextInt(10);
+            }
+            capacity = rnd.nextInt(30);
+            pairs = new int[5][];
+            for (int i = 0; i < pairs.length; i++) {
+                pairs[i] = new int[]{rnd.nextInt(10), rnd.nextInt(10)};
+            }
+        }
+    }
+
+    private static final int[] WEIGHTS = {3, 5, 2, 7};
+
+    /**
+     * Maximizes the sum of the variables, the weighted sum of which is bounded by the capacity.
+     */
+    private static Integer solveFresh(Instance instance) {
+        Model model = new Model();
+        IntVar[] x = new IntVar[4];
+        for (int i = 0; i < 4; i++) {
+            x[i] = model.intVar("x" + i, 0, instance.ubs[i]);
+        }
+        IntVar total = model.intVar("total", 0, 40);
+        model.sum(x, "=", total).post();
+        model.scalar(x, WEIGHTS, "<=", instance.capacity).post();
+        model.table(x[0], x[1], new Tuples(instance.pairs, true)).post();
+        Solution s = model.getSolver().findOptimalSolution(total, true);
+        return s == null ? null : s.getIntVal(total);
+    }
+
+    private static class Template implements IModelTemplate<Instance, Integer> {
+
+        @Override
+        public Model build() {
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 4, 0, 9);
+            IntVar total = model.intVar("total", 0, 40);
+            IntVar capacity = model.intVar("capacity", 0, 29);
+            model.sum(x, "=", total).post();
+            model.scalar(x, WEIGHTS, "<=", capacity).post();
+            return model;
+        }
+
+        @Override
+        public void bind(Model model, Instance instance) throws ContradictionException {
+            for (int i = 0; i < 4; i++) {
+                ((IntVar) model.getVar(i)).updateUpperBound(instance.ubs[i], Cause.Null);
+            }
+            ((IntVar) model.getVar(5)).instantiateTo(instance.capacity, Cause.Null);
+            model.table((IntVar) model.getVar(0), (IntVar) model.getVar(1), new Tuples(instance.pairs, true)).post();
+        }
+
+        @Override
+        public Integer solve(Model model, Instance instance) {
+            IntVar total = (IntVar) model.getVar(4);
+            Solution s = model.getSolver().findOptimalSolution(total, true);
+            return s == null ? null : s.getIntVal(total);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSequential() {
+        try (BatchSolver<Instance, Integer> batch = new BatchSolver<>(new Template(), 1)) {
+            for (long seed = 0; seed < 50; seed++) {
+                Instance instance = new Instance(seed);
+                Assert.assertEquals(batch.solve(instance), solveFresh(instance), "seed " + seed);
+            }
+            Assert.assertEquals(batch.getNbModelsBuilt(), 1);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallel() {
+        List<Instance> instances = new ArrayList<>();
+        for (long seed = 0; seed < 200; seed++) {
+            instances.add(new Instance(seed));
+        }
+        try (BatchSolver<Instance, Integer> batch = new BatchSolver<>(new Template(), 4)) {
+            List<Integer> results = batch.solveAll(instances);
+            for (int i = 0; i < instances.size(); i++) {
+                Assert.assertEquals(results.get(i), solveFresh(instances.get(i)), "seed " + i);
+            }
+            Assert.assertTrue(batch.getNbModelsBuilt() <= 4);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasibleBinding() {
+        IModelTemplate<Integer, Boolean> template = new IModelTemplate<Integer, Boolean>() {
+            @Override
+            public Model build() {
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 3, 0, 5);
+                model.allDifferent(x).post();
+                return model;
+            }
+
+            @Override
+            public void bind(Model model, Integer ub) throws ContradictionException {
+                for (int i = 0; i < 3; i++) {
+                    ((IntVar) model.getVar(i)).updateUpperBound(ub, Cause.Null);
+                }
+            }
+
+            @Override
+            public Boolean solve(Model model, Integer ub) {
+                return model.getSolver().solve();
+            }
+
+            @Override
+            public Boolean infeasible(Integer ub) {
+                return Boolean.FALSE;
+            }
+        };
+        try (BatchSolver<Integer, Boolean> batch = new BatchSolver<>(template, 1)) {
+            Assert.assertFalse(batch.solve(-1));
+            Assert.assertFalse(batch.solve(1));
+            Assert.assertTrue(batch.solve(2));
+            Assert.assertTrue(batch.solve(5));
+            Assert.assertFalse(batch.solve(0));
+            Assert.assertEquals(batch.getNbModelsBuilt(), 1);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testClose() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        IModelTemplate<Integer, Long> template = new IModelTemplate<Integer, Long>() {
+            @Override
+            public Model build() {
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 12, 0, 11);
+                model.allDifferent(x, "NEQS").post();
+                model.getSolver().plugMonitor((IMonitorSolution) started::countDown);
+                return model;
+            }
+
+            @Override
+            public void bind(Model model, Integer i) {
+            }
+
+            @Override
+            public Long solve(Model model, Integer i) {
+                while (model.getSolver().solve()) ;
+                return model.getSolver().getSolutionCount();
+            }
+        };
+        BatchSolver<Integer, Long> batch = new BatchSolver<>(template, 1);
+        CompletableFuture<Long> future = batch.submit(0);
+        started.await();
+        batch.close();
+        Assert.assertTrue(future.get(10, TimeUnit.SECONDS) > 0);
+    }
+}
@@ -8,12 +8,18 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.CancellationToken;
+import org.chocosolver.solver.search.limits.TimeCounter;
 import org.chocosolver.util.tools.TimeUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.chocosolver.util.ProblemMaker.makeNQueenWithBinaryConstraints;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -94,4 +100,59 @@ public class LimitsTest {
         d = TimeUtils.convertInMilliseconds("71s");
         Assert.assertEquals(d, 71000);
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCancelled() {
+        Model s = makeNQueenWithBinaryConstraints(12);
+        CancellationToken token = new CancellationToken();
+        s.getSolver().setCancellationToken(token);
+        token.cancel();
+        assertFalse(s.getSolver().solve());
+        assertTrue(s.getSolver().getNodeCount() <= 1);
+        assertEquals(s.getSolver().getSearchState(), SearchState.STOPPED);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCancelAfter() {
+        Model s = makeNQueenWithBinaryConstraints(12);
+        s.getSolver().setCancellationToken(new CancellationToken().cancelAfter(200, TimeUnit.MILLISECONDS));
+        while (s.getSolver().solve()) ;
+        assertEquals(s.getSolver().getSearchState(), SearchState.STOPPED);
+        assertTrue(s.getSolver().getTimeCount() >= .15f);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCancelFromThread() throws InterruptedException {
+        Model s = makeNQueenWithBinaryConstraints(12);
+        CancellationToken caller = new CancellationToken();
+        s.getSolver().setCancellationToken(new CancellationToken(caller));
+        Thread t = new Thread(() -> {
+            while (s.getSolver().solve()) ;
+        });
+        t.start();
+        Thread.sleep(100);
+        caller.cancel();
+        t.join();
+        assertEquals(s.getSolver().getSearchState(), SearchState.STOPPED);
+        s.getSolver().reset();
+        // the token declared by the user is kept
+        assertTrue(s.getSolver().getCancellationToken().isCancelled());
+        assertFalse(s.getSolver().solve());
+        s.getSolver().reset();
+        s.getSolver().setCancellationToken(new CancellationToken());
+        assertTrue(s.getSolver().solve());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testTimeOverride() {
+        Model s = makeNQueenWithBinaryConstraints(12);
+        TimeCounter limit = new TimeCounter(s, TimeUtils.convertInMilliseconds("10s") * TimeUtils.MILLISECONDS_IN_NANOSECONDS);
+        s.getSolver().addStopCriterion(limit);
+        assertTrue(s.getSolver().solve());
+        assertFalse(limit.isMet());
+        limit.overrideLimit(0);
+        assertTrue(limit.isMet());
+        assertFalse(s.getSolver().solve());
+        assertEquals(s.getSolver().getSearchState(), SearchState.STOPPED);
+    }
 }
@@ -8,10 +8,23 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.features.Attribute;
+import org.chocosolver.solver.features.Features;
+import org.chocosolver.solver.features.IWorkerConfiguration;
+import org.chocosolver.solver.features.LinearSelector;
+import org.chocosolver.solver.features.WorkerConfiguration;
+import org.chocosolver.solver.search.limits.CancellationToken;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.chocosolver.solver.ModelTest.knapsack;
 import static org.chocosolver.solver.search.strategy.Search.*;
 
@@ -197,4 +210,147 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testLinearSelector() throws IOException {
+        LinearSelector selector = LinearSelector.read(new StringReader(
+                "# attributes\n" +
+                "NV NC\n" +
+                "LAST_CONFLICT 1.0 0.0 0.0\n" +
+                "\n" +
+                "ACTIVITY_BASED 0.0 1.0 0.0\n" +
+                "RANDOM_LNS 0.0 0.0 -1.0\n"));
+        Model model = knapsack();
+        Features features = new Features(model, selector.getAttributes());
+        IWorkerConfiguration[] confs = selector.select(features, 4);
+        // many variables, few constraints
+        Assert.assertEquals(confs, new IWorkerConfiguration[]{
+                WorkerConfiguration.ACTIVITY_BASED, WorkerConfiguration.LAST_CONFLICT,
+                WorkerConfiguration.RANDOM_LNS, WorkerConfiguration.ACTIVITY_BASED});
+
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.setAlgorithmSelector(selector);
+        for (int i = 0; i < 4; i++) {
+            pares.addModel(knapsack());
+        }
+        while(pares.solve());
+        Assert.assertEquals(pares.getFeatures().getValue(Attribute.NV), features.getValue(Attribute.NV));
+        Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testLinearSelectorMalformed() throws IOException {
+        LinearSelector.read(new StringReader("NV NC\nLAST_CONFLICT 1.0 0.0\n"));
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSlices() {
+        for (int iter = 0; iter < 5; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            pares.setNbThreads(2, 5);
+            for (int i = 0; i < 8; i++) {
+                pares.addModel(knapsack());
+            }
+            while(pares.solve());
+            Model finder = pares.getBestModel();
+            Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+            for (Model m : pares.getModels()) {
+                Assert.assertFalse(m.getSolver().getCancellationToken().isCancelled());
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCallerCancellation() {
+        CancellationToken caller = new CancellationToken();
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 4; i++) {
+            Model m = knapsack();
+            m.getSolver().setCancellationToken(new CancellationToken(caller));
+            pares.addModel(m);
+        }
+        caller.cancel();
+        Assert.assertFalse(pares.solve());
+        for (Model m : pares.getModels()) {
+            Assert.assertTrue(m.getSolver().getNodeCount() <= 1);
+            Assert.assertTrue(m.getSolver().getCancellationToken().isCancelled());
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSlicesSat() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.setNbThreads(1, 1);
+        for (int i = 0; i < 5; i++) {
+            pares.addModel(knapsack());
+        }
+        for(Model m:pares.getModels()){
+            m.clearObjective();
+        }
+        Assert.assertTrue(pares.solve());
+        Assert.assertEquals(pares.getBestModel().getSolver().getSolutionCount(), 1);
+    }
+
+    private static List<Long> deterministicRun(int nbThreads, boolean optimization) {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.setDeterministic(20);
+        if (nbThreads > 0) {
+            pares.setNbThreads(nbThreads, 10);
+        }
+        for (int i = 0; i < 8; i++) {
+            Model m = knapsack();
+            if (!optimization) {
+                m.clearObjective();
+            }
+            pares.addModel(m);
+        }
+        List<Long> trace = new ArrayList<>();
+        while (pares.solve()) {
+            trace.add((long) pares.getModels().indexOf(pares.getBestModel()));
+            if (optimization) {
+                trace.add(pares.getBestModel().getSolver().getBestSolutionValue().longValue());
+            } else {
+                break;
+            }
+        }
+        for (Model m : pares.getModels()) {
+            trace.add(m.getSolver().getNodeCount());
+            trace.add(m.getSolver().getFailCount());
+        }
+        return trace;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDeterministic() {
+        List<Long> expected = deterministicRun(0, true);
+        // the best solution is found
+        Assert.assertTrue(expected.contains(51L));
+        for (int nbThreads = 1; nbThreads < 4; nbThreads++) {
+            Assert.assertEquals(deterministicRun(nbThreads, true), expected);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDeterministicSat() {
+        List<Long> expected = deterministicRun(0, false);
+        for (int nbThreads = 1; nbThreads < 4; nbThreads++) {
+            Assert.assertEquals(deterministicRun(nbThreads, false), expected);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDeterministicStopCriteria() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.setDeterministic(1);
+        for (int i = 0; i < 4; i++) {
+            pares.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(12));
+        }
+        Assert.assertTrue(pares.solve());
+        // the end of the epoch does not stop the models anymore
+        for (Model m : pares.getModels()) {
+            Assert.assertFalse(m.getSolver().isStopCriterionMet());
+        }
+        Model paused = pares.getModels().get(pares.getModels().get(0) == pares.getBestModel() ? 1 : 0);
+        Assert.assertTrue(paused.getSolver().solve());
+    }
 }
@@ -0,0 +1,159 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.reification.PropConditionnal;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PresolverTest {
+
+    private static Model makeModel(boolean presolve) {
+        Model model = new Model();
+        model.set(new Settings() {
+            @Override
+            public boolean enablePresolve() {
+                return presolve;
+            }
+
+            @Override
+            public boolean enableTableSubstitution() {
+                return false;
+            }
+        });
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEntailed() {
+        Model model = makeModel(true);
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 6, 9);
+        // the only forbidden tuple is out of the domains
+        Tuples tuples = new Tuples(false);
+        tuples.add(9, 9);
+        model.table(x, y, tuples).post();
+        model.allDifferent(x, y).post();
+        model.arithm(x, "=", 3).post();
+        model.arithm(y, "=", 7).post();
+        model.getSolver().findAllSolutions();
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 1);
+        // propagators of the table, the all different and the arithm constraints
+        Assert.assertTrue(model.getSolver().getPresolver().getNbEntailed() >= 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEntailedNotInstantiated() {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = makeModel(k == 1);
+            IntVar x = model.intVar("x", 1, 2);
+            IntVar y = model.intVar("y", 1, 2);
+            // claims entailment until its condition is known
+            new Constraint("Conditionnal",
+                    new PropConditionnal(new IntVar[]{x},
+                            new Constraint[]{model.arithm(x, "=", y)},
+                            new Constraint[]{}) {
+                        @Override
+                        public ESat checkCondition() {
+                            if (!x.isInstantiated()) {
+                                return ESat.UNDEFINED;
+                            }
+                            return x.getValue() == 1 ? ESat.TRUE : ESat.FALSE;
+                        }
+                    }).post();
+            model.getSolver().findAllSolutions();
+            counts[k] = model.getSolver().getSolutionCount();
+            Assert.assertEquals(model.getSolver().getPresolver().getNbEntailed(), 0);
+        }
+        Assert.assertEquals(counts[0], 3);
+        Assert.assertEquals(counts[1], 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRestate() {
+        Model model = makeModel(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        IntVar z = model.intVar("z", 0, 5);
+        model.arithm(z, "=", 2).post();
+        // 2.x0 + 4.x1 + 2.z <= 9 <=> x0 + 2.x1 <= 2
+        model.scalar(new IntVar[]{x[0], x[1], z}, new int[]{2, 4, 2}, "<=", 9).post();
+        model.arithm(x[2], "=", x[0]).post();
+        int nbCstrs = model.getNbCstrs();
+        model.getSolver().findAllSolutions();
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 4);
+        Assert.assertEquals(model.getSolver().getPresolver().getNbRestated(), 1);
+        model.getSolver().reset();
+        Assert.assertEquals(model.getNbCstrs(), nbCstrs);
+        model.getSolver().findAllSolutions();
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 4);
+        Assert.assertEquals(model.getNbCstrs(), nbCstrs + 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRestateInfeasible() {
+        Model model = makeModel(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        // 2.x0 + 4.x1 = 5 has no integer solution
+        model.scalar(new IntVar[]{x[0], x[1]}, new int[]{2, 4}, "=", 5).post();
+        model.arithm(x[2], ">", x[0]).post();
+        Assert.assertFalse(model.getSolver().solve());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicates() {
+        Model model = makeModel(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.sum(x, "<=", 8).post();
+        model.scalar(new IntVar[]{x[2], x[0], x[1]}, new int[]{2, 2, 2}, "<=", 13).post();
+        model.scalar(x, new int[]{-1, -1, -1}, ">=", -9).post();
+        model.getSolver().findAllSolutions();
+        Assert.assertEquals(model.getSolver().getPresolver().getNbDuplicates(), 2);
+        Model ref = makeModel(false);
+        IntVar[] y = ref.intVarArray("x", 3, 0, 5);
+        ref.sum(y, "<=", 6).post();
+        ref.getSolver().findAllSolutions();
+        Assert.assertEquals(model.getSolver().getSolutionCount(), ref.getSolver().getSolutionCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 20; seed++) {
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = makeModel(k == 1);
+                IntVar[] x = model.intVarArray("x", 5, -2, 3);
+                for (int i = 0; i < 4; i++) {
+                    int[] coeffs = new int[5];
+                    for (int j = 0; j < 5; j++) {
+                        coeffs[j] = 2 * (rnd.nextInt(5) - 2);
+                    }
+                    model.scalar(x, coeffs, rnd.nextBoolean() ? "<=" : ">=", rnd.nextInt(9) - 4).post();
+                }
+                model.arithm(x[rnd.nextInt(5)], "=", rnd.nextInt(4) - 1).post();
+                model.allDifferent(x[0], x[1], x[2]).post();
+                model.getSolver().setSearch(org.chocosolver.solver.search.strategy.Search.randomSearch(x, seed));
+                model.getSolver().findAllSolutions();
+                counts[k] = model.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed " + seed);
+        }
+    }
+}
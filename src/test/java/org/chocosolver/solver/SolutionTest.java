@@ -0,0 +1,174 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SolutionTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRecord() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 4);
+        IntVar c = model.intVar(7);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{1, 2, 3, 4});
+        SetVar t = model.setVar("t", new int[]{}, new int[]{1, 2});
+        model.allDifferent(x).post();
+        model.member(x[0], s).post();
+        model.member(x[1], s).post();
+        model.subsetEq(t, s).post();
+        Solution solution = new Solution(model);
+        while (model.getSolver().solve()) {
+            solution.record();
+            for (IntVar v : x) {
+                Assert.assertEquals(solution.getIntVal(v), v.getValue());
+            }
+            Assert.assertEquals(solution.getIntVal(c), 7);
+            Assert.assertEquals(solution.getSetVal(s), s.getValue().toArray());
+            Assert.assertEquals(solution.getSetVal(t), t.getValue().toArray());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testVarsToStore() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 4);
+        model.allDifferent(x).post();
+        Solution solution = new Solution(model, x[0], x[2]);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Assert.assertEquals(solution.getIntVal(x[0]), x[0].getValue());
+        Assert.assertEquals(solution.getIntVal(x[2]), x[2].getValue());
+        try {
+            solution.getIntVal(x[1]);
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+        // values not declared are stored aside
+        solution.setIntVal(x[1], 3);
+        Assert.assertEquals(solution.getIntVal(x[1]), 3);
+        solution.setIntVal(x[0], 4);
+        Assert.assertEquals(solution.getIntVal(x[0]), 4);
+        solution.record();
+        Assert.assertEquals(solution.getIntVal(x[0]), x[0].getValue());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyAndRestore() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 4);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2, 3, 4});
+        model.allDifferent(x).post();
+        model.union(x, s).post();
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        Solution solution = new Solution(model);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Solution copy = solution.copySolution();
+        Assert.assertEquals(copy.distance(solution), 0);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Assert.assertEquals(copy.distance(solution), 1);
+        copy.setSetVal(s, new int[]{0, 1, 2, 3});
+        Assert.assertEquals(copy.getSetVal(s), new int[]{0, 1, 2, 3});
+        model.getSolver().reset();
+        model.getEnvironment().worldPush();
+        copy.restore();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(x[i].getValue(), i);
+        }
+        Assert.assertEquals(s.getValue().toArray(), new int[]{0, 1, 2, 3});
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPoolRecent() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        SolutionPool pool = new SolutionPool(model, 3, SolutionPool.Retention.RECENT, x);
+        model.getSolver().setSolutionPool(pool);
+        int[] last = null;
+        while (model.getSolver().solve()) {
+            last = new int[]{x[0].getValue(), x[1].getValue(), x[2].getValue(), x[3].getValue()};
+        }
+        Assert.assertEquals(pool.size(), 3);
+        List<Solution> solutions = pool.getSolutions();
+        Assert.assertNotNull(last);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(solutions.get(0).getIntVal(x[i]), last[i]);
+        }
+        // 24 permutations, the last ones found start with 3
+        for (Solution solution : solutions) {
+            Assert.assertEquals(solution.getIntVal(x[0]), 3);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPoolBest() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        IntVar obj = model.intVar("o", 0, 20);
+        model.allDifferent(x).post();
+        model.scalar(x, new int[]{1, 2, 3, 4}, "=", obj).post();
+        SolutionPool pool = new SolutionPool(model, 5, SolutionPool.Retention.BEST);
+        model.getSolver().setSolutionPool(pool);
+        model.setObjective(Model.MAXIMIZE, obj);
+        int best = 0;
+        while (model.getSolver().solve()) {
+            best = obj.getValue();
+        }
+        Assert.assertEquals(best, 20);
+        List<Solution> solutions = pool.getSolutions();
+        Assert.assertEquals(solutions.get(0).getIntVal(obj), 20);
+        for (int i = 1; i < solutions.size(); i++) {
+            Assert.assertTrue(solutions.get(i - 1).getIntVal(obj) >= solutions.get(i).getIntVal(obj));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPoolDiverse() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        model.allDifferent(x).post();
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        SolutionPool pool = new SolutionPool(model, 4, SolutionPool.Retention.DIVERSE, x);
+        model.getSolver().setSolutionPool(pool);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(pool.size(), 4);
+        List<Solution> solutions = pool.getSolutions();
+        Set<String> distinct = new HashSet<>();
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < solutions.size(); i++) {
+            distinct.add(solutions.get(i).toString());
+            for (int j = i + 1; j < solutions.size(); j++) {
+                min = Math.min(min, solutions.get(i).distance(solutions.get(j)));
+            }
+        }
+        Assert.assertEquals(distinct.size(), 4);
+        // consecutive permutations in lexicographic order differ by 2 values only
+        Assert.assertTrue(min >= 4, "" + min);
+    }
+}
@@ -16,11 +16,16 @@
 package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.annotations.Test;
 
 import static org.chocosolver.util.tools.ArrayUtils.append;
+import java.util.Random;
+
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class CircuitTest {
 
@@ -64,6 +69,73 @@ public class CircuitTest {
         }
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public static void testWeightedCount() {
+        for (int seed = 0; seed < 20; seed++) {
+            int n = 6;
+            int[][] costs = randomCosts(n, seed);
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", n, 0, n - 1, false);
+                IntVar cost = model.intVar("cost", 0, 150);
+                if (k == 0) {
+                    decomposition(model, x, costs, cost, 0);
+                } else {
+                    model.circuit(x, 0, costs, cost).post();
+                }
+                counts[k] = model.getSolver().streamSolutions().count();
+            }
+            assertEquals(counts[1], counts[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public static void testWeightedOptimum() {
+        for (int seed = 0; seed < 10; seed++) {
+            int n = 9;
+            int[][] costs = randomCosts(n, seed);
+            int[] best = new int[2];
+            long[] nodes = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", n, 1, n, false);
+                IntVar cost = model.intVar("cost", 0, 1000);
+                if (k == 0) {
+                    decomposition(model, x, costs, cost, 1);
+                } else {
+                    model.circuit(x, 1, costs, cost).post();
+                }
+                model.getSolver().setSearch(Search.inputOrderLBSearch(x));
+                Solution sol = model.getSolver().findOptimalSolution(cost, false);
+                best[k] = sol.getIntVal(cost);
+                nodes[k] = model.getSolver().getNodeCount();
+            }
+            assertEquals(best[1], best[0], "seed " + seed);
+            assertTrue(nodes[1] <= nodes[0], "seed " + seed);
+        }
+    }
+
+    private static int[][] randomCosts(int n, long seed) {
+        Random rnd = new Random(seed);
+        int[][] costs = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                costs[i][j] = i == j ? 0 : 1 + rnd.nextInt(30);
+            }
+        }
+        return costs;
+    }
+
+    private static void decomposition(Model model, IntVar[] x, int[][] costs, IntVar cost, int offset) {
+        model.circuit(x, offset).post();
+        IntVar[] arcs = model.intVarArray("c", x.length, 0, 30);
+        for (int i = 0; i < x.length; i++) {
+            model.element(arcs[i], costs[i], x[i], offset).post();
+        }
+        model.sum(arcs, "=", cost).post();
+    }
+
     private static int factorial(int n) {
         if (n == 1) {
             return 1;
@@ -0,0 +1,223 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.constraints.nary.lp.DualSimplex;
+import org.chocosolver.solver.constraints.nary.lp.LinearRelaxation;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class LinearRelaxationTest {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimplex1() {
+        // min -x - y, x + 2y <= 4, 3x + y <= 6
+        DualSimplex simplex = new DualSimplex(
+                new double[][]{{1, 2}, {3, 1}},
+                new double[]{-INF, -INF}, new double[]{4, 6},
+                new double[]{0, 0}, new double[]{10, 10},
+                new double[]{-1, -1});
+        Assert.assertEquals(simplex.solve(100), DualSimplex.Status.OPTIMAL);
+        Assert.assertEquals(simplex.getObjective(), -2.8, 1e-9);
+        Assert.assertEquals(simplex.getValue(0), 1.6, 1e-9);
+        Assert.assertEquals(simplex.getValue(1), 1.2, 1e-9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimplex2() {
+        // min x + y, x + y >= 5, x, y in [0,2]
+        DualSimplex simplex = new DualSimplex(
+                new double[][]{{1, 1}},
+                new double[]{5}, new double[]{INF},
+                new double[]{0, 0}, new double[]{2, 2},
+                new double[]{1, 1});
+        Assert.assertEquals(simplex.solve(100), DualSimplex.Status.INFEASIBLE);
+        simplex.setBounds(1, 0, 3);
+        Assert.assertEquals(simplex.solve(100), DualSimplex.Status.OPTIMAL);
+        Assert.assertEquals(simplex.getObjective(), 5., 1e-9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimplexWarmStart() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 50; k++) {
+            int m = 2 + rnd.nextInt(6), n = 2 + rnd.nextInt(8);
+            double[][] a = new double[m][n];
+            double[] rlb = new double[m], rub = new double[m];
+            double[] clb = new double[n], cub = new double[n], c = new double[n];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++) {
+                    a[i][j] = rnd.nextInt(11) - 5;
+                }
+                rlb[i] = rnd.nextBoolean() ? -INF : -rnd.nextInt(10);
+                rub[i] = rnd.nextBoolean() ? INF : rnd.nextInt(10);
+            }
+            for (int j = 0; j < n; j++) {
+                clb[j] = -rnd.nextInt(5);
+                cub[j] = rnd.nextInt(5);
+                c[j] = rnd.nextInt(11) - 5;
+            }
+            DualSimplex warm = new DualSimplex(a, rlb, rub, clb, cub, c);
+            warm.solve(1000);
+            for (int s = 0; s < 5; s++) {
+                for (int j = 0; j < n; j++) {
+                    clb[j] = -rnd.nextInt(5);
+                    cub[j] = clb[j] + rnd.nextInt(6);
+                    warm.setBounds(j, clb[j], cub[j]);
+                }
+                DualSimplex cold = new DualSimplex(a, rlb, rub, clb, cub, c);
+                DualSimplex.Status st = cold.solve(1000);
+                Assert.assertEquals(warm.solve(1000), st);
+                if (st == DualSimplex.Status.OPTIMAL) {
+                    Assert.assertEquals(warm.getObjective(), cold.getObjective(), 1e-6);
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRelaxation() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.scalar(new IntVar[]{x[0], x[1], x[0]}, new int[]{1, 2, 1}, "<=", 7).post();
+        model.arithm(x[1], "<", x[2]).post();
+        model.arithm(x[0], "+", x[2], "=", 4).reify();
+        LinearRelaxation relaxation = LinearRelaxation.of(model);
+        Assert.assertEquals(relaxation.getNbRows(), 2);
+        Assert.assertEquals(relaxation.getNbColumns(), 3);
+        double[][] a = relaxation.getMatrix();
+        Assert.assertEquals(a[0][relaxation.column(x[0])], 2.);
+        Assert.assertEquals(a[0][relaxation.column(x[1])], 2.);
+        Assert.assertEquals(relaxation.getUpperBound(0), 7.);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testObjectiveBound() throws ContradictionException {
+        // max 5x + 4y, 6x + 4y <= 24, x + 2y <= 6: LP optimum is 21
+        Model model = makeModel();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 100);
+        model.scalar(new IntVar[]{x, y}, new int[]{6, 4}, "<=", 24).post();
+        model.scalar(new IntVar[]{x, y}, new int[]{1, 2}, "<=", 6).post();
+        model.scalar(new IntVar[]{x, y}, new int[]{5, 4}, "=", z).post();
+        model.linearRelaxation(z, true).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(z.getUB(), 21);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReducedCostFixing() throws ContradictionException {
+        // min z = x + 10y, x + y >= 3, with z <= 11: y = 0
+        Model model = makeModel();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar z = model.intVar("z", 0, 11);
+        model.sum(new IntVar[]{x, y}, ">=", 3).post();
+        model.scalar(new IntVar[]{x, y}, new int[]{1, 10}, "=", z).post();
+        model.linearRelaxation(z, false).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(z.getLB(), 3);
+        Assert.assertEquals(y.getUB(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAssignment() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 10; k++) {
+            int n = 5;
+            int[][] costs = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    costs[i][j] = rnd.nextInt(50);
+                }
+            }
+            Assert.assertEquals(assignment(costs, true), assignment(costs, false));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 30; k++) {
+            int n = 6;
+            int[][] w = new int[2][n];
+            int[] p = new int[n];
+            for (int j = 0; j < n; j++) {
+                w[0][j] = 1 + rnd.nextInt(9);
+                w[1][j] = 1 + rnd.nextInt(9);
+                p[j] = rnd.nextInt(20) - 4;
+            }
+            int c0 = 10 + rnd.nextInt(20), c1 = 10 + rnd.nextInt(20);
+            Assert.assertEquals(knapsack(w, p, c0, c1, true), knapsack(w, p, c0, c1, false));
+        }
+    }
+
+    private static int knapsack(int[][] w, int[] p, int c0, int c1, boolean lp) {
+        Model model = makeModel();
+        IntVar[] x = model.intVarArray("x", p.length, 0, 3);
+        IntVar profit = model.intVar("p", -100, 300);
+        model.scalar(x, w[0], "<=", c0).post();
+        model.scalar(x, w[1], "<=", c1).post();
+        model.scalar(x, p, "=", profit).post();
+        if (lp) {
+            model.linearRelaxation(profit, true).post();
+        }
+        Solution solution = model.getSolver().findOptimalSolution(profit, true);
+        Assert.assertNotNull(solution);
+        return solution.getIntVal(profit);
+    }
+
+    /**
+     * @return a model in which linear equalities are not turned into tables
+     */
+    private static Model makeModel() {
+        Model model = new Model();
+        model.set(new Settings() {
+            @Override
+            public boolean enableTableSubstitution() {
+                return false;
+            }
+        });
+        return model;
+    }
+
+    private static int assignment(int[][] costs, boolean lp) {
+        int n = costs.length;
+        Model model = new Model();
+        BoolVar[][] b = model.boolVarMatrix("b", n, n);
+        for (int i = 0; i < n; i++) {
+            model.sum(b[i], "=", 1).post();
+            model.sum(ArrayUtils.getColumn(b, i), "=", 1).post();
+        }
+        IntVar cost = model.intVar("cost", 0, 50 * n);
+        model.scalar(ArrayUtils.flatten(b), ArrayUtils.flatten(costs), "=", cost).post();
+        if (lp) {
+            model.linearRelaxation(cost, false).post();
+        }
+        Solution solution = model.getSolver().findOptimalSolution(cost, false);
+        Assert.assertNotNull(solution);
+        return solution.getIntVal(cost);
+    }
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderUBSearch;
 import static org.testng.Assert.*;
 
 /**
@@ -218,6 +219,25 @@ public class MinMaxTest {
     }
 
 
+    @Test(groups = "1s", timeOut=60000, dataProvider = "params")
+    public void testBoolsClauseMode(boolean min, boolean exp) {
+        // the result is fixed first, then a variable is set to the absorbing value while not watched
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 4);
+        BoolVar r = model.boolVar("r");
+        if (min) {
+            model.min(r, x).post();
+            model.getSolver().setSearch(inputOrderLBSearch(r, x[2]), inputOrderUBSearch(x[0], x[3], x[1]));
+        } else {
+            model.max(r, x).post();
+            model.getSolver().setSearch(inputOrderUBSearch(r, x[2]), inputOrderLBSearch(x[0], x[3], x[1]));
+        }
+        if (exp) {
+            model.getSolver().setCBJLearning(false, false);
+        }
+        assertEquals(checkSolutions(x, r, min), 16);
+    }
+
     @Test(groups = "1s", timeOut=60000, dataProvider = "params")
     public void testSameVariableSolution(boolean min, boolean exp) {
         Model model = new Model();
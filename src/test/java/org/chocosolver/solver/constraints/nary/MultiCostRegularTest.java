@@ -113,6 +113,16 @@ public class MultiCostRegularTest {
         }
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testIncremental() {
+        // paths are only partially recomputed upon backtrack
+        for (int i = 0; i < 20; i++) {
+            Model model = make(14, i);
+            while (model.getSolver().solve()) ;
+            assertEquals(model.getSolver().getSolutionCount(), 141, "seed:" + i);
+        }
+    }
+
     @Test(groups="5m", timeOut=300000)
     public void test3() {
         long seed = System.currentTimeMillis();
@@ -1010,4 +1010,64 @@ public class IntLinCombTest {
 			assertEquals(c1,18);
         }
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWatch1() {
+        for (int n = 3; n < 9; n++) {
+            for (int k = 0; k <= n + 1; k++) {
+                // at least k
+                Model m1 = new Model();
+                BoolVar[] b1 = m1.boolVarArray("b", n);
+                Constraint c1 = m1.sum(b1, ">=", k);
+                Assert.assertTrue(c1.getPropagator(0) instanceof PropSumBoolWatch);
+                c1.post();
+                m1.getSolver().setSearch(Search.randomSearch(b1, n + k));
+                long s1 = m1.getSolver().findAllSolutions().size();
+                // at most k
+                Model m2 = new Model();
+                BoolVar[] b2 = m2.boolVarArray("b", n);
+                Constraint c2 = m2.sum(b2, "<=", k);
+                Assert.assertTrue(c2.getPropagator(0) instanceof PropSumBoolWatch);
+                c2.post();
+                m2.getSolver().setSearch(Search.randomSearch(b2, n + k));
+                long s2 = m2.getSolver().findAllSolutions().size();
+                long atLeast = 0, atMost = 0;
+                for (int i = 0; i <= n; i++) {
+                    long cnk = binomial(n, i);
+                    if (i >= k) atLeast += cnk;
+                    if (i <= k) atMost += cnk;
+                }
+                Assert.assertEquals(s1, atLeast, "n=" + n + ", k=" + k);
+                Assert.assertEquals(s2, atMost, "n=" + n + ", k=" + k);
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWatch2() {
+        for (int n = 3; n < 8; n++) {
+            for (int k = 0; k <= n; k++) {
+                Model m = new Model();
+                BoolVar[] bs = m.boolVarArray("b", n);
+                BoolVar r = m.sum(bs, ">=", k).reify();
+                m.getSolver().setSearch(Search.randomSearch(m.retrieveIntVars(true), k));
+                long sols = 0;
+                while (m.getSolver().solve()) {
+                    int cnt = 0;
+                    for (BoolVar b : bs) cnt += b.getValue();
+                    Assert.assertEquals(r.getValue() == 1, cnt >= k);
+                    sols++;
+                }
+                Assert.assertEquals(sols, 1L << n);
+            }
+        }
+    }
+
+    private static long binomial(int n, int k) {
+        long r = 1;
+        for (int i = 1; i <= k; i++) {
+            r = r * (n - k + i) / i;
+        }
+        return r;
+    }
 }
@@ -0,0 +1,165 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.symmetry;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PropSymmetryBreakingTest {
+
+    /**
+     * Colors of a solution renamed by order of first occurrence
+     */
+    private static String colorClass(IntVar[] vars) {
+        int[] rename = new int[10];
+        Arrays.fill(rename, -1);
+        int next = 0;
+        StringBuilder st = new StringBuilder();
+        for (IntVar v : vars) {
+            if (rename[v.getValue()] == -1) {
+                rename[v.getValue()] = next++;
+            }
+            st.append(rename[v.getValue()]);
+        }
+        return st.toString();
+    }
+
+    /**
+     * Number of occurrences of each value, sorted
+     */
+    private static String countClass(IntVar[] vars) {
+        int[] counts = new int[10];
+        for (IntVar v : vars) {
+            counts[v.getValue()]++;
+        }
+        Arrays.sort(counts);
+        return Arrays.toString(counts);
+    }
+
+    private static Model cycle(int n, int k) {
+        Model model = new Model();
+        IntVar[] c = model.intVarArray("c", n, 0, k - 1, false);
+        for (int i = 0; i < n; i++) {
+            model.arithm(c[i], "!=", c[(i + 1) % n]).post();
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(c));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInterchangeableVariables() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 1, 5, false);
+        model.allDifferent(x).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(x));
+        solver.setSymmetryBreakingDuringSearch(x, ISymmetry.interchangeableVariables(0, 1, 2, 3, 4));
+        while (solver.solve()) ;
+        assertTrue(solver.getSolutionCount() >= 1);
+        assertTrue(solver.getSolutionCount() < 120);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInterchangeableValues() {
+        for (int n = 4; n < 8; n++) {
+            Model ref = cycle(n, 3);
+            IntVar[] rc = ref.retrieveIntVars(true);
+            Set<String> expected = new HashSet<>();
+            while (ref.getSolver().solve()) {
+                expected.add(colorClass(rc));
+            }
+            Model model = cycle(n, 3);
+            IntVar[] c = model.retrieveIntVars(true);
+            model.getSolver().setSymmetryBreakingDuringSearch(c, ISymmetry.interchangeableValues(0, 1, 2));
+            Set<String> found = new HashSet<>();
+            while (model.getSolver().solve()) {
+                found.add(colorClass(c));
+            }
+            // one solution per class at least
+            assertEquals(found, expected);
+            assertTrue(model.getSolver().getSolutionCount() < ref.getSolver().getSolutionCount());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testVariablesAndValues() {
+        for (int seed = 0; seed < 10; seed++) {
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 4, 0, 2, false);
+            Solver solver = model.getSolver();
+            solver.setSearch(randomSearch(x, seed));
+            ISymmetry[] vars = ISymmetry.interchangeableVariables(0, 1, 2, 3);
+            ISymmetry[] vals = ISymmetry.interchangeableValues(0, 1, 2);
+            ISymmetry[] generators = IntStream.range(0, vars.length + vals.length)
+                    .mapToObj(i -> i < vars.length ? vars[i] : vals[i - vars.length]).toArray(ISymmetry[]::new);
+            solver.setSymmetryBreakingDuringSearch(x, generators);
+            Set<String> found = new HashSet<>();
+            while (solver.solve()) {
+                found.add(countClass(x));
+            }
+            // partitions of 4 in at most 3 parts
+            assertEquals(found.size(), 4);
+            assertTrue(solver.getSolutionCount() < 81);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBinAssignment() {
+        int[] weights = {7, 6, 5, 5, 4, 3, 3, 2};
+        long[] nodes = new long[2];
+        long[] solutions = new long[2];
+        List<Set<String>> classes = new ArrayList<>();
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            IntVar[] bins = model.intVarArray("b", weights.length, 0, 3, false);
+            IntVar[] loads = model.intVarArray("l", 4, 0, 9, true);
+            model.binPacking(bins, weights, loads, 0).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(bins));
+            if (k == 1) {
+                solver.setSymmetryBreakingDuringSearch(bins, ISymmetry.interchangeableValues(0, 1, 2, 3));
+            }
+            Set<String> found = new HashSet<>();
+            while (solver.solve()) {
+                found.add(colorClass(bins));
+            }
+            classes.add(found);
+            nodes[k] = solver.getNodeCount();
+            solutions[k] = solver.getSolutionCount();
+        }
+        assertEquals(classes.get(1), classes.get(0));
+        // bins are all used, so each class has 4! representatives without symmetry breaking
+        assertEquals(solutions[0], 24 * solutions[1]);
+        assertTrue(nodes[1] < nodes[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNotAPermutation() {
+        ISymmetry.valuePermutation(new int[]{1, 2}, new int[]{2, 3});
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.explanations;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class QuickXplainTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCycle() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 9);
+        Constraint c0 = model.arithm(x[0], "<", x[1]);
+        Constraint c1 = model.arithm(x[3], ">", 2);
+        Constraint c2 = model.arithm(x[1], "<", x[2]);
+        Constraint c3 = model.allDifferent(x);
+        Constraint c4 = model.arithm(x[2], "<", x[0]);
+        model.post(c0, c1, c2, c3, c4);
+        QuickXplain qx = new QuickXplain(model);
+        List<Constraint> mus = qx.findMUS();
+        Assert.assertEquals(mus, Arrays.asList(c0, c2, c4));
+        Assert.assertTrue(qx.getNbChecks() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSatisfiable() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        model.allDifferent(x).post();
+        model.arithm(x[0], "<", x[1]).post();
+        Assert.assertNull(new QuickXplain(model).findMUS());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHardInfeasible() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        Constraint c0 = model.arithm(x[0], "<", x[1]);
+        model.post(c0);
+        model.sum(x, ">", 6).post();
+        Assert.assertTrue(new QuickXplain(model, c0).findMUS().isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAfterSolve() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        Constraint c0 = model.arithm(x[0], "=", 1);
+        Constraint c1 = model.allDifferent(x);
+        Constraint c2 = model.arithm(x[1], "=", 1);
+        model.post(c0, c1, c2);
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(new QuickXplain(model).findMUS(), Arrays.asList(c0, c1, c2));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            int[][] args = new int[12][];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = new int[]{rnd.nextInt(5), rnd.nextInt(5), rnd.nextInt(3), rnd.nextInt(4) - 1};
+            }
+            Model model = build(args, seed);
+            if (model.getSolver().solve()) {
+                continue;
+            }
+            model = build(args, seed);
+            List<Constraint> all = new ArrayList<>(Arrays.asList(model.getCstrs()));
+            List<Constraint> mus = new QuickXplain(model).findMUS();
+            Assert.assertNotNull(mus);
+            List<int[]> core = new ArrayList<>();
+            for (Constraint c : mus) {
+                core.add(args[all.indexOf(c)]);
+            }
+            Assert.assertFalse(build(core.toArray(new int[0][]), seed).getSolver().solve(), "seed " + seed);
+            for (int i = 0; i < core.size(); i++) {
+                List<int[]> sub = new ArrayList<>(core);
+                sub.remove(i);
+                Assert.assertTrue(build(sub.toArray(new int[0][]), seed).getSolver().solve(), "seed " + seed);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallel() {
+        for (int seed = 0; seed < 10; seed++) {
+            Random rnd = new Random(seed);
+            int[][] args = new int[16][];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = new int[]{rnd.nextInt(5), rnd.nextInt(5), rnd.nextInt(3), rnd.nextInt(4) - 1};
+            }
+            Model model = build(args, seed);
+            List<Constraint> all = new ArrayList<>(Arrays.asList(model.getCstrs()));
+            List<Constraint> seq = new QuickXplain(model).findMUS();
+            Model[] clones = new Model[3];
+            for (int m = 0; m < clones.length; m++) {
+                clones[m] = build(args, seed + m);
+            }
+            List<Constraint> pall = new ArrayList<>(Arrays.asList(clones[0].getCstrs()));
+            List<Constraint> par = new QuickXplain(clones).findMUS();
+            if (seq == null) {
+                Assert.assertNull(par);
+            } else {
+                Assert.assertEquals(par.size(), seq.size());
+                for (int i = 0; i < seq.size(); i++) {
+                    Assert.assertEquals(Arrays.toString(args[pall.indexOf(par.get(i))]), Arrays.toString(args[all.indexOf(seq.get(i))]));
+                }
+            }
+        }
+    }
+
+    private static Model build(int[][] args, int seed) {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 3);
+        for (int[] a : args) {
+            switch (a[2]) {
+                case 0:
+                    model.arithm(x[a[0]], "<", x[a[1]], "+", a[3]).post();
+                    break;
+                case 1:
+                    model.arithm(x[a[0]], "!=", x[a[1]]).post();
+                    break;
+                default:
+                    model.arithm(x[a[0]], "+", x[a[1]], ">", 3 + a[3]).post();
+                    break;
+            }
+        }
+        model.getSolver().setSearch(randomSearch(x, seed));
+        return model;
+    }
+}
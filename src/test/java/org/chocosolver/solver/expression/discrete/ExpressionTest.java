@@ -9,13 +9,18 @@
 package org.chocosolver.solver.expression.discrete;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.expression.ExpressionTape;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
+import org.chocosolver.solver.expression.discrete.relational.BiReExpression;
 import org.chocosolver.solver.expression.discrete.relational.ReExpression;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Random;
 import java.util.stream.IntStream;
 
 /**
@@ -29,7 +34,7 @@ public class ExpressionTest {
 
     @DataProvider(name = "post")
     public Object[][] provider() {
-        return new Object[][]{{0}, {1}};
+        return new Object[][]{{0}, {1}, {2}};
     }
 
     public void eval(Model model, ReExpression ex, int postAs, int nbsol){
@@ -40,6 +45,9 @@ public class ExpressionTest {
             case 1:
                 ex.extension().post();
                 break;
+            case 2:
+                ex.compile().post();
+                break;
         }
         System.out.printf("%s\n", model);
         Assert.assertEquals(model.getSolver().streamSolutions().count(), nbsol);
@@ -194,4 +202,99 @@ public class ExpressionTest {
         IntStream.range(1, XS.length).forEach(i -> r[0] = r[0].add(XS[i]));
         eval(model, Y.eq(r[0]), p, 66);
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompileNoIntermediateVariable() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", -5, 5);
+        IntVar y = model.intVar("y", -5, 5);
+        IntVar z = model.intVar("z", -5, 5);
+        ReExpression ex = x.mul(y).add(z.abs()).sub(x.max(y, z)).le(x.add(3));
+        int nbVars = model.getNbVars();
+        ex.compile().post();
+        Assert.assertEquals(model.getNbVars(), nbVars);
+        Assert.assertEquals(model.getNbCstrs(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompileLinear() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        Constraint c = x.add(y).mul(2).sub(x).add(x.neg().neg()).ge(y.mul(-3).add(4).add(x)).compile();
+        // 2x + 2y - x + x >= -3y + 4 + x  <=>  x + 5y >= 4
+        Assert.assertNotEquals(c.getName(), "Expression");
+        c.post();
+        Assert.assertEquals(model.getSolver().streamSolutions().count(), 32);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompileEval() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", -5, 5);
+        IntVar y = model.intVar("y", -5, 5);
+        ExpressionTape tape = ExpressionTape.compile(ReExpression.Operator.EQ, x.div(y).add(x.mod(y)), x.min(y).sqr());
+        Assert.assertEquals(tape.getVars(), new IntVar[]{x, y});
+        Assert.assertTrue(tape.eval(new int[]{1, 1}));
+        Assert.assertFalse(tape.eval(new int[]{4, 2}));
+        Assert.assertFalse(tape.eval(new int[]{4, 0}));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompileRandom() {
+        Random rnd = new Random(0);
+        for (int seed = 0; seed < 300; seed++) {
+            long[] counts = new long[2];
+            String expr = null;
+            for (int p = 0; p < 2; p++) {
+                rnd.setSeed(seed);
+                Model model = new Model();
+                IntVar[] vs = model.intVarArray("v", 3, -3, 3);
+                ArExpression e1 = random(rnd, vs, 3);
+                ArExpression e2 = random(rnd, vs, 2);
+                ReExpression.Operator op = ReExpression.Operator.values()[rnd.nextInt(6)];
+                ReExpression ex = new BiReExpression(op, e1, e2);
+                expr = ex.toString();
+                if (p == 0) {
+                    ex.extension().post();
+                } else {
+                    ex.compile().post();
+                }
+                model.getSolver().setSearch(Search.inputOrderLBSearch(vs));
+                counts[p] = model.getSolver().streamSolutions().count();
+            }
+            Assert.assertEquals(counts[1], counts[0], expr);
+        }
+    }
+
+    private static ArExpression random(Random rnd, IntVar[] vs, int depth) {
+        if (depth == 0 || rnd.nextInt(4) == 0) {
+            return rnd.nextInt(5) == 0 ? vs[0].getModel().intVar(rnd.nextInt(5) - 2) : vs[rnd.nextInt(vs.length)];
+        }
+        ArExpression e = random(rnd, vs, depth - 1);
+        switch (rnd.nextInt(11)) {
+            case 0:
+                return e.neg();
+            case 1:
+                return e.abs();
+            case 2:
+                return e.sqr();
+            case 3:
+                return e.add(random(rnd, vs, depth - 1));
+            case 4:
+                return e.sub(random(rnd, vs, depth - 1));
+            case 5:
+                return e.mul(random(rnd, vs, depth - 1));
+            case 6:
+                return e.div(random(rnd, vs, depth - 1));
+            case 7:
+                return e.mod(random(rnd, vs, depth - 1));
+            case 8:
+                return e.min(random(rnd, vs, depth - 1), random(rnd, vs, depth - 1));
+            case 9:
+                return e.max(random(rnd, vs, depth - 1));
+            default:
+                return e.mul(rnd.nextInt(7) - 3);
+        }
+    }
 }
@@ -15,15 +15,20 @@ import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.propagation.hardcoded.AdaptivePropagationEngine;
+import org.chocosolver.solver.propagation.hardcoded.ParallelPropagationEngine;
 import org.chocosolver.solver.propagation.hardcoded.SevenQueuesPropagatorEngine;
 import org.chocosolver.solver.propagation.hardcoded.TwoBucketPropagationEngine;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 import static java.util.Arrays.sort;
 import static org.chocosolver.solver.Cause.Null;
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
@@ -48,6 +53,8 @@ public class PropEngineTest {
         return new PropagationEngineFactory[][]{
                 {PropagationEngineFactory.PROPAGATORDRIVEN_7QD},
                 {PropagationEngineFactory.TWOBUCKETPROPAGATIONENGINE},
+                {PropagationEngineFactory.ADAPTIVE},
+                {PropagationEngineFactory.PARALLEL},
         };
     }
 
@@ -143,6 +150,60 @@ public class PropEngineTest {
         assertEquals(model.getSolver().getSolutionCount(), 92);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void test4b() {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        AdaptivePropagationEngine engine = new AdaptivePropagationEngine(model, 4, .5, .05);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 92);
+        Propagator p = model.getCstrs()[0].getPropagator(0);
+        assertTrue(engine.getAverageTime(p) > 0);
+        assertTrue(engine.getEffectiveness(p) >= 0 && engine.getEffectiveness(p) <= 1);
+        assertTrue(engine.getDynamicPriority(p) >= 1 && engine.getDynamicPriority(p) <= 7);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void test4c() {
+        for (int seed = 0; seed < 5; seed++) {
+            long[] expected = null;
+            for (int h = -1; h < 4; h += 2) {
+                Model model = new Model();
+                Random rnd = new Random(seed);
+                // disjoint AC alldifferent constraints, linked by other constraints
+                IntVar[][] x = model.intVarMatrix("x", 5, 6, 0, 7);
+                for (int g = 0; g < x.length; g++) {
+                    model.allDifferent(x[g], "AC").post();
+                    if (g > 0) {
+                        model.arithm(x[g - 1][rnd.nextInt(6)], "<", x[g][rnd.nextInt(6)]).post();
+                    }
+                }
+                IntVar[] all = ArrayUtils.flatten(x);
+                int[] coeffs = new int[all.length];
+                for (int i = 0; i < coeffs.length; i++) {
+                    coeffs[i] = rnd.nextInt(10) - 3;
+                }
+                IntVar obj = model.intVar("obj", -1000, 1000);
+                model.scalar(all, coeffs, "=", obj).post();
+                model.setObjective(Model.MAXIMIZE, obj);
+                Solver solver = model.getSolver();
+                solver.setEngine(h < 0 ? new SevenQueuesPropagatorEngine(model) : new ParallelPropagationEngine(model, h));
+                solver.setSearch(randomSearch(all, seed));
+                solver.limitNode(2000);
+                int best = Integer.MIN_VALUE;
+                while (solver.solve()) {
+                    best = obj.getValue();
+                }
+                long[] stats = {best, solver.getSolutionCount(), solver.getNodeCount(), solver.getFailCount()};
+                if (expected == null) {
+                    expected = stats;
+                } else {
+                    assertEquals(stats, expected, "seed " + seed + ", " + h + " helpers");
+                }
+            }
+        }
+    }
+
     @Test(groups="10s", timeOut=60000)
     public void test5(){
         Model model = ProblemMaker.makeGolombRuler(10);
@@ -169,6 +230,18 @@ public class PropEngineTest {
         Assert.assertEquals(obj, 55);
     }
     
+    @Test(groups="10s", timeOut=60000)
+    public void test6b(){
+        Model model = ProblemMaker.makeGolombRuler(10);
+        model.getSolver().setEngine(new AdaptivePropagationEngine(model));
+        model.getSolver().setSearch(minDomLBSearch((IntVar[])model.getHook("ticks")));
+        int obj = Integer.MAX_VALUE;
+        while(model.getSolver().solve()){
+            obj = ((IntVar)(model.getObjective())).getValue();
+        }
+        Assert.assertEquals(obj, 55);
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testGregy41(){
         for(int i = 0 ; i < 20; i++) {
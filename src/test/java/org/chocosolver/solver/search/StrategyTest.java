@@ -19,9 +19,12 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainBest;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMiddle;
 import org.chocosolver.solver.search.strategy.selectors.variables.AntiFirstFail;
 import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
@@ -383,4 +386,60 @@ public class StrategyTest {
 			assertEquals(modelBound.getSolver().getBestSolutionValue().intValue(),model.getSolver().getBestSolutionValue().intValue());
 		}
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolutionGuided() {
+        for (int k = 0; k < 3; k++) {
+            Model model = ProblemMaker.makeGolombRuler(8);
+            Solver s = model.getSolver();
+            IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+            switch (k) {
+                case 0:
+                    s.setSearch(Search.intVarSearch(ticks));
+                    break;
+                case 1:
+                    s.setSearch(Search.solutionGuidedSearch(ticks));
+                    s.setLubyRestart(50, new FailCounter(model, 50), 1000);
+                    break;
+                case 2:
+                    s.setSearch(Search.phaseSavingSearch(ticks));
+                    s.setLubyRestart(50, new FailCounter(model, 50), 1000);
+                    break;
+            }
+            while (s.solve()) ;
+            assertEquals(s.getBestSolutionValue().intValue(), 34, "search " + k);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testIntDomainBest() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 5);
+        IntVar o = model.intVar("o", 0, 5);
+        model.allDifferent(x).post();
+        IntDomainBest best = new IntDomainBest(model, x, new IntDomainMax());
+        // before any solution, values are selected by the fallback
+        assertEquals(best.selectValue(x[0]), 5);
+        Solver s = model.getSolver();
+        s.setSearch(intVarSearch(new InputOrder<>(model), best, x));
+        assertTrue(s.solve());
+        int[] sol = new int[4];
+        for (int i = 0; i < 4; i++) {
+            sol[i] = x[i].getValue();
+        }
+        s.reset();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(best.selectValue(x[i]), sol[i]);
+        }
+        assertEquals(best.selectValue(o), 5);
+        // a value removed from the domain is not selected
+        model.arithm(x[0], "!=", sol[0]).post();
+        assertTrue(s.solve());
+        assertTrue(x[0].getValue() != sol[0]);
+        for (int i = 1; i < 4; i++) {
+            if (x[0].getValue() != sol[i]) {
+                assertEquals(x[i].getValue(), sol[i]);
+            }
+        }
+    }
 }
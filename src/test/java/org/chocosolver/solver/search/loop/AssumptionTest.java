@@ -0,0 +1,187 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class AssumptionTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConstraints() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        model.allDifferent(x).post();
+        model.arithm(x[0], "<", x[2]).post();
+        Solver solver = model.getSolver();
+        Constraint c0 = model.arithm(x[0], "=", 2);
+        Constraint c1 = model.arithm(x[1], "=", 0);
+        Constraint c2 = model.arithm(x[2], "=", 2);
+        Assert.assertTrue(solver.solveUnder(c0, c1));
+        Assert.assertEquals(x[0].getValue(), 2);
+        Assert.assertEquals(x[1].getValue(), 0);
+        Assert.assertEquals(x[2].getValue(), 3);
+        Assert.assertFalse(solver.solve());
+        // x[0] = 2 and x[2] = 2 conflict, x[1] = 0 is not involved
+        Assert.assertFalse(solver.solveUnder(c1, c0, c2));
+        Assert.assertEquals(solver.getConflict(), Arrays.asList(c0.reify(), c2.reify()));
+        Assert.assertTrue(solver.solveUnder(c1, c2));
+        Assert.assertEquals(x[2].getValue(), 2);
+        int nbSolutions = 1;
+        while (solver.solve()) {
+            nbSolutions++;
+        }
+        Assert.assertEquals(nbSolutions, 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLiterals() {
+        // 4 pigeons, 3 holes
+        Model model = new Model();
+        BoolVar[][] b = model.boolVarMatrix("b", 4, 3);
+        for (int h = 0; h < 3; h++) {
+            model.sum(new BoolVar[]{b[0][h], b[1][h], b[2][h], b[3][h]}, "<=", 1).post();
+        }
+        BoolVar[] used = model.boolVarArray("u", 4);
+        for (int p = 0; p < 4; p++) {
+            model.sum(b[p], "=", used[p]).post();
+        }
+        // negations are built before solving, otherwise they may be turned into constants
+        BoolVar n00 = b[0][0].not(), n10 = b[1][0].not(), n20 = b[2][0].not(), n30 = b[3][0].not();
+        Solver solver = model.getSolver();
+        Assert.assertTrue(solver.solveUnder(used[0], used[1], used[2]));
+        Assert.assertFalse(solver.solveUnder(used[0], used[1], used[2], used[3]));
+        Assert.assertEquals(solver.getConflict().size(), 4);
+        Assert.assertFalse(solver.solveUnder(used[0], used[1], n00, used[2], n10, used[3]));
+        Assert.assertEquals(solver.getConflict(), Arrays.asList(used[0], used[1], used[2], used[3]));
+        Assert.assertFalse(solver.solveUnder(b[0][0], b[1][0]));
+        Assert.assertEquals(solver.getConflict(), Arrays.asList(b[0][0], b[1][0]));
+        Assert.assertTrue(solver.solveUnder(n00, n10, n20, n30));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoConflict() {
+        Model model = new Model();
+        BoolVar[] b = model.boolVarArray("b", 3);
+        model.addClausesBoolOrArrayEqualTrue(b);
+        Solver solver = model.getSolver();
+        Assert.assertTrue(solver.solveUnder(b[0].not(), b[1].not()));
+        try {
+            solver.getConflict();
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRootInfeasible() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 2);
+        model.allDifferent(x).post();
+        Solver solver = model.getSolver();
+        Assert.assertFalse(solver.solveUnder(model.arithm(x[0], "=", 1)));
+        Assert.assertTrue(solver.getConflict().isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAfterSolve() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        Solver solver = model.getSolver();
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSolutionCount(), 24);
+        Assert.assertTrue(solver.solveUnder(model.arithm(x[0], "=", 3)));
+        int nbSolutions = 1;
+        while (solver.solve()) {
+            nbSolutions++;
+        }
+        Assert.assertEquals(nbSolutions, 6);
+        Assert.assertTrue(solver.solveUnder(new BoolVar[0]));
+        nbSolutions = 1;
+        while (solver.solve()) {
+            nbSolutions++;
+        }
+        Assert.assertEquals(nbSolutions, 24);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 10; seed++) {
+            Random rnd = new Random(seed);
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 6, 0, 4);
+            model.allDifferent(x[0], x[1], x[2], x[3]).post();
+            model.sum(x, "=", 12).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(randomSearch(x, seed));
+            solver.setNoGoodRecordingFromRestarts();
+            solver.setLubyRestart(2, new FailCounter(model, 2), 1000);
+            for (int k = 0; k < 10; k++) {
+                Constraint[] cs = new Constraint[4];
+                int[][] args = new int[cs.length][];
+                for (int i = 0; i < cs.length; i++) {
+                    args[i] = new int[]{rnd.nextInt(6), rnd.nextInt(3), rnd.nextInt(5)};
+                    cs[i] = make(model, x, args[i]);
+                }
+                boolean sat = solver.solveUnder(cs);
+                Assert.assertEquals(sat, isSatisfiable(args), "seed " + seed + ", call " + k);
+                if (!sat) {
+                    List<BoolVar> conflict = solver.getConflict();
+                    List<int[]> core = new ArrayList<>();
+                    for (int i = 0; i < cs.length; i++) {
+                        if (conflict.contains(cs[i].reify())) {
+                            core.add(args[i]);
+                        }
+                    }
+                    Assert.assertEquals(core.size(), conflict.size());
+                    Assert.assertFalse(isSatisfiable(core.toArray(new int[0][])));
+                    for (int i = 0; i < core.size(); i++) {
+                        List<int[]> sub = new ArrayList<>(core);
+                        sub.remove(i);
+                        Assert.assertTrue(isSatisfiable(sub.toArray(new int[0][])));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Constraint make(Model model, IntVar[] x, int[] args) {
+        return model.arithm(x[args[0]], args[1] == 0 ? "=" : args[1] == 1 ? "<=" : ">=", args[2]);
+    }
+
+    private static boolean isSatisfiable(int[][] args) {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 6, 0, 4);
+        model.allDifferent(x[0], x[1], x[2], x[3]).post();
+        model.sum(x, "=", 12).post();
+        for (int[] a : args) {
+            make(model, x, a).post();
+        }
+        return model.getSolver().solve();
+    }
+}
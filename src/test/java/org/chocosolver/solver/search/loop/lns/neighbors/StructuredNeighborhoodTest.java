@@ -0,0 +1,207 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class StructuredNeighborhoodTest {
+
+    /**
+     * x[0] < x[1] < ... < x[n-1], and sum(x) = s
+     */
+    private static IntVar[] chain(Model model, int n) {
+        IntVar[] x = model.intVarArray("x", n, 0, 3 * n);
+        for (int i = 0; i < n - 1; i++) {
+            model.arithm(x[i], "<", x[i + 1]).post();
+        }
+        model.sum(x, "=", model.intVar("s", 0, 3 * n * n)).post();
+        return x;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGraph() {
+        Model model = new Model();
+        IntVar[] x = chain(model, 10);
+        ConstraintGraph graph = new ConstraintGraph(x, 5);
+        Assert.assertEquals(graph.getNbVars(), 10);
+        Assert.assertEquals(graph.getNbCstrs(), 9); // the sum is ignored
+        Assert.assertEquals(graph.getDegree(0), 1);
+        Assert.assertEquals(graph.getDegree(5), 2);
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < graph.getDegree(i); j++) {
+                int c = graph.getCstr(i, j);
+                Assert.assertEquals(graph.getArity(c), 2);
+                Assert.assertTrue(graph.getVar(c, 0) == i || graph.getVar(c, 1) == i);
+                Assert.assertEquals(Math.abs(graph.getVar(c, 0) - graph.getVar(c, 1)), 1);
+            }
+        }
+        graph = new ConstraintGraph(x, 10);
+        Assert.assertEquals(graph.getNbCstrs(), 10);
+        Assert.assertEquals(graph.getDegree(5), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBFS() {
+        Model model = new Model();
+        IntVar[] x = chain(model, 30);
+        GraphBFSNeighborhood neighbor = new GraphBFSNeighborhood(x, 6, 5, 0);
+        neighbor.init();
+        for (int r = 0; r < 20; r++) {
+            neighbor.relaxed.clear();
+            neighbor.relax(6);
+            // on a chain, a ball is an interval
+            int first = neighbor.relaxed.nextSetBit(0);
+            Assert.assertEquals(neighbor.relaxed.cardinality(), 6);
+            Assert.assertEquals(neighbor.relaxed.nextClearBit(first), first + 6);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCluster() {
+        Model model = new Model();
+        IntVar[] x = chain(model, 30);
+        ConstraintClusterNeighborhood neighbor = new ConstraintClusterNeighborhood(x, 6, 5, 0);
+        neighbor.init();
+        for (int r = 0; r < 20; r++) {
+            neighbor.relaxed.clear();
+            neighbor.relax(6);
+            int first = neighbor.relaxed.nextSetBit(0);
+            Assert.assertEquals(neighbor.relaxed.cardinality(), 6);
+            Assert.assertEquals(neighbor.relaxed.nextClearBit(first), first + 6);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDisconnected() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 10, 0, 5);
+        for (INeighbor neighbor : new StructuredNeighborhood[]{
+                new GraphBFSNeighborhood(x, 4, 5, 0),
+                new ConstraintClusterNeighborhood(x, 4, 5, 0)}) {
+            neighbor.init();
+            StructuredNeighborhood sn = (StructuredNeighborhood) neighbor;
+            sn.relax(4);
+            Assert.assertEquals(sn.relaxed.cardinality(), 4);
+            sn.relaxed.clear();
+            sn.relax(20);
+            Assert.assertEquals(sn.relaxed.cardinality(), 10);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeWindow() {
+        Model model = new Model();
+        int n = 12;
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            IntVar s = model.intVar("s" + i, 0, 100);
+            tasks[i] = model.taskVar(s, model.intVar(1 + i % 4), model.intOffsetView(s, 1 + i % 4));
+        }
+        Solution solution = new Solution(model);
+        Random rnd = new Random(0);
+        int[] starts = new int[n];
+        model.getEnvironment().worldPush();
+        try {
+            for (int i = 0; i < n; i++) {
+                starts[i] = rnd.nextInt(50);
+                tasks[i].getStart().instantiateTo(starts[i], Cause.Null);
+            }
+        } catch (ContradictionException e) {
+            Assert.fail();
+        }
+        solution.record();
+        model.getEnvironment().worldPop();
+        TimeWindowNeighborhood neighbor = new TimeWindowNeighborhood(tasks, 3, 0);
+        neighbor.init();
+        neighbor.loadFromSolution(solution);
+        for (int r = 0; r < 20; r++) {
+            neighbor.relaxed.clear();
+            neighbor.relax(6);
+            Assert.assertTrue(neighbor.relaxed.cardinality() >= 6);
+            int from = Integer.MAX_VALUE, to = Integer.MIN_VALUE;
+            for (int i = 0; i < n; i++) {
+                // start and end are relaxed together
+                Assert.assertEquals(neighbor.relaxed.get(i), neighbor.relaxed.get(n + i));
+                if (neighbor.relaxed.get(i)) {
+                    from = Math.min(from, starts[i]);
+                    to = Math.max(to, starts[i]);
+                }
+            }
+            // tasks starting in the window are all relaxed
+            for (int i = 0; i < n; i++) {
+                if (starts[i] > from && starts[i] < to) {
+                    Assert.assertTrue(neighbor.relaxed.get(i));
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testScheduling() {
+        int n = 10;
+        int[] durations = {3, 5, 2, 4, 6, 1, 3, 2, 5, 4};
+        int[] heights = {2, 1, 3, 2, 1, 2, 1, 3, 2, 1};
+        for (int lns = 0; lns < 3; lns++) {
+            Model model = new Model();
+            Task[] tasks = new Task[n];
+            IntVar[] starts = model.intVarArray("s", n, 0, 40);
+            IntVar[] ends = new IntVar[n];
+            IntVar[] h = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                h[i] = model.intVar(heights[i]);
+                tasks[i] = model.taskVar(starts[i], model.intVar(durations[i]), model.intOffsetView(starts[i], durations[i]));
+                ends[i] = tasks[i].getEnd();
+            }
+            model.cumulative(tasks, h, model.intVar(3)).post();
+            for (int i = 0; i < n - 1; i += 2) {
+                model.arithm(ends[i], "<=", starts[i + 1]).post();
+            }
+            IntVar makespan = model.intVar("makespan", 0, 50);
+            model.max(makespan, ends).post();
+            model.setObjective(Model.MINIMIZE, makespan);
+            Solver solver = model.getSolver();
+            switch (lns) {
+                case 0:
+                    solver.setLNS(INeighborFactory.timeWindow(tasks));
+                    break;
+                case 1:
+                    solver.setLNS(INeighborFactory.graphBFS(starts));
+                    break;
+                case 2:
+                    solver.setLNS(INeighborFactory.constraintCluster(starts));
+                    break;
+            }
+            solver.limitFail(5000);
+            int best = Integer.MAX_VALUE;
+            while (solver.solve()) {
+                Assert.assertTrue(makespan.getValue() < best);
+                best = makespan.getValue();
+            }
+            // sum(d * h) = 57, with a capacity of 3, so the makespan is at least 19
+            Assert.assertTrue(best >= 19 && best <= 30, "lns " + lns + ": " + best);
+        }
+    }
+}
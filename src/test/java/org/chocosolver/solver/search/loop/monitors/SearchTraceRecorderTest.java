@@ -0,0 +1,121 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.propagation.PropagationEngineFactory;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SearchTraceRecorderTest {
+
+    private static Model queens(int n, String consistency) {
+        Model model = new Model();
+        IntVar[] q = model.intVarArray("Q", n, 1, n, false);
+        IntVar[] q1 = new IntVar[n];
+        IntVar[] q2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            q1[i] = model.intOffsetView(q[i], i);
+            q2[i] = model.intOffsetView(q[i], -i);
+        }
+        model.allDifferent(q, consistency).post();
+        model.allDifferent(q1, consistency).post();
+        model.allDifferent(q2, consistency).post();
+        model.getSolver().setSearch(randomSearch(q, 0));
+        return model;
+    }
+
+    private static long[] stats(Solver solver) {
+        return new long[]{solver.getSolutionCount(), solver.getNodeCount(), solver.getFailCount(),
+                solver.getBackTrackCount(), solver.getRestartCount()};
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testVarInt() throws IOException {
+        int[] values = {0, 1, 127, 128, 300, -1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (int v : values) {
+            SearchTraceRecorder.writeVarInt(bos, SearchTraceRecorder.zigzag(v));
+        }
+        ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
+        for (int v : values) {
+            assertEquals(SearchTraceRecorder.unzigzag(SearchTraceRecorder.readVarInt(bis)), v);
+        }
+        assertEquals(bis.read(), -1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReplay() throws IOException {
+        Model model = queens(8, "AC");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (SearchTraceRecorder recorder = new SearchTraceRecorder(model, bos)) {
+            while (model.getSolver().solve()) ;
+        }
+        long[] expected = stats(model.getSolver());
+        assertEquals(expected[0], 92);
+        // less than 3 bytes per event
+        assertTrue(bos.size() < 3 * (expected[1] + expected[2] + expected[3]));
+
+        // same tree, another propagation engine
+        Model replay = queens(8, "AC");
+        replay.getSolver().setEngine(PropagationEngineFactory.PARALLEL.make(replay));
+        replay.getSolver().setReplay(new ByteArrayInputStream(bos.toByteArray()));
+        while (replay.getSolver().solve()) ;
+        assertEquals(stats(replay.getSolver()), expected);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReplayRestarts() throws IOException {
+        Model model = queens(10, "AC");
+        model.getSolver().setLubyRestart(2, new FailCounter(model, 0), 1000);
+        model.getSolver().limitSolution(20);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (SearchTraceRecorder recorder = new SearchTraceRecorder(model, bos)) {
+            while (model.getSolver().solve()) ;
+        }
+        long[] expected = stats(model.getSolver());
+        assertTrue(expected[4] > 0);
+
+        Model replay = queens(10, "AC");
+        replay.getSolver().setReplay(new ByteArrayInputStream(bos.toByteArray()));
+        while (replay.getSolver().solve()) ;
+        long[] actual = stats(replay.getSolver());
+        assertEquals(actual[0], expected[0]);
+        assertEquals(actual[2], expected[2]);
+        assertEquals(actual[4], expected[4]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testDiverge() throws IOException {
+        Model model = queens(8, "AC");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (SearchTraceRecorder recorder = new SearchTraceRecorder(model, bos)) {
+            while (model.getSolver().solve()) ;
+        }
+        // a weaker filtering does not fail on the same nodes
+        Model replay = queens(8, "FC");
+        replay.getSolver().setReplay(new ByteArrayInputStream(bos.toByteArray()));
+        while (replay.getSolver().solve()) ;
+    }
+}
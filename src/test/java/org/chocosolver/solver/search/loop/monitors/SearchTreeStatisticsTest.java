@@ -0,0 +1,105 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SearchTreeStatisticsTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test1() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        SearchTreeStatistics stats = new SearchTreeStatistics(model);
+        Solver solver = model.getSolver();
+        while (solver.solve()) ;
+        long nodes = 0, fails = 0, solutions = 0, backjumps = 0, branchings = 0;
+        for (int d = 0; d < stats.getNbDepths(); d++) {
+            nodes += stats.getNodeCount(d);
+            fails += stats.getFailCount(d);
+            solutions += stats.getSolutionCount(d);
+            assertTrue(d == 0 || stats.getTime(d) <= stats.getTime(d - 1));
+        }
+        for (int k = 0; k < stats.getNbBackjumpDistances(); k++) {
+            backjumps += stats.getBackjumpCount(k);
+        }
+        for (IntVar v : model.retrieveIntVars(true)) {
+            branchings += stats.getBranchingCount(v);
+        }
+        assertEquals(fails, solver.getFailCount());
+        assertEquals(solutions, 92);
+        assertEquals(backjumps, solver.getBackTrackCount());
+        // each decision of a complete binary search is applied, then refuted
+        assertEquals(nodes, 2 * branchings);
+        assertEquals(stats.getBackjumpCount(0) + stats.getBackjumpCount(1), backjumps);
+        assertTrue(stats.getTime(0) > 0);
+        assertEquals(stats.toCSV().split("\n").length, stats.getNbDepths() + 1);
+        assertEquals(stats.variablesToCSV().split("\n").length, 9);
+        assertTrue(stats.toJSON().startsWith("{\"depths\":[{\"depth\":0,"));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test2() {
+        Model model = ProblemMaker.makeGolombRuler(10);
+        Solver solver = model.getSolver();
+        solver.setLNS(new RandomNeighborhood((IntVar[]) model.getHook("ticks"), 10, 0));
+        solver.limitNode(5000);
+        SearchTreeStatistics stats = new SearchTreeStatistics(model);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        solver.setOut(new PrintStream(bos));
+        solver.showStatisticsDuringResolution(5, stats::toJSON);
+        while (solver.solve()) ;
+        long fails = 0;
+        for (int d = 0; d < stats.getNbDepths(); d++) {
+            fails += stats.getFailCount(d);
+        }
+        assertEquals(fails, solver.getFailCount());
+        assertEquals(stats.backjumpsToCSV().split("\n").length, stats.getNbBackjumpDistances() + 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConcurrentExports() throws InterruptedException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        SearchTreeStatistics stats = new SearchTreeStatistics(model);
+        Solver solver = model.getSolver();
+        Throwable[] error = new Throwable[1];
+        Thread printer = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    stats.toJSON();
+                    stats.toCSV();
+                    stats.backjumpsToCSV();
+                    stats.variablesToCSV();
+                }
+            } catch (Throwable t) {
+                error[0] = t;
+            }
+        });
+        printer.start();
+        while (solver.solve()) ;
+        printer.interrupt();
+        printer.join();
+        assertEquals(error[0], null);
+        assertEquals(stats.variablesToCSV().split("\n").length, 11);
+    }
+}
@@ -9,14 +9,22 @@
 package org.chocosolver.solver.search.restart;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.limits.NodeCounter;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase;
+import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
+import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.annotations.Test;
 
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 /**
  * <br/>
@@ -70,6 +78,70 @@ public class RestartTest {
     }
 
 
+    @Test(groups="1s", timeOut=60000)
+    public void testGlucoseRestart1() {
+        Model model = buildQ(8);
+        model.getSolver().setGlucoseRestart(model.retrieveIntVars(true), 5);
+        while (model.getSolver().solve()) ;
+        // restarts may lead to the same solution twice
+        assertTrue(model.getSolver().getSolutionCount() >= 92);
+        assertTrue(model.getSolver().getRestartCount() <= 5);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testGlucoseRestart2() {
+        // pigeon-hole problem
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("p", 9, 1, 8);
+        for (int i = 0; i < vars.length - 1; i++) {
+            for (int j = i + 1; j < vars.length; j++) {
+                model.arithm(vars[i], "!=", vars[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new FirstFail(model), new IntDomainPhase(model, vars, new IntDomainMin()), vars));
+        GlucoseRestartStrategy glucose = new GlucoseRestartStrategy(solver, vars, 10, .8, 20, 1.4, 0);
+        solver.setRestarts(glucose, glucose, 50);
+        assertFalse(solver.solve());
+        assertEquals(solver.getRestartCount(), 50);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPhaseSaving() {
+        Model model = buildQ(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        IntVar other = model.intVar("o", 3, 5);
+        IntDomainPhase phase = new IntDomainPhase(model, vars, new IntDomainMin());
+        model.getSolver().setSearch(Search.intVarSearch(new FirstFail(model), phase, vars));
+        assertTrue(model.getSolver().solve());
+        for (IntVar var : vars) {
+            assertEquals(phase.selectValue(var), var.getValue());
+        }
+        assertEquals(phase.selectValue(other), 3);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPhaseSavingOnConflict() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 2);
+        IntVar y = model.intVar("y", 0, 2);
+        model.arithm(x, "=", y).post();
+        model.arithm(x, "+", y, "!=", 0).post();
+        boolean[] upper = {false};
+        IntDomainPhase phase = new IntDomainPhase(model, new IntVar[]{x, y},
+                var -> upper[0] ? var.getUB() : var.getLB());
+        model.getSolver().setSearch(Search.intVarSearch(new InputOrder<>(model), phase, x, y));
+        // stops on the first conflict, met on x = 0
+        model.getSolver().limitFail(1);
+        assertFalse(model.getSolver().solve());
+        assertEquals(model.getSolver().getFailCount(), 1);
+        model.getSolver().reset();
+        upper[0] = true;
+        // the decision is saved, not the instantiation made by propagation
+        assertEquals(phase.selectValue(x), 0);
+        assertEquals(phase.selectValue(y), 2);
+    }
+
     public final static int[] LUBY_2 = {1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 16};
 
     public final static int[] LUBY_3 = {1, 1, 1, 3, 1, 1, 1, 3, 1, 1, 1, 3, 9,
@@ -0,0 +1,131 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables;
+
+import com.sun.management.ThreadMXBean;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.IntervalIntVarImpl;
+import org.chocosolver.solver.variables.impl.WordBitsetIntVarImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class VariableFactoryTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testArrayNames() {
+        Model model = new Model();
+        IntVar a = model.intVar("a", 0, 5);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5, false);
+        BoolVar[] b = model.boolVarArray("b", 2);
+        IntVar[][] m = model.intVarMatrix("m", 2, 2, 0, 100, true);
+        IntVar[] c = model.intVarArray("c", 2, 4, 4);
+        IntVar[] d = model.intVarArray("d", 2, 0, 1);
+        IntVar y = model.intVar("y", 0, 5);
+        Assert.assertEquals(a.getName(), "a");
+        Assert.assertEquals(x[0].getName(), "x[0]");
+        Assert.assertEquals(x[2].getName(), "x[2]");
+        Assert.assertEquals(b[1].getName(), "b[1]");
+        Assert.assertEquals(m[1][0].getName(), "m[1][0]");
+        Assert.assertEquals(c[1].getName(), "c[1]");
+        Assert.assertEquals(d[0].getName(), "d[0]");
+        Assert.assertEquals(y.getName(), "y");
+        Assert.assertEquals(x[1].toString(), "x[1] = {0,1,2,3,4,5}");
+        Assert.assertEquals(model.lazyNameOf(y.getId()), null);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testArrayDomains() {
+        Model model = new Model();
+        Assert.assertTrue(model.intVarArray("x", 2, 0, 5, true)[1] instanceof IntervalIntVarImpl);
+        Assert.assertTrue(model.intVarArray("x", 2, 0, 5, false)[1] instanceof BitsetIntVarImpl);
+        Assert.assertTrue(model.intVarArray("x", 2, 0, 5)[1] instanceof BitsetIntVarImpl);
+        Assert.assertTrue(model.intVarArray("x", 2, 0, 1 << 20)[1] instanceof IntervalIntVarImpl);
+        Assert.assertTrue(model.intVarArray("x", 2, 0, 1)[1] instanceof BoolVar);
+        model = new Model();
+        model.set(new Settings() {
+            @Override
+            public boolean enableWordBitsetDomains() {
+                return true;
+            }
+        });
+        Assert.assertTrue(model.intVarArray("x", 2, 0, 5, false)[1] instanceof WordBitsetIntVarImpl);
+        Assert.assertEquals(model.intVarArray("x", 0, 0, 5).length, 0);
+    }
+
+    /**
+     * Builds a model with 1M variables and 500K constraints and checks its sizes and the names of its variables.
+     */
+    @Test(groups = "10s", timeOut = 60000)
+    public void testLargeModelBuild() {
+        int n = 1_000_000;
+        Model model = buildLargeModel(n);
+        IntVar[] x = (IntVar[]) model.getHook("x");
+        BoolVar[] b = (BoolVar[]) model.getHook("b");
+        Assert.assertEquals(model.getNbVars(), n + n / 2);
+        Assert.assertEquals(model.getNbCstrs(), n / 2);
+        Assert.assertEquals(x[n - 1].getName(), "x[" + (n - 1) + "]");
+        Assert.assertEquals(b[n / 2 - 1].getName(), "b[" + (n / 2 - 1) + "]");
+        Assert.assertEquals(x[0].getNbProps(), 1);
+        Assert.assertEquals(x[0].getDomainSize(), 11);
+    }
+
+    /**
+     * Builds a model with <i>n</i> integer variables, <i>n</i>/2 boolean variables and <i>n</i>/2 constraints,
+     * all created in bulk.
+     */
+    private static Model buildLargeModel(int n) {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", n, 0, 10, false);
+        BoolVar[] b = model.boolVarArray("b", n / 2);
+        Constraint[] cs = new Constraint[n / 2];
+        for (int i = 0; i < cs.length; i++) {
+            cs[i] = model.arithm(x[2 * i], "<", x[2 * i + 1]);
+        }
+        model.post(cs);
+        model.addHook("x", x);
+        model.addHook("b", b);
+        return model;
+    }
+
+    /**
+     * Model-build benchmark, out of the unit tests: builds large models several times and reports,
+     * for each build, the time spent and the memory allocated by the building thread (when the JVM supports it).
+     *
+     * @param args the number of integer variables (default: 1,000,000) and the number of builds (default: 5)
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Object mx = ManagementFactory.getThreadMXBean();
+        // allocated bytes are only measured by HotSpot-like JVMs
+        ThreadMXBean allocations = mx instanceof ThreadMXBean ? (ThreadMXBean) mx : null;
+        long tid = Thread.currentThread().getId();
+        for (int r = 0; r < runs; r++) {
+            long bytes = allocations != null ? -allocations.getThreadAllocatedBytes(tid) : 0;
+            long time = -System.nanoTime();
+            Model model = buildLargeModel(n);
+            time += System.nanoTime();
+            bytes += allocations != null ? allocations.getThreadAllocatedBytes(tid) : 0;
+            System.out.printf("build %d: %d variables and %d constraints in %.3fs, %s allocated\n",
+                    r + 1, model.getNbVars(), model.getNbCstrs(), time / 1e9,
+                    allocations != null ? (bytes >> 20) + "MB" : "unknown memory");
+        }
+    }
+}
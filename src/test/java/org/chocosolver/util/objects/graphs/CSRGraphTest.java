@@ -0,0 +1,168 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.graphs;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
+import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
+import org.chocosolver.util.graphOperations.dominance.AbstractLengauerTarjanDominatorsFinder;
+import org.chocosolver.util.graphOperations.dominance.AlphaDominatorsFinder;
+import org.chocosolver.util.graphOperations.dominance.SimpleDominatorsFinder;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author agent
+ * @since 19/10/2026
+ */
+public class CSRGraphTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStructure() {
+        CSRGraph g = new CSRGraph(4, new int[]{2, 0, 0, 2, 0, 3}, new int[]{1, 3, 1, 1, 2, 0});
+        assertEquals(g.getNbNodes(), 4);
+        assertEquals(g.getNbArcs(), 5);
+        assertEquals(g.getSuccEnd(0) - g.getSuccStart(0), 3);
+        int prev = -1;
+        for (int a = g.getSuccStart(0); a < g.getSuccEnd(0); a++) {
+            assertEquals(g.getTail(a), 0);
+            assertTrue(g.getHead(a) > prev);
+            prev = g.getHead(a);
+        }
+        assertEquals(g.getPredEnd(1) - g.getPredStart(1), 2);
+        for (int p = g.getPredStart(1); p < g.getPredEnd(1); p++) {
+            assertEquals(g.getHead(g.getPredArc(p)), 1);
+        }
+        assertEquals(g.getHead(g.getArc(3, 0)), 0);
+        assertEquals(g.getArc(1, 0), -1);
+        assertFalse(g.hasSucc(1));
+        assertTrue(g.hasPred(1));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverlay() {
+        CSRGraph g = new CSRGraph(3, new int[]{0, 0, 1}, new int[]{1, 2, 2});
+        assertFalse(g.isStored());
+        int a = g.getArc(0, 1);
+        g.removeArc(a);
+        assertTrue(g.isArcRemoved(a));
+        assertEquals(g.getHead(g.nextSuccArc(0, g.getSuccStart(0))), 2);
+        assertEquals(g.nextPredPosition(1, g.getPredStart(1)), -1);
+        g.restoreAllArcs();
+        assertFalse(g.isArcRemoved(a));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStoredOverlay() {
+        Model model = new Model();
+        IEnvironment env = model.getEnvironment();
+        CSRGraph g = new CSRGraph(model, 3, new int[]{0, 0, 1, 2}, new int[]{1, 2, 2, 0});
+        assertTrue(g.isStored());
+        env.worldPush();
+        g.removeArc(g.getArc(0, 1));
+        env.worldPush();
+        g.removeArc(g.getArc(0, 2));
+        assertFalse(g.hasSucc(0));
+        env.worldPop();
+        assertTrue(g.hasSucc(0));
+        assertTrue(g.isArcRemoved(g.getArc(0, 1)));
+        env.worldPop();
+        assertFalse(g.isArcRemoved(g.getArc(0, 1)));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSCC() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(30);
+            DirectedGraph dg = random(rnd, n, 1.5 / n, 0);
+            CSRGraph g = CSRGraph.of(null, dg);
+            // removed arcs must be ignored
+            for (int a = 0; a < g.getNbArcs(); a++) {
+                if (rnd.nextInt(5) == 0) {
+                    g.removeArc(a);
+                    dg.removeArc(g.getTail(a), g.getHead(a));
+                }
+            }
+            StrongConnectivityFinder f1 = new StrongConnectivityFinder(dg);
+            StrongConnectivityFinder f2 = new StrongConnectivityFinder(g);
+            f1.findAllSCC();
+            f2.findAllSCC();
+            assertEquals(f2.getNbSCC(), f1.getNbSCC());
+            int[] s1 = f1.getNodesSCC();
+            int[] s2 = f2.getNodesSCC();
+            for (int x = 0; x < n; x++) {
+                for (int y = 0; y < n; y++) {
+                    assertEquals(s2[x] == s2[y], s1[x] == s1[y], "seed " + seed);
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDominators() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(30);
+            // a Hamiltonian cycle ensures that the root reaches all nodes, and conversely
+            DirectedGraph dg = random(rnd, n, 2. / n, 1 + rnd.nextInt(n));
+            int root = rnd.nextInt(n);
+            CSRGraph g = CSRGraph.of(null, dg);
+            for (boolean post : new boolean[]{false, true}) {
+                AbstractLengauerTarjanDominatorsFinder[] finders = {
+                        new SimpleDominatorsFinder(root, dg),
+                        new SimpleDominatorsFinder(root, g),
+                        new AlphaDominatorsFinder(root, g)
+                };
+                for (AbstractLengauerTarjanDominatorsFinder f : finders) {
+                    assertTrue(post ? f.findPostDominators() : f.findDominators());
+                }
+                for (int x = 0; x < n; x++) {
+                    int idom = finders[0].getImmediateDominatorsOf(x);
+                    assertEquals(finders[1].getImmediateDominatorsOf(x), idom, "seed " + seed);
+                    assertEquals(finders[2].getImmediateDominatorsOf(x), idom, "seed " + seed);
+                    for (int y = 0; y < n; y++) {
+                        assertEquals(finders[1].isDomminatedBy(x, y), finders[0].isDomminatedBy(x, y));
+                    }
+                }
+            }
+            // an unreachable node is detected
+            for (int a = g.getSuccStart(root); a < g.getSuccEnd(root); a++) {
+                g.removeArc(a);
+            }
+            assertFalse(new SimpleDominatorsFinder(root, g).findDominators());
+        }
+    }
+
+    /**
+     * @param rnd   random
+     * @param n     number of nodes
+     * @param d     density
+     * @param cycle if positive, a Hamiltonian cycle is added, shifted by this value
+     * @return a random graph
+     */
+    private static DirectedGraph random(Random rnd, int n, double d, int cycle) {
+        DirectedGraph dg = new DirectedGraph(n, SetType.BITSET, true);
+        for (int x = 0; x < n; x++) {
+            for (int y = 0; y < n; y++) {
+                if (rnd.nextDouble() < d) {
+                    dg.addArc(x, y);
+                }
+            }
+            if (cycle > 0) {
+                dg.addArc((x + cycle) % n, (x + cycle + 1) % n);
+            }
+        }
+        return dg;
+    }
+}